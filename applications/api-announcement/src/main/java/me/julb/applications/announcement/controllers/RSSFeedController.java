@@ -28,15 +28,15 @@ import io.swagger.v3.oas.annotations.Operation;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.servlet.View;
 
 import me.julb.applications.announcement.services.RSSFeedService;
-import me.julb.springbootstarter.web.views.rssfeed.RSSFeedView;
+import me.julb.springbootstarter.web.caching.RenderedContentCache;
 
 /**
  * The REST controller to serve RSS feeds.
@@ -54,15 +54,21 @@ public class RSSFeedController {
     @Autowired
     private RSSFeedService rssFeedService;
 
+    /**
+     * The rendered content cache.
+     */
+    @Autowired
+    private RenderedContentCache renderedContentCache;
+
     /**
      * Gets the RSS feed for the announcements
-     * @return the view for the RSS feed.
+     * @return the RSS feed.
      */
     @Operation(summary = "get the RSS feed for announcements")
     @GetMapping("/announcements")
     @PreAuthorize("permitAll()")
-    public View getAnnouncementsFeed() {
-        return new RSSFeedView(rssFeedService.buildAnnouncementsFeed());
+    public ResponseEntity<byte[]> getAnnouncementsFeed() {
+        return renderedContentCache.toResponseEntity(rssFeedService.renderAnnouncementsFeed());
     }
 
 }
@@ -25,6 +25,7 @@
 package me.julb.applications.announcement.services;
 
 import me.julb.library.dto.rssfeed.RSSFeedDTO;
+import me.julb.springbootstarter.web.caching.RenderedContent;
 
 /**
  * The RSS feed service.
@@ -38,4 +39,10 @@ public interface RSSFeedService {
      * @return an RSS feed for announcements.
      */
     RSSFeedDTO buildAnnouncementsFeed();
+
+    /**
+     * Gets the rendered RSS feed for announcements.
+     * @return the rendered RSS feed for announcements.
+     */
+    RenderedContent renderAnnouncementsFeed();
 }
@@ -32,18 +32,25 @@ import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.validation.annotation.Validated;
 
 import me.julb.applications.announcement.entities.AnnouncementEntity;
 import me.julb.applications.announcement.repositories.AnnouncementRepository;
 import me.julb.applications.announcement.services.RSSFeedService;
+import me.julb.library.dto.messaging.events.ResourceEventAsyncMessageDTO;
 import me.julb.library.dto.rssfeed.RSSFeedDTO;
 import me.julb.library.dto.rssfeed.RSSFeedItemDTO;
+import me.julb.library.utility.constants.MediaType;
 import me.julb.library.utility.date.DateUtility;
 import me.julb.springbootstarter.core.configs.ConfigSourceService;
 import me.julb.springbootstarter.core.context.TrademarkContextHolder;
 import me.julb.springbootstarter.core.messages.MessageSourceService;
 import me.julb.springbootstarter.core.rendering.ContentRenderService;
+import me.julb.springbootstarter.resourcetypes.ResourceTypes;
+import me.julb.springbootstarter.web.caching.RenderedContent;
+import me.julb.springbootstarter.web.caching.RenderedContentCache;
+import me.julb.springbootstarter.web.views.rssfeed.RSSFeedRenderer;
 
 /**
  * The RSS feed service.
@@ -55,6 +62,11 @@ import me.julb.springbootstarter.core.rendering.ContentRenderService;
 @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class RSSFeedServiceImpl implements RSSFeedService {
 
+    /**
+     * The name of the announcements feed.
+     */
+    private static final String ANNOUNCEMENTS_FEED = "rss-feed-announcements";
+
     /**
      * The config source service.
      */
@@ -79,6 +91,31 @@ public class RSSFeedServiceImpl implements RSSFeedService {
     @Autowired
     private AnnouncementRepository announcementRepository;
 
+    /**
+     * The rendered content cache.
+     */
+    @Autowired
+    private RenderedContentCache renderedContentCache;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderedContent renderAnnouncementsFeed() {
+        return renderedContentCache.get(ANNOUNCEMENTS_FEED, MediaType.APPLICATION_RSS_XML_UTF8, () -> RSSFeedRenderer.render(buildAnnouncementsFeed()));
+    }
+
+    /**
+     * Evicts the rendered feed once the transaction which changed an announcement has been committed.
+     * @param resourceEvent the resource event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceEvent(ResourceEventAsyncMessageDTO resourceEvent) {
+        if (ResourceTypes.ANNOUNCEMENT.equals(resourceEvent.getResourceType())) {
+            renderedContentCache.evict(resourceEvent.getResourceTrademark(), ANNOUNCEMENTS_FEED);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -28,7 +28,7 @@ import com.nimbusds.jwt.JWTClaimsSet;
 
 import java.io.IOException;
 import java.security.KeyPair;
-import java.time.temporal.ChronoUnit;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
 
@@ -158,11 +158,12 @@ public class UserSessionToAccessTokenMapperImpl implements UserSessionToAccessTo
         UserMobilePhoneEntity userMobilePhone = userMobilePhoneRepository.findByTmAndUser_IdAndPrimaryIsTrue(tm, user.getId());
         UserPreferencesEntity userPreferences = userPreferencesRepository.findByTmAndUser_Id(tm, user.getId());
 
-        String expirationDateTime = DateUtility.dateTimePlus(accessTokenJwtForgery.getValidityInSeconds().intValue(), ChronoUnit.SECONDS);
-
         // Issue date/expiration
-        Date issueDate = DateUtility.parseDateTime(DateUtility.dateTimeNow());
-        Date expirationDate = DateUtility.parseDateTime(expirationDateTime);
+        Instant issueInstant = DateUtility.instantNow();
+        Instant expirationInstant = issueInstant.plusSeconds(accessTokenJwtForgery.getValidityInSeconds().longValue());
+        String expirationDateTime = DateUtility.dateTime(expirationInstant);
+        Date issueDate = Date.from(issueInstant);
+        Date expirationDate = Date.from(expirationInstant);
 
         // @formatter:off
         JWTClaimsSet jwtClaimsSet = new JWTClaimsSet.Builder()
@@ -198,7 +199,7 @@ public class UserSessionToAccessTokenMapperImpl implements UserSessionToAccessTo
         UserSessionAccessTokenDTO accessToken = new UserSessionAccessTokenDTO();
         accessToken.setAccessToken(jwt);
         accessToken.setExpiresAt(expirationDateTime);
-        accessToken.setExpiresIn(DateUtility.secondsUntil(expirationDateTime));
+        accessToken.setExpiresIn(DateUtility.secondsUntil(expirationInstant));
         accessToken.setType(HttpHeaderUtility.BEARER);
         return accessToken;
     }
@@ -24,6 +24,8 @@
 
 package me.julb.applications.barcode.configurations.properties;
 
+import javax.validation.constraints.NotNull;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -38,4 +40,18 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @Setter
 @ConfigurationProperties(prefix = "application")
 public class CustomConfigurationProperties {
+
+    //@formatter:off
+     /**
+     * The renderingCache attribute.
+     * -- GETTER --
+     * Getter for {@link #renderingCache} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #renderingCache} property.
+     * @param renderingCache the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    private RenderingCacheProperties renderingCache = new RenderingCacheProperties();
 }
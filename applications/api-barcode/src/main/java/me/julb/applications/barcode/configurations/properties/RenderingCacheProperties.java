@@ -0,0 +1,75 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.barcode.configurations.properties;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The rendered barcodes cache configuration properties.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+public class RenderingCacheProperties {
+
+    //@formatter:off
+     /**
+     * The maxSizeInBytes attribute.
+     * <br>
+     * Maximum size of the cached images. An image larger than this size is rendered on each request.
+     * -- GETTER --
+     * Getter for {@link #maxSizeInBytes} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxSizeInBytes} property.
+     * @param maxSizeInBytes the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    @Min(0)
+    private Long maxSizeInBytes = 32L * 1024 * 1024;
+
+    //@formatter:off
+     /**
+     * The maxAgeInSeconds attribute.
+     * <br>
+     * Value of the <code>max-age</code> directive sent to clients. As a rendered image never changes, it is also marked as immutable.
+     * -- GETTER --
+     * Getter for {@link #maxAgeInSeconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxAgeInSeconds} property.
+     * @param maxAgeInSeconds the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    @Min(0)
+    private Long maxAgeInSeconds = 365L * 24 * 60 * 60;
+}
@@ -44,7 +44,7 @@ import javax.validation.constraints.Pattern;
  * <br>
  * @author Julb.
  */
-@Pattern(regexp = "^(gif)|(jpg)|(jpeg)|(png)$")
+@Pattern(regexp = "^(gif)|(jpg)|(jpeg)|(png)|(svg)$")
 @Documented
 @Constraint(validatedBy = {})
 @Target({METHOD, FIELD, CONSTRUCTOR, PARAMETER, TYPE_USE})
@@ -26,50 +26,76 @@ package me.julb.applications.barcode.controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
 
-import java.awt.image.BufferedImage;
-import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import javax.validation.constraints.Min;
 
-import lombok.extern.slf4j.Slf4j;
-
-import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import me.julb.library.utility.barcode.ean13.EAN13Utility;
-import me.julb.library.utility.barcode.pdf417.PDF417Utility;
-import me.julb.library.utility.barcode.qrcode.QRCodeUtility;
+import me.julb.applications.barcode.configurations.properties.CustomConfigurationProperties;
+import me.julb.applications.barcode.constraints.BarcodeImageFormat;
+import me.julb.applications.barcode.services.BarcodeService;
+import me.julb.applications.barcode.services.dto.BarcodeType;
+import me.julb.applications.barcode.services.dto.RenderedBarcodeDTO;
+import me.julb.library.utility.barcode.svg.SVGUtility;
 
 /**
  * The REST controller to handle barcodes generation.
  * <br>
+ * A barcode only depends on the request parameters: responses carry a strong entity tag and may be cached forever by the clients.
+ * <br>
  * @author Julb.
  */
 @RestController
-@Slf4j
 @Validated
 @RequestMapping(path = "/barcodes")
 public class BarcodeController {
 
+    /**
+     * The default image format.
+     */
+    private static final String DEFAULT_IMAGE_FORMAT = "png";
+
+    /**
+     * The immutable directive of the <code>Cache-Control</code> header.
+     */
+    private static final String CACHE_CONTROL_IMMUTABLE = "immutable";
+
+    /**
+     * The barcode service.
+     */
+    @Autowired
+    private BarcodeService barcodeService;
+
+    /**
+     * The custom configuration properties.
+     */
+    @Autowired
+    private CustomConfigurationProperties customConfigurationProperties;
+
     /**
      * Generates a EAN13 bar code.
      * @param value the value.
      * @param width the width.
      * @param height the height.
-     * @throws IOException if an error occurs.
-     * @return the buffered image.
+     * @param margin the margin, or <code>null</code> for the default margin.
+     * @param format the image format.
+     * @return the encoded image.
      */
     @Operation(summary = "generates an EAN13 code")
-    @GetMapping(path = "/ean13", produces = MediaType.IMAGE_PNG_VALUE)
-    public BufferedImage generateEAN13Code(@RequestParam("value") String value, @RequestParam("width") @Min(1) int width, @RequestParam("height") @Min(1) int height)
-        throws IOException {
-        LOGGER.info("Generating EAN13 barcode for value={sha256}{}, w={}, h={}.", DigestUtils.sha256Hex(value), width, height);
-        return EAN13Utility.generate(value, width, height);
+    @GetMapping(path = "/ean13", produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE, MediaType.IMAGE_JPEG_VALUE, SVGUtility.MEDIA_TYPE})
+    public ResponseEntity<byte[]> generateEAN13(@RequestParam("value") String value, @RequestParam("width") @Min(1) int width, @RequestParam("height") @Min(1) int height,
+        @RequestParam(name = "margin", required = false) @Min(0) Integer margin, @RequestParam(name = "format", defaultValue = DEFAULT_IMAGE_FORMAT) @BarcodeImageFormat String format) {
+        return toResponseEntity(barcodeService.render(BarcodeType.EAN13, value, width, height, margin, format));
     }
 
     /**
@@ -77,15 +103,15 @@ public class BarcodeController {
      * @param value the value.
      * @param width the width.
      * @param height the height.
-     * @throws IOException if an error occurs.
-     * @return the buffered image.
+     * @param margin the margin, or <code>null</code> for the default margin.
+     * @param format the image format.
+     * @return the encoded image.
      */
     @Operation(summary = "generates an QR code")
-    @GetMapping(path = "/qrcode", produces = MediaType.IMAGE_PNG_VALUE)
-    public BufferedImage generateQRCode(@RequestParam("value") String value, @RequestParam("width") @Min(1) int width, @RequestParam("height") @Min(1) int height)
-        throws IOException {
-        LOGGER.info("Generating QR code for value={sha256}{}, w={}, h={}", DigestUtils.sha256Hex(value), width, height);
-        return QRCodeUtility.generate(value, width, height);
+    @GetMapping(path = "/qrcode", produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE, MediaType.IMAGE_JPEG_VALUE, SVGUtility.MEDIA_TYPE})
+    public ResponseEntity<byte[]> generateQRCode(@RequestParam("value") String value, @RequestParam("width") @Min(1) int width, @RequestParam("height") @Min(1) int height,
+        @RequestParam(name = "margin", required = false) @Min(0) Integer margin, @RequestParam(name = "format", defaultValue = DEFAULT_IMAGE_FORMAT) @BarcodeImageFormat String format) {
+        return toResponseEntity(barcodeService.render(BarcodeType.QRCODE, value, width, height, margin, format));
     }
 
     /**
@@ -93,14 +119,35 @@ public class BarcodeController {
      * @param value the value.
      * @param width the width.
      * @param height the height.
-     * @throws IOException if an error occurs.
-     * @return the buffered image.
+     * @param margin the margin, or <code>null</code> for the default margin.
+     * @param format the image format.
+     * @return the encoded image.
      */
     @Operation(summary = "generates an PDF417 code")
-    @GetMapping(path = "/pdf417", produces = MediaType.IMAGE_PNG_VALUE)
-    public BufferedImage generatePDF417Code(@RequestParam("value") String value, @RequestParam("width") @Min(1) int width, @RequestParam("height") @Min(1) int height)
-        throws IOException {
-        LOGGER.info("Generating PDF417 code for value={sha256}{}, w={}, h={}", DigestUtils.sha256Hex(value), width, height);
-        return PDF417Utility.generate(value, width, height);
+    @GetMapping(path = "/pdf417", produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE, MediaType.IMAGE_JPEG_VALUE, SVGUtility.MEDIA_TYPE})
+    public ResponseEntity<byte[]> generatePDF417Code(@RequestParam("value") String value, @RequestParam("width") @Min(1) int width, @RequestParam("height") @Min(1) int height,
+        @RequestParam(name = "margin", required = false) @Min(0) Integer margin, @RequestParam(name = "format", defaultValue = DEFAULT_IMAGE_FORMAT) @BarcodeImageFormat String format) {
+        return toResponseEntity(barcodeService.render(BarcodeType.PDF417, value, width, height, margin, format));
+    }
+
+    // ------------------------------------------ Private methods.
+
+    /**
+     * Builds the response serving the rendered barcode.
+     * <br>
+     * Conditional requests matching the entity tag get a <code>304 Not Modified</code>.
+     * @param renderedBarcode the rendered barcode.
+     * @return the response.
+     */
+    private ResponseEntity<byte[]> toResponseEntity(RenderedBarcodeDTO renderedBarcode) {
+        CacheControl cacheControl = CacheControl.maxAge(customConfigurationProperties.getRenderingCache().getMaxAgeInSeconds(), TimeUnit.SECONDS).cachePublic();
+
+        //@formatter:off
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(renderedBarcode.getContentType()))
+            .header(HttpHeaders.CACHE_CONTROL, String.join(", ", cacheControl.getHeaderValue(), CACHE_CONTROL_IMMUTABLE))
+            .eTag(renderedBarcode.getETag())
+            .body(renderedBarcode.getContent());
+        //@formatter:on
     }
 }
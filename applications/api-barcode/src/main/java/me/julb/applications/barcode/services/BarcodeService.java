@@ -0,0 +1,54 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.barcode.services;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import me.julb.applications.barcode.constraints.BarcodeImageFormat;
+import me.julb.applications.barcode.services.dto.BarcodeType;
+import me.julb.applications.barcode.services.dto.RenderedBarcodeDTO;
+
+/**
+ * The service to render barcodes.
+ * <br>
+ * @author Julb.
+ */
+public interface BarcodeService {
+
+    /**
+     * Renders a barcode.
+     * <br>
+     * The rendering is deterministic: identical parameters give the same image, which may be served from a cache.
+     * @param type the barcode type.
+     * @param value the value.
+     * @param width the width.
+     * @param height the height.
+     * @param margin the margin, or <code>null</code> for the default margin of the barcode type.
+     * @param imageFormat the image format.
+     * @return the rendered barcode.
+     */
+    RenderedBarcodeDTO render(@NotNull BarcodeType type, @NotNull String value, @Min(1) int width, @Min(1) int height, @Min(0) Integer margin, @NotNull @BarcodeImageFormat String imageFormat);
+}
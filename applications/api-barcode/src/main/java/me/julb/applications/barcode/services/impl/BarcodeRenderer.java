@@ -0,0 +1,120 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.barcode.services.impl;
+
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+
+import me.julb.applications.barcode.services.dto.BarcodeType;
+import me.julb.library.utility.barcode.ean13.EAN13Utility;
+import me.julb.library.utility.barcode.pdf417.PDF417Utility;
+import me.julb.library.utility.barcode.qrcode.QRCodeUtility;
+import me.julb.library.utility.barcode.svg.SVGUtility;
+import me.julb.library.utility.exceptions.BadRequestException;
+
+/**
+ * The barcode renderer.
+ * <br>
+ * Encodes the barcode matrix and writes the image straight into a byte buffer.
+ * <br>
+ * @author Julb.
+ */
+final class BarcodeRenderer {
+
+    /**
+     * The SVG image format.
+     */
+    static final String SVG = "svg";
+
+    /**
+     * The content types by image format.
+     */
+    private static final Map<String, String> CONTENT_TYPES = Map.of("gif", MediaType.IMAGE_GIF_VALUE, "jpg", MediaType.IMAGE_JPEG_VALUE, "jpeg", MediaType.IMAGE_JPEG_VALUE, "png",
+        MediaType.IMAGE_PNG_VALUE, SVG, SVGUtility.MEDIA_TYPE);
+
+    /**
+     * Renders the barcode.
+     * @param type the barcode type.
+     * @param value the value.
+     * @param width the width.
+     * @param height the height.
+     * @param margin the margin, or <code>null</code> for the default margin of the barcode type.
+     * @param imageFormat the image format.
+     * @return the encoded image.
+     * @throws IOException if an error occurs.
+     */
+    static byte[] render(BarcodeType type, String value, int width, int height, Integer margin, String imageFormat)
+        throws IOException {
+        BitMatrix bitMatrix = encode(type, value, width, height, margin);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(1024);
+        if (SVG.equals(imageFormat)) {
+            SVGUtility.write(bitMatrix, outputStream);
+        } else {
+            MatrixToImageWriter.writeToStream(bitMatrix, imageFormat, outputStream);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Gets the content type of the image format.
+     * @param imageFormat the image format.
+     * @return the content type.
+     */
+    static String contentType(String imageFormat) {
+        return CONTENT_TYPES.getOrDefault(imageFormat, MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    /**
+     * Encodes the barcode matrix.
+     * @param type the barcode type.
+     * @param value the value.
+     * @param width the width.
+     * @param height the height.
+     * @param margin the margin, or <code>null</code> for the default margin of the barcode type.
+     * @return the matrix.
+     * @throws IOException if an error occurs.
+     * @throws BadRequestException if the barcode type is not supported.
+     */
+    private static BitMatrix encode(BarcodeType type, String value, int width, int height, Integer margin)
+        throws IOException {
+        switch (type) {
+            case EAN13:
+                return EAN13Utility.encode(value, width, height, margin);
+            case QRCODE:
+                return QRCodeUtility.encode(value, width, height, margin);
+            case PDF417:
+                return PDF417Utility.encode(value, width, height, margin);
+            default:
+                throw new BadRequestException(String.format("Barcode type <%s> not supported.", type));
+        }
+    }
+}
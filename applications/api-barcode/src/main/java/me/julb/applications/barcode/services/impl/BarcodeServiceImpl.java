@@ -0,0 +1,97 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.barcode.services.impl;
+
+import java.io.IOException;
+
+import javax.annotation.PostConstruct;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import me.julb.applications.barcode.configurations.properties.CustomConfigurationProperties;
+import me.julb.applications.barcode.constraints.BarcodeImageFormat;
+import me.julb.applications.barcode.services.BarcodeService;
+import me.julb.applications.barcode.services.dto.BarcodeType;
+import me.julb.applications.barcode.services.dto.RenderedBarcodeDTO;
+import me.julb.library.utility.exceptions.InternalServerErrorException;
+
+/**
+ * The barcode service implementation.
+ * <br>
+ * @author Julb.
+ */
+@Service
+@Validated
+@Slf4j
+public class BarcodeServiceImpl implements BarcodeService {
+
+    /**
+     * The custom configuration properties.
+     */
+    @Autowired
+    private CustomConfigurationProperties customConfigurationProperties;
+
+    /**
+     * The rendered barcodes.
+     */
+    private RenderedBarcodeCache renderedBarcodeCache;
+
+    /**
+     * Initializes the cache.
+     */
+    @PostConstruct
+    public void init() {
+        this.renderedBarcodeCache = new RenderedBarcodeCache(customConfigurationProperties.getRenderingCache().getMaxSizeInBytes());
+    }
+
+    // ------------------------------------------ Read methods.
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderedBarcodeDTO render(@NotNull BarcodeType type, @NotNull String value, @Min(1) int width, @Min(1) int height, @Min(0) Integer margin, @NotNull @BarcodeImageFormat String imageFormat) {
+        return renderedBarcodeCache.get(type, value, width, height, margin, imageFormat, () -> {
+            LOGGER.info("Rendering {} barcode for value={sha256}{}, w={}, h={}, m={}, f={}.", type, DigestUtils.sha256Hex(value), width, height, margin, imageFormat);
+            try {
+                byte[] content = BarcodeRenderer.render(type, value, width, height, margin, imageFormat);
+                return new RenderedBarcodeDTO(content, BarcodeRenderer.contentType(imageFormat), DigestUtils.sha256Hex(content));
+            } catch (IOException e) {
+                throw new InternalServerErrorException(e);
+            }
+        });
+    }
+
+    // ------------------------------------------ Write methods.
+
+    // ------------------------------------------ Private methods.
+}
@@ -0,0 +1,170 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.barcode.services.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import me.julb.applications.barcode.services.dto.BarcodeType;
+import me.julb.applications.barcode.services.dto.RenderedBarcodeDTO;
+
+/**
+ * A LRU cache of rendered barcodes, bounded by the size of the encoded images.
+ * <br>
+ * @author Julb.
+ */
+class RenderedBarcodeCache {
+
+    /**
+     * The maximum size of the cached images, in bytes.
+     */
+    private final long maxSizeInBytes;
+
+    /**
+     * The rendered barcodes, the least recently used first.
+     */
+    private final Map<Key, RenderedBarcodeDTO> renderedBarcodes = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The size of the cached images, in bytes.
+     */
+    private long sizeInBytes;
+
+    /**
+     * Default constructor.
+     * @param maxSizeInBytes the maximum size of the cached images, in bytes.
+     */
+    RenderedBarcodeCache(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Gets the rendered barcode, rendering it if not in the cache.
+     * @param type the barcode type.
+     * @param value the value.
+     * @param width the width.
+     * @param height the height.
+     * @param margin the margin.
+     * @param imageFormat the image format.
+     * @param renderer the renderer to use on a miss.
+     * @return the rendered barcode.
+     */
+    RenderedBarcodeDTO get(BarcodeType type, String value, int width, int height, Integer margin, String imageFormat, Supplier<RenderedBarcodeDTO> renderer) {
+        Key key = new Key(type, value, width, height, margin, imageFormat);
+
+        synchronized (renderedBarcodes) {
+            RenderedBarcodeDTO renderedBarcode = renderedBarcodes.get(key);
+            if (renderedBarcode != null) {
+                return renderedBarcode;
+            }
+        }
+
+        // Render outside of the lock: concurrent misses on the same key give identical images.
+        RenderedBarcodeDTO renderedBarcode = renderer.get();
+        long weight = weight(key, renderedBarcode);
+        if (weight <= maxSizeInBytes) {
+            synchronized (renderedBarcodes) {
+                RenderedBarcodeDTO previous = renderedBarcodes.put(key, renderedBarcode);
+                if (previous != null) {
+                    sizeInBytes -= weight(key, previous);
+                }
+                sizeInBytes += weight;
+
+                Iterator<Map.Entry<Key, RenderedBarcodeDTO>> iterator = renderedBarcodes.entrySet().iterator();
+                while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+                    Map.Entry<Key, RenderedBarcodeDTO> eldest = iterator.next();
+                    sizeInBytes -= weight(eldest.getKey(), eldest.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+        return renderedBarcode;
+    }
+
+    /**
+     * Gets the size of the cached images, in bytes.
+     * @return the size of the cached images, in bytes.
+     */
+    long sizeInBytes() {
+        synchronized (renderedBarcodes) {
+            return sizeInBytes;
+        }
+    }
+
+    /**
+     * Gets the approximate weight of an entry, in bytes.
+     * @param key the key.
+     * @param renderedBarcode the rendered barcode.
+     * @return the weight.
+     */
+    private static long weight(Key key, RenderedBarcodeDTO renderedBarcode) {
+        return (long) renderedBarcode.getContent().length + key.value.length();
+    }
+
+    /**
+     * The cache key.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class Key {
+
+        /**
+         * The barcode type.
+         */
+        private final BarcodeType type;
+
+        /**
+         * The value.
+         */
+        private final String value;
+
+        /**
+         * The width.
+         */
+        private final int width;
+
+        /**
+         * The height.
+         */
+        private final int height;
+
+        /**
+         * The margin.
+         */
+        private final Integer margin;
+
+        /**
+         * The image format.
+         */
+        private final String imageFormat;
+    }
+}
@@ -26,11 +26,14 @@ package me.julb.applications.barcode.controllers;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -229,4 +232,77 @@ public class BarcodeControllerTest extends AbstractBaseTest {
            .andExpect(status().isBadRequest());
        //@formatter:on
     }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenGeneratingQrCodeSvg_thenReturnSvg()
+        throws Exception {
+        //@formatter:off
+        mockMvc
+            .perform(
+                get("/barcodes/qrcode")
+                    .param("value", "julb://some.uri")
+                    .param("width", "100")
+                    .param("height", "100")
+                    .param("margin", "1")
+                    .param("format", "svg")
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("image/svg+xml"))
+            .andExpect(content().string(Matchers.containsString("<svg")));
+        //@formatter:on
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenGeneratingBarcodeInvalidFormat_thenReturn400()
+        throws Exception {
+        //@formatter:off
+        mockMvc
+            .perform(
+                get("/barcodes/qrcode")
+                    .param("value", "julb://some.uri")
+                    .param("width", "100")
+                    .param("height", "100")
+                    .param("format", "bmp")
+            )
+            .andExpect(status().isBadRequest());
+        //@formatter:on
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenGeneratingBarcodeWithMatchingETag_thenReturn304()
+        throws Exception {
+        //@formatter:off
+        String eTag = mockMvc
+            .perform(
+                get("/barcodes/pdf417")
+                    .param("value", "julb://some.uri")
+                    .param("width", "100")
+                    .param("height", "100")
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        mockMvc
+            .perform(
+                get("/barcodes/pdf417")
+                    .param("value", "julb://some.uri")
+                    .param("width", "100")
+                    .param("height", "100")
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            )
+            .andExpect(status().isNotModified());
+        //@formatter:on
+    }
 }
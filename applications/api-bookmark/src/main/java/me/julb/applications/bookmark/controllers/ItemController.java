@@ -60,6 +60,7 @@ import me.julb.applications.bookmark.services.dto.folder.FolderDTO;
 import me.julb.applications.bookmark.services.dto.folder.FolderPatchDTO;
 import me.julb.applications.bookmark.services.dto.folder.FolderUpdateDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemDTO;
+import me.julb.applications.bookmark.services.dto.item.ItemPositionsUpdateDTO;
 import me.julb.applications.bookmark.services.dto.object.ObjectLinkCreationDTO;
 import me.julb.applications.bookmark.services.dto.object.ObjectLinkDTO;
 import me.julb.applications.bookmark.services.dto.object.ObjectLinkPatchDTO;
@@ -333,6 +334,19 @@ public class ItemController {
         return itemService.updatePosition(userId, id, updateDTO);
     }
 
+    /**
+     * Reorders items of the same folder for the user.
+     * @param userId the user ID.
+     * @param updateDTO the DTO with the items in the expected order.
+     * @return the response.
+     */
+    @Operation(summary = "reorders items of the same folder for the user")
+    @PutMapping(path = "/positions", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasPermission('bookmark-item', 'update')")
+    public List<? extends AbstractItemDTO> updatePositions(@PathVariable("userId") @Identifier String userId, @RequestBody @NotNull @Valid ItemPositionsUpdateDTO updateDTO) {
+        return itemService.updatePositions(userId, updateDTO);
+    }
+
     /**
      * Updates the parent of the item for the user.
      * @param userId the user ID.
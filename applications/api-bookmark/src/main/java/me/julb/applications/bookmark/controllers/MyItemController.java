@@ -60,6 +60,7 @@ import me.julb.applications.bookmark.services.dto.folder.FolderDTO;
 import me.julb.applications.bookmark.services.dto.folder.FolderPatchDTO;
 import me.julb.applications.bookmark.services.dto.folder.FolderUpdateDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemDTO;
+import me.julb.applications.bookmark.services.dto.item.ItemPositionsUpdateDTO;
 import me.julb.applications.bookmark.services.dto.object.ObjectLinkCreationDTO;
 import me.julb.applications.bookmark.services.dto.object.ObjectLinkDTO;
 import me.julb.applications.bookmark.services.dto.object.ObjectLinkPatchDTO;
@@ -316,6 +317,18 @@ public class MyItemController {
         return myItemService.updatePosition(id, updateDTO);
     }
 
+    /**
+     * Reorders items of the same folder.
+     * @param updateDTO the DTO with the items in the expected order.
+     * @return the response.
+     */
+    @Operation(summary = "reorders items of the same folder")
+    @PutMapping(path = "/positions", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('FULLY_AUTHENTICATED')")
+    public List<? extends AbstractItemDTO> updatePositions(@RequestBody @NotNull @Valid ItemPositionsUpdateDTO updateDTO) {
+        return myItemService.updatePositions(updateDTO);
+    }
+
     /**
      * Updates the parent of the item.
      * @param id the ID of the object link to update.
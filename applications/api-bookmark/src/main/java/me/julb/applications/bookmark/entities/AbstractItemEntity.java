@@ -165,7 +165,7 @@ public abstract class AbstractItemEntity extends AbstractAuditedEntity implement
      //@formatter:on
     @NotNull
     @Min(0)
-    private Integer position;
+    private Long position;
 
     //@formatter:off
      /**
@@ -26,6 +26,7 @@ package me.julb.applications.bookmark.entities.mappers;
 
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValueCheckStrategy;
 import org.mapstruct.NullValuePropertyMappingStrategy;
@@ -150,6 +151,7 @@ public interface ItemEntityMapper {
      * @param entity the entity.
      * @return the corresponding DTO.
      */
+    @Mapping(target = "position", ignore = true)
     ExternalLinkDTO map(ExternalLinkEntity entity);
 
     /**
@@ -181,7 +183,8 @@ public interface ItemEntityMapper {
      * Maps the entity to its DTO.
      * @param entity the entity.
      * @return the corresponding DTO.
-     */ 
+     */
+    @Mapping(target = "position", ignore = true)
     FolderDTO map(FolderEntity entity);
 
     /**
@@ -221,6 +224,7 @@ public interface ItemEntityMapper {
      * @param entity the entity.
      * @return the corresponding DTO.
      */
+    @Mapping(target = "position", ignore = true)
     ObjectLinkDTO map(ObjectLinkEntity entity);
 
     /**
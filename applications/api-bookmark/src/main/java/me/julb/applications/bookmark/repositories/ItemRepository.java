@@ -24,8 +24,10 @@
 
 package me.julb.applications.bookmark.repositories;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import me.julb.applications.bookmark.entities.AbstractItemEntity;
@@ -38,7 +40,7 @@ import me.julb.springbootstarter.persistence.mongodb.repositories.MongoSpecifica
  * <br>
  * @author Julb.
  */
-public interface ItemRepository extends MongoRepository<AbstractItemEntity, String>, MongoSpecificationExecutor<AbstractItemEntity> {
+public interface ItemRepository extends MongoRepository<AbstractItemEntity, String>, MongoSpecificationExecutor<AbstractItemEntity>, ItemRepositoryCustom {
 
     /**
      * Gets the item by trademark aand id.
@@ -67,6 +69,23 @@ public interface ItemRepository extends MongoRepository<AbstractItemEntity, Stri
      */
     AbstractItemEntity findTopByTmAndUser_IdAndParentIsNullOrderByPositionDesc(String tm, String userId);
 
+    /**
+     * Finds the link without parent with the lowest position.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @return the link without parent with the lowest position.
+     */
+    AbstractItemEntity findTopByTmAndUser_IdAndParentIsNullOrderByPositionAsc(String tm, String userId);
+
+    /**
+     * Finds the item with given parent with the lowest position.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param parent the parent folder.
+     * @return the link with given parent with the lowest position.
+     */
+    AbstractItemEntity findTopByTmAndUser_IdAndParentOrderByPositionAsc(String tm, String userId, FolderEntity parent);
+
     /**
      * Finds the item with given parent with the greatest position.
      * @param tm the trademark.
@@ -76,6 +95,25 @@ public interface ItemRepository extends MongoRepository<AbstractItemEntity, Stri
      */
     AbstractItemEntity findTopByTmAndUser_IdAndParentOrderByPositionDesc(String tm, String userId, FolderEntity parent);
 
+    /**
+     * Counts the items without parent with a position lower than the given one.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param position the position.
+     * @return the number of items before this position.
+     */
+    long countByTmAndUser_IdAndParentIsNullAndPositionLessThan(String tm, String userId, Long position);
+
+    /**
+     * Counts the items with given parent with a position lower than the given one.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param parent the parent folder.
+     * @param position the position.
+     * @return the number of items before this position.
+     */
+    long countByTmAndUser_IdAndParentAndPositionLessThan(String tm, String userId, FolderEntity parent, Long position);
+
     /**
      * Finds all items excluding given id with path starting with given path.
      * @param tm the trademark.
@@ -122,4 +160,55 @@ public interface ItemRepository extends MongoRepository<AbstractItemEntity, Stri
      */
     List<AbstractItemEntity> findByTmAndUser_IdAndIdNotAndParentOrderByPositionAsc(String tm, String userId, String id, FolderEntity parent);
 
+    /**
+     * Finds the items with given ids.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param ids the ids.
+     * @return the items.
+     */
+    List<AbstractItemEntity> findByTmAndUser_IdAndIdIn(String tm, String userId, Collection<String> ids);
+
+    /**
+     * Finds the first items at root after the given position order by position asc.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param position the position.
+     * @param pageable the number of items to get.
+     * @return the items.
+     */
+    List<AbstractItemEntity> findByTmAndUser_IdAndParentIsNullAndPositionGreaterThanOrderByPositionAsc(String tm, String userId, Long position, Pageable pageable);
+
+    /**
+     * Finds the first items under given parent after the given position order by position asc.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param parent the parent.
+     * @param position the position.
+     * @param pageable the number of items to get.
+     * @return the items.
+     */
+    List<AbstractItemEntity> findByTmAndUser_IdAndParentAndPositionGreaterThanOrderByPositionAsc(String tm, String userId, FolderEntity parent, Long position, Pageable pageable);
+
+    /**
+     * Finds the last items at root before the given position order by position desc.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param position the position.
+     * @param pageable the number of items to get.
+     * @return the items.
+     */
+    List<AbstractItemEntity> findByTmAndUser_IdAndParentIsNullAndPositionLessThanOrderByPositionDesc(String tm, String userId, Long position, Pageable pageable);
+
+    /**
+     * Finds the last items under given parent before the given position order by position desc.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param parent the parent.
+     * @param position the position.
+     * @param pageable the number of items to get.
+     * @return the items.
+     */
+    List<AbstractItemEntity> findByTmAndUser_IdAndParentAndPositionLessThanOrderByPositionDesc(String tm, String userId, FolderEntity parent, Long position, Pageable pageable);
+
 }
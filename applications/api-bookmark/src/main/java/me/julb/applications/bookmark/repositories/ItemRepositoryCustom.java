@@ -0,0 +1,68 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.bookmark.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import me.julb.applications.bookmark.entities.AbstractItemEntity;
+import me.julb.applications.bookmark.entities.FolderEntity;
+
+/**
+ * The item repository custom operations.
+ * <br>
+ * @author Julb.
+ */
+public interface ItemRepositoryCustom {
+
+    /**
+     * Gets the positions of all the items of the given folder, reading only the positions.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param parent the parent folder, <code>null</code> for the root.
+     * @return the positions, in ascending order.
+     */
+    List<Long> findPositions(String tm, String userId, FolderEntity parent);
+
+    /**
+     * Writes the position and last update date of the given items with a single bulk write.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param items the items to update.
+     * @return the number of items updated.
+     */
+    int updatePositions(String tm, String userId, Collection<? extends AbstractItemEntity> items);
+
+    /**
+     * Replaces the path prefix of all the items whose path starts with the given prefix, with a single server-side update.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param oldPathPrefix the path prefix to replace.
+     * @param newPathPrefix the new path prefix.
+     * @param lastUpdatedAt the last update date to set.
+     * @return the number of items updated.
+     */
+    long updatePathPrefix(String tm, String userId, String oldPathPrefix, String newPathPrefix, String lastUpdatedAt);
+}
@@ -0,0 +1,105 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.bookmark.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import me.julb.applications.bookmark.entities.AbstractItemEntity;
+import me.julb.applications.bookmark.entities.FolderEntity;
+
+/**
+ * The item repository custom operations implementation.
+ * <br>
+ * @author Julb.
+ */
+public class ItemRepositoryImpl implements ItemRepositoryCustom {
+
+    /**
+     * The mongo operations.
+     */
+    @Autowired
+    private MongoOperations mongoOperations;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> findPositions(String tm, String userId, FolderEntity parent) {
+        Query query = Query.query(Criteria.where("tm").is(tm).and("user.id").is(userId).and("parent").is(parent)).with(Sort.by("position"));
+
+        // The type key is read so that the abstract entity can be instantiated.
+        query.fields().include("position").include(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY);
+        return mongoOperations.find(query, AbstractItemEntity.class).stream().map(AbstractItemEntity::getPosition).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int updatePositions(String tm, String userId, Collection<? extends AbstractItemEntity> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations bulkOperations = mongoOperations.bulkOps(BulkMode.UNORDERED, AbstractItemEntity.class);
+        for (AbstractItemEntity item : items) {
+            Query query = Query.query(Criteria.where("tm").is(tm).and("user.id").is(userId).and("id").is(item.getId()));
+            Update update = Update.update("position", item.getPosition()).set("lastUpdatedAt", item.getLastUpdatedAt());
+            bulkOperations.updateOne(query, update);
+        }
+        return bulkOperations.execute().getModifiedCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long updatePathPrefix(String tm, String userId, String oldPathPrefix, String newPathPrefix, String lastUpdatedAt) {
+        Query query = Query.query(Criteria.where("tm").is(tm).and("user.id").is(userId).and("path").regex("^" + Pattern.quote(oldPathPrefix)));
+
+        // The new path is computed by the server: newPathPrefix + path.substring(oldPathPrefix.length).
+        //@formatter:off
+        AggregationUpdate update = AggregationUpdate.update()
+            .set("path").toValue(StringOperators.Concat.stringValue(newPathPrefix).concatValueOf(StringOperators.valueOf("path").substring(oldPathPrefix.length())))
+            .set("lastUpdatedAt").toValue(lastUpdatedAt);
+        //@formatter:on
+
+        return mongoOperations.updateMulti(query, update, AbstractItemEntity.class).getModifiedCount();
+    }
+}
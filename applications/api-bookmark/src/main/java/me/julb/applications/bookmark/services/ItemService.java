@@ -37,6 +37,7 @@ import me.julb.applications.bookmark.services.dto.item.AbstractItemCreationDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemPatchDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemUpdateDTO;
+import me.julb.applications.bookmark.services.dto.item.ItemPositionsUpdateDTO;
 import me.julb.library.dto.simple.identifier.IdentifierDTO;
 import me.julb.library.dto.simple.value.PositiveIntegerValueDTO;
 import me.julb.library.utility.data.search.Searchable;
@@ -123,6 +124,14 @@ public interface ItemService {
      */
     AbstractItemDTO updatePosition(@NotNull @Identifier String userId, @Identifier String id, @NotNull @Valid PositiveIntegerValueDTO updateDTO);
 
+    /**
+     * Reorders items of the same folder.
+     * @param userId current user ID.
+     * @param updateDTO the items in the expected order.
+     * @return the items updated.
+     */
+    List<? extends AbstractItemDTO> updatePositions(@NotNull @Identifier String userId, @NotNull @Valid ItemPositionsUpdateDTO updateDTO);
+
     /**
      * Updates the parent of an item.
      * @param userId current user ID.
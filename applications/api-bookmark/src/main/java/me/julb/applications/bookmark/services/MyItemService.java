@@ -37,6 +37,7 @@ import me.julb.applications.bookmark.services.dto.item.AbstractItemCreationDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemPatchDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemUpdateDTO;
+import me.julb.applications.bookmark.services.dto.item.ItemPositionsUpdateDTO;
 import me.julb.library.dto.simple.identifier.IdentifierDTO;
 import me.julb.library.dto.simple.value.PositiveIntegerValueDTO;
 import me.julb.library.utility.data.search.Searchable;
@@ -115,6 +116,13 @@ public interface MyItemService {
      */
     AbstractItemDTO updatePosition(@Identifier String id, @NotNull @Valid PositiveIntegerValueDTO updateDTO);
 
+    /**
+     * Reorders items of the same folder.
+     * @param updateDTO the items in the expected order.
+     * @return the items updated.
+     */
+    List<? extends AbstractItemDTO> updatePositions(@NotNull @Valid ItemPositionsUpdateDTO updateDTO);
+
     /**
      * Updates the parent of an item.
      * @param id the ID.
@@ -0,0 +1,91 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.bookmark.services.impl;
+
+/**
+ * Computes the sparse position keys used to order the items of a folder.
+ * <br>
+ * Keys are spread by {@link #GAP} so that an item can be moved between two siblings by rewriting its own key only. A folder is
+ * rebalanced when two adjacent keys leave no room in between.
+ * <br>
+ * @author Julb.
+ */
+final class ItemPositionKeys {
+
+    /**
+     * The gap between two consecutive keys after a rebalance.
+     */
+    static final long GAP = 1L << 20;
+
+    /**
+     * The virtual key before the first item of a folder.
+     */
+    private static final long LOWER_BOUND = -1L;
+
+    /**
+     * Hidden constructor.
+     */
+    private ItemPositionKeys() {
+    }
+
+    /**
+     * Gets the key of an item appended after the given greatest key.
+     * @param greatest the greatest key of the folder, <code>null</code> if the folder is empty.
+     * @return the key to append.
+     */
+    static long after(Long greatest) {
+        if (greatest == null) {
+            return GAP;
+        }
+        return greatest + GAP;
+    }
+
+    /**
+     * Gets a key strictly between the two given keys.
+     * @param before the key of the previous item, <code>null</code> if the item becomes the first one.
+     * @param after the key of the next item, <code>null</code> if the item becomes the last one.
+     * @return the key in between, <code>null</code> if there is no room left and the folder needs to be rebalanced.
+     */
+    static Long between(Long before, Long after) {
+        if (after == null) {
+            return after(before);
+        }
+
+        long lower = before != null ? before : LOWER_BOUND;
+        if (after - lower < 2) {
+            return null;
+        }
+        return lower + (after - lower) / 2;
+    }
+
+    /**
+     * Gets the key of the item at the given index after a rebalance.
+     * @param index the index of the item in the folder.
+     * @return the key.
+     */
+    static long rebalanced(int index) {
+        return (index + 1) * GAP;
+    }
+}
@@ -25,8 +25,12 @@
 package me.julb.applications.bookmark.services.impl;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
@@ -34,6 +38,7 @@ import javax.validation.constraints.NotNull;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -44,7 +49,6 @@ import me.julb.applications.bookmark.entities.AbstractItemEntity;
 import me.julb.applications.bookmark.entities.ExternalLinkEntity;
 import me.julb.applications.bookmark.entities.FolderEntity;
 import me.julb.applications.bookmark.entities.ObjectLinkEntity;
-import me.julb.applications.bookmark.entities.comparators.ItemEntityByPositionComparator;
 import me.julb.applications.bookmark.entities.mappers.ItemEntityMapper;
 import me.julb.applications.bookmark.repositories.ExternalLinkRepository;
 import me.julb.applications.bookmark.repositories.FolderRepository;
@@ -58,7 +62,10 @@ import me.julb.applications.bookmark.services.dto.item.AbstractItemCreationDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemPatchDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemUpdateDTO;
+import me.julb.applications.bookmark.services.dto.item.ItemPositionsUpdateDTO;
 import me.julb.applications.bookmark.services.exceptions.CannotMoveFolderInSubfolderException;
+import me.julb.applications.bookmark.services.exceptions.CannotReorderDuplicateItemsException;
+import me.julb.applications.bookmark.services.exceptions.CannotReorderItemsOfDifferentFoldersException;
 import me.julb.library.dto.messaging.events.ResourceEventAsyncMessageDTO;
 import me.julb.library.dto.messaging.events.ResourceEventType;
 import me.julb.library.dto.simple.identifier.IdentifierDTO;
@@ -149,7 +156,8 @@ public class ItemServiceImpl implements ItemService {
 
         ISpecification<AbstractItemEntity> spec = new SearchSpecification<AbstractItemEntity>(searchable).and(new TmSpecification<>(tm)).and(new ItemBelongsToUserIdSpecification<>(userId));
         Page<AbstractItemEntity> result = itemRepository.findAll(spec, pageable);
-        return result.map(mapper::map);
+        Map<String, Integer> indexes = indexes(tm, userId, result.getContent());
+        return result.map(item -> map(item, indexes.get(item.getId())));
     }
 
     /**
@@ -173,7 +181,12 @@ public class ItemServiceImpl implements ItemService {
         } else {
             items = itemRepository.findByTmAndUser_IdAndParentIsNullOrderByPositionAsc(tm, userId);
         }
-        return items.stream().map(mapper::map).toList();
+        // The items are sorted: their index is their position in the folder.
+        List<AbstractItemDTO> result = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            result.add(map(items.get(i), i));
+        }
+        return result;
     }
 
     /**
@@ -203,7 +216,8 @@ public class ItemServiceImpl implements ItemService {
             default:
                 throw new UnsupportedOperationException();
         }
-        return result.map(mapper::map);
+        Map<String, Integer> indexes = indexes(tm, userId, result.getContent());
+        return result.map(item -> map(item, indexes.get(item.getId())));
     }
 
     /**
@@ -219,7 +233,7 @@ public class ItemServiceImpl implements ItemService {
             throw new ResourceNotFoundException(AbstractItemEntity.class, id);
         }
 
-        return mapper.map(result);
+        return map(tm, userId, result);
     }
 
     // ------------------------------------------ Write methods.
@@ -234,7 +248,7 @@ public class ItemServiceImpl implements ItemService {
 
         // Check parent folder exists
         FolderEntity folderParent = null;
-        Integer position = 0;
+        Long position = null;
         String pathPrefix = Strings.EMPTY;
         if (creationDTO.getParent() != null && StringUtils.isNotBlank(creationDTO.getParent().getId())) {
             // Get folder parent.
@@ -244,28 +258,15 @@ public class ItemServiceImpl implements ItemService {
             }
 
             // Compute position.
-            Integer greatestPosition = -1;
             AbstractItemEntity itemWithGreatestPosition = itemRepository.findTopByTmAndUser_IdAndParentOrderByPositionDesc(tm, userId, folderParent);
-            if (itemWithGreatestPosition != null) {
-                greatestPosition = Math.max(greatestPosition, itemWithGreatestPosition.getPosition());
-            }
-
-            // Increment position.
-            position = greatestPosition + 1;
+            position = ItemPositionKeys.after(itemWithGreatestPosition != null ? itemWithGreatestPosition.getPosition() : null);
 
             // Compute path.
             pathPrefix = StringUtils.join(folderParent.getPath(), Chars.UNDERSCORE);
         } else {
             // Compute position.
-            Integer greatestPosition = -1;
-
             AbstractItemEntity itemWithGreatestPosition = itemRepository.findTopByTmAndUser_IdAndParentIsNullOrderByPositionDesc(tm, userId);
-            if (itemWithGreatestPosition != null) {
-                greatestPosition = Math.max(greatestPosition, itemWithGreatestPosition.getPosition());
-            }
-
-            // Increment position.
-            position = greatestPosition + 1;
+            position = ItemPositionKeys.after(itemWithGreatestPosition != null ? itemWithGreatestPosition.getPosition() : null);
         }
 
         // Update the entity
@@ -278,7 +279,7 @@ public class ItemServiceImpl implements ItemService {
         entityToCreate.setPath(StringUtils.join(pathPrefix, entityToCreate.getId()));
 
         AbstractItemEntity result = itemRepository.save(entityToCreate);
-        return mapper.map(result);
+        return map(tm, userId, result);
     }
 
     /**
@@ -300,7 +301,7 @@ public class ItemServiceImpl implements ItemService {
         this.onUpdate(existing);
 
         AbstractItemEntity result = itemRepository.save(existing);
-        return mapper.map(result);
+        return map(tm, userId, result);
     }
 
     /**
@@ -317,45 +318,113 @@ public class ItemServiceImpl implements ItemService {
             throw new ResourceNotFoundException(AbstractItemEntity.class, id);
         }
 
-        // Finds all items under the same parent.
-        List<AbstractItemEntity> siblings;
-        if (existing.getParent() == null) {
-            siblings = new ArrayList<>(itemRepository.findByTmAndUser_IdAndParentIsNullOrderByPositionAsc(tm, userId));
+        // If the item is already at the right place, nothing to do.
+        int index = updateDTO.getValue();
+        int currentIndex = index(tm, userId, existing);
+        if (index == currentIndex) {
+            return map(existing, currentIndex);
+        }
+
+        // Get the siblings surrounding the target index, the item itself being excluded.
+        AbstractItemEntity previous;
+        AbstractItemEntity next;
+        if (index == 0) {
+            previous = null;
+            next = findFirst(tm, userId, existing.getParent());
+        } else if (index > currentIndex) {
+            // The siblings after the item, from the item to the target index.
+            List<AbstractItemEntity> siblings = findSiblingsAfter(tm, userId, existing, (int) Math.min((long) index - currentIndex + 1, Integer.MAX_VALUE));
+            int offset = index - currentIndex;
+            previous = offset <= siblings.size() ? siblings.get(offset - 1) : null;
+            next = offset < siblings.size() ? siblings.get(offset) : null;
         } else {
-            siblings = new ArrayList<>(itemRepository.findByTmAndUser_IdAndParentOrderByPositionAsc(tm, userId, existing.getParent()));
+            // The siblings before the item, from the item back to the target index.
+            List<AbstractItemEntity> siblings = findSiblingsBefore(tm, userId, existing, currentIndex - index + 1);
+            int offset = currentIndex - index;
+            next = offset <= siblings.size() ? siblings.get(offset - 1) : null;
+            previous = offset < siblings.size() ? siblings.get(offset) : null;
         }
 
-        // Update position of all elements in the hierarchy.
-        for (AbstractItemEntity sibling : siblings) {
-            if (sibling.equals(existing)) {
-                // Set new position for given element.
-                sibling.setPosition(updateDTO.getValue());
-            } else if (sibling.getPosition() >= updateDTO.getValue()) {
-                // Increment position of all others under this one.
-                sibling.setPosition(sibling.getPosition() + 1);
+        Long position;
+        if (next == null) {
+            // Move the item at the end of the folder.
+            AbstractItemEntity last = findLast(tm, userId, existing.getParent());
+            if (existing.equals(last)) {
+                return map(existing, currentIndex);
             }
+            position = ItemPositionKeys.after(last.getPosition());
+        } else {
+            position = ItemPositionKeys.between(previous != null ? previous.getPosition() : null, next.getPosition());
         }
 
-        // Re-sort all items by position..
-        Collections.sort(siblings, new ItemEntityByPositionComparator());
+        if (position == null) {
+            // No room left between the siblings: rebalance the folder.
+            rebalance(tm, userId, existing, index);
+            return map(tm, userId, existing);
+        }
 
-        // Rewrite all the position.
-        for (int i = 0; i < siblings.size(); i++) {
-            AbstractItemEntity sibling = siblings.get(i);
+        // Only the moved item is written.
+        existing.setPosition(position);
+        this.onUpdate(existing);
+
+        AbstractItemEntity result = itemRepository.save(existing);
+        return map(tm, userId, result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = false, propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
+    public List<? extends AbstractItemDTO> updatePositions(@NotNull @Identifier String userId, @NotNull @Valid ItemPositionsUpdateDTO updateDTO) {
+        String tm = TrademarkContextHolder.getTrademark();
+
+        // Check that the items are distinct.
+        List<String> ids = updateDTO.getItems().stream().map(IdentifierDTO::getId).toList();
+        Set<String> distinctIds = new HashSet<>(ids);
+        if (distinctIds.size() != ids.size()) {
+            throw new CannotReorderDuplicateItemsException();
+        }
+
+        // Check that the items exist.
+        Map<String, AbstractItemEntity> itemsById = new HashMap<>();
+        for (AbstractItemEntity item : itemRepository.findByTmAndUser_IdAndIdIn(tm, userId, distinctIds)) {
+            itemsById.put(item.getId(), item);
+        }
+        List<AbstractItemEntity> items = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            AbstractItemEntity item = itemsById.get(id);
+            if (item == null) {
+                throw new ResourceNotFoundException(AbstractItemEntity.class, id);
+            }
+            items.add(item);
+        }
 
-            // Update the position.
-            sibling.setPosition(i);
+        // Check that the items belong to the same folder.
+        String parentId = getParentId(items.get(0));
+        for (AbstractItemEntity item : items) {
+            if (!Objects.equals(parentId, getParentId(item))) {
+                throw new CannotReorderItemsOfDifferentFoldersException();
+            }
+        }
 
-            // Notify update.
-            this.onUpdate(sibling);
+        // The items exchange the positions they already hold, so that the other items of the folder are left untouched.
+        List<Long> positions = items.stream().map(AbstractItemEntity::getPosition).sorted().toList();
+        List<AbstractItemEntity> itemsToUpdate = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            AbstractItemEntity item = items.get(i);
+            if (!positions.get(i).equals(item.getPosition())) {
+                item.setPosition(positions.get(i));
+                this.onUpdate(item);
+                itemsToUpdate.add(item);
+            }
         }
 
         // Update in DB.
-        itemRepository.saveAll(siblings);
+        itemRepository.updatePositions(tm, userId, itemsToUpdate);
 
-        // Return updated element.
-        AbstractItemEntity result = itemRepository.findByTmAndUser_IdAndId(tm, userId, id);
-        return mapper.map(result);
+        Map<String, Integer> indexes = indexes(tm, userId, items);
+        return items.stream().map(item -> map(item, indexes.get(item.getId()))).toList();
     }
 
     /**
@@ -374,7 +443,7 @@ public class ItemServiceImpl implements ItemService {
 
         // Check parent folder exists
         FolderEntity folderParent = null;
-        Integer position = 0;
+        Long position = null;
         String pathPrefix = Strings.EMPTY;
         if (updateDTO != null && StringUtils.isNotBlank(updateDTO.getId())) {
             // Get folder parent.
@@ -384,38 +453,24 @@ public class ItemServiceImpl implements ItemService {
             }
 
             // Compute position.
-            Integer greatestPosition = -1;
             AbstractItemEntity itemWithGreatestPosition = itemRepository.findTopByTmAndUser_IdAndParentOrderByPositionDesc(tm, userId, folderParent);
-            if (itemWithGreatestPosition != null) {
-                greatestPosition = Math.max(greatestPosition, itemWithGreatestPosition.getPosition());
-            }
-
-            // Increment position.
-            position = greatestPosition + 1;
+            position = ItemPositionKeys.after(itemWithGreatestPosition != null ? itemWithGreatestPosition.getPosition() : null);
 
             // Compute path.
             pathPrefix = StringUtils.join(folderParent.getPath(), Chars.UNDERSCORE);
         } else {
             // Compute position.
-            Integer greatestPosition = -1;
-
             AbstractItemEntity itemWithGreatestPosition = itemRepository.findTopByTmAndUser_IdAndParentIsNullOrderByPositionDesc(tm, userId);
-            if (itemWithGreatestPosition != null) {
-                greatestPosition = Math.max(greatestPosition, itemWithGreatestPosition.getPosition());
-            }
-
-            // Increment position.
-            position = greatestPosition + 1;
+            position = ItemPositionKeys.after(itemWithGreatestPosition != null ? itemWithGreatestPosition.getPosition() : null);
         }
 
         // Store old path and children path.
-        FolderEntity oldFolderParent = existing.getParent();
         String oldPath = existing.getPath();
         String newPath = StringUtils.join(pathPrefix, existing.getId());
 
         // If parent are the same, nothing to do.
         if (StringUtils.equals(oldPath, newPath)) {
-            return mapper.map(existing);
+            return map(tm, userId, existing);
         }
 
         // If new path under old path, it means that we want to put a parent within a child of this parent.
@@ -429,41 +484,14 @@ public class ItemServiceImpl implements ItemService {
         existing.setPath(newPath);
         this.onUpdate(existing);
 
-        // Update all the children elements if folder
+        // Update the path of all the children elements if folder, in a single server-side update.
         if (ItemType.FOLDER.equals(existing.getType())) {
-            List<AbstractItemEntity> items = itemRepository.findByTmAndUser_IdAndIdNotAndPathStartsWith(tm, userId, existing.getId(), oldPath);
-            for (AbstractItemEntity item : items) {
-                item.setPath(item.getPath().replaceFirst(oldPath, newPath));
-                itemRepository.save(item);
-                this.onUpdate(item);
-            }
-        }
-
-        // Update all the position of the old folder.
-        List<AbstractItemEntity> oldFolderChildren;
-        if (oldFolderParent == null) {
-            oldFolderChildren = new ArrayList<>(itemRepository.findByTmAndUser_IdAndIdNotAndParentIsNullOrderByPositionAsc(tm, userId, id));
-        } else {
-            oldFolderChildren = new ArrayList<>(itemRepository.findByTmAndUser_IdAndIdNotAndParentOrderByPositionAsc(tm, userId, id, oldFolderParent));
+            itemRepository.updatePathPrefix(tm, userId, StringUtils.join(oldPath, Chars.UNDERSCORE), StringUtils.join(newPath, Chars.UNDERSCORE), existing.getLastUpdatedAt());
         }
 
-        // Rewrite all the position.
-        for (int i = 0; i < oldFolderChildren.size(); i++) {
-            AbstractItemEntity oldFolderChild = oldFolderChildren.get(i);
-
-            // Update the position.
-            oldFolderChild.setPosition(i);
-
-            // Notify update.
-            this.onUpdate(oldFolderChild);
-        }
-
-        // Update in DB.
-        itemRepository.saveAll(oldFolderChildren);
-
         // Return the result.
         AbstractItemEntity result = itemRepository.save(existing);
-        return mapper.map(result);
+        return map(tm, userId, result);
     }
 
     /**
@@ -485,7 +513,7 @@ public class ItemServiceImpl implements ItemService {
         this.onUpdate(existing);
 
         AbstractItemEntity result = itemRepository.save(existing);
-        return mapper.map(result);
+        return map(tm, userId, result);
     }
 
     /**
@@ -520,6 +548,194 @@ public class ItemServiceImpl implements ItemService {
 
     // ------------------------------------------ Private methods.
 
+    /**
+     * Maps the item to its DTO.
+     * <br>
+     * The position of the DTO is the index of the item in its folder, not the sparse key used to order the items.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param item the item.
+     * @return the DTO.
+     */
+    private AbstractItemDTO map(String tm, String userId, AbstractItemEntity item) {
+        return map(item, index(tm, userId, item));
+    }
+
+    /**
+     * Maps the item to its DTO.
+     * @param item the item.
+     * @param index the index of the item in its folder.
+     * @return the DTO.
+     */
+    private AbstractItemDTO map(AbstractItemEntity item, int index) {
+        AbstractItemDTO dto = mapper.map(item);
+        dto.setPosition(index);
+        return dto;
+    }
+
+    /**
+     * Gets the index of the item in its folder.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param item the item.
+     * @return the index of the item.
+     */
+    private int index(String tm, String userId, AbstractItemEntity item) {
+        if (item.getParent() == null) {
+            return (int) itemRepository.countByTmAndUser_IdAndParentIsNullAndPositionLessThan(tm, userId, item.getPosition());
+        } else {
+            return (int) itemRepository.countByTmAndUser_IdAndParentAndPositionLessThan(tm, userId, item.getParent(), item.getPosition());
+        }
+    }
+
+    /**
+     * Gets the indexes of the items in their folder, with one query per folder.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param items the items.
+     * @return the index of each item by item ID.
+     */
+    private Map<String, Integer> indexes(String tm, String userId, List<? extends AbstractItemEntity> items) {
+        Map<String, List<AbstractItemEntity>> itemsByParentId = new HashMap<>();
+        for (AbstractItemEntity item : items) {
+            itemsByParentId.computeIfAbsent(getParentId(item), parentId -> new ArrayList<>()).add(item);
+        }
+
+        Map<String, Integer> indexes = new HashMap<>();
+        for (List<AbstractItemEntity> folderItems : itemsByParentId.values()) {
+            List<Long> positions = itemRepository.findPositions(tm, userId, folderItems.get(0).getParent());
+            for (AbstractItemEntity item : folderItems) {
+                indexes.put(item.getId(), countLowerPositions(positions, item.getPosition()));
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Counts the positions lower than the given one.
+     * @param positions the positions, in ascending order.
+     * @param position the position.
+     * @return the number of positions lower than the given one.
+     */
+    private static int countLowerPositions(List<Long> positions, long position) {
+        int low = 0;
+        int high = positions.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (positions.get(middle) < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the siblings following the item, read from the position of the item.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param item the item.
+     * @param count the maximum number of siblings to get.
+     * @return the siblings, in ascending order.
+     */
+    private List<AbstractItemEntity> findSiblingsAfter(String tm, String userId, AbstractItemEntity item, int count) {
+        PageRequest pageRequest = PageRequest.of(0, count);
+        if (item.getParent() == null) {
+            return itemRepository.findByTmAndUser_IdAndParentIsNullAndPositionGreaterThanOrderByPositionAsc(tm, userId, item.getPosition(), pageRequest);
+        } else {
+            return itemRepository.findByTmAndUser_IdAndParentAndPositionGreaterThanOrderByPositionAsc(tm, userId, item.getParent(), item.getPosition(), pageRequest);
+        }
+    }
+
+    /**
+     * Finds the siblings preceding the item, read backwards from the position of the item.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param item the item.
+     * @param count the maximum number of siblings to get.
+     * @return the siblings, in descending order.
+     */
+    private List<AbstractItemEntity> findSiblingsBefore(String tm, String userId, AbstractItemEntity item, int count) {
+        PageRequest pageRequest = PageRequest.of(0, count);
+        if (item.getParent() == null) {
+            return itemRepository.findByTmAndUser_IdAndParentIsNullAndPositionLessThanOrderByPositionDesc(tm, userId, item.getPosition(), pageRequest);
+        } else {
+            return itemRepository.findByTmAndUser_IdAndParentAndPositionLessThanOrderByPositionDesc(tm, userId, item.getParent(), item.getPosition(), pageRequest);
+        }
+    }
+
+    /**
+     * Finds the first item of the given folder.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param parent the folder, <code>null</code> for the root.
+     * @return the first item of the folder.
+     */
+    private AbstractItemEntity findFirst(String tm, String userId, FolderEntity parent) {
+        if (parent == null) {
+            return itemRepository.findTopByTmAndUser_IdAndParentIsNullOrderByPositionAsc(tm, userId);
+        } else {
+            return itemRepository.findTopByTmAndUser_IdAndParentOrderByPositionAsc(tm, userId, parent);
+        }
+    }
+
+    /**
+     * Finds the last item of the given folder.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param parent the folder, <code>null</code> for the root.
+     * @return the last item of the folder.
+     */
+    private AbstractItemEntity findLast(String tm, String userId, FolderEntity parent) {
+        if (parent == null) {
+            return itemRepository.findTopByTmAndUser_IdAndParentIsNullOrderByPositionDesc(tm, userId);
+        } else {
+            return itemRepository.findTopByTmAndUser_IdAndParentOrderByPositionDesc(tm, userId, parent);
+        }
+    }
+
+    /**
+     * Spreads again the positions of the folder of the item, the item being moved at the given index.
+     * @param tm the trademark.
+     * @param userId the user ID.
+     * @param item the item to move.
+     * @param index the target index of the item.
+     */
+    private void rebalance(String tm, String userId, AbstractItemEntity item, int index) {
+        List<AbstractItemEntity> siblings;
+        if (item.getParent() == null) {
+            siblings = new ArrayList<>(itemRepository.findByTmAndUser_IdAndIdNotAndParentIsNullOrderByPositionAsc(tm, userId, item.getId()));
+        } else {
+            siblings = new ArrayList<>(itemRepository.findByTmAndUser_IdAndIdNotAndParentOrderByPositionAsc(tm, userId, item.getId(), item.getParent()));
+        }
+        siblings.add(Math.min(index, siblings.size()), item);
+
+        // Rewrite the positions which changed.
+        List<AbstractItemEntity> itemsToUpdate = new ArrayList<>();
+        for (int i = 0; i < siblings.size(); i++) {
+            AbstractItemEntity sibling = siblings.get(i);
+            long position = ItemPositionKeys.rebalanced(i);
+            if (sibling.getPosition() == null || sibling.getPosition() != position) {
+                sibling.setPosition(position);
+                this.onUpdate(sibling);
+                itemsToUpdate.add(sibling);
+            }
+        }
+
+        // Update in DB.
+        itemRepository.updatePositions(tm, userId, itemsToUpdate);
+    }
+
+    /**
+     * Gets the ID of the folder of the item.
+     * @param item the item.
+     * @return the ID of the folder, <code>null</code> for the root.
+     */
+    private String getParentId(AbstractItemEntity item) {
+        return item.getParent() != null ? item.getParent().getId() : null;
+    }
+
     /**
      * Method called when persisting an item.
      * @param entity the entity.
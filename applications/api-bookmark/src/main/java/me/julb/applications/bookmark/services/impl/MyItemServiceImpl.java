@@ -44,6 +44,7 @@ import me.julb.applications.bookmark.services.dto.item.AbstractItemCreationDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemPatchDTO;
 import me.julb.applications.bookmark.services.dto.item.AbstractItemUpdateDTO;
+import me.julb.applications.bookmark.services.dto.item.ItemPositionsUpdateDTO;
 import me.julb.library.dto.simple.identifier.IdentifierDTO;
 import me.julb.library.dto.simple.value.PositiveIntegerValueDTO;
 import me.julb.library.utility.data.search.Searchable;
@@ -142,6 +143,16 @@ public class MyItemServiceImpl implements MyItemService {
         return itemService.updatePosition(userId, id, updateDTO);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = false, propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
+    public List<? extends AbstractItemDTO> updatePositions(@NotNull @Valid ItemPositionsUpdateDTO updateDTO) {
+        String userId = securityService.getConnectedUserId();
+        return itemService.updatePositions(userId, updateDTO);
+    }
+
     /**
      * {@inheritDoc}
      */
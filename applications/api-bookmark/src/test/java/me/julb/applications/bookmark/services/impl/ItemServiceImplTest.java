@@ -0,0 +1,380 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.bookmark.services.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import com.mongodb.DBRef;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.constraints.NotNull;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import me.julb.applications.bookmark.entities.AbstractItemEntity;
+import me.julb.applications.bookmark.entities.FolderEntity;
+import me.julb.applications.bookmark.services.ItemService;
+import me.julb.applications.bookmark.services.dto.item.AbstractItemDTO;
+import me.julb.applications.bookmark.services.dto.item.ItemPositionsUpdateDTO;
+import me.julb.applications.bookmark.services.exceptions.CannotReorderDuplicateItemsException;
+import me.julb.library.dto.simple.identifier.IdentifierDTO;
+import me.julb.library.dto.simple.value.PositiveIntegerValueDTO;
+import me.julb.library.persistence.mongodb.entities.user.UserRefEntity;
+import me.julb.library.utility.constants.Chars;
+import me.julb.library.utility.date.DateUtility;
+import me.julb.library.utility.identifier.IdentifierUtility;
+import me.julb.springbootstarter.persistence.mongodb.test.base.AbstractMongoDbBaseTest;
+import me.julb.springbootstarter.test.security.annotations.WithMockUser;
+
+/**
+ * Unit test for the {@link ItemServiceImpl} class.
+ * <br>
+ * @author Julb.
+ */
+@Import({TestChannelBinderConfiguration.class, ItemServiceImplTest.CommandCounterConfiguration.class})
+@ContextConfiguration(initializers = ItemServiceImplTest.Initializer.class)
+@Testcontainers
+public class ItemServiceImplTest extends AbstractMongoDbBaseTest {
+
+    /**
+     * The MongoDB container.
+     */
+    @Container
+    private static final MongoDBContainer MONGODB_CONTAINER = new MongoDBContainer(DockerImageName.parse("mongo").withTag("4.4"));
+
+    /**
+     * The number of sub-folders of the folder to move.
+     */
+    private static final int SUB_FOLDERS = 99;
+
+    /**
+     * The number of items in each sub-folder.
+     */
+    private static final int ITEMS_PER_SUB_FOLDER = 100;
+
+    /**
+     * The number of commands sent to MongoDB.
+     */
+    private static final AtomicInteger COMMANDS = new AtomicInteger();
+
+    /**
+     * The item service.
+     */
+    @Autowired
+    private ItemService itemService;
+
+    /**
+     * The mongo-template.
+     */
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * The user.
+     */
+    private UserRefEntity user;
+
+    /**
+     * The folder to move.
+     */
+    private FolderEntity source;
+
+    /**
+     * The target folder.
+     */
+    private FolderEntity target;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setupData() {
+        user = new UserRefEntity();
+        user.setId(IdentifierUtility.generateId());
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setMail("john.doe@julb.me");
+        user.setE164Number("+33601020304");
+        user.setLocale(Locale.FRANCE);
+        user.setDisplayName("John Doe");
+
+        // A tree of 1 + 99 + 99 x 100 = 10000 nodes, and a target folder.
+        List<FolderEntity> folders = new ArrayList<>();
+        source = newFolder(null, 0);
+        target = newFolder(null, 1);
+        folders.add(source);
+        folders.add(target);
+        for (int i = 0; i < SUB_FOLDERS; i++) {
+            FolderEntity subFolder = newFolder(source, i);
+            folders.add(subFolder);
+            for (int j = 0; j < ITEMS_PER_SUB_FOLDER; j++) {
+                folders.add(newFolder(subFolder, j));
+            }
+        }
+        mongoTemplate.insertAll(folders);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?>[] getEntityClasses() {
+        return new Class<?>[] {AbstractItemEntity.class};
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    @WithMockUser
+    public void whenMovingLargeFolder_thenPathsConsistentWithConstantRoundTrips() {
+        COMMANDS.set(0);
+        itemService.updateParent(user.getId(), source.getId(), new IdentifierDTO(target.getId()));
+        assertThat(COMMANDS.get(), lessThanOrEqualTo(10));
+
+        // Check that every path is the path of the parent followed by the ID.
+        Map<String, Document> documentsById = new HashMap<>();
+        for (Document document : mongoTemplate.getCollection(mongoTemplate.getCollectionName(AbstractItemEntity.class)).find()) {
+            documentsById.put(document.getString("_id"), document);
+        }
+        assertThat(documentsById.size(), is(2 + SUB_FOLDERS + SUB_FOLDERS * ITEMS_PER_SUB_FOLDER));
+
+        int underTarget = 0;
+        for (Document document : documentsById.values()) {
+            DBRef parent = document.get("parent", DBRef.class);
+            String expectedPath = document.getString("_id");
+            if (parent != null) {
+                expectedPath = documentsById.get(parent.getId()).getString("path") + Chars.UNDERSCORE + expectedPath;
+            }
+            assertThat(document.getString("path"), is(expectedPath));
+            if (expectedPath.startsWith(target.getPath() + Chars.UNDERSCORE)) {
+                underTarget++;
+            }
+        }
+        assertThat(underTarget, is(1 + SUB_FOLDERS + SUB_FOLDERS * ITEMS_PER_SUB_FOLDER));
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    @WithMockUser
+    public void whenUpdatingPositions_thenItemsReorderedAndOthersUntouched() {
+        List<String> ids = childIds();
+
+        ItemPositionsUpdateDTO updateDTO = new ItemPositionsUpdateDTO();
+        updateDTO.setItems(List.of(new IdentifierDTO(ids.get(2)), new IdentifierDTO(ids.get(0)), new IdentifierDTO(ids.get(1))));
+        List<? extends AbstractItemDTO> result = itemService.updatePositions(user.getId(), updateDTO);
+
+        assertThat(result.stream().map(AbstractItemDTO::getId).toList(), is(List.of(ids.get(2), ids.get(0), ids.get(1))));
+        assertThat(result.stream().map(AbstractItemDTO::getPosition).toList(), is(List.of(0, 1, 2)));
+
+        List<String> expected = new ArrayList<>(ids);
+        expected.set(0, ids.get(2));
+        expected.set(1, ids.get(0));
+        expected.set(2, ids.get(1));
+        assertThat(childIds(), is(expected));
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    @WithMockUser
+    public void whenUpdatingPositionsWithDuplicateIds_thenThrowCannotReorderDuplicateItemsException() {
+        List<String> ids = childIds();
+
+        ItemPositionsUpdateDTO updateDTO = new ItemPositionsUpdateDTO();
+        updateDTO.setItems(List.of(new IdentifierDTO(ids.get(0)), new IdentifierDTO(ids.get(1)), new IdentifierDTO(ids.get(0))));
+        Assertions.assertThrows(CannotReorderDuplicateItemsException.class, () -> {
+            itemService.updatePositions(user.getId(), updateDTO);
+        });
+
+        assertThat(childIds(), is(ids));
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    @WithMockUser
+    public void whenMovingItemToEnd_thenItemIsLast() {
+        assertMoved(0, SUB_FOLDERS - 1);
+        assertMoved(1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    @WithMockUser
+    public void whenMovingItemToStart_thenItemIsFirst() {
+        assertMoved(SUB_FOLDERS - 1, 0);
+        assertMoved(50, 0);
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    @WithMockUser
+    public void whenMovingItemForwardAndBackward_thenOrderConsistent() {
+        assertMoved(1, 5);
+        assertMoved(5, 2);
+        assertMoved(10, 10);
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    @WithMockUser
+    public void whenMovingItemRepeatedlyBetweenSameSiblings_thenFolderRebalanced() {
+        // Each move halves the gap between the two first items until the folder is rebalanced.
+        for (int i = 0; i < 100; i++) {
+            assertMoved(SUB_FOLDERS - 1, 1);
+        }
+    }
+
+    /**
+     * Moves the child of the source folder at the given index to the target index, and checks the resulting order.
+     * @param from the index of the child to move.
+     * @param to the target index.
+     */
+    private void assertMoved(int from, int to) {
+        List<String> expected = childIds();
+        String id = expected.remove(from);
+        int index = Math.min(to, expected.size());
+        expected.add(index, id);
+
+        AbstractItemDTO result = itemService.updatePosition(user.getId(), id, new PositiveIntegerValueDTO(to));
+
+        assertThat(result.getPosition(), is(index));
+        assertThat(childIds(), is(expected));
+    }
+
+    /**
+     * Gets the IDs of the children of the source folder, in order.
+     * @return the IDs of the children.
+     */
+    private List<String> childIds() {
+        List<? extends AbstractItemDTO> children = itemService.findAllByParent(user.getId(), source.getId());
+        for (int i = 0; i < children.size(); i++) {
+            assertThat(children.get(i).getPosition(), is(i));
+        }
+        return children.stream().map(AbstractItemDTO::getId).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+
+    /**
+     * Creates a folder.
+     * @param parent the parent folder.
+     * @param index the index of the folder in its parent.
+     * @return the folder.
+     */
+    private FolderEntity newFolder(FolderEntity parent, int index) {
+        FolderEntity folder = new FolderEntity();
+        folder.setId(IdentifierUtility.generateId());
+        folder.setTm(TM);
+        folder.setUser(user);
+        folder.setParent(parent);
+        folder.setPosition(ItemPositionKeys.rebalanced(index));
+        folder.setPath(parent != null ? parent.getPath() + Chars.UNDERSCORE + folder.getId() : folder.getId());
+        folder.setCreatedAt(DateUtility.dateTimeNow());
+        folder.setLastUpdatedAt(folder.getCreatedAt());
+        return folder;
+    }
+
+    /**
+     * Configuration counting the commands sent to MongoDB.
+     * <br>
+     * @author Julb.
+     */
+    @TestConfiguration
+    static class CommandCounterConfiguration {
+
+        /**
+         * Registers the command listener.
+         * @return the customizer.
+         */
+        @Bean
+        public MongoClientSettingsBuilderCustomizer commandCounterCustomizer() {
+            return builder -> builder.addCommandListener(new CommandListener() {
+                @Override
+                public void commandStarted(CommandStartedEvent event) {
+                    COMMANDS.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Initializer class for the test.
+     * <br>
+     * @author Julb.
+     */
+    static class Initializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void initialize(@NotNull ConfigurableApplicationContext configurableApplicationContext) {
+            //@formatter:off
+            TestPropertyValues
+                .of(
+                    String.format("spring.data.mongodb.uri=%s", MONGODB_CONTAINER.getReplicaSetUrl())
+                )
+                .applyTo(configurableApplicationContext);
+            //@formatter:on
+        }
+    }
+}
@@ -24,6 +24,8 @@
 
 package me.julb.applications.configuration.configurations.properties;
 
+import javax.validation.constraints.NotNull;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -38,4 +40,18 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @Setter
 @ConfigurationProperties(prefix = "application")
 public class ApplicationProperties {
+
+    //@formatter:off
+     /**
+     * The snapshots attribute.
+     * -- GETTER --
+     * Getter for {@link #snapshots} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #snapshots} property.
+     * @param snapshots the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    private SnapshotsProperties snapshots = new SnapshotsProperties();
 }
@@ -0,0 +1,74 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.applications.configuration.configurations.properties;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The property snapshots configuration properties.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+public class SnapshotsProperties {
+
+    //@formatter:off
+     /**
+     * The maxEntries attribute.
+     * <br>
+     * Maximum number of trademark and prefix pairs whose snapshots are kept. The least recently used pair is evicted first.
+     * -- GETTER --
+     * Getter for {@link #maxEntries} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxEntries} property.
+     * @param maxEntries the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    @Min(1)
+    private Integer maxEntries = 1024;
+
+    //@formatter:off
+     /**
+     * The historySize attribute.
+     * <br>
+     * Number of versions kept per trademark and prefix pair to compute the changes since a previous version. Older versions get the full set of properties.
+     * -- GETTER --
+     * Getter for {@link #historySize} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #historySize} property.
+     * @param historySize the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    @Min(1)
+    private Integer historySize = 8;
+}
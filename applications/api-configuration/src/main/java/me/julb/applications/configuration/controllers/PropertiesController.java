@@ -28,17 +28,26 @@ import io.swagger.v3.oas.annotations.Operation;
 
 import java.util.Map;
 
+import javax.validation.constraints.Min;
+
 import lombok.extern.slf4j.Slf4j;
 
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import me.julb.springbootstarter.core.configs.ConfigSourceService;
+import me.julb.applications.configuration.services.PropertiesService;
+import me.julb.applications.configuration.services.dto.PropertiesDeltaDTO;
+import me.julb.applications.configuration.services.dto.PropertiesSnapshotDTO;
+import me.julb.library.utility.constants.CustomHttpHeaders;
 
 /**
  * The REST controller to return properties.
@@ -52,21 +61,53 @@ import me.julb.springbootstarter.core.configs.ConfigSourceService;
 public class PropertiesController {
 
     /**
-     * The config source service.
+     * The properties service.
      */
     @Autowired
-    private ConfigSourceService configSourceService;
+    private PropertiesService propertiesService;
 
     /**
      * This method returns all properties for current trademark.
+     * <br>
+     * A <code>304</code> is returned when the <code>If-None-Match</code> header matches the current properties.
      * @param prefix the prefix.
      * @return the properties for current trademark.
      */
     @Operation(summary = "returns all properties for the current trademark")
     @GetMapping()
-    public Map<String, String> findAll(@RequestParam(name = "prefix", required = false) String prefix) {
+    public ResponseEntity<Map<String, String>> findAll(@RequestParam(name = "prefix", required = false) String prefix) {
         LOGGER.debug("Returns the properties for the current trademark.");
-        return configSourceService.findAll(prefix, true);
+        PropertiesSnapshotDTO snapshot = propertiesService.findSnapshot(prefix);
+        return ResponseEntity.ok().eTag(snapshot.getETag()).header(CustomHttpHeaders.X_JULB_CONFIG_VERSION, String.valueOf(snapshot.getVersion())).body(snapshot.getProperties());
+    }
+
+    /**
+     * This method returns the changes of the properties for current trademark since a previous version.
+     * <br>
+     * A <code>304</code> is returned when the <code>If-None-Match</code> header matches the current properties.
+     * @param prefix the prefix.
+     * @param since the version held by the client.
+     * @param ifNoneMatch the entity tag of the properties held by the client.
+     * @return the changes of the properties for current trademark.
+     */
+    @Operation(summary = "returns the changes of the properties for the current trademark since a version")
+    @GetMapping(path = "/changes")
+    public ResponseEntity<PropertiesDeltaDTO> findChanges(@RequestParam(name = "prefix", required = false) String prefix, @RequestParam(name = "since") @Min(0) long since, @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        LOGGER.debug("Returns the changes of the properties for the current trademark since version {}.", since);
+        PropertiesDeltaDTO delta = propertiesService.findChangesSince(prefix, since, unquoteETag(ifNoneMatch));
+        return ResponseEntity.ok().eTag(delta.getETag()).header(CustomHttpHeaders.X_JULB_CONFIG_VERSION, String.valueOf(delta.getVersion())).body(delta);
+    }
+
+    /**
+     * Removes the weak indicator and the quotes of an entity tag.
+     * @param eTag the entity tag.
+     * @return the unquoted entity tag, or <code>null</code> if not provided.
+     */
+    private String unquoteETag(String eTag) {
+        if (StringUtils.isBlank(eTag)) {
+            return null;
+        }
+        return StringUtils.strip(StringUtils.removeStart(eTag.trim(), "W/"), "\"");
     }
 
 }
@@ -0,0 +1,57 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.applications.configuration.services;
+
+import javax.validation.constraints.Min;
+
+import me.julb.applications.configuration.services.dto.PropertiesDeltaDTO;
+import me.julb.applications.configuration.services.dto.PropertiesSnapshotDTO;
+
+/**
+ * The service to read the properties of the current trademark.
+ * <br>
+ * @author Julb.
+ */
+public interface PropertiesService {
+
+    /**
+     * Gets the snapshot of the properties of the current trademark, starting with given prefix if provided.
+     * <br>
+     * The snapshot is built once per version of the configuration and shared until the next reload.
+     * @param prefix the prefix to filter on, or <code>null</code> if no filter is needed.
+     * @return the snapshot, with sensitive values redacted.
+     */
+    PropertiesSnapshotDTO findSnapshot(String prefix);
+
+    /**
+     * Gets the changes of the properties of the current trademark, starting with given prefix if provided, since a previous version.
+     * <br>
+     * All the properties are returned if that version is no longer known, or if the entity tag of the client does not match it.
+     * @param prefix the prefix to filter on, or <code>null</code> if no filter is needed.
+     * @param version the version held by the client.
+     * @param eTag the entity tag of the properties held by the client, or <code>null</code> if unknown.
+     * @return the changes, with sensitive values redacted.
+     */
+    PropertiesDeltaDTO findChangesSince(String prefix, @Min(0) long version, String eTag);
+}
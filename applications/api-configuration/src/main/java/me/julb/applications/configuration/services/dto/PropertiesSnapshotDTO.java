@@ -0,0 +1,75 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.applications.configuration.services.dto;
+
+import java.util.SortedMap;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The DTO holding the properties of a trademark starting with a given prefix, as of a version of the configuration.
+ * <br>
+ * The snapshot is shared between requests and its properties cannot be modified.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@AllArgsConstructor
+public class PropertiesSnapshotDTO {
+
+    //@formatter:off
+     /**
+     * The version attribute.
+     * <br>
+     * Version of the configuration the properties were read from.
+     * -- GETTER --
+     * Getter for {@link #version} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final long version;
+
+    //@formatter:off
+     /**
+     * The eTag attribute.
+     * <br>
+     * Digest of the properties: it only changes when the properties themselves change.
+     * -- GETTER --
+     * Getter for {@link #eTag} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final String eTag;
+
+    //@formatter:off
+     /**
+     * The properties attribute.
+     * -- GETTER --
+     * Getter for {@link #properties} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final SortedMap<String, String> properties;
+}
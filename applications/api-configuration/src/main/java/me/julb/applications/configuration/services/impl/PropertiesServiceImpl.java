@@ -0,0 +1,165 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.applications.configuration.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.PostConstruct;
+import javax.validation.constraints.Min;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import me.julb.applications.configuration.configurations.properties.ApplicationProperties;
+import me.julb.applications.configuration.services.PropertiesService;
+import me.julb.applications.configuration.services.dto.PropertiesDeltaDTO;
+import me.julb.applications.configuration.services.dto.PropertiesSnapshotDTO;
+import me.julb.springbootstarter.core.configs.ConfigSourceService;
+import me.julb.springbootstarter.core.context.TrademarkContextHolder;
+
+/**
+ * The properties service implementation.
+ * <br>
+ * @author Julb.
+ */
+@Service
+@Validated
+@Slf4j
+public class PropertiesServiceImpl implements PropertiesService {
+
+    /**
+     * The config source service.
+     */
+    @Autowired
+    private ConfigSourceService configSourceService;
+
+    /**
+     * The application properties.
+     */
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    /**
+     * The snapshots by trademark and prefix.
+     */
+    private PropertiesSnapshotCache snapshotCache;
+
+    /**
+     * Initializes the cache.
+     */
+    @PostConstruct
+    public void init() {
+        this.snapshotCache = new PropertiesSnapshotCache(applicationProperties.getSnapshots().getMaxEntries(), applicationProperties.getSnapshots().getHistorySize());
+    }
+
+    // ------------------------------------------ Read methods.
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PropertiesSnapshotDTO findSnapshot(String prefix) {
+        String tm = StringUtils.defaultString(TrademarkContextHolder.getTrademark());
+        String normalizedPrefix = StringUtils.defaultIfBlank(prefix, StringUtils.EMPTY);
+        return snapshotCache.get(tm, normalizedPrefix, configSourceService.getSnapshot().getVersion(), () -> buildSnapshot(normalizedPrefix));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PropertiesDeltaDTO findChangesSince(String prefix, @Min(0) long version, String eTag) {
+        PropertiesSnapshotDTO current = findSnapshot(prefix);
+
+        String tm = StringUtils.defaultString(TrademarkContextHolder.getTrademark());
+        PropertiesSnapshotDTO base = snapshotCache.find(tm, StringUtils.defaultIfBlank(prefix, StringUtils.EMPTY), version);
+
+        // Versions are local to this instance: the entity tag tells whether the client really holds that version.
+        if (base == null || (eTag != null && !eTag.equals(base.getETag()))) {
+            LOGGER.debug("Version {} unknown for the current trademark, returning all properties.", version);
+            return new PropertiesDeltaDTO(current.getVersion(), current.getETag(), true, current.getProperties(), Collections.emptySet());
+        }
+
+        if (base.getETag().equals(current.getETag())) {
+            return new PropertiesDeltaDTO(current.getVersion(), current.getETag(), false, Collections.emptyMap(), Collections.emptySet());
+        }
+
+        Map<String, String> changes = new TreeMap<>();
+        for (Map.Entry<String, String> entry : current.getProperties().entrySet()) {
+            if (!Objects.equals(entry.getValue(), base.getProperties().get(entry.getKey()))) {
+                changes.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Set<String> removals = new TreeSet<>();
+        for (String key : base.getProperties().keySet()) {
+            if (!current.getProperties().containsKey(key)) {
+                removals.add(key);
+            }
+        }
+        return new PropertiesDeltaDTO(current.getVersion(), current.getETag(), false, changes, removals);
+    }
+
+    // ------------------------------------------ Write methods.
+
+    // ------------------------------------------ Private methods.
+
+    /**
+     * Builds the snapshot of the properties of the current trademark.
+     * @param prefix the prefix.
+     * @return the snapshot.
+     */
+    private PropertiesSnapshotDTO buildSnapshot(String prefix) {
+        // Retry if the configuration is reloaded meanwhile so that the version matches the properties.
+        long version;
+        Map<String, String> properties;
+        do {
+            version = configSourceService.getSnapshot().getVersion();
+            properties = configSourceService.findAll(prefix, true);
+        } while (version != configSourceService.getSnapshot().getVersion());
+
+        SortedMap<String, String> sortedProperties = new TreeMap<>(properties);
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        for (Map.Entry<String, String> entry : sortedProperties.entrySet()) {
+            digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return new PropertiesSnapshotDTO(version, Hex.encodeHexString(digest.digest()), Collections.unmodifiableSortedMap(sortedProperties));
+    }
+}
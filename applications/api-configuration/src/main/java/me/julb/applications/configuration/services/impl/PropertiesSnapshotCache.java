@@ -0,0 +1,155 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.applications.configuration.services.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import me.julb.applications.configuration.services.dto.PropertiesSnapshotDTO;
+
+/**
+ * A LRU cache of the property snapshots by trademark and prefix, keeping the last versions of each pair.
+ * <br>
+ * @author Julb.
+ */
+class PropertiesSnapshotCache {
+
+    /**
+     * The maximum number of trademark and prefix pairs.
+     */
+    private final int maxEntries;
+
+    /**
+     * The number of versions kept per pair.
+     */
+    private final int historySize;
+
+    /**
+     * The snapshots of each pair, the oldest version first, the least recently used pair first.
+     */
+    private final Map<Key, Deque<PropertiesSnapshotDTO>> histories = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Default constructor.
+     * @param maxEntries the maximum number of trademark and prefix pairs.
+     * @param historySize the number of versions kept per pair.
+     */
+    PropertiesSnapshotCache(int maxEntries, int historySize) {
+        this.maxEntries = maxEntries;
+        this.historySize = historySize;
+    }
+
+    /**
+     * Gets the snapshot of the given version, building it if not in the cache.
+     * @param tm the trademark.
+     * @param prefix the prefix.
+     * @param version the current version of the configuration.
+     * @param loader the loader of the snapshot of the current version.
+     * @return the snapshot.
+     */
+    PropertiesSnapshotDTO get(String tm, String prefix, long version, Supplier<PropertiesSnapshotDTO> loader) {
+        Key key = new Key(tm, prefix);
+
+        synchronized (histories) {
+            Deque<PropertiesSnapshotDTO> history = histories.get(key);
+            if (history != null && history.getLast().getVersion() >= version) {
+                return history.getLast();
+            }
+        }
+
+        // Build outside of the lock: concurrent misses on the same pair give identical snapshots.
+        PropertiesSnapshotDTO snapshot = loader.get();
+        synchronized (histories) {
+            Deque<PropertiesSnapshotDTO> history = histories.computeIfAbsent(key, k -> new ArrayDeque<>());
+            PropertiesSnapshotDTO latest = history.peekLast();
+            if (latest != null && latest.getVersion() >= snapshot.getVersion()) {
+                return latest;
+            }
+
+            // Unchanged properties share the map of the previous version.
+            if (latest != null && latest.getETag().equals(snapshot.getETag())) {
+                snapshot = new PropertiesSnapshotDTO(snapshot.getVersion(), latest.getETag(), latest.getProperties());
+            }
+            history.addLast(snapshot);
+            while (history.size() > historySize) {
+                history.removeFirst();
+            }
+
+            Iterator<Key> iterator = histories.keySet().iterator();
+            while (histories.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Finds the snapshot of a previous version.
+     * @param tm the trademark.
+     * @param prefix the prefix.
+     * @param version the version.
+     * @return the snapshot, or <code>null</code> if that version is no longer in the cache.
+     */
+    PropertiesSnapshotDTO find(String tm, String prefix, long version) {
+        synchronized (histories) {
+            Deque<PropertiesSnapshotDTO> history = histories.get(new Key(tm, prefix));
+            if (history != null) {
+                for (PropertiesSnapshotDTO snapshot : history) {
+                    if (snapshot.getVersion() == version) {
+                        return snapshot;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The cache key.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class Key {
+
+        /**
+         * The trademark.
+         */
+        private final String tm;
+
+        /**
+         * The prefix.
+         */
+        private final String prefix;
+    }
+}
@@ -25,6 +25,8 @@
 package me.julb.applications.configurations.controllers;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -36,10 +38,13 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 
 import me.julb.applications.configuration.controllers.PropertiesController;
+import me.julb.library.utility.constants.CustomHttpHeaders;
 import me.julb.springbootstarter.test.base.AbstractBaseTest;
 import me.julb.springbootstarter.test.security.annotations.WithMockUser;
 
@@ -126,4 +131,91 @@ public class PropertiesControllerTest extends AbstractBaseTest {
             });
         //@formatter:on
     }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    @WithMockUser
+    public void whenGetPropertiesWithMatchingETag_thenReturn304()
+        throws Exception {
+
+        //@formatter:off
+        String eTag = mockMvc
+            .perform(
+                get("/properties").contentType(MediaType.APPLICATION_JSON_VALUE)
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().exists(CustomHttpHeaders.X_JULB_CONFIG_VERSION))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc
+            .perform(
+                get("/properties").contentType(MediaType.APPLICATION_JSON_VALUE).header(HttpHeaders.IF_NONE_MATCH, eTag)
+            )
+            .andExpect(status().isNotModified());
+
+        mockMvc
+            .perform(
+                get("/properties?prefix=a").contentType(MediaType.APPLICATION_JSON_VALUE).header(HttpHeaders.IF_NONE_MATCH, eTag)
+            )
+            .andExpect(status().isOk());
+        //@formatter:on
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    @WithMockUser
+    public void whenGetChangesSinceUnknownVersion_thenReturnAllProperties()
+        throws Exception {
+
+        //@formatter:off
+        mockMvc
+            .perform(
+                get("/properties/changes?since=0").contentType(MediaType.APPLICATION_JSON_VALUE)
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$.complete").value(true))
+            .andExpect(jsonPath("$.changes.length()").value(3))
+            .andExpect(jsonPath("$.changes['a.property']").value("Testio-Value-a"))
+            .andExpect(jsonPath("$.removals.length()").value(0));
+        //@formatter:on
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    @WithMockUser
+    public void whenGetChangesSinceCurrentVersion_thenReturn304()
+        throws Exception {
+
+        //@formatter:off
+        MockHttpServletResponse response = mockMvc
+            .perform(
+                get("/properties").contentType(MediaType.APPLICATION_JSON_VALUE)
+            )
+            .andExpect(status().isOk())
+            .andReturn().getResponse();
+
+        mockMvc
+            .perform(
+                get("/properties/changes?since=" + response.getHeader(CustomHttpHeaders.X_JULB_CONFIG_VERSION)).contentType(MediaType.APPLICATION_JSON_VALUE).header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG))
+            )
+            .andExpect(status().isNotModified());
+
+        mockMvc
+            .perform(
+                get("/properties/changes?since=" + response.getHeader(CustomHttpHeaders.X_JULB_CONFIG_VERSION)).contentType(MediaType.APPLICATION_JSON_VALUE)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.complete").value(false))
+            .andExpect(jsonPath("$.changes.length()").value(0))
+            .andExpect(jsonPath("$.removals.length()").value(0));
+        //@formatter:on
+    }
 }
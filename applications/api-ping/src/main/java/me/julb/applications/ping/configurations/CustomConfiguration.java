@@ -26,6 +26,7 @@ package me.julb.applications.ping.configurations;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,9 +36,11 @@ import org.springframework.cloud.sleuth.instrument.web.client.feign.SleuthFeignB
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import feign.Client;
 import feign.Contract;
+import feign.Request;
 import feign.Retryer;
 import feign.codec.Decoder;
 import feign.codec.Encoder;
@@ -55,6 +58,7 @@ import me.julb.springbootstarter.consumer.utility.FeignClientUtility;
 @Configuration
 @EnableConfigurationProperties(ApplicationProperties.class)
 @Import(FeignClientsConfiguration.class)
+@EnableScheduling
 public class CustomConfiguration {
 
     /**
@@ -82,6 +86,10 @@ public class CustomConfiguration {
             // Remote properties.
             Client customClient = FeignClientUtility.feignClientUtil(targetProperties.getEndpoint());
 
+            // Do not let a hung target hold a connection longer than its deadline.
+            long timeoutInMilliseconds = applicationProperties.getTimeoutInMilliseconds(targetProperties);
+            Request.Options options = new Request.Options(timeoutInMilliseconds, TimeUnit.MILLISECONDS, timeoutInMilliseconds, TimeUnit.MILLISECONDS, true);
+
             //@formatter:off
             ApiPingTargetFeignClient client = SleuthFeignBuilder
                 .builder(beanFactory, customClient)
@@ -90,6 +98,7 @@ public class CustomConfiguration {
                 .contract(contract)
                 .retryer(retryer)
                 .errorDecoder(errorDecoder)
+                .options(options)
                 .target(ApiPingTargetFeignClient.class, targetProperties.getEndpoint().getUrl());
             //@formatter:on
 
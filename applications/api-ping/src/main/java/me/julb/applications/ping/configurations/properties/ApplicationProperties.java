@@ -70,6 +70,19 @@ public class ApplicationProperties {
      //@formatter:on
     private List<TargetProperties> remotes = new ArrayList<>();
 
+    //@formatter:off
+     /**
+     * The ping attribute.
+     * -- GETTER --
+     * Getter for {@link #ping} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #ping} property.
+     * @param ping the value to set.
+     */
+     //@formatter:on
+    private PingProperties ping = new PingProperties();
+
     /**
      * Gets the targets to ping (local and remotes).
      * @return the targets to ping.
@@ -84,4 +97,13 @@ public class ApplicationProperties {
         }
         return targets;
     }
+
+    /**
+     * Gets the maximum time to wait for the response of the given target.
+     * @param target the target.
+     * @return the timeout of the target if set, the default timeout otherwise.
+     */
+    public long getTimeoutInMilliseconds(TargetProperties target) {
+        return target.getTimeoutInMilliseconds() != null ? target.getTimeoutInMilliseconds() : ping.getTimeoutInMilliseconds();
+    }
 }
@@ -0,0 +1,63 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.applications.ping.configurations.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The ping properties.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+public class PingProperties {
+
+    //@formatter:off
+     /**
+     * Maximum time to wait for the response of a target, in milliseconds. Can be overridden per target.
+     * -- GETTER --
+     * Getter for {@link #timeoutInMilliseconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #timeoutInMilliseconds} property.
+     * @param timeoutInMilliseconds the value to set.
+     */
+     //@formatter:on
+    private long timeoutInMilliseconds = 2000;
+
+    //@formatter:off
+     /**
+     * Delay between the end of a refresh of the ping results and the start of the next one, in milliseconds.
+     * -- GETTER --
+     * Getter for {@link #refreshIntervalInMilliseconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #refreshIntervalInMilliseconds} property.
+     * @param refreshIntervalInMilliseconds the value to set.
+     */
+     //@formatter:on
+    private long refreshIntervalInMilliseconds = 15000;
+}
@@ -80,4 +80,17 @@ public class TargetProperties {
      */
      //@formatter:on
     private ConsumerEndpointProperties endpoint;
+
+    //@formatter:off
+     /**
+     * Maximum time to wait for the response of this target, in milliseconds. Defaults to the ping timeout.
+     * -- GETTER --
+     * Getter for {@link #timeoutInMilliseconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #timeoutInMilliseconds} property.
+     * @param timeoutInMilliseconds the value to set.
+     */
+     //@formatter:on
+    private Long timeoutInMilliseconds;
 }
@@ -34,9 +34,14 @@ import me.julb.applications.ping.services.dto.PingTargetAllDTO;
 public interface PingTargetService {
 
     /**
-     * Ping all remotes.
+     * Gets the latest result of the ping of all remotes.
      * @return the result of the ping.
      */
     PingTargetAllDTO pingAll();
 
+    /**
+     * Pings all remotes concurrently and stores the result.
+     */
+    void refresh();
+
 }
@@ -66,4 +66,30 @@ public class PingTargetAllDTO {
      */
      //@formatter:on
     private List<PingTargetDTO> remotes = new ArrayList<>();
+
+    //@formatter:off
+     /**
+     * The pingedAt attribute.
+     * -- GETTER --
+     * Getter for {@link #pingedAt} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #pingedAt} property.
+     * @param pingedAt the value to set.
+     */
+     //@formatter:on
+    private String pingedAt;
+
+    //@formatter:off
+     /**
+     * The stalenessInMilliseconds attribute.
+     * -- GETTER --
+     * Getter for {@link #stalenessInMilliseconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #stalenessInMilliseconds} property.
+     * @param stalenessInMilliseconds the value to set.
+     */
+     //@formatter:on
+    private Long stalenessInMilliseconds;
 }
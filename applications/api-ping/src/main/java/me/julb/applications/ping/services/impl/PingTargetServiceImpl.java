@@ -24,13 +24,25 @@
 
 package me.julb.applications.ping.services.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.commons.lang3.time.StopWatch;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -40,12 +52,16 @@ import me.julb.applications.ping.consumers.ApiPingTargetFeignClient;
 import me.julb.applications.ping.services.PingTargetService;
 import me.julb.applications.ping.services.dto.PingTargetAllDTO;
 import me.julb.applications.ping.services.dto.PingTargetDTO;
+import me.julb.library.utility.date.DateUtility;
 import me.julb.library.utility.enums.HealthStatus;
 import me.julb.library.utility.exceptions.AbstractRemoteSystemException;
+import me.julb.springbootstarter.core.context.snapshot.ContextPropagatingTaskDecorator;
 
 /**
  * The service to ping all targets.
  * <br>
+ * The targets are pinged concurrently on a schedule, each one within its own deadline. The requests are served with the latest result kept in memory.
+ * <br>
  * @author Julb.
  */
 @Service
@@ -64,59 +80,206 @@ public class PingTargetServiceImpl implements PingTargetService {
     @Autowired
     private Map<String, ApiPingTargetFeignClient> apiPingTargetFeignClients;
 
+    /**
+     * The task decorator propagating the trademark, MDC and security context to the pings.
+     */
+    @Autowired
+    private ContextPropagatingTaskDecorator contextPropagatingTaskDecorator;
+
+    /**
+     * The executor running the pings.
+     */
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    /**
+     * The latest result of the ping of all targets.
+     */
+    private volatile LatestPing latestPing;
+
+    /**
+     * Creates the executor running the pings.
+     * <br>
+     * Threads are created on demand and released when idle, as many as targets being pinged at the same time.
+     */
+    @PostConstruct
+    public void initialize() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("ping-target-");
+        executor.setDaemon(true);
+        executor.setCorePoolSize(0);
+        executor.setQueueCapacity(0);
+        executor.setTaskDecorator(contextPropagatingTaskDecorator);
+        executor.initialize();
+        this.taskExecutor = executor;
+    }
+
+    /**
+     * Stops the executor running the pings.
+     */
+    @PreDestroy
+    public void destroy() {
+        this.taskExecutor.shutdown();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public PingTargetAllDTO pingAll() {
+        LOGGER.debug("Getting the latest ping of all targets.");
+
+        // Ping the targets if the first refresh has not completed yet.
+        if (latestPing == null) {
+            synchronized (this) {
+                if (latestPing == null) {
+                    refresh();
+                }
+            }
+        }
+
+        LatestPing current = latestPing;
+        PingTargetAllDTO pingAll = new PingTargetAllDTO();
+        pingAll.getMetadata().putAll(current.pingAll.getMetadata());
+        pingAll.getRemotes().addAll(current.pingAll.getRemotes());
+        pingAll.setPingedAt(current.pingAll.getPingedAt());
+        pingAll.setStalenessInMilliseconds(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - current.pingedAtNanos));
+        return pingAll;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${application.ping.refresh-interval-in-milliseconds:15000}")
+    public synchronized void refresh() {
         LOGGER.debug("Pinging all targets.");
 
         PingTargetAllDTO pingAll = new PingTargetAllDTO();
 
         // Local metadata
-        pingAll.getMetadata().putAll(applicationProperties.getLocal().getMetadata());
-
-        // Ping targets.
-        for (TargetProperties target : applicationProperties.getTargets()) {
-            LOGGER.debug("> Pinging URL <{}>.", target.getEndpoint().getUrl());
+        pingAll.getMetadata().putAll(applicationProperties.getLocal() != null ? applicationProperties.getLocal().getMetadata() : Map.of());
 
-            // Find target feign client.
-            ApiPingTargetFeignClient apiPingTargetFeignClient = apiPingTargetFeignClients.get(target.getId());
+        // Ping targets concurrently.
+        long startNanos = System.nanoTime();
+        List<TargetProperties> targets = new ArrayList<>(applicationProperties.getTargets());
+        List<Future<PingTargetDTO>> pings = new ArrayList<>(targets.size());
+        for (TargetProperties target : targets) {
+            pings.add(taskExecutor.submit(() -> ping(target)));
+        }
 
-            PingTargetDTO pingTarget = new PingTargetDTO();
-            pingTarget.getMetadata().putAll(target.getMetadata());
+        // Collect the results, each target within its deadline.
+        boolean interrupted = false;
+        for (int i = 0; i < targets.size(); i++) {
+            TargetProperties target = targets.get(i);
+            Future<PingTargetDTO> ping = pings.get(i);
+            if (interrupted) {
+                // Report the targets not collected as failed rather than leaving no result at all.
+                pingAll.getRemotes().add(failedPing(target, null, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+                continue;
+            }
 
-            // Stop watch.
-            StopWatch createStarted = StopWatch.createStarted();
+            long timeoutInMilliseconds = applicationProperties.getTimeoutInMilliseconds(target);
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMilliseconds) - (System.nanoTime() - startNanos);
             try {
-                // Perform ping.
-                apiPingTargetFeignClient.ping();
-
-                // Perform the call.
-                pingTarget.setResponseStatusCode(HttpStatus.OK.value());
-                pingTarget.setStatus(HealthStatus.UP);
-
-                LOGGER.debug("> Ping successful.");
-            } catch (AbstractRemoteSystemException e) {
-                // Call has failed.
-                pingTarget.setResponseStatusCode(e.getHttpResponseStatusCode());
-                pingTarget.setStatus(HealthStatus.DOWN);
-
+                pingAll.getRemotes().add(ping.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                ping.cancel(true);
+                LOGGER.error("> Ping to <{}> has not completed within <{}> ms.", target.getEndpoint().getUrl(), timeoutInMilliseconds);
+                pingAll.getRemotes().add(failedPing(target, HttpStatus.GATEWAY_TIMEOUT.value(), timeoutInMilliseconds));
+            } catch (ExecutionException e) {
                 LOGGER.error("> Ping failed to <{}>.", target.getEndpoint().getUrl());
-                LOGGER.error("> Stacktrace is below.", e);
-            } finally {
-                // Stop the watch and get time.
-                createStarted.stop();
-                pingTarget.setResponseTimeMilliseconds(createStarted.getTime());
+                LOGGER.error("> Stacktrace is below.", e.getCause());
+                pingAll.getRemotes().add(failedPing(target, null, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pings.forEach(p -> p.cancel(true));
+                interrupted = true;
+                LOGGER.warn("> Interrupted while pinging targets: the remaining targets are reported as failed.");
+                pingAll.getRemotes().add(failedPing(target, null, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
             }
-
-            // Add to result.
-            pingAll.getRemotes().add(pingTarget);
         }
 
         // All target pinged.
         LOGGER.debug("All targets have been pinged.");
 
-        return pingAll;
+        pingAll.setPingedAt(DateUtility.dateTimeNow());
+        this.latestPing = new LatestPing(pingAll, System.nanoTime());
+    }
+
+    // ------------------------------------------ Private methods.
+
+    /**
+     * Pings the given target.
+     * @param target the target.
+     * @return the result of the ping.
+     */
+    private PingTargetDTO ping(TargetProperties target) {
+        LOGGER.debug("> Pinging URL <{}>.", target.getEndpoint().getUrl());
+
+        // Find target feign client.
+        ApiPingTargetFeignClient apiPingTargetFeignClient = apiPingTargetFeignClients.get(target.getId());
+
+        PingTargetDTO pingTarget = new PingTargetDTO();
+        pingTarget.getMetadata().putAll(target.getMetadata());
+
+        // Stop watch.
+        StopWatch createStarted = StopWatch.createStarted();
+        try {
+            // Perform ping.
+            apiPingTargetFeignClient.ping();
+
+            // Perform the call.
+            pingTarget.setResponseStatusCode(HttpStatus.OK.value());
+            pingTarget.setStatus(HealthStatus.UP);
+
+            LOGGER.debug("> Ping successful.");
+        } catch (AbstractRemoteSystemException e) {
+            // Call has failed.
+            pingTarget.setResponseStatusCode(e.getHttpResponseStatusCode());
+            pingTarget.setStatus(HealthStatus.DOWN);
+
+            LOGGER.error("> Ping failed to <{}>.", target.getEndpoint().getUrl());
+            LOGGER.error("> Stacktrace is below.", e);
+        } finally {
+            // Stop the watch and get time.
+            createStarted.stop();
+            pingTarget.setResponseTimeMilliseconds(createStarted.getTime());
+        }
+        return pingTarget;
+    }
+
+    /**
+     * Builds the result of a ping which has not completed.
+     * @param target the target.
+     * @param responseStatusCode the response status code, or <code>null</code> if unknown.
+     * @param responseTimeMilliseconds the time spent waiting for the target.
+     * @return the result of the ping.
+     */
+    private PingTargetDTO failedPing(TargetProperties target, Integer responseStatusCode, long responseTimeMilliseconds) {
+        PingTargetDTO pingTarget = new PingTargetDTO();
+        pingTarget.getMetadata().putAll(target.getMetadata());
+        pingTarget.setResponseStatusCode(responseStatusCode);
+        pingTarget.setStatus(HealthStatus.DOWN);
+        pingTarget.setResponseTimeMilliseconds(responseTimeMilliseconds);
+        return pingTarget;
+    }
+
+    /**
+     * The latest result of the ping of all targets.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    private static final class LatestPing {
+
+        /**
+         * The result of the ping.
+         */
+        private final PingTargetAllDTO pingAll;
+
+        /**
+         * The value of {@link System#nanoTime()} when the ping completed.
+         */
+        private final long pingedAtNanos;
     }
 }
@@ -0,0 +1,220 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.applications.ping.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.sun.net.httpserver.HttpServer;
+
+import me.julb.applications.ping.services.PingTargetService;
+import me.julb.applications.ping.services.dto.PingTargetAllDTO;
+import me.julb.applications.ping.services.dto.PingTargetDTO;
+import me.julb.library.utility.enums.HealthStatus;
+import me.julb.springbootstarter.test.base.AbstractBaseTest;
+
+/**
+ * Unit test for the {@link PingTargetServiceImpl} class.
+ * <br>
+ * @author Julb.
+ */
+public class PingTargetServiceImplTest extends AbstractBaseTest {
+
+    /**
+     * The delays of the responding targets, in milliseconds.
+     */
+    private static final long[] DELAYS = {400, 800, 1200};
+
+    /**
+     * The delay of the hung target, in milliseconds.
+     */
+    private static final long HUNG_DELAY = 10000;
+
+    /**
+     * The deadline of the hung target, in milliseconds.
+     */
+    private static final long HUNG_TIMEOUT = 1500;
+
+    /**
+     * The stub servers.
+     */
+    private static final List<HttpServer> SERVERS = new ArrayList<>();
+
+    /**
+     * The number of requests received by the responding targets.
+     */
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+
+    /**
+     * The service to test.
+     */
+    @Autowired
+    private PingTargetService pingTargetService;
+
+    /**
+     * Starts the stub servers and registers them as targets.
+     * @param registry the registry.
+     * @throws IOException if a server cannot be started.
+     */
+    @DynamicPropertySource
+    public static void registerTargets(DynamicPropertyRegistry registry)
+        throws IOException {
+        for (int i = 0; i < DELAYS.length; i++) {
+            String url = startServer(DELAYS[i], REQUESTS);
+            registry.add("application.remotes[" + i + "].metadata.name", () -> url);
+            registry.add("application.remotes[" + i + "].endpoint.url", () -> url);
+        }
+        String hungUrl = startServer(HUNG_DELAY, new AtomicInteger());
+        registry.add("application.remotes[" + DELAYS.length + "].metadata.name", () -> "hung");
+        registry.add("application.remotes[" + DELAYS.length + "].endpoint.url", () -> hungUrl);
+        registry.add("application.remotes[" + DELAYS.length + "].timeout-in-milliseconds", () -> HUNG_TIMEOUT);
+        registry.add("application.ping.refresh-interval-in-milliseconds", () -> TimeUnit.HOURS.toMillis(1));
+    }
+
+    /**
+     * Stops the stub servers.
+     */
+    @AfterAll
+    public static void stopServers() {
+        SERVERS.forEach(server -> server.stop(0));
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenRefreshing_thenTotalLatencyIsTheSlowestTarget() {
+        // Warm up the clients.
+        pingTargetService.refresh();
+
+        long start = System.nanoTime();
+        pingTargetService.refresh();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // The sum of the delays is 3,900 ms, the slowest target is the hung one, bounded by its deadline.
+        assertTrue(elapsed >= HUNG_TIMEOUT - 50, "elapsed=" + elapsed);
+        assertTrue(elapsed < HUNG_TIMEOUT + 700, "elapsed=" + elapsed);
+
+        List<PingTargetDTO> remotes = pingTargetService.pingAll().getRemotes();
+        assertEquals(DELAYS.length + 1, remotes.size());
+        for (int i = 0; i < DELAYS.length; i++) {
+            assertEquals(HealthStatus.UP, remotes.get(i).getStatus());
+            assertEquals(200, remotes.get(i).getResponseStatusCode());
+            assertTrue(remotes.get(i).getResponseTimeMilliseconds() >= DELAYS[i]);
+        }
+        assertEquals(HealthStatus.DOWN, remotes.get(DELAYS.length).getStatus());
+        assertEquals(504, remotes.get(DELAYS.length).getResponseStatusCode());
+        assertEquals("hung", remotes.get(DELAYS.length).getMetadata().get("name"));
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenPingingAll_thenServeLatestResultFromMemory()
+        throws Exception {
+        pingTargetService.refresh();
+        int requests = REQUESTS.get();
+
+        Thread.sleep(50);
+        long start = System.nanoTime();
+        PingTargetAllDTO first = pingTargetService.pingAll();
+        PingTargetAllDTO second = pingTargetService.pingAll();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(requests, REQUESTS.get());
+        assertTrue(elapsed < DELAYS[0], "elapsed=" + elapsed);
+        assertNotNull(first.getPingedAt());
+        assertEquals(first.getPingedAt(), second.getPingedAt());
+        assertTrue(first.getStalenessInMilliseconds() >= 50);
+        assertTrue(second.getStalenessInMilliseconds() >= first.getStalenessInMilliseconds());
+        assertEquals(DELAYS.length + 1, second.getRemotes().size());
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenRefreshIsInterrupted_thenPublishTargetsAsFailed() {
+        Thread.currentThread().interrupt();
+        try {
+            pingTargetService.refresh();
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+
+        List<PingTargetDTO> remotes = pingTargetService.pingAll().getRemotes();
+        assertEquals(DELAYS.length + 1, remotes.size());
+        remotes.forEach(remote -> assertEquals(HealthStatus.DOWN, remote.getStatus()));
+    }
+
+    /**
+     * Starts a stub server answering the ping requests after the given delay.
+     * @param delay the delay, in milliseconds.
+     * @param requests the counter of the received requests.
+     * @return the URL of the server.
+     * @throws IOException if the server cannot be started.
+     */
+    private static String startServer(long delay, AtomicInteger requests)
+        throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/ping", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"message\":\"pong\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            } catch (IOException e) {
+                // Client has given up.
+            }
+        });
+        server.start();
+        SERVERS.add(server);
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.platformhealth.configurations.properties;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The platform availability snapshot configuration properties.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+public class AvailabilitySnapshotProperties {
+
+    //@formatter:off
+     /**
+     * The timeToLiveInSeconds attribute.
+     * <br>
+     * Maximum age of a snapshot before it is rebuilt from the database, to catch changes performed by other instances.
+     * -- GETTER --
+     * Getter for {@link #timeToLiveInSeconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #timeToLiveInSeconds} property.
+     * @param timeToLiveInSeconds the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    @Min(0)
+    private Long timeToLiveInSeconds = 60L;
+
+    //@formatter:off
+     /**
+     * The maxAgeInSeconds attribute.
+     * <br>
+     * Value of the <code>max-age</code> directive sent to clients.
+     * -- GETTER --
+     * Getter for {@link #maxAgeInSeconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxAgeInSeconds} property.
+     * @param maxAgeInSeconds the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    @Min(0)
+    private Long maxAgeInSeconds = 10L;
+
+    //@formatter:off
+     /**
+     * The maxTrademarks attribute.
+     * <br>
+     * Maximum number of trademarks whose snapshot is kept in memory, the least recently read being evicted first.
+     * -- GETTER --
+     * Getter for {@link #maxTrademarks} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxTrademarks} property.
+     * @param maxTrademarks the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    @Min(1)
+    private Integer maxTrademarks = 100;
+}
@@ -24,6 +24,8 @@
 
 package me.julb.applications.platformhealth.configurations.properties;
 
+import javax.validation.constraints.NotNull;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -38,4 +40,18 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @Setter
 @ConfigurationProperties(prefix = "application")
 public class CustomConfigurationProperties {
+
+    //@formatter:off
+     /**
+     * The availabilitySnapshot attribute.
+     * -- GETTER --
+     * Getter for {@link #availabilitySnapshot} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #availabilitySnapshot} property.
+     * @param availabilitySnapshot the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    private AvailabilitySnapshotProperties availabilitySnapshot = new AvailabilitySnapshotProperties();
 }
@@ -26,11 +26,8 @@ package me.julb.applications.platformhealth.controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
 
-import java.io.IOException;
-
-import javax.servlet.http.HttpServletResponse;
-
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -38,10 +35,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import me.julb.applications.platformhealth.services.ICSFeedService;
-import me.julb.library.dto.icsfeed.ICSFeedDTO;
-import me.julb.library.utility.constants.MediaType;
-import me.julb.library.utility.exceptions.InternalServerErrorException;
-import me.julb.springbootstarter.ics.service.ICSFeedWriterService;
+import me.julb.springbootstarter.web.caching.RenderedContentCache;
 
 /**
  * The REST controller to serve ICS feeds.
@@ -60,29 +54,19 @@ public class ICSFeedController {
     private ICSFeedService icsFeedService;
 
     /**
-     * The ICS Feed writer service.
+     * The rendered content cache.
      */
     @Autowired
-    private ICSFeedWriterService icsFeedWriterService;
+    private RenderedContentCache renderedContentCache;
 
     /**
-     * Writes the ICS feed for the planned maintenances.
-     * @param httpServletResponse the HTTP servlet response
+     * Gets the ICS feed for the planned maintenances.
+     * @return the ICS feed.
      */
     @Operation(summary = "get the ICS feed to have updates of the platform planned maintenances")
     @GetMapping("/planned-maintenances")
     @PreAuthorize("permitAll()")
-    public void writePlannedMaintenancesFeed(HttpServletResponse httpServletResponse) {
-        try {
-            // ICS Feed.
-            ICSFeedDTO icsFeed = icsFeedService.buildPlannedMaintenancesFeed();
-
-            // Write feed content.
-            httpServletResponse.setContentType(MediaType.TEXT_CALENDAR);
-            icsFeedWriterService.write(icsFeed, httpServletResponse.getOutputStream());
-            httpServletResponse.flushBuffer();
-        } catch (IOException e) {
-            throw new InternalServerErrorException(e);
-        }
+    public ResponseEntity<byte[]> writePlannedMaintenancesFeed() {
+        return renderedContentCache.toResponseEntity(icsFeedService.renderPlannedMaintenancesFeed());
     }
 }
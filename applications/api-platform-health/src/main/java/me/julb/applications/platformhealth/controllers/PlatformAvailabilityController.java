@@ -26,15 +26,22 @@ package me.julb.applications.platformhealth.controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
 
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import me.julb.applications.platformhealth.configurations.properties.CustomConfigurationProperties;
 import me.julb.applications.platformhealth.services.PlatformAvailabilityService;
 import me.julb.applications.platformhealth.services.dto.availability.PlatformAvailabilityDTO;
+import me.julb.applications.platformhealth.services.dto.availability.PlatformAvailabilitySnapshotDTO;
+import me.julb.library.utility.constants.CustomHttpHeaders;
 
 /**
  * The REST controller to get the platform availability.
@@ -52,14 +59,32 @@ public class PlatformAvailabilityController {
     @Autowired
     private PlatformAvailabilityService availabilityService;
 
+    /**
+     * The configuration properties.
+     */
+    @Autowired
+    private CustomConfigurationProperties customConfigurationProperties;
+
     /**
      * Gets the availability of the platform.
+     * <br>
+     * A <code>304 Not Modified</code> is returned when the entity tag sent by the client matches the current one.
      * @return the availability of the platform.
      */
     @Operation(summary = "get the availability of the platform")
     @GetMapping()
-    public PlatformAvailabilityDTO getPlatformAvailability() {
-        return availabilityService.getPlatformAvailability();
+    public ResponseEntity<PlatformAvailabilityDTO> getPlatformAvailability() {
+        PlatformAvailabilitySnapshotDTO snapshot = availabilityService.getPlatformAvailabilitySnapshot();
+        Long maxAgeInSeconds = customConfigurationProperties.getAvailabilitySnapshot().getMaxAgeInSeconds();
+
+        //@formatter:off
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(maxAgeInSeconds, TimeUnit.SECONDS).cachePublic())
+            .varyBy(CustomHttpHeaders.X_JULB_TM)
+            .eTag(snapshot.getETag())
+            .lastModified(snapshot.getLastModified())
+            .body(snapshot.getAvailability());
+        //@formatter:on
     }
 
 }
@@ -28,15 +28,15 @@ import io.swagger.v3.oas.annotations.Operation;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.servlet.View;
 
 import me.julb.applications.platformhealth.services.RSSFeedService;
-import me.julb.springbootstarter.web.views.rssfeed.RSSFeedView;
+import me.julb.springbootstarter.web.caching.RenderedContentCache;
 
 /**
  * The REST controller to serve RSS feeds.
@@ -54,25 +54,31 @@ public class RSSFeedController {
     @Autowired
     private RSSFeedService rssFeedService;
 
+    /**
+     * The rendered content cache.
+     */
+    @Autowired
+    private RenderedContentCache renderedContentCache;
+
     /**
      * Gets the RSS feed for the incidents
-     * @return the view for the RSS feed.
+     * @return the RSS feed.
      */
     @Operation(summary = "get the RSS feed to have updates of the platform incidents")
     @GetMapping("/incidents")
     @PreAuthorize("permitAll()")
-    public View getIncidentsFeed() {
-        return new RSSFeedView(rssFeedService.buildIncidentsFeed());
+    public ResponseEntity<byte[]> getIncidentsFeed() {
+        return renderedContentCache.toResponseEntity(rssFeedService.renderIncidentsFeed());
     }
 
     /**
      * Gets the RSS feed for the planned maintenances.
-     * @return the view for the RSS feed.
+     * @return the RSS feed.
      */
     @Operation(summary = "get the RSS feed to have updates of the platform planned maintenances")
     @GetMapping("/planned-maintenances")
     @PreAuthorize("permitAll()")
-    public View getPlannedMaintenancesFeed() {
-        return new RSSFeedView(rssFeedService.buildPlannedMaintenancesFeed());
+    public ResponseEntity<byte[]> getPlannedMaintenancesFeed() {
+        return renderedContentCache.toResponseEntity(rssFeedService.renderPlannedMaintenancesFeed());
     }
 }
@@ -25,6 +25,7 @@
 package me.julb.applications.platformhealth.services;
 
 import me.julb.library.dto.icsfeed.ICSFeedDTO;
+import me.julb.springbootstarter.web.caching.RenderedContent;
 
 /**
  * The ICS feed service.
@@ -38,4 +39,10 @@ public interface ICSFeedService {
      * @return an ICS feed for planned maintenances
      */
     ICSFeedDTO buildPlannedMaintenancesFeed();
+
+    /**
+     * Gets the rendered ICS feed for planned maintenances.
+     * @return the rendered ICS feed for planned maintenances.
+     */
+    RenderedContent renderPlannedMaintenancesFeed();
 }
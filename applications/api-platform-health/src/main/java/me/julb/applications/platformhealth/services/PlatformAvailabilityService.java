@@ -24,6 +24,7 @@
 package me.julb.applications.platformhealth.services;
 
 import me.julb.applications.platformhealth.services.dto.availability.PlatformAvailabilityDTO;
+import me.julb.applications.platformhealth.services.dto.availability.PlatformAvailabilitySnapshotDTO;
 
 /**
  * The availability service.
@@ -38,4 +39,10 @@ public interface PlatformAvailabilityService {
      */
     PlatformAvailabilityDTO getPlatformAvailability();
 
+    /**
+     * Gets the materialized availability of the platform.
+     * @return the snapshot of the availability of the platform.
+     */
+    PlatformAvailabilitySnapshotDTO getPlatformAvailabilitySnapshot();
+
 }
\ No newline at end of file
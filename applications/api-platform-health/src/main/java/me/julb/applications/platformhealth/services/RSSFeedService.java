@@ -25,6 +25,7 @@
 package me.julb.applications.platformhealth.services;
 
 import me.julb.library.dto.rssfeed.RSSFeedDTO;
+import me.julb.springbootstarter.web.caching.RenderedContent;
 
 /**
  * The RSS feed service.
@@ -44,4 +45,16 @@ public interface RSSFeedService {
      * @return an RSS feed for planned maintenances
      */
     RSSFeedDTO buildPlannedMaintenancesFeed();
+
+    /**
+     * Gets the rendered RSS feed for incidents.
+     * @return the rendered RSS feed for incidents.
+     */
+    RenderedContent renderIncidentsFeed();
+
+    /**
+     * Gets the rendered RSS feed for planned maintenances.
+     * @return the rendered RSS feed for planned maintenances.
+     */
+    RenderedContent renderPlannedMaintenancesFeed();
 }
@@ -0,0 +1,88 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.platformhealth.services.dto.availability;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A materialized view of the platform availability.
+ * <br>
+ * Snapshots are shared between requests: the availability they hold must not be modified.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class PlatformAvailabilitySnapshotDTO {
+
+    //@formatter:off
+     /**
+     * The availability attribute.
+     * -- GETTER --
+     * Getter for {@link #availability} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final PlatformAvailabilityDTO availability;
+
+    //@formatter:off
+     /**
+     * The eTag attribute.
+     * <br>
+     * Digest of the serialized availability, stable as long as the availability does not change.
+     * -- GETTER --
+     * Getter for {@link #eTag} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final String eTag;
+
+    //@formatter:off
+     /**
+     * The lastModified attribute.
+     * -- GETTER --
+     * Getter for {@link #lastModified} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final Instant lastModified;
+
+    //@formatter:off
+     /**
+     * The builtAt attribute.
+     * <br>
+     * Instant at which the snapshot was last checked against the database.
+     * -- GETTER --
+     * Getter for {@link #builtAt} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final Instant builtAt;
+}
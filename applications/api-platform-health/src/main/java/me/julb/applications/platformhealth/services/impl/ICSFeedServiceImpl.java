@@ -24,6 +24,7 @@
 
 package me.julb.applications.platformhealth.services.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
@@ -34,6 +35,7 @@ import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.validation.annotation.Validated;
 
 import me.julb.applications.platformhealth.entities.PlannedMaintenanceEntity;
@@ -42,12 +44,18 @@ import me.julb.applications.platformhealth.services.ICSFeedService;
 import me.julb.applications.platformhealth.services.dto.plannedmaintenance.PlannedMaintenanceStatus;
 import me.julb.library.dto.icsfeed.ICSFeedDTO;
 import me.julb.library.dto.icsfeed.ICSFeedEventDTO;
+import me.julb.library.dto.messaging.events.ResourceEventAsyncMessageDTO;
 import me.julb.library.dto.simple.interval.date.DateTimeIntervalDTO;
 import me.julb.library.utility.constants.Integers;
+import me.julb.library.utility.constants.MediaType;
 import me.julb.library.utility.date.DateUtility;
 import me.julb.springbootstarter.core.context.TrademarkContextHolder;
 import me.julb.springbootstarter.core.messages.MessageSourceService;
 import me.julb.springbootstarter.core.rendering.ContentRenderService;
+import me.julb.springbootstarter.ics.service.ICSFeedWriterService;
+import me.julb.springbootstarter.resourcetypes.ResourceTypes;
+import me.julb.springbootstarter.web.caching.RenderedContent;
+import me.julb.springbootstarter.web.caching.RenderedContentCache;
 
 /**
  * The ICS feed service.
@@ -59,6 +67,11 @@ import me.julb.springbootstarter.core.rendering.ContentRenderService;
 @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class ICSFeedServiceImpl implements ICSFeedService {
 
+    /**
+     * The name of the planned maintenances feed.
+     */
+    private static final String PLANNED_MAINTENANCES_FEED = "ics-feed-planned-maintenances";
+
     /**
      * The message resource.
      */
@@ -77,6 +90,41 @@ public class ICSFeedServiceImpl implements ICSFeedService {
     @Autowired
     private PlannedMaintenanceRepository plannedMaintenanceRepository;
 
+    /**
+     * The ICS Feed writer service.
+     */
+    @Autowired
+    private ICSFeedWriterService icsFeedWriterService;
+
+    /**
+     * The rendered content cache.
+     */
+    @Autowired
+    private RenderedContentCache renderedContentCache;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderedContent renderPlannedMaintenancesFeed() {
+        return renderedContentCache.get(PLANNED_MAINTENANCES_FEED, MediaType.TEXT_CALENDAR_UTF8, () -> {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            icsFeedWriterService.write(buildPlannedMaintenancesFeed(), outputStream);
+            return outputStream.toByteArray();
+        });
+    }
+
+    /**
+     * Evicts the rendered feeds impacted by the resource event once the transaction which triggered it has been committed.
+     * @param resourceEvent the resource event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceEvent(ResourceEventAsyncMessageDTO resourceEvent) {
+        if (ResourceTypes.PLANNED_MAINTENANCE.equals(resourceEvent.getResourceType())) {
+            renderedContentCache.evict(resourceEvent.getResourceTrademark(), PLANNED_MAINTENANCES_FEED);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,16 +24,29 @@
 
 package me.julb.applications.platformhealth.services.impl;
 
-import java.util.Collection;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.validation.annotation.Validated;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import me.julb.applications.platformhealth.configurations.properties.CustomConfigurationProperties;
 import me.julb.applications.platformhealth.entities.ComponentCategoryEntity;
 import me.julb.applications.platformhealth.entities.ComponentEntity;
 import me.julb.applications.platformhealth.entities.IncidentComponentEntity;
@@ -49,26 +62,52 @@ import me.julb.applications.platformhealth.repositories.IncidentRepository;
 import me.julb.applications.platformhealth.repositories.PlannedMaintenanceComponentRepository;
 import me.julb.applications.platformhealth.repositories.PlannedMaintenanceRepository;
 import me.julb.applications.platformhealth.services.PlatformAvailabilityService;
-import me.julb.applications.platformhealth.services.dto.availability.AvailabilityStatus;
-import me.julb.applications.platformhealth.services.dto.availability.ComponentAvailabilityDTO;
-import me.julb.applications.platformhealth.services.dto.availability.ComponentCategoryAvailabilityHierarchyDTO;
 import me.julb.applications.platformhealth.services.dto.availability.PlatformAvailabilityDTO;
+import me.julb.applications.platformhealth.services.dto.availability.PlatformAvailabilitySnapshotDTO;
 import me.julb.applications.platformhealth.services.dto.incident.IncidentStatus;
 import me.julb.applications.platformhealth.services.dto.plannedmaintenance.PlannedMaintenanceStatus;
+import me.julb.library.dto.messaging.events.ResourceEventAsyncMessageDTO;
+import me.julb.library.utility.date.DateUtility;
+import me.julb.library.utility.exceptions.InternalServerErrorException;
 import me.julb.springbootstarter.core.context.TrademarkContextHolder;
 import me.julb.springbootstarter.persistence.mongodb.specifications.AttributeInIdentifiableSpecification;
 import me.julb.springbootstarter.persistence.mongodb.specifications.TmSpecification;
+import me.julb.springbootstarter.resourcetypes.ResourceTypes;
 
 /**
  * The platform availability service implementation.
  * <br>
+ * The availability is materialized per trademark and served from memory. Resource events mark the impacted part of the view as stale so that only this part is reloaded
+ * on the next read. Snapshots also expire after a configurable time to catch the changes performed by other instances.
+ * <br>
  * @author Julb.
  */
 @Service
 @Validated
+@Slf4j
 @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class PlatformAvailabilityServiceImpl implements PlatformAvailabilityService {
 
+    /**
+     * The component categories and components part of the view.
+     */
+    private static final int STRUCTURE = 1;
+
+    /**
+     * The incidents part of the view.
+     */
+    private static final int INCIDENTS = 2;
+
+    /**
+     * The planned maintenances part of the view.
+     */
+    private static final int PLANNED_MAINTENANCES = 4;
+
+    /**
+     * All the parts of the view.
+     */
+    private static final int ALL = STRUCTURE | INCIDENTS | PLANNED_MAINTENANCES;
+
     /**
      * The incident repository.
      */
@@ -118,145 +157,236 @@ public class PlatformAvailabilityServiceImpl implements PlatformAvailabilityServ
     private ComponentAvailabilityEntityMapper componentAvailabilityMapper;
 
     /**
-     * {@inheritDoc}
+     * The object mapper used to compute the entity tags.
      */
-    @Override
-    public PlatformAvailabilityDTO getPlatformAvailability() {
-        String tm = TrademarkContextHolder.getTrademark();
-
-        // Gets all the data.
-        List<ComponentCategoryEntity> componentCategories = componentCategoryRepository.findByTmOrderByPositionAsc(tm);
-        List<ComponentEntity> components = componentRepository.findByTmOrderByPositionAsc(tm);
-        List<IncidentEntity> incidentsInProgress = incidentRepository.findByTmAndStatusIn(tm, IncidentStatus.inProgressStatuses());
-        List<PlannedMaintenanceEntity> plannedMaintenancesInProgress = plannedMaintenanceRepository.findByTmAndStatusIn(tm, PlannedMaintenanceStatus.inProgressStatuses());
-
-        // Get links between incidents and components.
-        List<IncidentComponentEntity> incidentComponentsInProgress = incidentComponentRepository.findAll(new TmSpecification<IncidentComponentEntity>(tm).and(new AttributeInIdentifiableSpecification<>("incident", incidentsInProgress)));
-
-        // Get links between incidents and components.
-        List<PlannedMaintenanceComponentEntity> plannedMaintenanceComponentsInProgress =
-            plannedMaintenanceComponentRepository.findAll(new TmSpecification<PlannedMaintenanceComponentEntity>(tm).and(new AttributeInIdentifiableSpecification<>("plannedMaintenance", plannedMaintenancesInProgress)));
-
-        // Build tree.
-        PlatformAvailabilityDTO availabilityDTO = new PlatformAvailabilityDTO();
-        availabilityDTO.setIncidentsInProgressCount(Long.valueOf(incidentsInProgress.size()));
-        availabilityDTO.setPlannedMaintenancesInProgressCount(Long.valueOf(plannedMaintenancesInProgress.size()));
-
-        for (ComponentCategoryEntity componentCategory : componentCategories) {
-            // Map category to DTO.
-            ComponentCategoryAvailabilityHierarchyDTO componentCategoryAvailability = componentCategoryAvailabilityMapper.map(componentCategory);
-
-            // Availability of the category.
-            AvailabilityStatus categoryAvailability = AvailabilityStatus.UP;
-
-            // Add sub components to the category.
-            for (ComponentEntity component : components) {
-                if (component.getComponentCategory().equals(componentCategory)) {
-                    // Map component to availability
-                    ComponentAvailabilityDTO componentAvailability = componentAvailabilityMapper.map(component);
+    @Autowired
+    private ObjectMapper objectMapper;
 
-                    // Get numbers of incidents.
-                    componentAvailability.setIncidentsInProgressCount(countIncidentsInProgressPerComponent(incidentComponentsInProgress, component));
+    /**
+     * The configuration properties.
+     */
+    @Autowired
+    private CustomConfigurationProperties customConfigurationProperties;
 
-                    // Get number of planned maintenances
-                    componentAvailability.setPlannedMaintenancesInProgressCount(countPlannedMaintenancesInProgressPerComponent(plannedMaintenanceComponentsInProgress, component));
+    /**
+     * The materialized views per trademark, the least recently read first.
+     * <br>
+     * The trademark comes from the request: the number of views kept is bounded.
+     */
+    private final Map<String, TrademarkAvailability> availabilities = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TrademarkAvailability> eldest) {
+            return size() > customConfigurationProperties.getAvailabilitySnapshot().getMaxTrademarks();
+        }
+    });
 
-                    // Compute status of the component.
-                    componentAvailability.setAvailabilityStatus(getCurrentComponentStatus(incidentComponentsInProgress, component));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlatformAvailabilityDTO getPlatformAvailability() {
+        return getPlatformAvailabilitySnapshot().getAvailability();
+    }
 
-                    // Add component to category.
-                    componentCategoryAvailability.getComponentsAvailability().add(componentAvailability);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlatformAvailabilitySnapshotDTO getPlatformAvailabilitySnapshot() {
+        String tm = StringUtils.defaultString(TrademarkContextHolder.getTrademark());
+        TrademarkAvailability availability = availabilities.computeIfAbsent(tm, key -> new TrademarkAvailability());
+
+        // Fast path: nothing changed since the last build.
+        PlatformAvailabilitySnapshotDTO snapshot = availability.snapshot;
+        if (snapshot != null && availability.staleParts.get() == 0 && !isExpired(snapshot)) {
+            return snapshot;
+        }
 
-                    // Compute availability status of the category - take the worsest.
-                    categoryAvailability = AvailabilityStatus.worsest(categoryAvailability, componentAvailability.getAvailabilityStatus());
-                }
+        synchronized (availability) {
+            int staleParts = availability.staleParts.getAndSet(0);
+            if (availability.snapshot == null || isExpired(availability.snapshot)) {
+                staleParts = ALL;
+            } else if (staleParts == 0) {
+                return availability.snapshot;
             }
 
-            // Get numbers of incidents.
-            componentCategoryAvailability.setIncidentsInProgressCount(countIncidentsInProgressPerComponentCategory(incidentComponentsInProgress, componentCategory));
-
-            // Get number of planned maintenances
-            componentCategoryAvailability.setPlannedMaintenancesInProgressCount(countPlannedMaintenancesInProgressPerComponentCategory(plannedMaintenanceComponentsInProgress, componentCategory));
-
-            // Set status
-            componentCategoryAvailability.setAvailabilityStatus(categoryAvailability);
-
-            // Add category to the list.
-            availabilityDTO.getComponentCategoriesAvailability().add(componentCategoryAvailability);
+            try {
+                refresh(tm, availability, staleParts);
+            } catch (RuntimeException e) {
+                // Keep the parts stale so that the next read retries.
+                availability.staleParts.accumulateAndGet(staleParts, (left, right) -> left | right);
+                throw e;
+            }
+            return availability.snapshot;
         }
-
-        // availabilityDTO.setGlobalAvailability(globalAvailability);
-        return availabilityDTO;
     }
 
     /**
-     * Gets the number of incidents in progress for the given component.
-     * @param incidentsInProgress the incidents in progress.
-     * @param component the component.
-     * @return the number of incidents in progress.
+     * Marks the part of the materialized view impacted by the resource event as stale.
+     * <br>
+     * The event is handled once the transaction which triggered it has been committed, so that the next read sees the changes.
+     * @param resourceEvent the resource event.
      */
-    private Long countIncidentsInProgressPerComponent(Collection<IncidentComponentEntity> incidentsInProgress, ComponentEntity component) {
-        return incidentsInProgress.stream().filter((incidentComponent) -> {
-            return incidentComponent.getComponent().equals(component);
-        }).count();
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceEvent(ResourceEventAsyncMessageDTO resourceEvent) {
+        int staleParts = impactedParts(resourceEvent.getResourceType());
+        if (staleParts != 0 && resourceEvent.getResourceTrademark() != null) {
+            TrademarkAvailability availability = availabilities.get(resourceEvent.getResourceTrademark());
+            if (availability != null) {
+                LOGGER.debug("Marking platform availability of <{}> as stale after event on <{}>.", resourceEvent.getResourceTrademark(), resourceEvent.getResourceType());
+                availability.staleParts.accumulateAndGet(staleParts, (left, right) -> left | right);
+            }
+        }
     }
 
+    // ------------------------------------------ Utility methods.
+
     /**
-     * Gets the status of the given component.
-     * @param incidentsInProgress the incidents in progress.
-     * @param component the component.
-     * @return the number of incidents in progress.
+     * Gets the parts of the view impacted by a change on the given resource type.
+     * @param resourceType the resource type.
+     * @return the parts impacted.
      */
-    private AvailabilityStatus getCurrentComponentStatus(Collection<IncidentComponentEntity> incidentsInProgress, ComponentEntity component) {
-        Collection<AvailabilityStatus> availabilityStatuses = incidentsInProgress.stream().filter((incidentComponent) -> {
-            return incidentComponent.getComponent().equals(component);
-        }).map((incidentComponent) -> {
-            switch (incidentComponent.getImpactLevel()) {
-                case PARTIAL:
-                    return AvailabilityStatus.PARTIAL;
-                case DOWN:
-                    return AvailabilityStatus.DOWN;
-                default:
-                    throw new UnsupportedOperationException();
-            }
-        }).collect(Collectors.toSet());
+    private int impactedParts(String resourceType) {
+        if (resourceType == null) {
+            return 0;
+        }
+        switch (resourceType) {
+            case ResourceTypes.COMPONENT_CATEGORY:
+            case ResourceTypes.COMPONENT:
+                return STRUCTURE;
+            case ResourceTypes.INCIDENT:
+            case ResourceTypes.INCIDENT_COMPONENT:
+                return INCIDENTS;
+            case ResourceTypes.PLANNED_MAINTENANCE:
+            case ResourceTypes.PLANNED_MAINTENANCE_COMPONENT:
+                return PLANNED_MAINTENANCES;
+            default:
+                return 0;
+        }
+    }
 
-        return AvailabilityStatus.worsest(availabilityStatuses.toArray(new AvailabilityStatus[0]));
+    /**
+     * Returns <code>true</code> if the snapshot must be rebuilt from scratch.
+     * @param snapshot the snapshot.
+     * @return <code>true</code> if the snapshot is expired, <code>false</code> otherwise.
+     */
+    private boolean isExpired(PlatformAvailabilitySnapshotDTO snapshot) {
+        Long timeToLiveInSeconds = customConfigurationProperties.getAvailabilitySnapshot().getTimeToLiveInSeconds();
+        return DateUtility.instantBeforeNow(snapshot.getBuiltAt().plusSeconds(timeToLiveInSeconds));
     }
 
     /**
-     * Gets the number of planned maintenances in progress for the given component.
-     * @param plannedMaintenancesInProgress the planned maintenances in progress.
-     * @param component the component.
-     * @return the number of planned maintenances in progress.
+     * Reloads the stale parts of the view and rebuilds the snapshot.
+     * @param tm the trademark.
+     * @param availability the materialized view.
+     * @param staleParts the parts to reload.
      */
-    private Long countPlannedMaintenancesInProgressPerComponent(Collection<PlannedMaintenanceComponentEntity> plannedMaintenancesInProgress, ComponentEntity component) {
-        return plannedMaintenancesInProgress.stream().filter((plannedMaintenanceComponent) -> {
-            return plannedMaintenanceComponent.getComponent().equals(component);
-        }).count();
+    private void refresh(String tm, TrademarkAvailability availability, int staleParts) {
+        LOGGER.debug("Rebuilding platform availability of <{}>.", tm);
+
+        if ((staleParts & STRUCTURE) != 0) {
+            availability.componentCategories = componentCategoryRepository.findByTmOrderByPositionAsc(tm);
+            availability.components = componentRepository.findByTmOrderByPositionAsc(tm);
+        }
+
+        if ((staleParts & INCIDENTS) != 0) {
+            List<IncidentEntity> incidentsInProgress = incidentRepository.findByTmAndStatusIn(tm, IncidentStatus.inProgressStatuses());
+            availability.incidentsInProgressCount = incidentsInProgress.size();
+            availability.incidentComponentsInProgress = incidentComponentRepository.findAll(new TmSpecification<IncidentComponentEntity>(tm).and(new AttributeInIdentifiableSpecification<>("incident", incidentsInProgress)));
+        }
+
+        if ((staleParts & PLANNED_MAINTENANCES) != 0) {
+            List<PlannedMaintenanceEntity> plannedMaintenancesInProgress = plannedMaintenanceRepository.findByTmAndStatusIn(tm, PlannedMaintenanceStatus.inProgressStatuses());
+            availability.plannedMaintenancesInProgressCount = plannedMaintenancesInProgress.size();
+            availability.plannedMaintenanceComponentsInProgress =
+                plannedMaintenanceComponentRepository.findAll(new TmSpecification<PlannedMaintenanceComponentEntity>(tm).and(new AttributeInIdentifiableSpecification<>("plannedMaintenance", plannedMaintenancesInProgress)));
+        }
+
+        // Build tree.
+        PlatformAvailabilityTreeBuilder treeBuilder = new PlatformAvailabilityTreeBuilder(componentCategoryAvailabilityMapper::map, componentAvailabilityMapper::map);
+        PlatformAvailabilityDTO availabilityDTO = treeBuilder.build(availability.componentCategories, availability.components, availability.incidentsInProgressCount, availability.incidentComponentsInProgress,
+            availability.plannedMaintenancesInProgressCount, availability.plannedMaintenanceComponentsInProgress);
+
+        // Keep the last modification date if the content did not change.
+        Instant now = DateUtility.instantNow();
+        String eTag = computeETag(availabilityDTO);
+        PlatformAvailabilitySnapshotDTO previous = availability.snapshot;
+        if (previous != null && previous.getETag().equals(eTag)) {
+            availability.snapshot = new PlatformAvailabilitySnapshotDTO(previous.getAvailability(), eTag, previous.getLastModified(), now);
+        } else {
+            availability.snapshot = new PlatformAvailabilitySnapshotDTO(availabilityDTO, eTag, now.truncatedTo(ChronoUnit.SECONDS), now);
+        }
     }
 
     /**
-     * Gets the number of incidents in progress for the given component category.
-     * @param incidentsInProgress the incidents in progress.
-     * @param componentCategory the component category.
-     * @return the number of incidents in progress.
+     * Computes the entity tag of the availability.
+     * @param availabilityDTO the availability.
+     * @return the entity tag.
      */
-    private Long countIncidentsInProgressPerComponentCategory(Collection<IncidentComponentEntity> incidentsInProgress, ComponentCategoryEntity componentCategory) {
-        return incidentsInProgress.stream().filter((incidentComponent) -> {
-            return incidentComponent.getComponent().getComponentCategory().equals(componentCategory);
-        }).count();
+    private String computeETag(PlatformAvailabilityDTO availabilityDTO) {
+        try {
+            return DigestUtils.sha256Hex(objectMapper.writeValueAsBytes(availabilityDTO));
+        } catch (JsonProcessingException e) {
+            throw new InternalServerErrorException(e);
+        }
     }
 
     /**
-     * Gets the number of planned maintenances in progress for the given component category.
-     * @param plannedMaintenancesInProgress the planned maintenances in progress.
-     * @param componentCategory the component category.
-     * @return the number of planned maintenances in progress.
+     * The materialized availability of a trademark.
+     * <br>
+     * Fields other than {@link #snapshot} and {@link #staleParts} are only accessed while holding the instance lock.
+     * <br>
+     * @author Julb.
      */
-    private Long countPlannedMaintenancesInProgressPerComponentCategory(Collection<PlannedMaintenanceComponentEntity> plannedMaintenancesInProgress, ComponentCategoryEntity componentCategory) {
-        return plannedMaintenancesInProgress.stream().filter((plannedMaintenanceComponent) -> {
-            return plannedMaintenanceComponent.getComponent().getComponentCategory().equals(componentCategory);
-        }).count();
+    private static final class TrademarkAvailability {
+
+        /**
+         * The parts of the view to reload.
+         */
+        private final AtomicInteger staleParts = new AtomicInteger(ALL);
+
+        /**
+         * The last snapshot built.
+         */
+        private volatile PlatformAvailabilitySnapshotDTO snapshot;
+
+        /**
+         * The component categories.
+         */
+        private List<ComponentCategoryEntity> componentCategories;
+
+        /**
+         * The components.
+         */
+        private List<ComponentEntity> components;
+
+        /**
+         * The number of incidents in progress.
+         */
+        private long incidentsInProgressCount;
+
+        /**
+         * The links between the incidents in progress and the components.
+         */
+        private List<IncidentComponentEntity> incidentComponentsInProgress;
+
+        /**
+         * The number of planned maintenances in progress.
+         */
+        private long plannedMaintenancesInProgressCount;
+
+        /**
+         * The links between the planned maintenances in progress and the components.
+         */
+        private List<PlannedMaintenanceComponentEntity> plannedMaintenanceComponentsInProgress;
     }
 }
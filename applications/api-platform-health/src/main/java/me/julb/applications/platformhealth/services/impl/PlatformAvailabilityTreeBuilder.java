@@ -0,0 +1,169 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.platformhealth.services.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import me.julb.applications.platformhealth.entities.ComponentCategoryEntity;
+import me.julb.applications.platformhealth.entities.ComponentEntity;
+import me.julb.applications.platformhealth.entities.IncidentComponentEntity;
+import me.julb.applications.platformhealth.entities.PlannedMaintenanceComponentEntity;
+import me.julb.applications.platformhealth.services.dto.availability.AvailabilityStatus;
+import me.julb.applications.platformhealth.services.dto.availability.ComponentAvailabilityDTO;
+import me.julb.applications.platformhealth.services.dto.availability.ComponentCategoryAvailabilityHierarchyDTO;
+import me.julb.applications.platformhealth.services.dto.availability.PlatformAvailabilityDTO;
+import me.julb.applications.platformhealth.services.dto.incident.IncidentComponentImpactLevel;
+
+/**
+ * Builds the platform availability tree.
+ * <br>
+ * Links are indexed by component once so that the tree is built in a time linear to the number of categories, components and links.
+ * <br>
+ * @author Julb.
+ */
+final class PlatformAvailabilityTreeBuilder {
+
+    /**
+     * The component category mapper.
+     */
+    private final Function<ComponentCategoryEntity, ComponentCategoryAvailabilityHierarchyDTO> componentCategoryMapper;
+
+    /**
+     * The component mapper.
+     */
+    private final Function<ComponentEntity, ComponentAvailabilityDTO> componentMapper;
+
+    /**
+     * Default constructor.
+     * @param componentCategoryMapper the component category mapper.
+     * @param componentMapper the component mapper.
+     */
+    PlatformAvailabilityTreeBuilder(Function<ComponentCategoryEntity, ComponentCategoryAvailabilityHierarchyDTO> componentCategoryMapper, Function<ComponentEntity, ComponentAvailabilityDTO> componentMapper) {
+        this.componentCategoryMapper = componentCategoryMapper;
+        this.componentMapper = componentMapper;
+    }
+
+    /**
+     * Builds the availability tree.
+     * @param componentCategories the component categories, ordered by position.
+     * @param components the components, ordered by position.
+     * @param incidentsInProgressCount the number of incidents in progress.
+     * @param incidentComponentsInProgress the links between the incidents in progress and the components.
+     * @param plannedMaintenancesInProgressCount the number of planned maintenances in progress.
+     * @param plannedMaintenanceComponentsInProgress the links between the planned maintenances in progress and the components.
+     * @return the availability tree.
+     */
+    PlatformAvailabilityDTO build(List<ComponentCategoryEntity> componentCategories, List<ComponentEntity> components, long incidentsInProgressCount, Collection<IncidentComponentEntity> incidentComponentsInProgress,
+        long plannedMaintenancesInProgressCount, Collection<PlannedMaintenanceComponentEntity> plannedMaintenanceComponentsInProgress) {
+        // Index impacts per component.
+        Map<String, ComponentImpact> impactsByComponentId = new HashMap<>();
+        for (IncidentComponentEntity incidentComponent : incidentComponentsInProgress) {
+            ComponentImpact impact = impactsByComponentId.computeIfAbsent(incidentComponent.getComponent().getId(), id -> new ComponentImpact());
+            impact.incidentsInProgressCount++;
+            impact.availabilityStatus = AvailabilityStatus.worsest(impact.availabilityStatus, toAvailabilityStatus(incidentComponent.getImpactLevel()));
+        }
+        for (PlannedMaintenanceComponentEntity plannedMaintenanceComponent : plannedMaintenanceComponentsInProgress) {
+            impactsByComponentId.computeIfAbsent(plannedMaintenanceComponent.getComponent().getId(), id -> new ComponentImpact()).plannedMaintenancesInProgressCount++;
+        }
+
+        // Map categories.
+        Map<String, ComponentCategoryAvailabilityHierarchyDTO> categoriesById = new LinkedHashMap<>();
+        for (ComponentCategoryEntity componentCategory : componentCategories) {
+            categoriesById.put(componentCategory.getId(), componentCategoryMapper.apply(componentCategory));
+        }
+
+        // Attach components to their category.
+        ComponentImpact noImpact = new ComponentImpact();
+        for (ComponentEntity component : components) {
+            ComponentCategoryAvailabilityHierarchyDTO componentCategoryAvailability = component.getComponentCategory() != null ? categoriesById.get(component.getComponentCategory().getId()) : null;
+            if (componentCategoryAvailability != null) {
+                ComponentImpact impact = impactsByComponentId.getOrDefault(component.getId(), noImpact);
+
+                ComponentAvailabilityDTO componentAvailability = componentMapper.apply(component);
+                componentAvailability.setIncidentsInProgressCount(impact.incidentsInProgressCount);
+                componentAvailability.setPlannedMaintenancesInProgressCount(impact.plannedMaintenancesInProgressCount);
+                componentAvailability.setAvailabilityStatus(impact.availabilityStatus);
+                componentCategoryAvailability.getComponentsAvailability().add(componentAvailability);
+
+                // The category takes the worsest status of its components.
+                componentCategoryAvailability.setIncidentsInProgressCount(componentCategoryAvailability.getIncidentsInProgressCount() + impact.incidentsInProgressCount);
+                componentCategoryAvailability.setPlannedMaintenancesInProgressCount(componentCategoryAvailability.getPlannedMaintenancesInProgressCount() + impact.plannedMaintenancesInProgressCount);
+                componentCategoryAvailability.setAvailabilityStatus(AvailabilityStatus.worsest(componentCategoryAvailability.getAvailabilityStatus(), impact.availabilityStatus));
+            }
+        }
+
+        // Build tree.
+        PlatformAvailabilityDTO availabilityDTO = new PlatformAvailabilityDTO();
+        availabilityDTO.setIncidentsInProgressCount(incidentsInProgressCount);
+        availabilityDTO.setPlannedMaintenancesInProgressCount(plannedMaintenancesInProgressCount);
+        availabilityDTO.setComponentCategoriesAvailability(new ArrayList<>(categoriesById.values()));
+        return availabilityDTO;
+    }
+
+    /**
+     * Converts the impact level of an incident to an availability status.
+     * @param impactLevel the impact level.
+     * @return the availability status.
+     */
+    private static AvailabilityStatus toAvailabilityStatus(IncidentComponentImpactLevel impactLevel) {
+        switch (impactLevel) {
+            case PARTIAL:
+                return AvailabilityStatus.PARTIAL;
+            case DOWN:
+                return AvailabilityStatus.DOWN;
+            default:
+                throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * The impact of the incidents and planned maintenances in progress on a component.
+     * <br>
+     * @author Julb.
+     */
+    private static final class ComponentImpact {
+
+        /**
+         * The number of incidents in progress.
+         */
+        private long incidentsInProgressCount;
+
+        /**
+         * The number of planned maintenances in progress.
+         */
+        private long plannedMaintenancesInProgressCount;
+
+        /**
+         * The availability status.
+         */
+        private AvailabilityStatus availabilityStatus = AvailabilityStatus.UP;
+    }
+}
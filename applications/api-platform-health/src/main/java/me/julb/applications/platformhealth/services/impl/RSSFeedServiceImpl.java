@@ -34,6 +34,7 @@ import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.validation.annotation.Validated;
 
 import me.julb.applications.platformhealth.entities.IncidentEntity;
@@ -48,15 +49,21 @@ import me.julb.applications.platformhealth.services.RSSFeedService;
 import me.julb.applications.platformhealth.services.dto.incident.IncidentStatus;
 import me.julb.applications.platformhealth.services.dto.plannedmaintenance.PlannedMaintenanceStatus;
 import me.julb.library.dto.rssfeed.RSSFeedDTO;
+import me.julb.library.dto.messaging.events.ResourceEventAsyncMessageDTO;
 import me.julb.library.dto.rssfeed.RSSFeedItemDTO;
 import me.julb.library.utility.constants.HTMLTags;
 import me.julb.library.utility.constants.Integers;
+import me.julb.library.utility.constants.MediaType;
 import me.julb.library.utility.constants.Strings;
 import me.julb.library.utility.date.DateUtility;
 import me.julb.springbootstarter.core.configs.ConfigSourceService;
 import me.julb.springbootstarter.core.context.TrademarkContextHolder;
 import me.julb.springbootstarter.core.messages.MessageSourceService;
 import me.julb.springbootstarter.core.rendering.ContentRenderService;
+import me.julb.springbootstarter.resourcetypes.ResourceTypes;
+import me.julb.springbootstarter.web.caching.RenderedContent;
+import me.julb.springbootstarter.web.caching.RenderedContentCache;
+import me.julb.springbootstarter.web.views.rssfeed.RSSFeedRenderer;
 
 /**
  * The RSS feed service.
@@ -68,6 +75,16 @@ import me.julb.springbootstarter.core.rendering.ContentRenderService;
 @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class RSSFeedServiceImpl implements RSSFeedService {
 
+    /**
+     * The name of the incidents feed.
+     */
+    private static final String INCIDENTS_FEED = "rss-feed-incidents";
+
+    /**
+     * The name of the planned maintenances feed.
+     */
+    private static final String PLANNED_MAINTENANCES_FEED = "rss-feed-planned-maintenances";
+
     /**
      * The config source service.
      */
@@ -110,6 +127,41 @@ public class RSSFeedServiceImpl implements RSSFeedService {
     @Autowired
     private PlannedMaintenanceHistoryRepository plannedMaintenanceHistoryRepository;
 
+    /**
+     * The rendered content cache.
+     */
+    @Autowired
+    private RenderedContentCache renderedContentCache;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderedContent renderIncidentsFeed() {
+        return renderedContentCache.get(INCIDENTS_FEED, MediaType.APPLICATION_RSS_XML_UTF8, () -> RSSFeedRenderer.render(buildIncidentsFeed()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderedContent renderPlannedMaintenancesFeed() {
+        return renderedContentCache.get(PLANNED_MAINTENANCES_FEED, MediaType.APPLICATION_RSS_XML_UTF8, () -> RSSFeedRenderer.render(buildPlannedMaintenancesFeed()));
+    }
+
+    /**
+     * Evicts the rendered feeds impacted by the resource event once the transaction which triggered it has been committed.
+     * @param resourceEvent the resource event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceEvent(ResourceEventAsyncMessageDTO resourceEvent) {
+        if (ResourceTypes.INCIDENT.equals(resourceEvent.getResourceType()) || ResourceTypes.INCIDENT_HISTORY.equals(resourceEvent.getResourceType())) {
+            renderedContentCache.evict(resourceEvent.getResourceTrademark(), INCIDENTS_FEED);
+        } else if (ResourceTypes.PLANNED_MAINTENANCE.equals(resourceEvent.getResourceType()) || ResourceTypes.PLANNED_MAINTENANCE_HISTORY.equals(resourceEvent.getResourceType())) {
+            renderedContentCache.evict(resourceEvent.getResourceTrademark(), PLANNED_MAINTENANCES_FEED);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,14 +24,12 @@
 
 package me.julb.applications.urlshortener.services.impl;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -42,6 +40,7 @@ import org.springframework.validation.annotation.Validated;
 import me.julb.applications.urlshortener.services.HostService;
 import me.julb.library.dto.simple.value.ValueDTO;
 import me.julb.library.utility.validator.constraints.DNS;
+import me.julb.springbootstarter.core.configs.ConfigSnapshot;
 import me.julb.springbootstarter.core.configs.ConfigSourceService;
 
 /**
@@ -54,6 +53,21 @@ import me.julb.springbootstarter.core.configs.ConfigSourceService;
 @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class HostServiceImpl implements HostService {
 
+    /**
+     * The hosts property.
+     */
+    private static final String HOSTS_PROPERTY = "url-shortener.hosts";
+
+    /**
+     * The name of the derived sorted hosts.
+     */
+    private static final String SORTED_HOSTS = HostServiceImpl.class.getName() + ".sortedHosts";
+
+    /**
+     * The name of the derived hosts set.
+     */
+    private static final String HOSTS_SET = HostServiceImpl.class.getName() + ".hostsSet";
+
     /**
      * The config source service.
      */
@@ -67,7 +81,7 @@ public class HostServiceImpl implements HostService {
      */
     @Override
     public List<ValueDTO> findAll() {
-        List<String> availableHosts = getAvailableHosts();
+        List<String> availableHosts = getAvailableHosts(configSourceService.getSnapshot());
         return availableHosts.stream().map(ValueDTO::new).collect(Collectors.toList());
     }
 
@@ -76,7 +90,7 @@ public class HostServiceImpl implements HostService {
      */
     @Override
     public boolean exists(@NotNull @DNS String host) {
-        return getAvailableHosts().contains(host);
+        return configSourceService.getSnapshot().getDerived(HOSTS_SET, snapshot -> Set.copyOf(getAvailableHosts(snapshot))).contains(host);
     }
 
     // ------------------------------------------ Write methods.
@@ -84,19 +98,17 @@ public class HostServiceImpl implements HostService {
     // ------------------------------------------ Private methods.
 
     /**
-     * Gets the available hosts.
-     * @return the available hosts.
+     * Gets the available hosts, lowercased and sorted once per configuration snapshot.
+     * @param configSnapshot the configuration snapshot.
+     * @return the available hosts, as an immutable list.
      */
-    private List<String> getAvailableHosts() {
-        String[] hosts = configSourceService.getTypedProperty("url-shortener.hosts", String[].class);
-        List<String> hostsAsList = new ArrayList<String>();
-        if (ArrayUtils.isNotEmpty(hosts)) {
-            for (String host : hosts) {
-                hostsAsList.add(StringUtils.lowerCase(host));
-            }
-            Collections.sort(hostsAsList);
-        }
-        return hostsAsList;
+    private List<String> getAvailableHosts(ConfigSnapshot configSnapshot) {
+        //@formatter:off
+        return configSnapshot.getDerived(SORTED_HOSTS, snapshot -> snapshot.getList(HOSTS_PROPERTY, String.class).stream()
+            .map(StringUtils::lowerCase)
+            .sorted()
+            .collect(Collectors.toUnmodifiableList()));
+        //@formatter:on
     }
 
 }
@@ -120,7 +120,7 @@ public class WebNotificationIngestionServiceImpl implements WebNotificationInges
      * @param entity the entity.
      */
     private void onPersist(WebNotificationEntity entity) {
-        entity.setId(IdentifierUtility.generateId());
+        entity.setId(IdentifierUtility.generateTimeOrderedId());
         entity.setCreatedAt(DateUtility.dateTimeNow());
         entity.setLastUpdatedAt(DateUtility.dateTimeNow());
         entity.setTm(TrademarkContextHolder.getTrademark());
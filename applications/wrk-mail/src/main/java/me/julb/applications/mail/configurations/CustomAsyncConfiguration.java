@@ -24,9 +24,12 @@
 
 package me.julb.applications.mail.configurations;
 
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
@@ -44,6 +47,11 @@ import me.julb.springbootstarter.messaging.configurations.AbstractAsyncConsumerC
 @Configuration
 public class CustomAsyncConfiguration extends AbstractAsyncConsumerConfiguration {
 
+    /**
+     * The property enabling the batch mode on the mail binding.
+     */
+    private static final String BATCH_MODE_PROPERTY = "spring.cloud.stream.bindings.mail-in-0.consumer.batch-mode";
+
     /**
      * The service to send email.
      */
@@ -55,6 +63,7 @@ public class CustomAsyncConfiguration extends AbstractAsyncConsumerConfiguration
      * @return a function to consume mails.
      */
     @Bean
+    @ConditionalOnProperty(name = BATCH_MODE_PROPERTY, havingValue = "false", matchIfMissing = true)
     public Consumer<Message<AsyncMessageDTO<MailDTO>>> mail() {
         return mailMessage -> {
             // Trace input.
@@ -67,4 +76,17 @@ public class CustomAsyncConfiguration extends AbstractAsyncConsumerConfiguration
             onReceiveEnd(mailMessage);
         };
     }
+
+    /**
+     * Consumer for batches of mails, when the batch mode is enabled on the binding.
+     * @return a function to consume batches of mails.
+     */
+    @Bean(name = "mail")
+    @ConditionalOnProperty(name = BATCH_MODE_PROPERTY, havingValue = "true")
+    public Consumer<Message<List<AsyncMessageDTO<MailDTO>>>> mailBatch() {
+        return mailMessages -> onReceiveBatch(mailMessages, messages -> {
+            // Invoke consumer.
+            mailService.sendAll(messages.stream().map(AsyncMessageDTO::getBody).collect(Collectors.toList()));
+        });
+    }
 }
@@ -24,9 +24,11 @@
 
 package me.julb.applications.pushprometheusmetrics.configurations;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
@@ -43,6 +45,11 @@ import me.julb.springbootstarter.messaging.configurations.AbstractAsyncConsumerC
 @Configuration
 public class CustomAsyncConfiguration extends AbstractAsyncConsumerConfiguration {
 
+    /**
+     * The property enabling the batch mode on the job result binding.
+     */
+    private static final String BATCH_MODE_PROPERTY = "spring.cloud.stream.bindings.jobResult-in-0.consumer.batch-mode";
+
     /**
      * The service to push job metrics to Prometheus.
      */
@@ -54,6 +61,7 @@ public class CustomAsyncConfiguration extends AbstractAsyncConsumerConfiguration
      * @return a function to consume job results.
      */
     @Bean
+    @ConditionalOnProperty(name = BATCH_MODE_PROPERTY, havingValue = "false", matchIfMissing = true)
     public Consumer<Message<JobResultAsyncMessageDTO<?>>> jobResult() {
         return jobResultAsyncMessage -> {
             // Trace input.
@@ -66,4 +74,14 @@ public class CustomAsyncConfiguration extends AbstractAsyncConsumerConfiguration
             onReceiveEnd(jobResultAsyncMessage);
         };
     }
+
+    /**
+     * Consumer for batches of job results, when the batch mode is enabled on the binding.
+     * @return a function to consume batches of job results.
+     */
+    @Bean(name = "jobResult")
+    @ConditionalOnProperty(name = BATCH_MODE_PROPERTY, havingValue = "true")
+    public Consumer<Message<List<JobResultAsyncMessageDTO<?>>>> jobResultBatch() {
+        return jobResultAsyncMessages -> onReceiveBatch(jobResultAsyncMessages, pushJobResultAsPrometheusMetricsService::pushAll);
+    }
 }
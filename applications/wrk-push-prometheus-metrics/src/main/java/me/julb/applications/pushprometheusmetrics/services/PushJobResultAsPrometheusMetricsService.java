@@ -24,6 +24,8 @@
 
 package me.julb.applications.pushprometheusmetrics.services;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
@@ -42,4 +44,13 @@ public interface PushJobResultAsPrometheusMetricsService {
      */
     void push(@NotNull @Valid JobResultAsyncMessageDTO<?> jobResult);
 
+    /**
+     * Push the job results as metrics to Prometheus, with a single push per job and instance.
+     * <P>
+     * The metrics of a job result replace the metrics with the same name of the previous job results of the same job and instance, as if the job results were pushed
+     * one by one.
+     * @param jobResults the job results, in the order they were produced.
+     */
+    void pushAll(@NotNull List<@NotNull @Valid JobResultAsyncMessageDTO<?>> jobResults);
+
 }
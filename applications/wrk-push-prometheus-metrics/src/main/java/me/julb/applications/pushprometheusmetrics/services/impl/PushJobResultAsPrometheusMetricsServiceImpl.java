@@ -24,11 +24,18 @@
 
 package me.julb.applications.pushprometheusmetrics.services.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +45,7 @@ import org.springframework.validation.annotation.Validated;
 import me.julb.applications.pushprometheusmetrics.services.PushJobResultAsPrometheusMetricsService;
 import me.julb.library.dto.messaging.events.JobResultAsyncMessageDTO;
 import me.julb.springbootstarter.monitoring.prometheus.pushmetrics.services.PrometheusMetricsPushService;
+import me.julb.springbootstarter.monitoring.prometheus.pushmetrics.services.dto.MetricsCreationDTO;
 import me.julb.springbootstarter.monitoring.prometheus.pushmetrics.services.dto.MetricsCreationWrapperDTO;
 
 /**
@@ -74,4 +82,51 @@ public class PushJobResultAsPrometheusMetricsServiceImpl implements PushJobResul
         prometheusMetricsPushService.pushAll(metricsWrapper);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pushAll(@NotNull List<@NotNull @Valid JobResultAsyncMessageDTO<?>> jobResults) {
+        LOGGER.debug("Processing <{}> job results and converting them to prometheus metrics.", jobResults.size());
+
+        // Merge the metrics by job and instance, the last metrics of a given name replacing the previous ones.
+        Map<JobInstance, Map<String, List<MetricsCreationDTO>>> metricsByJobInstance = new LinkedHashMap<>();
+        for (JobResultAsyncMessageDTO<?> jobResult : jobResults) {
+            MetricsCreationWrapperDTO metricsWrapper = mapper.apply(jobResult);
+            Map<String, List<MetricsCreationDTO>> metricsByName = metricsByJobInstance.computeIfAbsent(new JobInstance(metricsWrapper.getJob(), metricsWrapper.getInstance()), k -> new LinkedHashMap<>());
+
+            Map<String, List<MetricsCreationDTO>> jobResultMetricsByName = new LinkedHashMap<>();
+            for (MetricsCreationDTO metric : metricsWrapper.getMetrics()) {
+                jobResultMetricsByName.computeIfAbsent(metric.getName(), k -> new ArrayList<>()).add(metric);
+            }
+            metricsByName.putAll(jobResultMetricsByName);
+        }
+
+        // Push metrics to prometheus.
+        for (Map.Entry<JobInstance, Map<String, List<MetricsCreationDTO>>> entry : metricsByJobInstance.entrySet()) {
+            Collection<MetricsCreationDTO> metrics = new ArrayList<>();
+            entry.getValue().values().forEach(metrics::addAll);
+            prometheusMetricsPushService.pushAll(entry.getKey().job, entry.getKey().instance, metrics);
+        }
+    }
+
+    /**
+     * The job and instance the metrics are pushed to.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class JobInstance {
+
+        /**
+         * The job.
+         */
+        private final String job;
+
+        /**
+         * The instance.
+         */
+        private final String instance;
+    }
 }
@@ -24,7 +24,12 @@
 
 package me.julb.applications.pushprometheusmetrics.services;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -34,6 +39,7 @@ import me.julb.library.dto.messaging.events.JobResultStatus;
 import me.julb.library.utility.date.DateUtility;
 import me.julb.springbootstarter.messaging.builders.JobResultAsyncMessageBuilder;
 import me.julb.springbootstarter.monitoring.prometheus.pushmetrics.services.PrometheusMetricsPushService;
+import me.julb.springbootstarter.monitoring.prometheus.pushmetrics.services.dto.MetricsCreationDTO;
 import me.julb.springbootstarter.monitoring.prometheus.pushmetrics.services.dto.MetricsCreationWrapperDTO;
 import me.julb.springbootstarter.test.messaging.base.AbstractMessagingBaseTest;
 
@@ -78,4 +84,50 @@ public class PushJobResultAsPrometheusMetricsServiceTest extends AbstractMessagi
         // Verify.
         Mockito.verify(prometheusMetricsPushService).pushAll(Mockito.isA(MetricsCreationWrapperDTO.class));
     }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void whenPushingSeveralJobResults_thenMetricsMergedByJobAndInstance()
+        throws Exception {
+        //@formatter:off
+        JobResultAsyncMessageDTO<Void> first = new JobResultAsyncMessageBuilder<Void>()
+            .name("job-name")
+            .instance("job-instance")
+            .metric("customMetric", 1)
+            .result(JobResultStatus.FAILURE)
+            .completedAtDateTime(DateUtility.dateTimeNow())
+            .durationInSeconds(50L)
+            .build();
+        JobResultAsyncMessageDTO<Void> other = new JobResultAsyncMessageBuilder<Void>()
+            .name("other-job-name")
+            .instance("job-instance")
+            .result(JobResultStatus.SUCCESSFUL)
+            .completedAtDateTime(DateUtility.dateTimeNow())
+            .durationInSeconds(10L)
+            .build();
+        JobResultAsyncMessageDTO<Void> second = new JobResultAsyncMessageBuilder<Void>()
+            .name("job-name")
+            .instance("job-instance")
+            .result(JobResultStatus.SUCCESSFUL)
+            .completedAtDateTime(DateUtility.dateTimeNow())
+            .durationInSeconds(20L)
+            .build();
+        //@formatter:on
+
+        pushJobResultAsPrometheusMetricsService.pushAll(List.of(first, other, second));
+
+        // Verify.
+        ArgumentCaptor<Collection<MetricsCreationDTO>> metricsCaptor = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(prometheusMetricsPushService).pushAll(Mockito.eq("job-name"), Mockito.eq("job-instance"), metricsCaptor.capture());
+        Mockito.verify(prometheusMetricsPushService).pushAll(Mockito.eq("other-job-name"), Mockito.eq("job-instance"), Mockito.anyCollection());
+        Mockito.verifyNoMoreInteractions(prometheusMetricsPushService);
+
+        Collection<MetricsCreationDTO> metrics = metricsCaptor.getValue();
+        Assertions.assertEquals(metrics.size(), metrics.stream().map(MetricsCreationDTO::getName).distinct().count());
+        Assertions.assertTrue(metrics.stream().anyMatch(metric -> metric.getName().equals("custom_metric")));
+        Assertions.assertTrue(metrics.stream().anyMatch(metric -> metric.getName().equals("last_job_execution_duration_in_seconds") && metric.getValue() == 20F));
+    }
 }
@@ -0,0 +1,176 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.barcode.services.impl;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.oned.EAN13Writer;
+import com.google.zxing.pdf417.PDF417Writer;
+import com.google.zxing.qrcode.QRCodeWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import me.julb.applications.barcode.services.dto.BarcodeType;
+import me.julb.applications.barcode.services.dto.RenderedBarcodeDTO;
+
+/**
+ * Throughput benchmark of the barcode rendering, in images per second, for each barcode type and image format.
+ * <P>
+ * Run with the <i>gc</i> profiler to get the bytes allocated per image. The <i>legacy*</i> method reproduces the former implementation
+ * which created a writer, then a buffered image encoded to PNG by the message converter, on each request, whatever the format.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BarcodeRendererBenchmark {
+
+    /**
+     * The number of distinct values requested.
+     */
+    private static final int VALUES = 64;
+
+    /**
+     * The size of the images.
+     */
+    private static final int SIZE = 200;
+
+    /**
+     * The barcode type.
+     */
+    @Param({"EAN13", "QRCODE", "PDF417"})
+    private BarcodeType type;
+
+    /**
+     * The image format.
+     */
+    @Param({"png", "svg"})
+    private String imageFormat;
+
+    /**
+     * The values.
+     */
+    private String[] values;
+
+    /**
+     * The cache.
+     */
+    private RenderedBarcodeCache cache;
+
+    /**
+     * The index of the next value.
+     */
+    private int index;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        values = new String[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = type == BarcodeType.EAN13 ? String.format("%012d", 400000000000L + i) : "julb://some.uri/items/" + i;
+        }
+        cache = new RenderedBarcodeCache(32L * 1024 * 1024);
+    }
+
+    /**
+     * Benchmark method: renders the image on each call.
+     * @return the result.
+     * @throws Exception if an error occurs.
+     */
+    @Benchmark
+    public byte[] render()
+        throws Exception {
+        return BarcodeRenderer.render(type, nextValue(), SIZE, SIZE, null, imageFormat);
+    }
+
+    /**
+     * Benchmark method: serves the image from the cache, as repeated requests do.
+     * @return the result.
+     */
+    @Benchmark
+    public RenderedBarcodeDTO cachedRender() {
+        String value = nextValue();
+        return cache.get(type, value, SIZE, SIZE, null, imageFormat, () -> {
+            try {
+                byte[] content = BarcodeRenderer.render(type, value, SIZE, SIZE, null, imageFormat);
+                return new RenderedBarcodeDTO(content, BarcodeRenderer.contentType(imageFormat), DigestUtils.sha256Hex(content));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     * @throws Exception if an error occurs.
+     */
+    @Benchmark
+    public byte[] legacyRender()
+        throws Exception {
+        String value = nextValue();
+        BitMatrix bitMatrix;
+        switch (type) {
+            case EAN13:
+                bitMatrix = new EAN13Writer().encode(value, BarcodeFormat.EAN_13, SIZE, SIZE);
+                break;
+            case QRCODE:
+                bitMatrix = new QRCodeWriter().encode(value, BarcodeFormat.QR_CODE, SIZE, SIZE);
+                break;
+            default:
+                bitMatrix = new PDF417Writer().encode(value, BarcodeFormat.PDF_417, SIZE, SIZE);
+                break;
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(MatrixToImageWriter.toBufferedImage(bitMatrix), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Gets the next value.
+     * @return the next value.
+     */
+    private String nextValue() {
+        index = (index + 1) % VALUES;
+        return values[index];
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.bookmark.services.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the document writes needed to move an item in a folder.
+ * <P>
+ * The folder is simulated in memory and each invocation moves a random item to a random index. The <i>writes</i> counter divided
+ * by the <i>moves</i> counter gives the number of documents written per move. The <i>legacy*</i> method reproduces the former
+ * implementation which rewrote the dense position of every item of the folder.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ItemPositionKeysBenchmark {
+
+    /**
+     * The number of items in the folder.
+     */
+    @Param({"10", "1000", "10000"})
+    private int folderSize;
+
+    /**
+     * The positions of the items, in folder order.
+     */
+    private List<Long> positions;
+
+    /**
+     * The random generator.
+     */
+    private Random random;
+
+    /**
+     * Setup method.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        positions = new ArrayList<>(folderSize);
+        for (int i = 0; i < folderSize; i++) {
+            positions.add(ItemPositionKeys.rebalanced(i));
+        }
+        random = new Random(folderSize);
+    }
+
+    /**
+     * Benchmark method.
+     * @param counters the counters.
+     */
+    @Benchmark
+    public void move(WriteCounters counters) {
+        int index = random.nextInt(folderSize);
+        positions.remove(random.nextInt(folderSize));
+
+        Long position;
+        if (index >= positions.size()) {
+            position = ItemPositionKeys.after(positions.get(positions.size() - 1));
+        } else {
+            position = ItemPositionKeys.between(index > 0 ? positions.get(index - 1) : null, positions.get(index));
+        }
+
+        if (position != null) {
+            positions.add(index, position);
+            counters.writes++;
+        } else {
+            positions.add(index, null);
+            for (int i = 0; i < positions.size(); i++) {
+                long rebalanced = ItemPositionKeys.rebalanced(i);
+                if (positions.get(i) == null || positions.get(i) != rebalanced) {
+                    positions.set(i, rebalanced);
+                    counters.writes++;
+                }
+            }
+        }
+        counters.moves++;
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @param counters the counters.
+     */
+    @Benchmark
+    public void legacyMove(WriteCounters counters) {
+        int index = random.nextInt(folderSize);
+        positions.remove(random.nextInt(folderSize));
+        positions.add(index, null);
+
+        // All the siblings were saved with their new dense position.
+        for (int i = 0; i < positions.size(); i++) {
+            positions.set(i, Long.valueOf(i));
+            counters.writes++;
+        }
+        counters.moves++;
+    }
+
+    /**
+     * The counters reported with the results.
+     * <br>
+     * @author Julb.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WriteCounters {
+
+        /**
+         * The number of documents written.
+         */
+        public long writes;
+
+        /**
+         * The number of moves.
+         */
+        public long moves;
+
+        /**
+         * Resets the counters.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            writes = 0;
+            moves = 0;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.applications.configuration.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.io.ByteArrayResource;
+
+import me.julb.applications.configuration.configurations.properties.ApplicationProperties;
+import me.julb.applications.configuration.services.dto.PropertiesDeltaDTO;
+import me.julb.applications.configuration.services.dto.PropertiesSnapshotDTO;
+import me.julb.springbootstarter.core.configs.ConfigSourceService;
+import me.julb.springbootstarter.core.context.TrademarkContextHolder;
+
+/**
+ * Benchmark of the properties served by the {@link PropertiesServiceImpl} class, with 5,000 properties across 10 trademarks.
+ * <P>
+ * Each trademark overrides 450 of the 500 default properties. The <i>legacy*</i> method reproduces the former implementation which
+ * filtered and sorted the whole configuration on each request.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PropertiesServiceBenchmark {
+
+    /**
+     * The number of default properties.
+     */
+    private static final int PROPERTIES = 500;
+
+    /**
+     * The number of properties overridden by each trademark.
+     */
+    private static final int OVERRIDES = 450;
+
+    /**
+     * The number of trademarks.
+     */
+    private static final int TRADEMARKS = 10;
+
+    /**
+     * The trademarks.
+     */
+    private String[] trademarks;
+
+    /**
+     * The config source service.
+     */
+    private ConfigSourceService configSourceService;
+
+    /**
+     * The properties service.
+     */
+    private PropertiesServiceImpl propertiesService;
+
+    /**
+     * The version and entity tag held by the clients, by trademark.
+     */
+    private PropertiesSnapshotDTO[] heldSnapshots;
+
+    /**
+     * The index of the next request.
+     */
+    private int index;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        trademarks = new String[TRADEMARKS];
+        StringBuilder content = new StringBuilder();
+        for (int p = 0; p < PROPERTIES; p++) {
+            content.append("application.module").append(p % 20).append(".property").append(p).append("=default-value-").append(p).append('\n');
+        }
+        for (int t = 0; t < TRADEMARKS; t++) {
+            trademarks[t] = "tm" + t;
+            for (int p = 0; p < OVERRIDES; p++) {
+                content.append('[').append(trademarks[t]).append("]application.module").append(p % 20).append(".property").append(p).append('=').append(trademarks[t]).append("-value-").append(p).append('\n');
+            }
+        }
+
+        configSourceService = new ConfigSourceService();
+        DirectFieldAccessor configSourceServiceAccessor = new DirectFieldAccessor(configSourceService);
+        configSourceServiceAccessor.setPropertyValue("configSourcePropertiesResource", new ByteArrayResource(content.toString().getBytes(StandardCharsets.ISO_8859_1)));
+        configSourceServiceAccessor.setPropertyValue("mvcConversionService", new DefaultConversionService());
+        configSourceService.reload();
+
+        propertiesService = new PropertiesServiceImpl();
+        DirectFieldAccessor propertiesServiceAccessor = new DirectFieldAccessor(propertiesService);
+        propertiesServiceAccessor.setPropertyValue("configSourceService", configSourceService);
+        propertiesServiceAccessor.setPropertyValue("applicationProperties", new ApplicationProperties());
+        propertiesService.init();
+
+        heldSnapshots = new PropertiesSnapshotDTO[TRADEMARKS];
+        for (int t = 0; t < TRADEMARKS; t++) {
+            TrademarkContextHolder.setTrademark(trademarks[t]);
+            heldSnapshots[t] = propertiesService.findSnapshot(null);
+        }
+    }
+
+    /**
+     * Tear down method.
+     */
+    @TearDown
+    public void tearDown() {
+        TrademarkContextHolder.unsetTrademark();
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public PropertiesSnapshotDTO findSnapshot() {
+        nextTrademark();
+        return propertiesService.findSnapshot(null);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public PropertiesDeltaDTO findChangesSince() {
+        PropertiesSnapshotDTO held = heldSnapshots[nextTrademark()];
+        return propertiesService.findChangesSince(null, held.getVersion(), held.getETag());
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public Map<String, String> legacyFindAll() {
+        nextTrademark();
+        return configSourceService.findAll(null, true);
+    }
+
+    /**
+     * Sets the trademark of the next request and returns its index.
+     * @return the trademark index.
+     */
+    private int nextTrademark() {
+        index = (index + 1) % TRADEMARKS;
+        TrademarkContextHolder.setTrademark(trademarks[index]);
+        return index;
+    }
+}
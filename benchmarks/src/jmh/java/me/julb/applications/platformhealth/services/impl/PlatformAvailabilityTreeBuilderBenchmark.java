@@ -0,0 +1,217 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.applications.platformhealth.services.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import me.julb.applications.platformhealth.entities.ComponentCategoryEntity;
+import me.julb.applications.platformhealth.entities.ComponentEntity;
+import me.julb.applications.platformhealth.entities.IncidentComponentEntity;
+import me.julb.applications.platformhealth.entities.PlannedMaintenanceComponentEntity;
+import me.julb.applications.platformhealth.services.dto.availability.AvailabilityStatus;
+import me.julb.applications.platformhealth.services.dto.availability.ComponentAvailabilityDTO;
+import me.julb.applications.platformhealth.services.dto.availability.ComponentCategoryAvailabilityHierarchyDTO;
+import me.julb.applications.platformhealth.services.dto.availability.PlatformAvailabilityDTO;
+import me.julb.applications.platformhealth.services.dto.incident.IncidentComponentImpactLevel;
+
+/**
+ * Benchmark of the {@link PlatformAvailabilityTreeBuilder} class.
+ * <P>
+ * The <i>legacy*</i> method reproduces the former implementation which scanned all the components and all the links for each category.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlatformAvailabilityTreeBuilderBenchmark {
+
+    /**
+     * The number of components per category.
+     */
+    private static final int COMPONENTS_PER_CATEGORY = 50;
+
+    /**
+     * The number of components.
+     */
+    @Param({"100", "1000", "5000"})
+    private int componentsCount;
+
+    /**
+     * The component categories.
+     */
+    private List<ComponentCategoryEntity> componentCategories;
+
+    /**
+     * The components.
+     */
+    private List<ComponentEntity> components;
+
+    /**
+     * The links between incidents and components.
+     */
+    private List<IncidentComponentEntity> incidentComponents;
+
+    /**
+     * The links between planned maintenances and components.
+     */
+    private List<PlannedMaintenanceComponentEntity> plannedMaintenanceComponents;
+
+    /**
+     * The tree builder.
+     */
+    private PlatformAvailabilityTreeBuilder treeBuilder;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        componentCategories = new ArrayList<>();
+        components = new ArrayList<>();
+        incidentComponents = new ArrayList<>();
+        plannedMaintenanceComponents = new ArrayList<>();
+
+        for (int i = 0; i < componentsCount; i++) {
+            if (i % COMPONENTS_PER_CATEGORY == 0) {
+                ComponentCategoryEntity componentCategory = new ComponentCategoryEntity();
+                componentCategory.setId("category-" + componentCategories.size());
+                componentCategories.add(componentCategory);
+            }
+
+            ComponentEntity component = new ComponentEntity();
+            component.setId("component-" + i);
+            component.setComponentCategory(componentCategories.get(componentCategories.size() - 1));
+            components.add(component);
+
+            // 5% of the components are impacted by an incident, 2% by a planned maintenance.
+            if (i % 20 == 0) {
+                IncidentComponentEntity incidentComponent = new IncidentComponentEntity();
+                incidentComponent.setId("incident-component-" + i);
+                incidentComponent.setComponent(component);
+                incidentComponent.setImpactLevel(i % 40 == 0 ? IncidentComponentImpactLevel.DOWN : IncidentComponentImpactLevel.PARTIAL);
+                incidentComponents.add(incidentComponent);
+            }
+            if (i % 50 == 0) {
+                PlannedMaintenanceComponentEntity plannedMaintenanceComponent = new PlannedMaintenanceComponentEntity();
+                plannedMaintenanceComponent.setId("planned-maintenance-component-" + i);
+                plannedMaintenanceComponent.setComponent(component);
+                plannedMaintenanceComponents.add(plannedMaintenanceComponent);
+            }
+        }
+
+        treeBuilder = new PlatformAvailabilityTreeBuilder(PlatformAvailabilityTreeBuilderBenchmark::mapComponentCategory, PlatformAvailabilityTreeBuilderBenchmark::mapComponent);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public PlatformAvailabilityDTO build() {
+        return treeBuilder.build(componentCategories, components, incidentComponents.size(), incidentComponents, plannedMaintenanceComponents.size(), plannedMaintenanceComponents);
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public PlatformAvailabilityDTO legacyBuild() {
+        PlatformAvailabilityDTO availabilityDTO = new PlatformAvailabilityDTO();
+        availabilityDTO.setIncidentsInProgressCount(Long.valueOf(incidentComponents.size()));
+        availabilityDTO.setPlannedMaintenancesInProgressCount(Long.valueOf(plannedMaintenanceComponents.size()));
+
+        for (ComponentCategoryEntity componentCategory : componentCategories) {
+            ComponentCategoryAvailabilityHierarchyDTO componentCategoryAvailability = mapComponentCategory(componentCategory);
+            AvailabilityStatus categoryAvailability = AvailabilityStatus.UP;
+
+            for (ComponentEntity component : components) {
+                if (component.getComponentCategory().equals(componentCategory)) {
+                    ComponentAvailabilityDTO componentAvailability = mapComponent(component);
+                    componentAvailability.setIncidentsInProgressCount(incidentComponents.stream().filter(ic -> ic.getComponent().equals(component)).count());
+                    componentAvailability.setPlannedMaintenancesInProgressCount(plannedMaintenanceComponents.stream().filter(pmc -> pmc.getComponent().equals(component)).count());
+                    componentAvailability.setAvailabilityStatus(legacyComponentStatus(incidentComponents, component));
+                    componentCategoryAvailability.getComponentsAvailability().add(componentAvailability);
+                    categoryAvailability = AvailabilityStatus.worsest(categoryAvailability, componentAvailability.getAvailabilityStatus());
+                }
+            }
+
+            componentCategoryAvailability.setIncidentsInProgressCount(incidentComponents.stream().filter(ic -> ic.getComponent().getComponentCategory().equals(componentCategory)).count());
+            componentCategoryAvailability.setPlannedMaintenancesInProgressCount(plannedMaintenanceComponents.stream().filter(pmc -> pmc.getComponent().getComponentCategory().equals(componentCategory)).count());
+            componentCategoryAvailability.setAvailabilityStatus(categoryAvailability);
+            availabilityDTO.getComponentCategoriesAvailability().add(componentCategoryAvailability);
+        }
+        return availabilityDTO;
+    }
+
+    /**
+     * Gets the status of the component as the former implementation did.
+     * @param incidentsInProgress the incidents in progress.
+     * @param component the component.
+     * @return the status.
+     */
+    private static AvailabilityStatus legacyComponentStatus(Collection<IncidentComponentEntity> incidentsInProgress, ComponentEntity component) {
+        Collection<AvailabilityStatus> availabilityStatuses = incidentsInProgress.stream().filter(ic -> ic.getComponent().equals(component)).map(ic -> {
+            return ic.getImpactLevel() == IncidentComponentImpactLevel.DOWN ? AvailabilityStatus.DOWN : AvailabilityStatus.PARTIAL;
+        }).collect(Collectors.toSet());
+        return AvailabilityStatus.worsest(availabilityStatuses.toArray(new AvailabilityStatus[0]));
+    }
+
+    /**
+     * Maps a component category.
+     * @param componentCategory the component category.
+     * @return the mapped component category.
+     */
+    private static ComponentCategoryAvailabilityHierarchyDTO mapComponentCategory(ComponentCategoryEntity componentCategory) {
+        ComponentCategoryAvailabilityHierarchyDTO dto = new ComponentCategoryAvailabilityHierarchyDTO();
+        dto.setId(componentCategory.getId());
+        return dto;
+    }
+
+    /**
+     * Maps a component.
+     * @param component the component.
+     * @return the mapped component.
+     */
+    private static ComponentAvailabilityDTO mapComponent(ComponentEntity component) {
+        ComponentAvailabilityDTO dto = new ComponentAvailabilityDTO();
+        dto.setId(component.getId());
+        return dto;
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.library.logging.logback;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.MDC;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.contrib.jackson.JacksonJsonFormatter;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+
+/**
+ * Throughput benchmark of the JSON encoding of logging events, in events per second.
+ * <P>
+ * Run with the <i>gc</i> profiler to get the bytes allocated per event. The <i>legacy*</i> method encodes with the {@link JsonLayout},
+ * configured as it used to be in the JSON console appender.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonEncoderBenchmark {
+
+    /**
+     * <code>true</code> to log an exception with the event.
+     */
+    @Param({"false", "true"})
+    private boolean withException;
+
+    /**
+     * The event.
+     */
+    private ILoggingEvent event;
+
+    /**
+     * The streaming encoder.
+     */
+    private JsonEncoder jsonEncoder;
+
+    /**
+     * The layout-based encoder.
+     */
+    private LayoutWrappingEncoder<ILoggingEvent> legacyEncoder;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        LoggerContext loggerContext = new LoggerContext();
+        Logger logger = loggerContext.getLogger("me.julb.applications.bookmark.services.impl.ItemServiceImpl");
+
+        MDC.put("x-request-id", "8f14e45f-ceea-467f-a0e6-2a1b3c4d5e6f");
+        MDC.put("tm", "julb");
+        Throwable throwable = withException ? new IllegalStateException("Unable to update the item.", new IllegalArgumentException("Invalid position.")) : null;
+        LoggingEvent loggingEvent = new LoggingEvent(Logger.class.getName(), logger, Level.INFO, "Updating item <{}> of user <{}>.", throwable, new Object[] {"619a3b8e", "5f1e2d"});
+        loggingEvent.prepareForDeferredProcessing();
+        MDC.clear();
+        event = loggingEvent;
+
+        jsonEncoder = new JsonEncoder();
+        jsonEncoder.setContext(loggerContext);
+        jsonEncoder.setIrn("irn:julb:benchmark");
+        jsonEncoder.start();
+
+        JacksonJsonFormatter jsonFormatter = new JacksonJsonFormatter();
+        jsonFormatter.setPrettyPrint(false);
+        JsonLayout jsonLayout = new JsonLayout();
+        jsonLayout.setContext(loggerContext);
+        jsonLayout.setJsonFormatter(jsonFormatter);
+        jsonLayout.setTimestampFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        jsonLayout.setTimestampFormatTimezoneId("UTC");
+        jsonLayout.setAppendLineSeparator(true);
+        jsonLayout.setIrn("irn:julb:benchmark");
+        jsonLayout.start();
+        legacyEncoder = new LayoutWrappingEncoder<>();
+        legacyEncoder.setContext(loggerContext);
+        legacyEncoder.setLayout(jsonLayout);
+        legacyEncoder.start();
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public byte[] encode() {
+        return jsonEncoder.encode(event);
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public byte[] legacyEncode() {
+        return legacyEncoder.encode(event);
+    }
+}
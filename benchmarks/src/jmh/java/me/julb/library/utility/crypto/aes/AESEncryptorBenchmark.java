@@ -0,0 +1,126 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.crypto.aes;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.encrypt.Encryptors;
+
+/**
+ * Benchmark of the {@link AESEncryptor} class.
+ * <P>
+ * The <i>legacy*</i> methods reproduce the former implementation which derived the key with PBKDF2 on each call.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AESEncryptorBenchmark {
+
+    /**
+     * The key.
+     */
+    private static final String KEY = "aaaabbbbccccddddaaaabbbbccccdddd";
+
+    /**
+     * The salt.
+     */
+    private static final String SALT = "aaaabbbbccccaaaabbbbccccaaaabbbb";
+
+    /**
+     * The text to encrypt.
+     */
+    private String plainText = "john.doe@example.com";
+
+    /**
+     * The ciphered text.
+     */
+    private String cipherText = AESEncryptor.encrypt(plainText, KEY, SALT);
+
+    /**
+     * The authenticated ciphered text.
+     */
+    private String authenticatedCipherText = AESEncryptor.encryptAuthenticated(plainText, KEY, SALT);
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String legacyEncrypt() {
+        return Encryptors.text(KEY, SALT).encrypt(this.plainText);
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String legacyDecrypt() {
+        return Encryptors.text(KEY, SALT).decrypt(this.cipherText);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String encrypt() {
+        return AESEncryptor.encrypt(this.plainText, KEY, SALT);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String decrypt() {
+        return AESEncryptor.decrypt(this.cipherText, KEY, SALT);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String encryptAuthenticated() {
+        return AESEncryptor.encryptAuthenticated(this.plainText, KEY, SALT);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String decryptAuthenticated() {
+        return AESEncryptor.decryptAuthenticated(this.authenticatedCipherText, KEY, SALT);
+    }
+}
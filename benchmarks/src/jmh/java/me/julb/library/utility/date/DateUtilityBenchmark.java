@@ -0,0 +1,144 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.date;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import me.julb.library.utility.constants.Temporals;
+
+/**
+ * Benchmark of the {@link DateUtility} class.
+ * <P>
+ * The <i>legacy*</i> methods reproduce the former implementation which built a formatter on each call. Run with the GC profiler to compare the allocations
+ * per call.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateUtilityBenchmark {
+
+    /**
+     * A date time to parse.
+     */
+    private String dateTime = "2018-08-01T16:14:27.965Z";
+
+    /**
+     * A date time in the future.
+     */
+    private String futureDateTime = DateUtility.dateTimePlus(1, ChronoUnit.DAYS);
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String legacyDateTimeNow() {
+        return DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).format(ZonedDateTime.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String dateTimeNow() {
+        return DateUtility.dateTimeNow();
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public boolean legacyDateTimeBeforeNow() {
+        return this.futureDateTime.compareTo(DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).format(ZonedDateTime.now(ZoneOffset.UTC))) <= 0;
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public boolean dateTimeBeforeNow() {
+        return DateUtility.dateTimeBeforeNow(this.futureDateTime);
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public long legacyEpochSecond() {
+        return ZonedDateTime.ofInstant(DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).parse(this.dateTime, ZonedDateTime::from).toInstant(), ZoneOffset.UTC).toEpochSecond();
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public long epochSecond() {
+        return DateUtility.epochSecond(this.dateTime);
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String legacyDateTimePlus() {
+        return DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).format(ZonedDateTime.now(ZoneOffset.UTC).plus(30, ChronoUnit.MINUTES));
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String dateTimePlus() {
+        return DateUtility.dateTimePlus(30, ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public boolean instantBeforeNow() {
+        return DateUtility.instantBeforeNow(DateUtility.instantNow());
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.identifier;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.text.CharacterPredicates;
+import org.apache.commons.text.RandomStringGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import me.julb.library.utility.random.RandomUtility;
+
+/**
+ * Benchmark of the {@link IdentifierUtility} and {@link RandomUtility} classes.
+ * <P>
+ * The <i>legacy*</i> methods reproduce the former implementation which built a {@link RandomStringGenerator} on each call, sharing a single
+ * {@link SecureRandom}. The benchmark runs with several threads to expose the contention.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class IdentifierUtilityBenchmark {
+
+    /**
+     * The shared secure random used by the former implementation.
+     */
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String legacyGenerateId() {
+        //@formatter:off
+        return new RandomStringGenerator.Builder()
+            .withinRange('0', 'f')
+            .filteredBy(CharacterPredicates.DIGITS, CharacterPredicates.ASCII_LOWERCASE_LETTERS)
+            .usingRandom(SECURE_RANDOM::nextInt)
+            .build()
+            .generate(32);
+        //@formatter:on
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String generateId() {
+        return IdentifierUtility.generateId();
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String generateTimeOrderedId() {
+        return IdentifierUtility.generateTimeOrderedId();
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String legacyGenerateAlphaNumericToken() {
+        //@formatter:off
+        return new RandomStringGenerator.Builder()
+            .withinRange(new char[] {'0', '9'}, new char[] {'a', 'z'}, new char[] {'A', 'Z'})
+            .filteredBy(CharacterPredicates.DIGITS, CharacterPredicates.ASCII_LETTERS)
+            .build()
+            .generate(64);
+        //@formatter:on
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String generateAlphaNumericToken() {
+        return RandomUtility.generateAlphaNumericToken(64);
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.josejwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+
+import java.util.Calendar;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import me.julb.library.utility.josejwt.exceptions.JOSEJWTException;
+import me.julb.library.utility.josejwt.jwk.IJWKProvider;
+import me.julb.library.utility.josejwt.jwk.impl.ManualAsymmetricJWKProvider;
+import me.julb.library.utility.josejwt.jwk.impl.ManualJWKSetProvider;
+import me.julb.library.utility.josejwt.jwk.impl.ManualSymmetricJWKProvider;
+
+/**
+ * Benchmark of the tokens signed with RS384 and encrypted with a direct key by the {@link TokenEmitter} and {@link TokenReceiver} classes.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JoseTokenBenchmark {
+
+    /**
+     * The claims.
+     */
+    private JWTClaimsSet jwtClaimsSet;
+
+    /**
+     * The token emitter.
+     */
+    private TokenEmitter tokenEmitter;
+
+    /**
+     * The token receiver.
+     */
+    private TokenReceiver tokenReceiver;
+
+    /**
+     * A token emitted by the emitter.
+     */
+    private String token;
+
+    /**
+     * Setup method.
+     * @throws Exception if an error occurs.
+     */
+    @Setup
+    public void setup()
+        throws Exception {
+        Calendar expirationTime = Calendar.getInstance();
+        expirationTime.add(Calendar.HOUR, 1);
+
+        //@formatter:off
+        this.jwtClaimsSet = new JWTClaimsSet.Builder()
+            .issuer("API_Gateway")
+            .audience("API_Audience")
+            .jwtID("jwtId")
+            .subject("contact@julb.io")
+            .claim("typ", "U2M")
+            .issueTime(Calendar.getInstance().getTime())
+            .expirationTime(expirationTime.getTime())
+            .build();
+
+        RSAKey rsaKey = new RSAKeyGenerator(2048).generate();
+        String kid = UUID.randomUUID().toString();
+        IJWKProvider signatureJWKProvider = new ManualAsymmetricJWKProvider.Builder()
+            .algorithm(JWSAlgorithm.RS384.getName())
+            .keyId(kid)
+            .keyPair(rsaKey.toRSAPrivateKey(), rsaKey.toRSAPublicKey())
+            .useForSignature()
+            .build();
+        IJWKProvider verifyJWKProvider = new ManualAsymmetricJWKProvider.Builder()
+            .algorithm(JWSAlgorithm.RS384.getName())
+            .keyId(kid)
+            .publicKey(rsaKey.toRSAPublicKey())
+            .useForSignature()
+            .build();
+        IJWKProvider encryptionJWKProvider = new ManualSymmetricJWKProvider.Builder()
+            .algorithm("dir")
+            .keyId(UUID.randomUUID().toString())
+            .secretKey("aaaaaaaabbbbbbbbccccccccdddddddd")
+            .useForEncryption()
+            .build();
+
+        this.tokenEmitter = new TokenEmitter()
+            .setSignatureJWKProvider(signatureJWKProvider)
+            .setEncryptionJWKProvider(encryptionJWKProvider);
+        this.tokenReceiver = new TokenReceiver()
+            .setSignatureJWKSetProvider(new ManualJWKSetProvider.Builder().addJWKProvider(verifyJWKProvider).build())
+            .setEncryptionJWKSetProvider(new ManualJWKSetProvider.Builder().addJWKProvider(encryptionJWKProvider).build());
+        //@formatter:on
+
+        this.token = tokenEmitter.emit(jwtClaimsSet.toString());
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     * @throws JOSEJWTException if an error occurs.
+     */
+    @Benchmark
+    public String emit()
+        throws JOSEJWTException {
+        return tokenEmitter.emit(jwtClaimsSet.toString());
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     * @throws JOSEJWTException if an error occurs.
+     */
+    @Benchmark
+    public String receive()
+        throws JOSEJWTException {
+        return tokenReceiver.receive(token, "API_Gateway", "API_Audience");
+    }
+}
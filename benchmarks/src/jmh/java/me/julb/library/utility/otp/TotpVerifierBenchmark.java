@@ -0,0 +1,154 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.otp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dev.samstevens.totp.code.CodeGenerator;
+import dev.samstevens.totp.code.DefaultCodeGenerator;
+import dev.samstevens.totp.code.HashingAlgorithm;
+import dev.samstevens.totp.exceptions.CodeGenerationException;
+import dev.samstevens.totp.time.SystemTimeProvider;
+import dev.samstevens.totp.time.TimeProvider;
+
+/**
+ * Benchmark of the verification of TOTP codes within a window of +/- 1 time period, rotating over 64 secrets.
+ * <P>
+ * The <i>legacy*</i> method reproduces the former verification: a new time provider and code generator per call, the list of every code of the window, and a search
+ * in that list.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TotpVerifierBenchmark {
+
+    /**
+     * The number of secrets.
+     */
+    private static final int SECRETS = 64;
+
+    /**
+     * The secrets.
+     */
+    private String[] secrets;
+
+    /**
+     * The current code of each secret.
+     */
+    private String[] codes;
+
+    /**
+     * The verifier.
+     */
+    private TotpVerifier verifier;
+
+    /**
+     * The index of the next secret.
+     */
+    private int index;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        verifier = new TotpVerifier(1);
+        secrets = new String[SECRETS];
+        codes = new String[SECRETS];
+        for (int i = 0; i < SECRETS; i++) {
+            secrets[i] = TotpUtility.generateRandomTotpSecret();
+            codes[i] = TotpUtility.generateValidTotp(secrets[i]);
+        }
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     * @throws CodeGenerationException if the code cannot be generated.
+     */
+    @Benchmark
+    public boolean legacyGenerateValidTotpsAndContains()
+        throws CodeGenerationException {
+        int i = next();
+        TimeProvider totpTimeProvider = new SystemTimeProvider();
+        CodeGenerator codeGenerator = new DefaultCodeGenerator(HashingAlgorithm.SHA1, 6);
+        long currentBucket = Math.floorDiv(totpTimeProvider.getTime(), 30);
+        List<String> validTotps = new ArrayList<>();
+        for (int j = -1; j <= 1; j++) {
+            validTotps.add(codeGenerator.generate(secrets[i], currentBucket + j));
+        }
+        return validTotps.contains(codes[i]);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public boolean matches() {
+        int i = next();
+        return verifier.matches(secrets[i], codes[i]);
+    }
+
+    /**
+     * Benchmark method, where the same secret is verified repeatedly so that the HMAC key is not reinitialized.
+     * @return the result.
+     */
+    @Benchmark
+    public boolean matchesSameSecret() {
+        return verifier.matches(secrets[0], codes[0]);
+    }
+
+    /**
+     * Benchmark method, where every call after the first one per secret is a rejected replay.
+     * @return the result.
+     */
+    @Benchmark
+    public boolean verify() {
+        int i = next();
+        return verifier.verify(secrets[i], codes[i]);
+    }
+
+    /**
+     * Gets the index of the next secret.
+     * @return the index.
+     */
+    private int next() {
+        int i = index;
+        index = (i + 1) & (SECRETS - 1);
+        return i;
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.localization;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the per-request locale resolution of the {@link LocaleService} class.
+ * <P>
+ * The <i>legacy*</i> method reproduces the former implementation which parsed the language range and looked the supported locales up on
+ * each request.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocaleServiceBenchmark {
+
+    /**
+     * Typical <code>Accept-Language</code> headers.
+     */
+    private static final String[] ACCEPT_LANGUAGES = {"fr-FR,fr;q=0.9,en-US;q=0.8,en;q=0.7", "en-US,en;q=0.9", "en-GB,en;q=0.9,fr;q=0.8", "de-DE,de;q=0.9,en;q=0.8", "es-ES,es;q=0.9",
+        "fr-CA,fr;q=0.9,en-CA;q=0.8,en;q=0.7", "it-IT,it;q=0.9,en-US;q=0.8", "nl-NL,nl;q=0.9,en;q=0.8"};
+
+    /**
+     * The supported locales.
+     */
+    private List<Locale> supportedLocales;
+
+    /**
+     * The default locale.
+     */
+    private Locale defaultLocale;
+
+    /**
+     * The cache.
+     */
+    private LocaleResolutionCache cache;
+
+    /**
+     * The index of the next header.
+     */
+    private int index;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        supportedLocales = List.of(Locale.FRENCH, Locale.ENGLISH, Locale.GERMAN, Locale.forLanguageTag("es"));
+        defaultLocale = Locale.ENGLISH;
+        cache = new LocaleResolutionCache(512);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public Locale resolveLocale() {
+        String acceptLanguage = nextAcceptLanguage();
+        return cache.get(acceptLanguage, supportedLocales, defaultLocale, () -> LocaleService.resolve(acceptLanguage, supportedLocales, defaultLocale));
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public Locale legacyResolveLocale() {
+        return LocaleService.resolve(nextAcceptLanguage(), supportedLocales, defaultLocale);
+    }
+
+    /**
+     * Gets the next header.
+     * @return the next header.
+     */
+    private String nextAcceptLanguage() {
+        index = (index + 1) % ACCEPT_LANGUAGES.length;
+        return ACCEPT_LANGUAGES[index];
+    }
+}
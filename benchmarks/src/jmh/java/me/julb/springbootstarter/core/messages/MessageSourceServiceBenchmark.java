@@ -0,0 +1,165 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.messages;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.StaticMessageSource;
+
+import me.julb.library.utility.constants.Strings;
+import me.julb.springbootstarter.core.context.TrademarkContextHolder;
+
+/**
+ * Benchmark of the resolution of 1,000 message codes across 5 trademarks by the {@link MessageSourceService} class.
+ * <P>
+ * One code out of ten is overridden by each trademark. The <i>legacy*</i> method reproduces the former implementation which caught a
+ * {@link NoSuchMessageException} to fall back to the code itself.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageSourceServiceBenchmark {
+
+    /**
+     * The number of message codes.
+     */
+    private static final int CODES = 1000;
+
+    /**
+     * The number of trademarks.
+     */
+    private static final int TRADEMARKS = 5;
+
+    /**
+     * The arguments of the messages.
+     */
+    private static final Object[] ARGS = {"John"};
+
+    /**
+     * The message codes.
+     */
+    private String[] codes;
+
+    /**
+     * The trademarks.
+     */
+    private String[] trademarks;
+
+    /**
+     * The message source.
+     */
+    private StaticMessageSource messageSource;
+
+    /**
+     * The message source service.
+     */
+    private MessageSourceService messageSourceService;
+
+    /**
+     * The index of the next lookup.
+     */
+    private int index;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        codes = new String[CODES];
+        trademarks = new String[TRADEMARKS];
+        for (int t = 0; t < TRADEMARKS; t++) {
+            trademarks[t] = "tm" + t;
+        }
+
+        messageSource = new StaticMessageSource();
+        for (int c = 0; c < CODES; c++) {
+            codes[c] = "mail.template.line." + c;
+            messageSource.addMessage(codes[c], Locale.ENGLISH, "Hello {0}, this is line " + c + ".");
+            if (c % 10 == 0) {
+                for (String tm : trademarks) {
+                    messageSource.addMessage(StringUtils.join(tm, Strings.DOT, codes[c]), Locale.ENGLISH, "Hello {0}, this is line " + c + " of " + tm + ".");
+                }
+            }
+        }
+
+        messageSourceService = new MessageSourceService(messageSource);
+    }
+
+    /**
+     * Tear down method.
+     */
+    @TearDown
+    public void tearDown() {
+        TrademarkContextHolder.unsetTrademark();
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String getMessage() {
+        String code = nextCode();
+        return messageSourceService.getMessage(code, ARGS, Locale.ENGLISH);
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String legacyGetMessage() {
+        String code = nextCode();
+        try {
+            String tm = TrademarkContextHolder.getTrademark();
+            return messageSource.getMessage(StringUtils.join(tm, Strings.DOT, code), ARGS, Locale.ENGLISH);
+        } catch (NoSuchMessageException e) {
+            return messageSource.getMessage(code, ARGS, Locale.ENGLISH);
+        }
+    }
+
+    /**
+     * Sets the trademark of the next lookup and returns its code.
+     * @return the code.
+     */
+    private String nextCode() {
+        index = (index + 1) % (CODES * TRADEMARKS);
+        TrademarkContextHolder.setTrademark(trademarks[index % TRADEMARKS]);
+        return codes[index / TRADEMARKS];
+    }
+}
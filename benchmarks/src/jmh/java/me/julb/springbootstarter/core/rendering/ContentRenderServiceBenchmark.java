@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.rendering;
+
+import java.util.concurrent.TimeUnit;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import me.julb.library.utility.constants.MediaType;
+
+/**
+ * Benchmark of the Markdown to HTML rendering of the {@link ContentRenderService} class.
+ * <P>
+ * The <i>legacy*</i> method reproduces the former implementation which built a new parser and renderer on each call.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ContentRenderServiceBenchmark {
+
+    /**
+     * The Markdown paragraph repeated to build the documents.
+     */
+    private static final String PARAGRAPH = "## Maintenance\n\nThe **platform** will be unavailable during the _planned maintenance_, see [status](https://status.julb.me).\n\n- item 1\n- item 2\n\n";
+
+    /**
+     * The approximate size of the document in bytes.
+     */
+    @Param({"200", "51200"})
+    private int documentSize;
+
+    /**
+     * The document.
+     */
+    private String document;
+
+    /**
+     * The cache.
+     */
+    private ContentRenderCache cache;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < documentSize) {
+            sb.append(PARAGRAPH);
+        }
+        document = sb.toString();
+        cache = new ContentRenderCache();
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String renderMarkdownToHtml() {
+        return ContentRenderService.renderMarkdownToHtml(document);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String renderMarkdownToHtmlCached() {
+        // A new string instance, as when the content is read again from the database.
+        return cache.get("html", MediaType.TEXT_MARKDOWN, new String(document), ContentRenderService::renderMarkdownToHtml);
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public String legacyRenderMarkdownToHtml() {
+        Parser parser = Parser.builder().build();
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        return renderer.render(parser.parse(document));
+    }
+}
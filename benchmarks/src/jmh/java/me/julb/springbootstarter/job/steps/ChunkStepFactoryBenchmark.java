@@ -0,0 +1,370 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.job.steps;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import me.julb.springbootstarter.job.configurations.JobConfiguration;
+import me.julb.springbootstarter.job.partitioners.KeyRangePartitioner;
+import me.julb.springbootstarter.job.partitioners.TenantPartitioner;
+
+/**
+ * Benchmark of a job copying 1,000,000 synthetic records from a source table to a target table of an embedded H2 store with the steps built by the
+ * {@link ChunkStepFactory} class.
+ * <P>
+ * The score is expressed in items per second. The <i>LEGACY</i> mode reproduces the former behaviour of the jobs: a single-threaded step with chunks and pages of 5
+ * items.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChunkStepFactoryBenchmark {
+
+    /**
+     * The number of records.
+     */
+    private static final int RECORDS = 1_000_000;
+
+    /**
+     * The number of tenants.
+     */
+    private static final int TENANTS = 8;
+
+    /**
+     * The number of threads.
+     */
+    private static final int THREADS = 4;
+
+    /**
+     * The execution mode.
+     */
+    @Param({"LEGACY", "SINGLE_THREADED", "MULTI_THREADED", "PARTITIONED_BY_KEY_RANGE", "PARTITIONED_BY_TENANT"})
+    private String mode;
+
+    /**
+     * The application context.
+     */
+    private AnnotationConfigApplicationContext applicationContext;
+
+    /**
+     * The job launcher.
+     */
+    private JobLauncher jobLauncher;
+
+    /**
+     * The JDBC template.
+     */
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * The job to run.
+     */
+    private Job job;
+
+    /**
+     * The run identifier.
+     */
+    private long runId;
+
+    /**
+     * Creates the store and the job.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        boolean legacy = "LEGACY".equals(mode);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("job.chunk-size", legacy ? 5 : 500);
+        properties.put("job.page-size", legacy ? 5 : 500);
+        properties.put("job.threads", THREADS);
+
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+        applicationContext.register(JobConfiguration.class, ChunkStepFactory.class, BenchmarkJobConfiguration.class);
+        applicationContext.refresh();
+
+        jobLauncher = applicationContext.getBean(JobConfiguration.class).getJobLauncher();
+        jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+
+        //@formatter:off
+        jdbcTemplate.batchUpdate("INSERT INTO SOURCE_RECORD (ID, TENANT, PAYLOAD) VALUES (?, ?, ?)", IntStream.range(0, RECORDS)
+            .mapToObj(i -> new Object[] {i, "tenant-" + (i % TENANTS), "payload-" + i})
+            .collect(Collectors.toList()));
+        //@formatter:on
+
+        ChunkStepFactory chunkStepFactory = applicationContext.getBean(ChunkStepFactory.class);
+        BenchmarkJobConfiguration configuration = applicationContext.getBean(BenchmarkJobConfiguration.class);
+        Step step;
+        switch (mode) {
+            case "MULTI_THREADED":
+                step = chunkStepFactory.multiThreadedStep("copy", configuration.reader(null, null, null), configuration.processor(), configuration.writer());
+                break;
+            case "PARTITIONED_BY_KEY_RANGE":
+                //@formatter:off
+                step = chunkStepFactory.partitionedStep("copy", new KeyRangePartitioner(
+                    () -> jdbcTemplate.queryForObject("SELECT MIN(ID) FROM SOURCE_RECORD", Long.class),
+                    () -> jdbcTemplate.queryForObject("SELECT MAX(ID) FROM SOURCE_RECORD", Long.class)),
+                    chunkStepFactory.singleThreadedStep("copyRange", applicationContext.getBean("rangeReader", JdbcPagingItemReader.class), configuration.processor(), configuration.writer()));
+                //@formatter:on
+                break;
+            case "PARTITIONED_BY_TENANT":
+                //@formatter:off
+                step = chunkStepFactory.partitionedStep("copy", new TenantPartitioner(
+                    () -> jdbcTemplate.queryForList("SELECT DISTINCT TENANT FROM SOURCE_RECORD", String.class)),
+                    chunkStepFactory.singleThreadedStep("copyTenant", applicationContext.getBean("tenantReader", JdbcPagingItemReader.class), configuration.processor(), configuration.writer()));
+                //@formatter:on
+                break;
+            default:
+                step = chunkStepFactory.singleThreadedStep("copy", configuration.reader(null, null, null), configuration.processor(), configuration.writer());
+                break;
+        }
+        job = applicationContext.getBean(JobBuilderFactory.class).get("copy-" + mode).start(step).build();
+    }
+
+    /**
+     * Empties the target table.
+     */
+    @Setup(Level.Invocation)
+    public void clearTarget() {
+        jdbcTemplate.execute("TRUNCATE TABLE TARGET_RECORD");
+    }
+
+    /**
+     * Closes the context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    /**
+     * Benchmark method.
+     * @return the job execution.
+     * @throws Exception if the job cannot be launched.
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public JobExecution run()
+        throws Exception {
+        JobExecution jobExecution = jobLauncher.run(job, new JobParametersBuilder().addLong("run.id", ++runId).toJobParameters());
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException("Job failed: " + jobExecution.getAllFailureExceptions());
+        }
+        return jobExecution;
+    }
+
+    /**
+     * A synthetic record.
+     * @param id the identifier.
+     * @param tenant the tenant.
+     * @param payload the payload.
+     */
+    public record SyntheticRecord(long id, String tenant, String payload) {
+    }
+
+    /**
+     * The store and the readers of the benchmark.
+     */
+    @Configuration
+    public static class BenchmarkJobConfiguration {
+
+        /**
+         * The select clause.
+         */
+        private static final String SELECT_CLAUSE = "ID, TENANT, PAYLOAD";
+
+        /**
+         * The page size.
+         */
+        @Value("${job.page-size}")
+        private int pageSize;
+
+        /**
+         * The embedded store.
+         * @return the data source.
+         */
+        @Bean
+        public DataSource dataSource() {
+            //@formatter:off
+            return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("classpath:org/springframework/batch/core/schema-h2.sql")
+                .addScript("classpath:me/julb/springbootstarter/job/steps/schema-benchmark.sql")
+                .build();
+            //@formatter:on
+        }
+
+        /**
+         * The JDBC template.
+         * @param dataSource the data source.
+         * @return the JDBC template.
+         */
+        @Bean
+        public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        /**
+         * The reader of all the records, or of the records of the current partition when the arguments are set.
+         * @param minKey the lowest key of the partition, or <code>null</code>.
+         * @param maxKey the highest key of the partition, or <code>null</code>.
+         * @param tenant the tenant of the partition, or <code>null</code>.
+         * @return the reader.
+         */
+        public JdbcPagingItemReader<SyntheticRecord> reader(Long minKey, Long maxKey, String tenant) {
+            Map<String, Object> parameterValues = new HashMap<>();
+            Map<String, Order> sortKeys = new LinkedHashMap<>();
+            StringBuilder whereClause = new StringBuilder("1 = 1");
+            if (minKey != null) {
+                whereClause.append(" AND ID BETWEEN :minKey AND :maxKey");
+                parameterValues.put(KeyRangePartitioner.MIN_KEY, minKey);
+                parameterValues.put(KeyRangePartitioner.MAX_KEY, maxKey);
+            }
+            if (tenant != null) {
+                whereClause.append(" AND TENANT = :tenant");
+                parameterValues.put(TenantPartitioner.TENANT, tenant);
+
+                // Sort on the whole index so that the pages are read from it without sorting the tenant records.
+                sortKeys.put("TENANT", Order.ASCENDING);
+            }
+            sortKeys.put("ID", Order.ASCENDING);
+
+            JdbcPagingItemReader<SyntheticRecord> reader;
+            try {
+                //@formatter:off
+                reader = new JdbcPagingItemReaderBuilder<SyntheticRecord>()
+                    .name("sourceRecordReader")
+                    .dataSource(dataSource())
+                    .selectClause(SELECT_CLAUSE)
+                    .fromClause("SOURCE_RECORD")
+                    .whereClause(whereClause.toString())
+                    .sortKeys(sortKeys)
+                    .parameterValues(parameterValues)
+                    .pageSize(pageSize)
+                    .rowMapper((rs, i) -> new SyntheticRecord(rs.getLong(1), rs.getString(2), rs.getString(3)))
+                    .build();
+                //@formatter:on
+                reader.afterPropertiesSet();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return reader;
+        }
+
+        /**
+         * The reader of a key range partition.
+         * @param minKey the lowest key of the partition.
+         * @param maxKey the highest key of the partition.
+         * @return the reader.
+         */
+        @Bean
+        @StepScope
+        public JdbcPagingItemReader<SyntheticRecord> rangeReader(@Value("#{stepExecutionContext['minKey']}") Long minKey, @Value("#{stepExecutionContext['maxKey']}") Long maxKey) {
+            return reader(minKey, maxKey, null);
+        }
+
+        /**
+         * The reader of a tenant partition.
+         * @param tenant the tenant of the partition.
+         * @return the reader.
+         */
+        @Bean
+        @StepScope
+        public JdbcPagingItemReader<SyntheticRecord> tenantReader(@Value("#{stepExecutionContext['tenant']}") String tenant) {
+            return reader(null, null, tenant);
+        }
+
+        /**
+         * The processor.
+         * @return the processor.
+         */
+        public ItemProcessor<SyntheticRecord, SyntheticRecord> processor() {
+            return item -> new SyntheticRecord(item.id(), item.tenant(), item.payload().toUpperCase());
+        }
+
+        /**
+         * The writer.
+         * @return the writer.
+         */
+        public JdbcBatchItemWriter<SyntheticRecord> writer() {
+            //@formatter:off
+            JdbcBatchItemWriter<SyntheticRecord> writer = new JdbcBatchItemWriterBuilder<SyntheticRecord>()
+                .dataSource(dataSource())
+                .sql("INSERT INTO TARGET_RECORD (ID, TENANT, PAYLOAD) VALUES (?, ?, ?)")
+                .itemPreparedStatementSetter((item, ps) -> {
+                    ps.setLong(1, item.id());
+                    ps.setString(2, item.tenant());
+                    ps.setString(3, item.payload());
+                })
+                .build();
+            //@formatter:on
+            writer.afterPropertiesSet();
+            return writer;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.messaging.configurations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.integration.IntegrationAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.function.context.config.ContextFunctionCatalogAutoConfiguration;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.cloud.stream.config.BindingServiceConfiguration;
+import org.springframework.cloud.stream.function.FunctionConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.integration.amqp.inbound.AmqpInboundChannelAdapter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import me.julb.library.dto.messaging.message.AsyncMessageDTO;
+import me.julb.library.utility.constants.CustomMessagingHeaders;
+
+/**
+ * Benchmark draining 100,000 async messages through the test binder into a consumer built on {@link AbstractAsyncConsumerConfiguration}.
+ * <P>
+ * Each invocation of the downstream service, i.e. one per message or one per batch, waits for a simulated round-trip of 200 microseconds, as sending a mail or
+ * pushing metrics does. The concurrency is the number of threads delivering messages to the binding, as the consumers of a listener container do. The score is
+ * expressed in messages per second. The former setting of the workers is a concurrency of 3 with a batch size of 1.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AsyncConsumerBenchmark {
+
+    /**
+     * The number of messages.
+     */
+    private static final int MESSAGES = 100_000;
+
+    /**
+     * The simulated round-trip to the downstream service.
+     */
+    private static final long ROUND_TRIP_IN_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    /**
+     * The number of consumers.
+     */
+    @Param({"1", "3", "12"})
+    private int concurrency;
+
+    /**
+     * The number of messages per invocation of the consumer.
+     */
+    @Param({"1", "50"})
+    private int batchSize;
+
+    /**
+     * The application context.
+     */
+    private ConfigurableApplicationContext applicationContext;
+
+    /**
+     * The input destination.
+     */
+    private InputDestination input;
+
+    /**
+     * The consumers.
+     */
+    private ExecutorService consumers;
+
+    /**
+     * The messages to deliver, by batch.
+     */
+    private List<Message<?>> batches;
+
+    /**
+     * Starts the application and builds the messages.
+     */
+    @Setup
+    public void setup() {
+        boolean batchMode = batchSize > 1;
+        //@formatter:off
+        applicationContext = new SpringApplicationBuilder(BenchmarkApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(Map.of(
+                "spring.cloud.function.definition", "work",
+                "spring.cloud.stream.bindings.work-in-0.destination", "E.main",
+                "spring.cloud.stream.bindings.work-in-0.consumer.batch-mode", String.valueOf(batchMode),
+                "spring.main.banner-mode", "off"))
+            .run();
+        //@formatter:on
+        input = applicationContext.getBean(InputDestination.class);
+        consumers = Executors.newFixedThreadPool(concurrency);
+
+        batches = new ArrayList<>();
+        for (int start = 0; start < MESSAGES; start += batchSize) {
+            List<byte[]> payloads = new ArrayList<>();
+            List<Map<String, Object>> batchedHeaders = new ArrayList<>();
+            for (int i = start; i < Math.min(start + batchSize, MESSAGES); i++) {
+                payloads.add(("{\"id\":\"" + i + "\",\"version\":1,\"timestamp\":\"2021-01-01T00:00:00.000Z\",\"body\":\"message-" + i + "\"}").getBytes(StandardCharsets.UTF_8));
+                batchedHeaders.add(Map.of(CustomMessagingHeaders.X_JULB_TM, "julb", MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON_VALUE));
+            }
+            if (batchMode) {
+                //@formatter:off
+                batches.add(MessageBuilder.withPayload(payloads)
+                    .setHeader(AmqpInboundChannelAdapter.CONSOLIDATED_HEADERS, batchedHeaders)
+                    .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON_VALUE)
+                    .build());
+                //@formatter:on
+            } else {
+                //@formatter:off
+                batches.add(MessageBuilder.withPayload(payloads.get(0))
+                    .setHeader(CustomMessagingHeaders.X_JULB_TM, "julb")
+                    .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON_VALUE)
+                    .build());
+                //@formatter:on
+            }
+        }
+    }
+
+    /**
+     * Stops the application.
+     */
+    @TearDown
+    public void tearDown() {
+        consumers.shutdownNow();
+        applicationContext.close();
+    }
+
+    /**
+     * Benchmark method.
+     * @return the number of messages consumed.
+     * @throws Exception if the delivery fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long drain()
+        throws Exception {
+        LongAdder consumed = applicationContext.getBean(LongAdder.class);
+        consumed.reset();
+
+        AtomicInteger next = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(consumers.submit(() -> {
+                for (int batch = next.getAndIncrement(); batch < batches.size(); batch = next.getAndIncrement()) {
+                    input.send(batches.get(batch), "E.main");
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        if (consumed.sum() != MESSAGES) {
+            throw new IllegalStateException("Consumed " + consumed.sum() + " messages instead of " + MESSAGES + ".");
+        }
+        return consumed.sum();
+    }
+
+    /**
+     * The benchmarked application.
+     * <br>
+     * @author Julb.
+     */
+    @SpringBootConfiguration
+    //@formatter:off
+    @ImportAutoConfiguration({
+        PropertyPlaceholderAutoConfiguration.class,
+        ConfigurationPropertiesAutoConfiguration.class,
+        JacksonAutoConfiguration.class,
+        IntegrationAutoConfiguration.class,
+        ContextFunctionCatalogAutoConfiguration.class,
+        BindingServiceConfiguration.class,
+        FunctionConfiguration.class
+    })
+    //@formatter:on
+    @Import({TestChannelBinderConfiguration.class, AsyncMessagingConsumerConfiguration.class})
+    static class BenchmarkApplication extends AbstractAsyncConsumerConfiguration {
+
+        /**
+         * The property enabling the batch mode on the binding.
+         */
+        private static final String BATCH_MODE_PROPERTY = "spring.cloud.stream.bindings.work-in-0.consumer.batch-mode";
+
+        /**
+         * The number of messages consumed.
+         * @return the counter.
+         */
+        @Bean
+        public LongAdder consumed() {
+            return new LongAdder();
+        }
+
+        /**
+         * Consumer for messages.
+         * @param consumed the number of messages consumed.
+         * @return a function to consume messages.
+         */
+        @Bean
+        @ConditionalOnProperty(name = BATCH_MODE_PROPERTY, havingValue = "false", matchIfMissing = true)
+        public Consumer<Message<AsyncMessageDTO<String>>> work(LongAdder consumed) {
+            return message -> {
+                onReceiveStart(message);
+                roundTrip(consumed, List.of(message.getPayload().getBody()));
+                onReceiveEnd(message);
+            };
+        }
+
+        /**
+         * Consumer for batches of messages.
+         * @param consumed the number of messages consumed.
+         * @return a function to consume batches of messages.
+         */
+        @Bean(name = "work")
+        @ConditionalOnProperty(name = BATCH_MODE_PROPERTY, havingValue = "true")
+        public Consumer<Message<List<AsyncMessageDTO<String>>>> workBatch(LongAdder consumed) {
+            return messages -> onReceiveBatch(messages, run -> roundTrip(consumed, run));
+        }
+
+        /**
+         * Simulates the call to the downstream service.
+         * @param consumed the number of messages consumed.
+         * @param bodies the bodies sent.
+         */
+        private static void roundTrip(LongAdder consumed, List<?> bodies) {
+            LockSupport.parkNanos(ROUND_TRIP_IN_NANOS);
+            consumed.add(bodies.size());
+        }
+    }
+}
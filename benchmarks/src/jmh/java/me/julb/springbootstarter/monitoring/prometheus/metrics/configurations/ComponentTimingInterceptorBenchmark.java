@@ -0,0 +1,248 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.monitoring.prometheus.metrics.configurations;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import me.julb.springbootstarter.core.context.TrademarkContextHolder;
+import me.julb.springbootstarter.monitoring.prometheus.metrics.configurations.beans.ComponentTimingProperties;
+
+/**
+ * Benchmark of the overhead of the {@link ComponentTimingInterceptor} class on the calls to a service and a repository.
+ * <P>
+ * The <i>proxied</i> method measures a proxy with a pass-through interceptor: the difference with the <i>timed*</i> methods is the cost of
+ * the timing itself.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComponentTimingInterceptorBenchmark {
+
+    /**
+     * The base package.
+     */
+    private static final String BASE_PACKAGE = "me.julb";
+
+    /**
+     * The service.
+     */
+    private BenchmarkServiceImpl service;
+
+    /**
+     * The service behind a pass-through interceptor.
+     */
+    private BenchmarkServiceImpl proxiedService;
+
+    /**
+     * The timed service.
+     */
+    private BenchmarkServiceImpl timedService;
+
+    /**
+     * The timed service, without histogram.
+     */
+    private BenchmarkServiceImpl timedWithoutHistogramService;
+
+    /**
+     * The timed service, with one call out of ten timed.
+     */
+    private BenchmarkServiceImpl sampledService;
+
+    /**
+     * The timed repository.
+     */
+    private BenchmarkRepository timedRepository;
+
+    /**
+     * The argument of the calls.
+     */
+    private int value;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        TrademarkContextHolder.setTrademark("tm0");
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        ComponentTimingProperties timingProperties = new ComponentTimingProperties();
+        ComponentTimingProperties sampledTimingProperties = new ComponentTimingProperties();
+        sampledTimingProperties.setSamplingRate(0.1);
+        ComponentTimingProperties withoutHistogramTimingProperties = new ComponentTimingProperties();
+        withoutHistogramTimingProperties.setPercentileHistogram(false);
+        PrometheusMeterRegistry withoutHistogramMeterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        ComponentTimingPointcut pointcut = new ComponentTimingPointcut(BASE_PACKAGE);
+
+        service = new BenchmarkServiceImpl();
+        proxiedService = proxy(service, new DefaultPointcutAdvisor(pointcut, (MethodInterceptor) invocation -> invocation.proceed()));
+        timedService = proxy(service, new DefaultPointcutAdvisor(pointcut, new ComponentTimingInterceptor(() -> meterRegistry, pointcut, timingProperties)));
+        timedWithoutHistogramService = proxy(service, new DefaultPointcutAdvisor(pointcut, new ComponentTimingInterceptor(() -> withoutHistogramMeterRegistry, pointcut, withoutHistogramTimingProperties)));
+        sampledService = proxy(service, new DefaultPointcutAdvisor(pointcut, new ComponentTimingInterceptor(() -> meterRegistry, pointcut, sampledTimingProperties)));
+
+        ProxyFactory repositoryProxyFactory = new ProxyFactory(new BenchmarkRepositoryImpl());
+        repositoryProxyFactory.addInterface(BenchmarkRepository.class);
+        repositoryProxyFactory.addAdvisor(new DefaultPointcutAdvisor(pointcut, new ComponentTimingInterceptor(() -> meterRegistry, pointcut, timingProperties)));
+        timedRepository = (BenchmarkRepository) repositoryProxyFactory.getProxy();
+    }
+
+    /**
+     * Tear down method.
+     */
+    @TearDown
+    public void tearDown() {
+        TrademarkContextHolder.unsetTrademark();
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public int direct() {
+        return service.compute(value++);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public int proxied() {
+        return proxiedService.compute(value++);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public int timed() {
+        return timedService.compute(value++);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public int timedWithoutHistogram() {
+        return timedWithoutHistogramService.compute(value++);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public int timedSampled() {
+        return sampledService.compute(value++);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public int timedRepository() {
+        return timedRepository.compute(value++);
+    }
+
+    /**
+     * Creates a class proxy, as done for the services.
+     * @param target the target.
+     * @param advisor the advisor.
+     * @return the proxy.
+     */
+    private static BenchmarkServiceImpl proxy(BenchmarkServiceImpl target, DefaultPointcutAdvisor advisor) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(advisor);
+        return (BenchmarkServiceImpl) proxyFactory.getProxy();
+    }
+
+    /**
+     * The benchmark service.
+     * <br>
+     * @author Julb.
+     */
+    public static class BenchmarkServiceImpl {
+
+        /**
+         * Computes a value.
+         * @param value the value.
+         * @return the result.
+         */
+        public int compute(int value) {
+            return Integer.rotateLeft(value, 3) ^ 0x5bd1e995;
+        }
+    }
+
+    /**
+     * The benchmark repository.
+     * <br>
+     * @author Julb.
+     */
+    public interface BenchmarkRepository {
+
+        /**
+         * Computes a value.
+         * @param value the value.
+         * @return the result.
+         */
+        int compute(int value);
+    }
+
+    /**
+     * The benchmark repository implementation, standing for the store-specific repository.
+     * <br>
+     * @author Julb.
+     */
+    public static class BenchmarkRepositoryImpl implements BenchmarkRepository {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compute(int value) {
+            return Integer.rotateLeft(value, 3) ^ 0x5bd1e995;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.persistence.jpa.specifications;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import me.julb.library.utility.constants.Chars;
+import me.julb.library.utility.constants.Strings;
+import me.julb.library.utility.data.search.SearchRequest;
+import me.julb.library.utility.data.search.Searchable;
+import me.julb.library.utility.data.search.predicates.SearchPredicate;
+import me.julb.library.utility.data.search.predicates.attributes.AbstractAttributePredicate;
+import me.julb.library.utility.data.search.predicates.attributes.MultipleValuesAttributePredicate;
+import me.julb.library.utility.data.search.predicates.attributes.OperatorAttributePredicate;
+import me.julb.library.utility.data.search.predicates.attributes.SingleValueAttributePredicate;
+import me.julb.library.utility.data.search.predicates.joins.AbstractJoinPredicate;
+import me.julb.library.utility.data.search.predicates.joins.AndPredicate;
+import me.julb.springbootstarter.persistence.core.specifications.AbstractSearchSpecification;
+
+/**
+ * Benchmark of the criteria built by the {@link SearchSpecification} class for a H2 entity, with 5, 20 and 50 predicates.
+ * <P>
+ * The <i>legacy*</i> method reproduces the former implementation which split the attribute names, converted the values and built the like
+ * patterns on each query. The <i>toPredicate</i> method uses a new specification for each query, and <i>toPredicateWithCompiledPlan</i>
+ * reuses one, as the count and content queries of a page do.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchSpecificationBenchmark {
+
+    /**
+     * The number of predicates.
+     */
+    @Param({"5", "20", "50"})
+    private int predicates;
+
+    /**
+     * The session factory.
+     */
+    private SessionFactory sessionFactory;
+
+    /**
+     * The criteria builder.
+     */
+    private CriteriaBuilder criteriaBuilder;
+
+    /**
+     * The searchable.
+     */
+    private Searchable searchable;
+
+    /**
+     * The specification reused by each query.
+     */
+    private SearchSpecification<BenchmarkEntity> compiledSpecification;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        //@formatter:off
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(BenchmarkEntity.class)
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:search-specification-benchmark")
+            .setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .buildSessionFactory();
+        //@formatter:on
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+
+        AndPredicate and = new AndPredicate();
+        for (int i = 0; i < predicates; i++) {
+            switch (i % 5) {
+                case 0:
+                    and.addPredicate(singleValue("name", OperatorAttributePredicate.LIKE, "Name" + i));
+                    break;
+                case 1:
+                    and.addPredicate(singleValue("code", OperatorAttributePredicate.EQUAL, "CODE-" + i));
+                    break;
+                case 2:
+                    and.addPredicate(singleValue("amount", OperatorAttributePredicate.GREATER_THAN, String.valueOf(i * 100)));
+                    break;
+                case 3:
+                    MultipleValuesAttributePredicate in = new MultipleValuesAttributePredicate();
+                    in.setName("status");
+                    in.setOperator(OperatorAttributePredicate.IN);
+                    in.setValue(new String[] {"ACTIVE", "SUSPENDED"});
+                    and.addPredicate(in);
+                    break;
+                default:
+                    and.addPredicate(singleValue("address.city", OperatorAttributePredicate.STARTS_WITH, "City" + i));
+                    break;
+            }
+        }
+        searchable = new SearchRequest(and);
+        compiledSpecification = new SearchSpecification<>(searchable);
+    }
+
+    /**
+     * Tear down method.
+     */
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public CriteriaQuery<BenchmarkEntity> toPredicate() {
+        return query(new SearchSpecification<>(searchable));
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public CriteriaQuery<BenchmarkEntity> toPredicateWithCompiledPlan() {
+        return query(compiledSpecification);
+    }
+
+    /**
+     * Legacy benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public CriteriaQuery<BenchmarkEntity> legacyToPredicate() {
+        CriteriaQuery<BenchmarkEntity> query = criteriaBuilder.createQuery(BenchmarkEntity.class);
+        Root<BenchmarkEntity> root = query.from(BenchmarkEntity.class);
+        return query.where(new LegacySearchSpecification<BenchmarkEntity>(searchable).toPredicate(root, criteriaBuilder));
+    }
+
+    /**
+     * Builds a query with the given specification.
+     * @param specification the specification.
+     * @return the query.
+     */
+    private CriteriaQuery<BenchmarkEntity> query(SearchSpecification<BenchmarkEntity> specification) {
+        CriteriaQuery<BenchmarkEntity> query = criteriaBuilder.createQuery(BenchmarkEntity.class);
+        Root<BenchmarkEntity> root = query.from(BenchmarkEntity.class);
+        return query.where(specification.toPredicate(root, query, criteriaBuilder));
+    }
+
+    /**
+     * Creates a single value predicate.
+     * @param name the attribute name.
+     * @param operator the operator.
+     * @param value the value.
+     * @return the predicate.
+     */
+    private static SingleValueAttributePredicate singleValue(String name, OperatorAttributePredicate operator, String value) {
+        SingleValueAttributePredicate predicate = new SingleValueAttributePredicate();
+        predicate.setName(name);
+        predicate.setOperator(operator);
+        predicate.setValue(value);
+        return predicate;
+    }
+
+    /**
+     * The benchmark entity.
+     * <br>
+     * @author Julb.
+     */
+    @Entity
+    public static class BenchmarkEntity {
+
+        /**
+         * The id.
+         */
+        @Id
+        private String id;
+
+        /**
+         * The name.
+         */
+        private String name;
+
+        /**
+         * The code.
+         */
+        private String code;
+
+        /**
+         * The amount.
+         */
+        private Long amount;
+
+        /**
+         * The status.
+         */
+        @Enumerated(EnumType.STRING)
+        private BenchmarkStatus status;
+
+        /**
+         * The address.
+         */
+        @Embedded
+        private BenchmarkAddress address;
+    }
+
+    /**
+     * The benchmark address.
+     * <br>
+     * @author Julb.
+     */
+    @Embeddable
+    public static class BenchmarkAddress {
+
+        /**
+         * The city.
+         */
+        private String city;
+    }
+
+    /**
+     * The benchmark status.
+     * <br>
+     * @author Julb.
+     */
+    public enum BenchmarkStatus {
+        /**
+         * Active.
+         */
+        ACTIVE,
+
+        /**
+         * Suspended.
+         */
+        SUSPENDED;
+    }
+
+    /**
+     * The former search specification, limited to the operators of this benchmark.
+     * <br>
+     * @author Julb.
+     */
+    private static final class LegacySearchSpecification<T> extends AbstractSearchSpecification<T> {
+
+        /**
+         * Constructor.
+         * @param searchable the searcheable information.
+         */
+        LegacySearchSpecification(Searchable searchable) {
+            super(searchable);
+        }
+
+        /**
+         * Creates the predicates to filter the search.
+         * @param root the root.
+         * @param criteriaBuilder the criteria builder.
+         * @return the JPA predicates.
+         */
+        Predicate toPredicate(Root<T> root, CriteriaBuilder criteriaBuilder) {
+            List<Predicate> jpaPredicates = new ArrayList<>();
+            for (SearchPredicate predicate : ((AbstractJoinPredicate) searchable.getSearchPredicate()).getPredicates()) {
+                jpaPredicates.add(attributeToJpaPredicate((AbstractAttributePredicate) predicate, criteriaBuilder, root));
+            }
+            return criteriaBuilder.and(jpaPredicates.toArray(new Predicate[0]));
+        }
+
+        /**
+         * Creates the predicates to filter the search.
+         * @param attributePredicate the attribute predicate.
+         * @param criteriaBuilder the criteria builder.
+         * @param from the from criteria.
+         * @return the JPA predicates.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Predicate attributeToJpaPredicate(AbstractAttributePredicate attributePredicate, CriteriaBuilder criteriaBuilder, Root<T> from) {
+            String[] fields = StringUtils.split(attributePredicate.getName(), Chars.DOT);
+            Path field = from.get(fields[0]);
+            for (int i = 1; i < fields.length; i++) {
+                field = field.get(fields[i]);
+            }
+
+            Object convertedValue = convertAttributePredicateValue(attributePredicate, field.getJavaType());
+            switch (attributePredicate.getOperator()) {
+                case EQUAL:
+                    return criteriaBuilder.equal(field, convertedValue);
+                case LIKE:
+                    return criteriaBuilder.like(criteriaBuilder.lower(field), StringUtils.join(Strings.PERCENT, StringUtils.lowerCase(convertedValue.toString()), Strings.PERCENT));
+                case STARTS_WITH:
+                    return criteriaBuilder.like(criteriaBuilder.lower(field), StringUtils.join(StringUtils.lowerCase(convertedValue.toString()), Strings.PERCENT));
+                case GREATER_THAN:
+                    return criteriaBuilder.greaterThan(field, (Comparable) convertedValue);
+                case IN:
+                    return field.in((Collection) convertedValue);
+                default:
+                    return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.persistence.mongodb.specifications;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import me.julb.library.utility.data.search.SearchRequest;
+import me.julb.library.utility.data.search.Searchable;
+import me.julb.library.utility.data.search.predicates.attributes.MultipleValuesAttributePredicate;
+import me.julb.library.utility.data.search.predicates.attributes.OperatorAttributePredicate;
+import me.julb.library.utility.data.search.predicates.attributes.SingleValueAttributePredicate;
+import me.julb.library.utility.data.search.predicates.joins.AndPredicate;
+
+/**
+ * Benchmark of the criteria built by the MongoDB {@link SearchSpecification} class, with 5, 20 and 50 predicates.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MongoSearchSpecificationBenchmark {
+
+    /**
+     * The number of predicates.
+     */
+    @Param({"5", "20", "50"})
+    private int predicates;
+
+    /**
+     * The searchable.
+     */
+    private Searchable searchable;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        AndPredicate and = new AndPredicate();
+        for (int i = 0; i < predicates; i++) {
+            switch (i % 5) {
+                case 0:
+                    and.addPredicate(singleValue("name", OperatorAttributePredicate.LIKE, "Name" + i));
+                    break;
+                case 1:
+                    and.addPredicate(singleValue("code", OperatorAttributePredicate.EQUAL, "CODE-" + i));
+                    break;
+                case 2:
+                    and.addPredicate(singleValue("amount", OperatorAttributePredicate.GREATER_THAN, String.valueOf(i * 100)));
+                    break;
+                case 3:
+                    MultipleValuesAttributePredicate in = new MultipleValuesAttributePredicate();
+                    in.setName("status");
+                    in.setOperator(OperatorAttributePredicate.IN);
+                    in.setValue(new String[] {"ACTIVE", "SUSPENDED"});
+                    and.addPredicate(in);
+                    break;
+                default:
+                    and.addPredicate(singleValue("address.city", OperatorAttributePredicate.STARTS_WITH, "City" + i));
+                    break;
+            }
+        }
+        searchable = new SearchRequest(and);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     */
+    @Benchmark
+    public Optional<Criteria> toCriteria() {
+        return new SearchSpecification<BenchmarkDocument>(searchable).toCriteria(BenchmarkDocument.class);
+    }
+
+    /**
+     * Creates a single value predicate.
+     * @param name the attribute name.
+     * @param operator the operator.
+     * @param value the value.
+     * @return the predicate.
+     */
+    private static SingleValueAttributePredicate singleValue(String name, OperatorAttributePredicate operator, String value) {
+        SingleValueAttributePredicate predicate = new SingleValueAttributePredicate();
+        predicate.setName(name);
+        predicate.setOperator(operator);
+        predicate.setValue(value);
+        return predicate;
+    }
+
+    /**
+     * The benchmark document.
+     * <br>
+     * @author Julb.
+     */
+    public static class BenchmarkDocument {
+
+        /**
+         * The name.
+         */
+        private String name;
+
+        /**
+         * The code.
+         */
+        private String code;
+
+        /**
+         * The amount.
+         */
+        private Long amount;
+
+        /**
+         * The status.
+         */
+        private BenchmarkStatus status;
+
+        /**
+         * The address.
+         */
+        private BenchmarkAddress address;
+    }
+
+    /**
+     * The benchmark address.
+     * <br>
+     * @author Julb.
+     */
+    public static class BenchmarkAddress {
+
+        /**
+         * The city.
+         */
+        private String city;
+    }
+
+    /**
+     * The benchmark status.
+     * <br>
+     * @author Julb.
+     */
+    public enum BenchmarkStatus {
+        /**
+         * Active.
+         */
+        ACTIVE,
+
+        /**
+         * Suspended.
+         */
+        SUSPENDED;
+    }
+}
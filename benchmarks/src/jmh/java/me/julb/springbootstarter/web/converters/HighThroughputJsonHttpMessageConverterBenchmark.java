@@ -0,0 +1,263 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.web.converters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import me.julb.applications.urlshortener.services.dto.LinkDTO;
+import me.julb.applications.webnotification.services.dto.WebNotificationDTO;
+import me.julb.library.dto.notification.events.NotificationBusinessCategory;
+import me.julb.library.dto.notification.events.NotificationKind;
+import me.julb.library.dto.notification.events.WebNotificationPriority;
+import me.julb.library.dto.simple.user.UserRefDTO;
+
+/**
+ * Benchmark of the serialization of pages by the {@link HighThroughputJsonHttpMessageConverter} class.
+ * <br>
+ * @author Julb.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HighThroughputJsonHttpMessageConverterBenchmark {
+
+    /**
+     * The type of DTO in the page.
+     */
+    @Param({"link", "webNotification"})
+    private String dto;
+
+    /**
+     * The number of elements in the page.
+     */
+    @Param({"1000"})
+    private int size;
+
+    /**
+     * The page to write.
+     */
+    private Page<?> page;
+
+    /**
+     * The default converter.
+     */
+    private MappingJackson2HttpMessageConverter defaultConverter;
+
+    /**
+     * The high-throughput converter reading the properties through reflection.
+     */
+    private MappingJackson2HttpMessageConverter reflectiveConverter;
+
+    /**
+     * The high-throughput converter reading the properties through generated accessors.
+     */
+    private MappingJackson2HttpMessageConverter lambdaConverter;
+
+    /**
+     * The output message, reused across the invocations.
+     */
+    private ReusableHttpOutputMessage outputMessage;
+
+    /**
+     * Setup method.
+     */
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        defaultConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        reflectiveConverter = new HighThroughputJsonHttpMessageConverter(objectMapper.copy());
+        lambdaConverter = new HighThroughputJsonHttpMessageConverter(objectMapper.copy().registerModule(new LambdaAccessorModule()));
+        outputMessage = new ReusableHttpOutputMessage();
+
+        List<Object> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add("link".equals(dto) ? link(i) : webNotification(i));
+        }
+        page = new PageImpl<>(content, PageRequest.of(3, size, Sort.by("createdAt").descending()), 100_000);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     * @throws IOException if an error occurs.
+     */
+    @Benchmark
+    public int defaultConverter()
+        throws IOException {
+        return write(defaultConverter);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     * @throws IOException if an error occurs.
+     */
+    @Benchmark
+    public int highThroughputConverter()
+        throws IOException {
+        return write(lambdaConverter);
+    }
+
+    /**
+     * Benchmark method.
+     * @return the result.
+     * @throws IOException if an error occurs.
+     */
+    @Benchmark
+    public int highThroughputConverterWithReflectiveAccessors()
+        throws IOException {
+        return write(reflectiveConverter);
+    }
+
+    /**
+     * Writes the page with the given converter.
+     * @param converter the converter.
+     * @return the number of bytes written.
+     * @throws IOException if an error occurs.
+     */
+    private int write(MappingJackson2HttpMessageConverter converter)
+        throws IOException {
+        outputMessage.body.reset();
+        converter.write(page, Page.class, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.body.size();
+    }
+
+    /**
+     * Builds a link.
+     * @param i the index of the link.
+     * @return the link.
+     */
+    private static LinkDTO link(int i) {
+        LinkDTO link = new LinkDTO();
+        link.setId("61a4f0c2e4b0a1b2c3d4" + String.format("%04d", i));
+        link.setHost("julb.me");
+        link.setUri("l" + i);
+        link.setUrl("https://julb.me/l" + i);
+        link.setTargetUrl("https://www.example.com/articles/" + i + "?utm_source=newsletter&utm_medium=email");
+        link.setEnabled(Boolean.TRUE);
+        link.setHits(i * 17);
+        link.setUser(user(i));
+        link.setTags(new TreeSet<>(List.of("newsletter", "2021", "tag-" + (i % 10))));
+        link.setCreatedAt("2021-11-29T10:15:30.000Z");
+        link.setLastUpdatedAt("2021-11-30T08:00:00.000Z");
+        return link;
+    }
+
+    /**
+     * Builds a web notification.
+     * @param i the index of the web notification.
+     * @return the web notification.
+     */
+    private static WebNotificationDTO webNotification(int i) {
+        WebNotificationDTO webNotification = new WebNotificationDTO();
+        webNotification.setId("61a4f0c2e4b0a1b2c3d4" + String.format("%04d", i));
+        webNotification.setExpiryDateTime("2021-12-31T23:59:59.000Z");
+        webNotification.setPriority(WebNotificationPriority.values()[i % WebNotificationPriority.values().length]);
+        webNotification.setKind(NotificationKind.values()[i % NotificationKind.values().length]);
+        webNotification.setBusinessCategory(NotificationBusinessCategory.values()[i % NotificationBusinessCategory.values().length]);
+        webNotification.setParameters(Map.of("user", user(i), "count", i, "url", "https://julb.me/notifications/" + i));
+        webNotification.setRead(i % 3 == 0);
+        webNotification.setCreatedAt("2021-11-29T10:15:30.000Z");
+        webNotification.setLastUpdatedAt("2021-11-30T08:00:00.000Z");
+        return webNotification;
+    }
+
+    /**
+     * Builds a user.
+     * @param i the index of the user.
+     * @return the user.
+     */
+    private static UserRefDTO user(int i) {
+        UserRefDTO user = new UserRefDTO();
+        user.setId("user-" + i);
+        user.setFirstName("John");
+        user.setLastName("Doe " + i);
+        user.setMail("john.doe." + i + "@julb.me");
+        user.setDisplayName("John Doe " + i);
+        user.setLocale(Locale.FRANCE);
+        return user;
+    }
+
+    /**
+     * An output message whose body is kept across the invocations.
+     * <br>
+     * @author Julb.
+     */
+    private static class ReusableHttpOutputMessage implements HttpOutputMessage {
+
+        /**
+         * The headers.
+         */
+        private final HttpHeaders headers = new HttpHeaders();
+
+        /**
+         * The body.
+         */
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1 << 20);
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,3 @@
+CREATE TABLE SOURCE_RECORD (ID BIGINT PRIMARY KEY, TENANT VARCHAR(32) NOT NULL, PAYLOAD VARCHAR(64) NOT NULL);
+CREATE INDEX SOURCE_RECORD_TENANT_ID ON SOURCE_RECORD (TENANT, ID);
+CREATE TABLE TARGET_RECORD (ID BIGINT PRIMARY KEY, TENANT VARCHAR(32) NOT NULL, PAYLOAD VARCHAR(64) NOT NULL);
@@ -48,6 +48,8 @@ import me.julb.applications.dataprocessing.services.processors.SimpleTasklet;
 import me.julb.applications.dataprocessing.services.processors.StringItemReader;
 import me.julb.applications.dataprocessing.services.processors.StringItemWriter;
 import me.julb.applications.dataprocessing.services.processors.StringToUpperCaseProcessor;
+import me.julb.springbootstarter.job.configurations.beans.JobProperties;
+import me.julb.springbootstarter.job.steps.ChunkStepFactory;
 
 /**
  * The local configuration.
@@ -75,6 +77,18 @@ public class CustomConfiguration {
     @Autowired
     public TaskExecutor taskExecutor;
 
+    /**
+     * The factory to build chunk-oriented steps.
+     */
+    @Autowired
+    public ChunkStepFactory chunkStepFactory;
+
+    /**
+     * The job properties.
+     */
+    @Autowired
+    public JobProperties jobProperties;
+
     /**
      * The job execution listener.
      * @return the job execution listener.
@@ -90,7 +104,9 @@ public class CustomConfiguration {
      */
     @Bean
     public ItemReader<String> itemReader() {
-        return new StringItemReader();
+        StringItemReader itemReader = new StringItemReader();
+        itemReader.setPageSize(jobProperties.getPageSize());
+        return itemReader;
     }
 
     /**
@@ -126,14 +142,7 @@ public class CustomConfiguration {
      */
     @Bean
     public Step dataProcessingStep() {
-        //@formatter:off
-        return this.stepBuilderFactory.get("dataProcessing")
-                    .<String, String>chunk(5)
-                    .reader(itemReader())
-                    .processor(itemProcessor())
-                    .writer(itemWriter())
-                    .build();
-        //@formatter:on
+        return this.chunkStepFactory.multiThreadedStep("dataProcessing", itemReader(), itemProcessor(), itemWriter());
     }
 
     /**
@@ -0,0 +1,548 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.library.logging.logback;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * A JSON encoder streaming the logging events through a reused Jackson generator.
+ * <br>
+ * It writes the same attributes as the {@link JsonLayout}, without building an intermediate map per event. Each thread reuses its
+ * generator, output buffer and text buffers. The encoded logger names, as well as the constant attributes, are computed once. Stack
+ * traces are limited to {@link #maximumThrowableStackTraceSize} frames per throwable: the frames in common with the enclosing throwable
+ * and the consecutive identical frames of recursive calls are collapsed.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+public class JsonEncoder extends EncoderBase<ILoggingEvent> {
+
+    /**
+     * The time attribute.
+     */
+    private static final SerializableString LOG_ATTR_TIME = new SerializedString("time");
+
+    /**
+     * The level attribute.
+     */
+    private static final SerializableString LOG_ATTR_LEVEL = new SerializedString("level");
+
+    /**
+     * The thread attribute.
+     */
+    private static final SerializableString LOG_ATTR_THREAD = new SerializedString("thread");
+
+    /**
+     * The logger attribute.
+     */
+    private static final SerializableString LOG_ATTR_LOGGER = new SerializedString("logger");
+
+    /**
+     * The message attribute.
+     */
+    private static final SerializableString LOG_ATTR_MESSAGE = new SerializedString("message");
+
+    /**
+     * The context attribute.
+     */
+    private static final SerializableString LOG_ATTR_CONTEXT = new SerializedString("context");
+
+    /**
+     * The exception attribute.
+     */
+    private static final SerializableString LOG_ATTR_EXCEPTION = new SerializedString("exception");
+
+    /**
+     * The IRN attribute.
+     */
+    private static final SerializableString LOG_ATTR_IRN = new SerializedString("irn");
+
+    /**
+     * The request ID attribute.
+     */
+    private static final String LOG_ATTR_X_REQUEST_ID = "x-request-id";
+
+    /**
+     * The attributes which cannot be overridden by a MDC entry.
+     */
+    private static final Set<String> RESERVED_ATTRIBUTES = Set.of("time", "level", "thread", "logger", "message", "context", "exception", "irn");
+
+    /**
+     * The separator between the message and the exception.
+     */
+    private static final String MESSAGE_EXCEPTION_SEPARATOR = ". Error is: ";
+
+    /**
+     * The maximum depth of nested causes rendered.
+     */
+    private static final int MAXIMUM_CAUSE_DEPTH = 16;
+
+    /**
+     * The initial capacity of the per-thread buffers.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    /**
+     * The maximum capacity of the per-thread buffers kept after an event. Larger buffers are released.
+     */
+    private static final int MAXIMUM_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The line separator.
+     */
+    private static final byte[] LINE_SEPARATOR_BYTES = CoreConstants.LINE_SEPARATOR.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * The JSON factory.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    //@formatter:off
+     /**
+     * The irn attribute.
+     * -- GETTER --
+     * Getter for {@link #irn} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #irn} property.
+     * @param irn the value to set.
+     */
+     //@formatter:on
+    private String irn;
+
+    //@formatter:off
+     /**
+     * The timestampFormat attribute.
+     * -- GETTER --
+     * Getter for {@link #timestampFormat} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #timestampFormat} property.
+     * @param timestampFormat the value to set.
+     */
+     //@formatter:on
+    private String timestampFormat = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+
+    //@formatter:off
+     /**
+     * The timestampFormatTimezoneId attribute.
+     * -- GETTER --
+     * Getter for {@link #timestampFormatTimezoneId} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #timestampFormatTimezoneId} property.
+     * @param timestampFormatTimezoneId the value to set.
+     */
+     //@formatter:on
+    private String timestampFormatTimezoneId = "UTC";
+
+    //@formatter:off
+     /**
+     * The maximumThrowableStackTraceSize attribute.
+     * <br>
+     * Maximum number of frames rendered per throwable.
+     * -- GETTER --
+     * Getter for {@link #maximumThrowableStackTraceSize} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maximumThrowableStackTraceSize} property.
+     * @param maximumThrowableStackTraceSize the value to set.
+     */
+     //@formatter:on
+    private Integer maximumThrowableStackTraceSize = 64;
+
+    //@formatter:off
+     /**
+     * The appendLineSeparator attribute.
+     * -- GETTER --
+     * Getter for {@link #appendLineSeparator} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #appendLineSeparator} property.
+     * @param appendLineSeparator the value to set.
+     */
+     //@formatter:on
+    private boolean appendLineSeparator = true;
+
+    /**
+     * The timestamp formatter.
+     */
+    private DateTimeFormatter timestampFormatter;
+
+    /**
+     * The encoded IRN.
+     */
+    private SerializableString encodedIrn;
+
+    /**
+     * The encoded logger names.
+     */
+    private final ConcurrentMap<String, SerializableString> encodedLoggerNames = new ConcurrentHashMap<>();
+
+    /**
+     * The per-thread encoding state.
+     */
+    private final ThreadLocal<EncodingState> encodingStates = ThreadLocal.withInitial(EncodingState::new);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        this.timestampFormatter = DateTimeFormatter.ofPattern(timestampFormat).withZone(ZoneId.of(timestampFormatTimezoneId));
+        this.encodedIrn = new SerializedString(String.valueOf(irn));
+        super.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        EncodingState state = encodingStates.get();
+        try {
+            writeEvent(state, event);
+            byte[] bytes = state.drain();
+            if (bytes.length > MAXIMUM_RETAINED_BUFFER_SIZE || state.isOversized()) {
+                // Do not keep the buffers grown by a large event for the lifetime of the thread.
+                encodingStates.remove();
+            }
+            return bytes;
+        } catch (IOException e) {
+            // Start over with a new generator.
+            encodingStates.remove();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ------------------------------------------ Private methods.
+
+    /**
+     * Writes the event.
+     * @param state the encoding state.
+     * @param event the event.
+     * @throws IOException if an error occurs.
+     */
+    private void writeEvent(EncodingState state, ILoggingEvent event)
+        throws IOException {
+        JsonGenerator generator = state.generator;
+        generator.writeStartObject();
+
+        // Time.
+        StringBuilder text = state.text(0);
+        timestampFormatter.formatTo(Instant.ofEpochMilli(event.getTimeStamp()), text);
+        generator.writeFieldName(LOG_ATTR_TIME);
+        state.writeString(text);
+
+        // Constant attributes.
+        generator.writeFieldName(LOG_ATTR_LEVEL);
+        generator.writeString(levelName(event.getLevel()));
+        generator.writeFieldName(LOG_ATTR_THREAD);
+        generator.writeString(event.getThreadName());
+        generator.writeFieldName(LOG_ATTR_LOGGER);
+        generator.writeString(encodedLoggerNames.computeIfAbsent(event.getLoggerName(), SerializedString::new));
+        if (getContext() != null) {
+            generator.writeFieldName(LOG_ATTR_CONTEXT);
+            generator.writeString(getContext().getName());
+        }
+        generator.writeFieldName(LOG_ATTR_IRN);
+        generator.writeString(encodedIrn);
+
+        // Message and exception.
+        IThrowableProxy throwableProxy = event.getThrowableProxy();
+        if (throwableProxy != null) {
+            StringBuilder exception = state.text(1);
+            appendThrowable(exception, throwableProxy, 0);
+
+            StringBuilder message = state.text(0);
+            if (event.getFormattedMessage() != null) {
+                message.append(event.getFormattedMessage()).append(MESSAGE_EXCEPTION_SEPARATOR);
+            }
+            message.append(exception);
+
+            generator.writeFieldName(LOG_ATTR_MESSAGE);
+            state.writeString(message);
+            generator.writeFieldName(LOG_ATTR_EXCEPTION);
+            state.writeString(exception);
+        } else {
+            generator.writeFieldName(LOG_ATTR_MESSAGE);
+            generator.writeString(event.getFormattedMessage());
+        }
+
+        // Flattened MDC.
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        boolean requestIdWritten = false;
+        if (mdc != null) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (!RESERVED_ATTRIBUTES.contains(entry.getKey())) {
+                    generator.writeStringField(entry.getKey(), entry.getValue());
+                    requestIdWritten |= LOG_ATTR_X_REQUEST_ID.equals(entry.getKey());
+                }
+            }
+        }
+        if (!requestIdWritten) {
+            generator.writeStringField(LOG_ATTR_X_REQUEST_ID, "");
+        }
+
+        generator.writeEndObject();
+        generator.flush();
+        if (appendLineSeparator) {
+            state.outputStream.writeBytes(LINE_SEPARATOR_BYTES);
+        }
+    }
+
+    /**
+     * Gets the lowercase name of the level.
+     * @param level the level.
+     * @return the lowercase name of the level.
+     */
+    private static String levelName(Level level) {
+        switch (level.toInt()) {
+            case Level.ERROR_INT:
+                return "error";
+            case Level.WARN_INT:
+                return "warn";
+            case Level.INFO_INT:
+                return "info";
+            case Level.DEBUG_INT:
+                return "debug";
+            case Level.TRACE_INT:
+                return "trace";
+            default:
+                return level.levelStr.toLowerCase();
+        }
+    }
+
+    /**
+     * Appends the throwable, its suppressed throwables and its causes.
+     * @param builder the builder.
+     * @param throwableProxy the throwable.
+     * @param depth the depth of the throwable.
+     */
+    private void appendThrowable(StringBuilder builder, IThrowableProxy throwableProxy, int depth) {
+        builder.append(throwableProxy.getClassName());
+        if (throwableProxy.getMessage() != null) {
+            builder.append(": ").append(throwableProxy.getMessage());
+        }
+        builder.append(CoreConstants.LINE_SEPARATOR);
+
+        StackTraceElementProxy[] frames = throwableProxy.getStackTraceElementProxyArray();
+        int framesInCommon = throwableProxy.getCommonFrames();
+        int framesToRender = frames.length - framesInCommon;
+        int framesRendered = 0;
+        int frameIndex = 0;
+        while (frameIndex < framesToRender && framesRendered < maximumThrowableStackTraceSize) {
+            StackTraceElement frame = frames[frameIndex].getStackTraceElement();
+            int repeated = 0;
+            while (frameIndex + repeated + 1 < framesToRender && frame.equals(frames[frameIndex + repeated + 1].getStackTraceElement())) {
+                repeated++;
+            }
+
+            builder.append(CoreConstants.TAB).append("at ");
+            appendFrame(builder, frame);
+            builder.append(CoreConstants.LINE_SEPARATOR);
+            if (repeated > 0) {
+                builder.append(CoreConstants.TAB).append("... repeated ").append(repeated).append(" times").append(CoreConstants.LINE_SEPARATOR);
+            }
+            frameIndex += repeated + 1;
+            framesRendered++;
+        }
+        if (frameIndex < framesToRender) {
+            builder.append(CoreConstants.TAB).append("... ").append(framesToRender - frameIndex).append(" frames truncated").append(CoreConstants.LINE_SEPARATOR);
+        }
+        if (framesInCommon > 0) {
+            builder.append(CoreConstants.TAB).append("... ").append(framesInCommon).append(" common frames omitted").append(CoreConstants.LINE_SEPARATOR);
+        }
+
+        if (depth < MAXIMUM_CAUSE_DEPTH) {
+            IThrowableProxy[] suppressedProxies = throwableProxy.getSuppressed();
+            if (suppressedProxies != null) {
+                for (IThrowableProxy suppressed : suppressedProxies) {
+                    builder.append(CoreConstants.SUPPRESSED);
+                    appendThrowable(builder, suppressed, depth + 1);
+                }
+            }
+            if (throwableProxy.getCause() != null) {
+                builder.append(CoreConstants.CAUSED_BY);
+                appendThrowable(builder, throwableProxy.getCause(), depth + 1);
+            }
+        }
+    }
+
+    /**
+     * Appends the frame like {@link StackTraceElement#toString()} does, without the module information and the intermediate string.
+     * @param builder the builder.
+     * @param frame the frame.
+     */
+    private static void appendFrame(StringBuilder builder, StackTraceElement frame) {
+        builder.append(frame.getClassName()).append('.').append(frame.getMethodName()).append('(');
+        if (frame.isNativeMethod()) {
+            builder.append("Native Method");
+        } else if (frame.getFileName() == null) {
+            builder.append("Unknown Source");
+        } else {
+            builder.append(frame.getFileName());
+            if (frame.getLineNumber() >= 0) {
+                builder.append(':').append(frame.getLineNumber());
+            }
+        }
+        builder.append(')');
+    }
+
+    /**
+     * The encoding state of a thread.
+     * <br>
+     * @author Julb.
+     */
+    private static final class EncodingState {
+
+        /**
+         * The output stream collecting the bytes of an event.
+         */
+        private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+
+        /**
+         * The generator writing to the output stream.
+         */
+        private final JsonGenerator generator;
+
+        /**
+         * The text buffers.
+         */
+        private final StringBuilder[] texts = {new StringBuilder(INITIAL_BUFFER_SIZE), new StringBuilder(INITIAL_BUFFER_SIZE)};
+
+        /**
+         * The characters buffer.
+         */
+        private char[] chars = new char[INITIAL_BUFFER_SIZE];
+
+        /**
+         * Default constructor.
+         */
+        EncodingState() {
+            try {
+                this.generator = JSON_FACTORY.createGenerator(outputStream);
+                this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                this.generator.setRootValueSeparator(null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Gets an empty text buffer.
+         * @param index the index of the buffer.
+         * @return the empty text buffer.
+         */
+        StringBuilder text(int index) {
+            StringBuilder text = texts[index];
+            text.setLength(0);
+            return text;
+        }
+
+        /**
+         * Writes the text as a string value without creating a string.
+         * @param text the text.
+         * @throws IOException if an error occurs.
+         */
+        void writeString(StringBuilder text)
+            throws IOException {
+            int length = text.length();
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            text.getChars(0, length, chars, 0);
+            generator.writeString(chars, 0, length);
+        }
+
+        /**
+         * Checks if a text buffer has grown over the maximum retained capacity.
+         * @return <code>true</code> if a text buffer is over the maximum retained capacity, <code>false</code> otherwise.
+         */
+        boolean isOversized() {
+            if (chars.length > MAXIMUM_RETAINED_BUFFER_SIZE) {
+                return true;
+            }
+            for (StringBuilder text : texts) {
+                if (text.capacity() > MAXIMUM_RETAINED_BUFFER_SIZE) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the bytes of the event and resets the buffers.
+         * @return the bytes of the event.
+         */
+        byte[] drain() {
+            byte[] bytes = outputStream.toByteArray();
+            outputStream.reset();
+            return bytes;
+        }
+    }
+}
@@ -24,6 +24,7 @@
 package me.julb.library.utility.barcode.ean13;
 
 import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.oned.EAN13Writer;
@@ -31,6 +32,7 @@ import com.google.zxing.oned.EAN13Writer;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Map;
 
 /**
  * The EAN13 utility.
@@ -39,6 +41,11 @@ import java.io.OutputStream;
  */
 public final class EAN13Utility {
 
+    /**
+     * The writer, which is stateless and thread-safe.
+     */
+    private static final EAN13Writer WRITER = new EAN13Writer();
+
     /**
      * Generates a EAN13 image and write it to the given output stream.
      * @param value the EAN13 value.
@@ -46,13 +53,11 @@ public final class EAN13Utility {
      * @param width the width of the generated image.
      * @param height the height of the generated image.
      * @param outputStream the stream to write the result to.
-     * @throws IOException if an error occurs.
+     * @throws IOException if an error occurs
      */
     public static void write(String value, String imageFormat, int width, int height, OutputStream outputStream)
         throws IOException {
-        EAN13Writer writer = new EAN13Writer();
-        BitMatrix bitMatrix = writer.encode(value, BarcodeFormat.EAN_13, width, height);
-        MatrixToImageWriter.writeToStream(bitMatrix, imageFormat, outputStream);
+        MatrixToImageWriter.writeToStream(encode(value, width, height, null), imageFormat, outputStream);
     }
 
     /**
@@ -63,8 +68,31 @@ public final class EAN13Utility {
      * @return the buffered image.
      */
     public static BufferedImage generate(String value, int width, int height) {
-        EAN13Writer writer = new EAN13Writer();
-        BitMatrix bitMatrix = writer.encode(value, BarcodeFormat.EAN_13, width, height);
-        return MatrixToImageWriter.toBufferedImage(bitMatrix);
+        return MatrixToImageWriter.toBufferedImage(encode(value, width, height, null));
+    }
+
+    /**
+     * Encodes the value as a EAN13 matrix.
+     * @param value the EAN13 value.
+     * @param width the width of the matrix.
+     * @param height the height of the matrix.
+     * @param margin the margin in modules, or <code>null</code> for the default margin.
+     * @return the matrix.
+     */
+    public static BitMatrix encode(String value, int width, int height, Integer margin) {
+        return WRITER.encode(value, BarcodeFormat.EAN_13, width, height, hints(margin));
+    }
+
+    /**
+     * Gets the encoding hints.
+     * @param margin the margin, or <code>null</code> for the default margin.
+     * @return the encoding hints.
+     */
+    private static Map<EncodeHintType, ?> hints(Integer margin) {
+        if (margin != null) {
+            return Map.of(EncodeHintType.MARGIN, margin);
+        } else {
+            return Map.of();
+        }
     }
 }
@@ -24,6 +24,7 @@
 package me.julb.library.utility.barcode.pdf417;
 
 import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
 import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
@@ -32,6 +33,7 @@ import com.google.zxing.pdf417.PDF417Writer;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Map;
 
 /**
  * The PDF417 utility.
@@ -40,6 +42,11 @@ import java.io.OutputStream;
  */
 public final class PDF417Utility {
 
+    /**
+     * The writer, which is stateless and thread-safe.
+     */
+    private static final PDF417Writer WRITER = new PDF417Writer();
+
     /**
      * Generates a PDF417 image and write it to the given output stream.
      * @param value the value.
@@ -51,23 +58,11 @@ public final class PDF417Utility {
      */
     public static void write(String value, String imageFormat, int width, int height, OutputStream outputStream)
         throws IOException {
-        if (width <= 0) {
-            throw new IllegalArgumentException("width should be positive.");
-        }
-        if (height <= 0) {
-            throw new IllegalArgumentException("height should be positive.");
-        }
-        try {
-            PDF417Writer writer = new PDF417Writer();
-            BitMatrix bitMatrix = writer.encode(value, BarcodeFormat.PDF_417, width, height);
-            MatrixToImageWriter.writeToStream(bitMatrix, imageFormat, outputStream);
-        } catch (WriterException e) {
-            throw new IOException(e);
-        }
+        MatrixToImageWriter.writeToStream(encode(value, width, height, null), imageFormat, outputStream);
     }
 
     /**
-     * Generates a PDF417 imagee and returns it as a buffered image.
+     * Generates a PDF417 image and returns it as a buffered image.
      * @param value the value.
      * @param width the width of the generated image.
      * @param height the height of the generated image.
@@ -75,6 +70,20 @@ public final class PDF417Utility {
      * @return the buffered image.
      */
     public static BufferedImage generate(String value, int width, int height)
+        throws IOException {
+        return MatrixToImageWriter.toBufferedImage(encode(value, width, height, null));
+    }
+
+    /**
+     * Encodes the value as a PDF417 matrix.
+     * @param value the value.
+     * @param width the width of the matrix.
+     * @param height the height of the matrix.
+     * @param margin the margin in pixels, or <code>null</code> for the default margin.
+     * @throws IOException if an error occurs
+     * @return the matrix.
+     */
+    public static BitMatrix encode(String value, int width, int height, Integer margin)
         throws IOException {
         if (width <= 0) {
             throw new IllegalArgumentException("width should be positive.");
@@ -83,11 +92,22 @@ public final class PDF417Utility {
             throw new IllegalArgumentException("height should be positive.");
         }
         try {
-            PDF417Writer writer = new PDF417Writer();
-            BitMatrix bitMatrix = writer.encode(value, BarcodeFormat.PDF_417, width, height);
-            return MatrixToImageWriter.toBufferedImage(bitMatrix);
+            return WRITER.encode(value, BarcodeFormat.PDF_417, width, height, hints(margin));
         } catch (WriterException e) {
             throw new IOException(e);
         }
     }
+
+    /**
+     * Gets the encoding hints.
+     * @param margin the margin, or <code>null</code> for the default margin.
+     * @return the encoding hints.
+     */
+    private static Map<EncodeHintType, ?> hints(Integer margin) {
+        if (margin != null) {
+            return Map.of(EncodeHintType.MARGIN, margin);
+        } else {
+            return Map.of();
+        }
+    }
 }
@@ -24,6 +24,7 @@
 package me.julb.library.utility.barcode.qrcode;
 
 import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
 import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
@@ -32,6 +33,7 @@ import com.google.zxing.qrcode.QRCodeWriter;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Map;
 
 /**
  * The QRCode utility.
@@ -41,7 +43,12 @@ import java.io.OutputStream;
 public final class QRCodeUtility {
 
     /**
-     * Generates a QRcode image and write it to the given output stream.
+     * The writer, which is stateless and thread-safe.
+     */
+    private static final QRCodeWriter WRITER = new QRCodeWriter();
+
+    /**
+     * Generates a QRCode image and write it to the given output stream.
      * @param value the value.
      * @param imageFormat the image format.
      * @param width the width of the generated image.
@@ -51,17 +58,11 @@ public final class QRCodeUtility {
      */
     public static void write(String value, String imageFormat, int width, int height, OutputStream outputStream)
         throws IOException {
-        try {
-            QRCodeWriter writer = new QRCodeWriter();
-            BitMatrix bitMatrix = writer.encode(value, BarcodeFormat.QR_CODE, width, height);
-            MatrixToImageWriter.writeToStream(bitMatrix, imageFormat, outputStream);
-        } catch (WriterException e) {
-            throw new IOException(e);
-        }
+        MatrixToImageWriter.writeToStream(encode(value, width, height, null), imageFormat, outputStream);
     }
 
     /**
-     * Generates a QRcode image and returns it as a buffered image.
+     * Generates a QRCode image and returns it as a buffered image.
      * @param value the value.
      * @param width the width of the generated image.
      * @param height the height of the generated image.
@@ -69,13 +70,38 @@ public final class QRCodeUtility {
      * @return the buffered image.
      */
     public static BufferedImage generate(String value, int width, int height)
+        throws IOException {
+        return MatrixToImageWriter.toBufferedImage(encode(value, width, height, null));
+    }
+
+    /**
+     * Encodes the value as a QRCode matrix.
+     * @param value the value.
+     * @param width the width of the matrix.
+     * @param height the height of the matrix.
+     * @param margin the margin in modules, or <code>null</code> for the default margin.
+     * @throws IOException if an error occurs
+     * @return the matrix.
+     */
+    public static BitMatrix encode(String value, int width, int height, Integer margin)
         throws IOException {
         try {
-            QRCodeWriter writer = new QRCodeWriter();
-            BitMatrix bitMatrix = writer.encode(value, BarcodeFormat.QR_CODE, width, height);
-            return MatrixToImageWriter.toBufferedImage(bitMatrix);
+            return WRITER.encode(value, BarcodeFormat.QR_CODE, width, height, hints(margin));
         } catch (WriterException e) {
             throw new IOException(e);
         }
     }
+
+    /**
+     * Gets the encoding hints.
+     * @param margin the margin, or <code>null</code> for the default margin.
+     * @return the encoding hints.
+     */
+    private static Map<EncodeHintType, ?> hints(Integer margin) {
+        if (margin != null) {
+            return Map.of(EncodeHintType.MARGIN, margin);
+        } else {
+            return Map.of();
+        }
+    }
 }
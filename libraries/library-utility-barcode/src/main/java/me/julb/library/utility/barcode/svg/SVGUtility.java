@@ -0,0 +1,112 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.library.utility.barcode.svg;
+
+import com.google.zxing.common.BitArray;
+import com.google.zxing.common.BitMatrix;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The SVG utility.
+ * <br>
+ * Writes a matrix as a single SVG path, row by row: identical consecutive rows, such as the ones of linear barcodes, are merged into a
+ * single band and adjacent set bits into a single rectangle.
+ * <br>
+ * @author Julb.
+ */
+public final class SVGUtility {
+
+    /**
+     * The SVG media type.
+     */
+    public static final String MEDIA_TYPE = "image/svg+xml";
+
+    /**
+     * Writes the matrix as an SVG image to the given output stream.
+     * @param bitMatrix the matrix.
+     * @param outputStream the stream to write the result to, which is not closed.
+     * @throws IOException if an error occurs
+     */
+    public static void write(BitMatrix bitMatrix, OutputStream outputStream)
+        throws IOException {
+        int width = bitMatrix.getWidth();
+        int height = bitMatrix.getHeight();
+
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" version=\"1.1\" width=\"" + width + "\" height=\"" + height + "\" viewBox=\"0 0 " + width + " " + height
+            + "\" shape-rendering=\"crispEdges\">\n");
+        writer.write("<rect width=\"100%\" height=\"100%\" fill=\"#ffffff\"/>\n");
+        writer.write("<path fill=\"#000000\" d=\"");
+
+        BitArray row = bitMatrix.getRow(0, null);
+        BitArray nextRow = new BitArray(width);
+        int bandTop = 0;
+        for (int y = 1; y <= height; y++) {
+            if (y < height) {
+                nextRow = bitMatrix.getRow(y, nextRow);
+                if (nextRow.equals(row)) {
+                    continue;
+                }
+            }
+
+            writeBand(writer, row, width, bandTop, y - bandTop);
+
+            // Swap the rows to reuse their storage.
+            BitArray swap = row;
+            row = nextRow;
+            nextRow = swap;
+            bandTop = y;
+        }
+
+        writer.write("\"/>\n</svg>\n");
+        writer.flush();
+    }
+
+    /**
+     * Writes the rectangles of the set bits of a band of identical rows.
+     * @param writer the writer.
+     * @param row the row.
+     * @param width the width of the row.
+     * @param top the top of the band.
+     * @param bandHeight the height of the band.
+     * @throws IOException if an error occurs
+     */
+    private static void writeBand(Writer writer, BitArray row, int width, int top, int bandHeight)
+        throws IOException {
+        int x = row.getNextSet(0);
+        while (x < width) {
+            int end = row.getNextUnset(x);
+            int runWidth = end - x;
+            writer.write("M" + x + " " + top + "h" + runWidth + "v" + bandHeight + "h-" + runWidth + "z");
+            x = row.getNextSet(end);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.library.utility.barcode.svg;
+
+import com.google.zxing.common.BitMatrix;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import me.julb.library.utility.barcode.ean13.EAN13Utility;
+import me.julb.library.utility.barcode.qrcode.QRCodeUtility;
+
+/**
+ * Unit test class for {@link SVGUtility}.
+ * <br>
+ * @author Julb.
+ */
+public class SVGUtilityTest {
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenWritingEan13_thenEachBarIsASingleRectangle()
+        throws Exception {
+        BitMatrix bitMatrix = EAN13Utility.encode("012345678901", 100, 100, 0);
+        String svg = write(bitMatrix);
+
+        int bars = 0;
+        for (int x = 0; x < bitMatrix.getWidth(); x++) {
+            if (bitMatrix.get(x, 0) && (x == 0 || !bitMatrix.get(x - 1, 0))) {
+                bars++;
+            }
+        }
+
+        Assertions.assertTrue(svg.startsWith("<?xml"));
+        Assertions.assertTrue(svg.contains("viewBox=\"0 0 " + bitMatrix.getWidth() + " " + bitMatrix.getHeight() + "\""));
+        Assertions.assertEquals(bars, svg.split("z", -1).length - 1);
+        Assertions.assertTrue(svg.contains("v" + bitMatrix.getHeight() + "h"));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenWritingQRCode_thenEverySetBitIsCovered()
+        throws Exception {
+        BitMatrix bitMatrix = QRCodeUtility.encode("julb://some.uri", 100, 100, 1);
+        String svg = write(bitMatrix);
+
+        // Rebuild the matrix from the path.
+        BitMatrix rendered = new BitMatrix(bitMatrix.getWidth(), bitMatrix.getHeight());
+        String path = svg.substring(svg.indexOf(" d=\"") + 4, svg.lastIndexOf("\"/>"));
+        for (String rectangle : path.split("z")) {
+            String[] parts = rectangle.substring(1).split("[ hv]");
+            int x = Integer.parseInt(parts[0]);
+            int y = Integer.parseInt(parts[1]);
+            int width = Integer.parseInt(parts[2]);
+            int height = Integer.parseInt(parts[3]);
+            rendered.setRegion(x, y, width, height);
+        }
+
+        Assertions.assertEquals(bitMatrix, rendered);
+    }
+
+    /**
+     * Writes the matrix as a SVG string.
+     * @param bitMatrix the matrix.
+     * @return the SVG string.
+     * @throws Exception if an error occurs.
+     */
+    private static String write(BitMatrix bitMatrix)
+        throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SVGUtility.write(bitMatrix, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
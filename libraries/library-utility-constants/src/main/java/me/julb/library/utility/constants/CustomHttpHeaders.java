@@ -65,4 +65,9 @@ public class CustomHttpHeaders {
      */
     public static final String X_GOOGLE_RECAPTCHA_ACTION = "x-google-recaptcha-action";
 
+    /**
+     * The header for the version of the configuration.
+     */
+    public static final String X_JULB_CONFIG_VERSION = "x-julb-config-version";
+
 }
@@ -56,4 +56,14 @@ public class MediaType {
      */
     public static final String TEXT_CALENDAR = "text/calendar";
 
+    /**
+     * The text/calendar with UTF8 charset media type.
+     */
+    public static final String TEXT_CALENDAR_UTF8 = "text/calendar; charset=utf-8";
+
+    /**
+     * The application/rss+xml with UTF8 charset media type.
+     */
+    public static final String APPLICATION_RSS_XML_UTF8 = "application/rss+xml; charset=utf-8";
+
 }
@@ -0,0 +1,204 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.crypto.aes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * A bounded store of AES keys derived from a (key, salt) pair.
+ * <P>
+ * The PBKDF2 derivation is run once per pair, and the derived bytes are kept in a least-recently-used map indexed by a digest of the pair, so that the
+ * plain key is never retained. Evicted and cleared entries are overwritten with zeros.
+ * <br>
+ * @author Julb.
+ */
+public final class AESDerivedKeyStore {
+
+    /**
+     * The key derivation algorithm.
+     */
+    private static final String KEY_DERIVATION_ALGORITHM = "PBKDF2WithHmacSHA1";
+
+    /**
+     * The number of iterations of the key derivation.
+     */
+    private static final int KEY_DERIVATION_ITERATIONS = 1024;
+
+    /**
+     * The derived key length in bits.
+     */
+    private static final int KEY_LENGTH = 256;
+
+    /**
+     * The cipher algorithm of the derived keys.
+     */
+    private static final String KEY_ALGORITHM = "AES";
+
+    /**
+     * The maximum number of derived keys.
+     */
+    private final int maximumSize;
+
+    /**
+     * The derived keys, indexed by a digest of the (key, salt) pair.
+     */
+    private final LinkedHashMap<ByteBuffer, byte[]> derivedKeys;
+
+    /**
+     * Constructor.
+     * @param maximumSize the maximum number of derived keys kept in the store.
+     */
+    public AESDerivedKeyStore(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.derivedKeys = new LinkedHashMap<>(16, 0.75f, true) {
+
+            /**
+             * Serial version UID.
+             */
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, byte[]> eldest) {
+                if (size() > AESDerivedKeyStore.this.maximumSize) {
+                    Arrays.fill(eldest.getValue(), (byte) 0);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the AES key derived from the given key and salt, deriving it if it is not in the store yet.
+     * @param key the key.
+     * @param salt the salt, hex-encoded.
+     * @return a copy of the derived AES key.
+     */
+    public SecretKey get(String key, String salt) {
+        ByteBuffer digest = digest(key, salt);
+        synchronized (derivedKeys) {
+            byte[] derivedKey = derivedKeys.get(digest);
+            if (derivedKey != null) {
+                return new SecretKeySpec(derivedKey, KEY_ALGORITHM);
+            }
+        }
+
+        // Derive outside the lock as it is the expensive part.
+        byte[] derivedKey = derive(key, salt);
+        try {
+            synchronized (derivedKeys) {
+                byte[] existing = derivedKeys.putIfAbsent(digest, derivedKey);
+                if (existing != null) {
+                    Arrays.fill(derivedKey, (byte) 0);
+                    return new SecretKeySpec(existing, KEY_ALGORITHM);
+                }
+                return new SecretKeySpec(derivedKey, KEY_ALGORITHM);
+            }
+        } catch (RuntimeException e) {
+            Arrays.fill(derivedKey, (byte) 0);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of derived keys in the store.
+     * @return the number of derived keys in the store.
+     */
+    public int size() {
+        synchronized (derivedKeys) {
+            return derivedKeys.size();
+        }
+    }
+
+    /**
+     * Removes all the derived keys from the store, overwriting them with zeros.
+     */
+    public void clear() {
+        synchronized (derivedKeys) {
+            for (Iterator<byte[]> iterator = derivedKeys.values().iterator(); iterator.hasNext();) {
+                Arrays.fill(iterator.next(), (byte) 0);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Derives an AES key from the given key and salt.
+     * <P>
+     * The derivation is the same as the one of the Spring Security <i>Encryptors.text</i>, so that existing ciphered values remain readable.
+     * @param key the key.
+     * @param salt the salt, hex-encoded.
+     * @return the derived key bytes.
+     */
+    private static byte[] derive(String key, String salt) {
+        char[] password = key.toCharArray();
+        PBEKeySpec keySpec = new PBEKeySpec(password, HexFormat.of().parseHex(salt), KEY_DERIVATION_ITERATIONS, KEY_LENGTH);
+        try {
+            return SecretKeyFactory.getInstance(KEY_DERIVATION_ALGORITHM).generateSecret(keySpec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Unable to derive the key", e);
+        } finally {
+            keySpec.clearPassword();
+            Arrays.fill(password, '\0');
+        }
+    }
+
+    /**
+     * Computes the digest identifying the given key and salt.
+     * @param key the key.
+     * @param salt the salt.
+     * @return the digest.
+     */
+    private static ByteBuffer digest(String key, String salt) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update(key.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) 0);
+            messageDigest.update(salt.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
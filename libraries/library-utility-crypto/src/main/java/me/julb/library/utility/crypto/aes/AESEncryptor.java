@@ -21,18 +21,79 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-
 package me.julb.library.utility.crypto.aes;
 
-import org.springframework.security.crypto.encrypt.Encryptors;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.HexFormat;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+
+import me.julb.library.utility.random.SecureRandomStringGenerator;
 
 /**
  * This class enables encryption and decryption of a {@link String} using AES256.
+ * <P>
+ * The AES key is derived from the given key and salt once, then kept in a bounded {@link AESDerivedKeyStore}. The <i>encrypt</i> and <i>decrypt</i>
+ * methods use AES-CBC and remain compatible with the values ciphered by the Spring Security <i>Encryptors.text</i>. The <i>authenticated</i> variants use
+ * AES-GCM with a random nonce per message.
  * <br>
  * @author Julb.
  */
 public class AESEncryptor {
 
+    /**
+     * The AES-CBC transformation.
+     */
+    static final String CBC_TRANSFORMATION = "AES/CBC/PKCS5Padding";
+
+    /**
+     * The AES-GCM transformation.
+     */
+    static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+
+    /**
+     * The AES-CBC IV length in bytes.
+     */
+    static final int CBC_IV_LENGTH = 16;
+
+    /**
+     * The AES-GCM nonce length in bytes.
+     */
+    static final int GCM_NONCE_LENGTH = 12;
+
+    /**
+     * The AES-GCM tag length in bits.
+     */
+    static final int GCM_TAG_LENGTH = 128;
+
+    /**
+     * The maximum number of derived keys kept in memory.
+     */
+    private static final int KEY_STORE_MAXIMUM_SIZE = 64;
+
+    /**
+     * The derived keys.
+     */
+    private static final AESDerivedKeyStore KEY_STORE = new AESDerivedKeyStore(KEY_STORE_MAXIMUM_SIZE);
+
+    /**
+     * The per-thread AES-CBC cipher.
+     */
+    private static final ThreadLocal<Cipher> CBC_CIPHER = ThreadLocal.withInitial(() -> newCipher(CBC_TRANSFORMATION));
+
+    /**
+     * The per-thread AES-GCM cipher.
+     */
+    private static final ThreadLocal<Cipher> GCM_CIPHER = ThreadLocal.withInitial(() -> newCipher(GCM_TRANSFORMATION));
+
     /**
      * Encrypts the value.
      * @param plainText the text to encrypt.
@@ -41,7 +102,9 @@ public class AESEncryptor {
      * @return the ciphered value.
      */
     public static String encrypt(String plainText, String key, String salt) {
-        return Encryptors.text(key, salt).encrypt(plainText);
+        byte[] iv = new byte[CBC_IV_LENGTH];
+        SecureRandomStringGenerator.nextBytes(iv);
+        return encrypt(CBC_CIPHER.get(), new IvParameterSpec(iv), iv, plainText, KEY_STORE.get(key, salt));
     }
 
     /**
@@ -52,6 +115,126 @@ public class AESEncryptor {
      * @return the raw value.
      */
     public static String decrypt(String cipherText, String key, String salt) {
-        return Encryptors.text(key, salt).decrypt(cipherText);
+        byte[] cipherBytes = HexFormat.of().parseHex(cipherText);
+        if (cipherBytes.length < CBC_IV_LENGTH) {
+            throw new IllegalStateException("Invalid cipher text");
+        }
+        return decrypt(CBC_CIPHER.get(), new IvParameterSpec(cipherBytes, 0, CBC_IV_LENGTH), CBC_IV_LENGTH, cipherBytes, KEY_STORE.get(key, salt));
+    }
+
+    /**
+     * Encrypts and authenticates the value.
+     * @param plainText the text to encrypt.
+     * @param key the key.
+     * @param salt the salt.
+     * @return the ciphered value.
+     */
+    public static String encryptAuthenticated(String plainText, String key, String salt) {
+        byte[] nonce = new byte[GCM_NONCE_LENGTH];
+        SecureRandomStringGenerator.nextBytes(nonce);
+        return encrypt(GCM_CIPHER.get(), new GCMParameterSpec(GCM_TAG_LENGTH, nonce), nonce, plainText, KEY_STORE.get(key, salt));
+    }
+
+    /**
+     * Decrypts an authenticated value.
+     * @param cipherText the text to decrypt.
+     * @param key the key.
+     * @param salt the salt.
+     * @return the raw value.
+     * @throws IllegalStateException if the value cannot be authenticated.
+     */
+    public static String decryptAuthenticated(String cipherText, String key, String salt) {
+        byte[] cipherBytes = HexFormat.of().parseHex(cipherText);
+        if (cipherBytes.length < GCM_NONCE_LENGTH) {
+            throw new IllegalStateException("Invalid cipher text");
+        }
+        return decrypt(GCM_CIPHER.get(), new GCMParameterSpec(GCM_TAG_LENGTH, cipherBytes, 0, GCM_NONCE_LENGTH), GCM_NONCE_LENGTH, cipherBytes, KEY_STORE.get(key, salt));
+    }
+
+    /**
+     * Wraps the given output stream so that the data written is encrypted and authenticated.
+     * <P>
+     * The data is processed by segments of 64 KiB, so that large payloads are never held in memory. The stream must be closed to write the last segment.
+     * @param outputStream the output stream receiving the ciphered data.
+     * @param key the key.
+     * @param salt the salt.
+     * @return the output stream to write the raw data into.
+     * @throws IOException if the stream header cannot be written.
+     */
+    public static OutputStream encryptingStream(OutputStream outputStream, String key, String salt) throws IOException {
+        byte[] noncePrefix = new byte[AESGCMStreamFormat.NONCE_PREFIX_LENGTH];
+        SecureRandomStringGenerator.nextBytes(noncePrefix);
+        return new AESGCMOutputStream(outputStream, KEY_STORE.get(key, salt), noncePrefix);
+    }
+
+    /**
+     * Wraps the given input stream so that the data read is authenticated and decrypted.
+     * @param inputStream the input stream providing the ciphered data.
+     * @param key the key.
+     * @param salt the salt.
+     * @return the input stream to read the raw data from.
+     */
+    public static InputStream decryptingStream(InputStream inputStream, String key, String salt) {
+        return new AESGCMInputStream(inputStream, KEY_STORE.get(key, salt));
+    }
+
+    /**
+     * Removes all the derived keys from memory.
+     */
+    public static void clearDerivedKeys() {
+        KEY_STORE.clear();
+    }
+
+    /**
+     * Encrypts the text and prepends the IV or nonce to the result.
+     * @param cipher the cipher.
+     * @param parameterSpec the cipher parameters.
+     * @param iv the IV or nonce.
+     * @param plainText the text to encrypt.
+     * @param secretKey the secret key.
+     * @return the hex-encoded IV or nonce followed by the ciphered text.
+     */
+    private static String encrypt(Cipher cipher, AlgorithmParameterSpec parameterSpec, byte[] iv, String plainText, SecretKey secretKey) {
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
+            byte[] plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
+            byte[] cipherBytes = new byte[iv.length + cipher.getOutputSize(plainBytes.length)];
+            System.arraycopy(iv, 0, cipherBytes, 0, iv.length);
+            int length = iv.length + cipher.doFinal(plainBytes, 0, plainBytes.length, cipherBytes, iv.length);
+            return HexFormat.of().formatHex(cipherBytes, 0, length);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to invoke Cipher", e);
+        }
+    }
+
+    /**
+     * Decrypts the ciphered bytes following the IV or nonce.
+     * @param cipher the cipher.
+     * @param parameterSpec the cipher parameters.
+     * @param offset the length of the IV or nonce.
+     * @param cipherBytes the IV or nonce followed by the ciphered bytes.
+     * @param secretKey the secret key.
+     * @return the raw text.
+     */
+    private static String decrypt(Cipher cipher, AlgorithmParameterSpec parameterSpec, int offset, byte[] cipherBytes, SecretKey secretKey) {
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
+            return new String(cipher.doFinal(cipherBytes, offset, cipherBytes.length - offset), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to invoke Cipher", e);
+        }
+    }
+
+    /**
+     * Creates a new cipher.
+     * @param transformation the transformation.
+     * @return the cipher.
+     */
+    static Cipher newCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to create the cipher " + transformation, e);
+        }
     }
 }
@@ -0,0 +1,227 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.crypto.aes;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * An input stream decrypting data written in the segmented AES-GCM format.
+ * <P>
+ * Each segment is authenticated before any of its bytes is returned. An {@link IOException} is thrown if a segment has been altered, or if the stream has
+ * been truncated.
+ * <br>
+ * @author Julb.
+ * @see AESGCMStreamFormat
+ */
+final class AESGCMInputStream extends FilterInputStream {
+
+    /**
+     * The cipher.
+     */
+    private final Cipher cipher;
+
+    /**
+     * The secret key.
+     */
+    private final SecretKey secretKey;
+
+    /**
+     * The nonce prefix, read lazily.
+     */
+    private byte[] noncePrefix;
+
+    /**
+     * The plain text of the current segment.
+     */
+    private byte[] segment = new byte[0];
+
+    /**
+     * The read position in the current segment.
+     */
+    private int segmentPosition;
+
+    /**
+     * The index of the next segment.
+     */
+    private long segmentIndex;
+
+    /**
+     * The ciphertext length of the next segment, or <code>-1</code> if there is no next segment.
+     */
+    private int nextSegmentLength;
+
+    /**
+     * <code>true</code> if the last segment has been read, <code>false</code> otherwise.
+     */
+    private boolean lastSegmentRead;
+
+    /**
+     * Constructor.
+     * @param in the underlying input stream.
+     * @param secretKey the secret key.
+     */
+    AESGCMInputStream(InputStream in, SecretKey secretKey) {
+        super(new DataInputStream(in));
+        this.cipher = AESEncryptor.newCipher(AESEncryptor.GCM_TRANSFORMATION);
+        this.secretKey = secretKey;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int count = read(b, 0, 1);
+        return count == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (segmentPosition == segment.length) {
+            if (lastSegmentRead) {
+                return -1;
+            }
+            readSegment();
+        }
+        int count = Math.min(len, segment.length - segmentPosition);
+        System.arraycopy(segment, segmentPosition, b, off, count);
+        segmentPosition += count;
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        while (skipped < n) {
+            int count = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (count == -1) {
+                break;
+            }
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() {
+        return segment.length - segmentPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void mark(int readlimit) {
+        // Not supported.
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Reads and decrypts the next segment.
+     * @throws IOException if the segment cannot be read or authenticated.
+     */
+    private void readSegment() throws IOException {
+        DataInputStream dataIn = (DataInputStream) in;
+        try {
+            if (noncePrefix == null) {
+                noncePrefix = new byte[AESGCMStreamFormat.NONCE_PREFIX_LENGTH];
+                dataIn.readFully(noncePrefix);
+                nextSegmentLength = dataIn.readInt();
+            }
+            if (nextSegmentLength < AESEncryptor.GCM_TAG_LENGTH / Byte.SIZE || nextSegmentLength > AESGCMStreamFormat.SEGMENT_SIZE + AESEncryptor.GCM_TAG_LENGTH / Byte.SIZE
+                || segmentIndex > AESGCMStreamFormat.MAXIMUM_SEGMENTS) {
+                throw new IOException("Invalid segment");
+            }
+            byte[] cipherText = new byte[nextSegmentLength];
+            dataIn.readFully(cipherText);
+
+            // Look ahead to know whether this segment is the last one.
+            nextSegmentLength = readNextSegmentLength(dataIn);
+            lastSegmentRead = nextSegmentLength == -1;
+
+            cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(AESEncryptor.GCM_TAG_LENGTH, AESGCMStreamFormat.segmentNonce(noncePrefix, segmentIndex, lastSegmentRead)));
+            segment = cipher.doFinal(cipherText);
+            segmentPosition = 0;
+            segmentIndex++;
+        } catch (EOFException e) {
+            throw new IOException("Truncated stream", e);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Unable to authenticate the stream", e);
+        }
+    }
+
+    /**
+     * Reads the ciphertext length of the next segment.
+     * @param dataIn the input stream.
+     * @return the ciphertext length of the next segment, or <code>-1</code> if the end of stream is reached.
+     * @throws IOException if the length cannot be read.
+     */
+    private static int readNextSegmentLength(DataInputStream dataIn) throws IOException {
+        int firstByte = dataIn.read();
+        if (firstByte == -1) {
+            return -1;
+        }
+        byte[] remaining = new byte[Integer.BYTES - 1];
+        dataIn.readFully(remaining);
+        return (firstByte << 24) | ((remaining[0] & 0xFF) << 16) | ((remaining[1] & 0xFF) << 8) | (remaining[2] & 0xFF);
+    }
+}
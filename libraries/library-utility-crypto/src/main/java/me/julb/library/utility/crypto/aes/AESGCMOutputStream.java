@@ -0,0 +1,170 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.crypto.aes;
+
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * An output stream encrypting the data written using the segmented AES-GCM format.
+ * <P>
+ * The data is authenticated once the stream is closed.
+ * <br>
+ * @author Julb.
+ * @see AESGCMStreamFormat
+ */
+final class AESGCMOutputStream extends FilterOutputStream {
+
+    /**
+     * The cipher.
+     */
+    private final Cipher cipher;
+
+    /**
+     * The secret key.
+     */
+    private final SecretKey secretKey;
+
+    /**
+     * The nonce prefix.
+     */
+    private final byte[] noncePrefix;
+
+    /**
+     * The plain text of the current segment.
+     */
+    private final byte[] segment = new byte[AESGCMStreamFormat.SEGMENT_SIZE];
+
+    /**
+     * The number of bytes in the current segment.
+     */
+    private int segmentLength;
+
+    /**
+     * The index of the current segment.
+     */
+    private long segmentIndex;
+
+    /**
+     * <code>true</code> if the stream is closed, <code>false</code> otherwise.
+     */
+    private boolean closed;
+
+    /**
+     * Constructor.
+     * @param out the underlying output stream.
+     * @param secretKey the secret key.
+     * @param noncePrefix the nonce prefix.
+     * @throws IOException if the header cannot be written.
+     */
+    AESGCMOutputStream(OutputStream out, SecretKey secretKey, byte[] noncePrefix) throws IOException {
+        super(new DataOutputStream(out));
+        this.cipher = AESEncryptor.newCipher(AESEncryptor.GCM_TRANSFORMATION);
+        this.secretKey = secretKey;
+        this.noncePrefix = noncePrefix.clone();
+        this.out.write(noncePrefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        while (len > 0) {
+            // Only flush a full segment once more data arrives, so that the last segment is never empty unless the stream is.
+            if (segmentLength == segment.length) {
+                writeSegment(false);
+            }
+            int count = Math.min(len, segment.length - segmentLength);
+            System.arraycopy(b, off, segment, segmentLength, count);
+            segmentLength += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        // Segments are only written when complete: flush what has already been written.
+        out.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                writeSegment(true);
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Encrypts and writes the current segment.
+     * @param lastSegment <code>true</code> if the segment is the last one, <code>false</code> otherwise.
+     * @throws IOException if the segment cannot be written.
+     */
+    private void writeSegment(boolean lastSegment) throws IOException {
+        if (segmentIndex > AESGCMStreamFormat.MAXIMUM_SEGMENTS) {
+            throw new IOException("Stream too long");
+        }
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(AESEncryptor.GCM_TAG_LENGTH, AESGCMStreamFormat.segmentNonce(noncePrefix, segmentIndex, lastSegment)));
+            byte[] cipherText = cipher.doFinal(segment, 0, segmentLength);
+            DataOutputStream dataOut = (DataOutputStream) out;
+            dataOut.writeInt(cipherText.length);
+            dataOut.write(cipherText);
+        } catch (GeneralSecurityException e) {
+            throw new IOException(e);
+        }
+        segmentIndex++;
+        segmentLength = 0;
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.crypto.aes;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Constants of the segmented AES-GCM stream format.
+ * <P>
+ * A stream starts with a random nonce prefix, followed by segments made of a 4-byte ciphertext length and the ciphertext. Each segment carries at most
+ * {@link #SEGMENT_SIZE} bytes of plain text and is encrypted with a nonce made of the prefix, the segment index and a flag set on the last segment, so that
+ * reordered, removed or truncated segments are detected.
+ * <br>
+ * @author Julb.
+ */
+final class AESGCMStreamFormat {
+
+    /**
+     * The maximum plain text size of a segment.
+     */
+    static final int SEGMENT_SIZE = 64 * 1024;
+
+    /**
+     * The nonce prefix length.
+     */
+    static final int NONCE_PREFIX_LENGTH = 7;
+
+    /**
+     * The maximum number of segments.
+     */
+    static final long MAXIMUM_SEGMENTS = 0xFFFFFFFFL;
+
+    /**
+     * Constructor.
+     */
+    private AESGCMStreamFormat() {
+        // Do nothing
+    }
+
+    /**
+     * Builds the nonce of a segment.
+     * @param noncePrefix the nonce prefix of the stream.
+     * @param segmentIndex the segment index.
+     * @param lastSegment <code>true</code> if the segment is the last one, <code>false</code> otherwise.
+     * @return the nonce of the segment.
+     */
+    static byte[] segmentNonce(byte[] noncePrefix, long segmentIndex, boolean lastSegment) {
+        return ByteBuffer.allocate(AESEncryptor.GCM_NONCE_LENGTH).put(noncePrefix).putInt((int) segmentIndex).put((byte) (lastSegment ? 1 : 0)).array();
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.crypto.aes;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link AESDerivedKeyStore} class.
+ * <br>
+ * @author Julb.
+ */
+public class AESDerivedKeyStoreTest {
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenGettingSameKeyTwice_thenReturnSameDerivedKey() {
+        AESDerivedKeyStore keyStore = new AESDerivedKeyStore(2);
+        SecretKey first = keyStore.get("aaaabbbbccccddddaaaabbbbccccdddd", "aaaabbbb");
+        SecretKey second = keyStore.get("aaaabbbbccccddddaaaabbbbccccdddd", "aaaabbbb");
+        Assertions.assertArrayEquals(first.getEncoded(), second.getEncoded());
+        Assertions.assertEquals(32, first.getEncoded().length);
+        Assertions.assertEquals(1, keyStore.size());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenExceedingMaximumSize_thenEvictEldestKey() {
+        AESDerivedKeyStore keyStore = new AESDerivedKeyStore(2);
+        keyStore.get("key1", "aaaabbbb");
+        keyStore.get("key2", "aaaabbbb");
+        keyStore.get("key3", "aaaabbbb");
+        Assertions.assertEquals(2, keyStore.size());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenClearing_thenKeysAreStillUsableByHolders() {
+        AESDerivedKeyStore keyStore = new AESDerivedKeyStore(2);
+        SecretKey key = keyStore.get("key1", "aaaabbbb");
+        byte[] encoded = key.getEncoded();
+        keyStore.clear();
+        Assertions.assertEquals(0, keyStore.size());
+        Assertions.assertArrayEquals(encoded, key.getEncoded());
+        Assertions.assertArrayEquals(encoded, keyStore.get("key1", "aaaabbbb").getEncoded());
+    }
+}
@@ -24,8 +24,17 @@
 
 package me.julb.library.utility.crypto.aes;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.encrypt.Encryptors;
 
 /**
  * This class enables encryption and decryption of a {@link String} using AES256.
@@ -66,4 +75,102 @@ public class AESEncryptorTest {
         });
     }
 
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenDecryptingSpringEncryptorsValue_thenItWorks() {
+        String rawText = "textToEncrypt";
+        String key = "aaaabbbbccccddddaaaabbbbccccdddd";
+        String salt = "aaaabbbbccccaaaabbbbccccaaaabbbb";
+
+        Assertions.assertEquals(rawText, AESEncryptor.decrypt(Encryptors.text(key, salt).encrypt(rawText), key, salt));
+        Assertions.assertEquals(rawText, Encryptors.text(key, salt).decrypt(AESEncryptor.encrypt(rawText, key, salt)));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenEncryptingDecryptingAuthenticated_thenItWorks() {
+        String rawText = "textToEncrypt";
+        String key = "aaaabbbbccccddddaaaabbbbccccdddd";
+        String salt = "aaaabbbbccccaaaabbbbccccaaaabbbb";
+
+        String cipheredText = AESEncryptor.encryptAuthenticated(rawText, key, salt);
+        Assertions.assertNotEquals(cipheredText, AESEncryptor.encryptAuthenticated(rawText, key, salt));
+        Assertions.assertEquals(rawText, AESEncryptor.decryptAuthenticated(cipheredText, key, salt));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenDecryptingTamperedAuthenticated_thenThrow() {
+        String key = "aaaabbbbccccddddaaaabbbbccccdddd";
+        String salt = "aaaabbbbccccaaaabbbbccccaaaabbbb";
+
+        String cipheredText = AESEncryptor.encryptAuthenticated("textToEncrypt", key, salt);
+        char lastChar = cipheredText.charAt(cipheredText.length() - 1);
+        String tamperedText = cipheredText.substring(0, cipheredText.length() - 1) + (lastChar == '0' ? '1' : '0');
+        Assertions.assertThrows(IllegalStateException.class, () -> AESEncryptor.decryptAuthenticated(tamperedText, key, salt));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenEncryptingDecryptingStream_thenItWorks() throws IOException {
+        String key = "aaaabbbbccccddddaaaabbbbccccdddd";
+        String salt = "aaaabbbbccccaaaabbbbccccaaaabbbb";
+
+        for (int size : new int[] {0, 1, 64 * 1024, 64 * 1024 + 1, 300_000}) {
+            byte[] rawBytes = new byte[size];
+            new Random(size).nextBytes(rawBytes);
+
+            byte[] cipheredBytes = encryptStream(rawBytes, key, salt);
+            try (InputStream decryptingStream = AESEncryptor.decryptingStream(new ByteArrayInputStream(cipheredBytes), key, salt)) {
+                Assertions.assertArrayEquals(rawBytes, decryptingStream.readAllBytes());
+            }
+        }
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenDecryptingTruncatedStream_thenThrow() throws IOException {
+        String key = "aaaabbbbccccddddaaaabbbbccccdddd";
+        String salt = "aaaabbbbccccaaaabbbbccccaaaabbbb";
+
+        byte[] rawBytes = new byte[200_000];
+        byte[] cipheredBytes = encryptStream(rawBytes, key, salt);
+
+        // Drop the last segment: 200 000 = 3 * 65 536 + 3 392 bytes.
+        byte[] truncatedBytes = Arrays.copyOf(cipheredBytes, cipheredBytes.length - (Integer.BYTES + 3_392 + 16));
+        Assertions.assertThrows(IOException.class, () -> AESEncryptor.decryptingStream(new ByteArrayInputStream(truncatedBytes), key, salt).readAllBytes());
+
+        byte[] alteredBytes = cipheredBytes.clone();
+        alteredBytes[100] ^= 1;
+        Assertions.assertThrows(IOException.class, () -> AESEncryptor.decryptingStream(new ByteArrayInputStream(alteredBytes), key, salt).readAllBytes());
+    }
+
+    /**
+     * Encrypts the given bytes with the streaming encryptor.
+     * @param rawBytes the bytes to encrypt.
+     * @param key the key.
+     * @param salt the salt.
+     * @return the ciphered bytes.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static byte[] encryptStream(byte[] rawBytes, String key, String salt) throws IOException {
+        ByteArrayOutputStream cipheredBytes = new ByteArrayOutputStream();
+        try (OutputStream encryptingStream = AESEncryptor.encryptingStream(cipheredBytes, key, salt)) {
+            // Write in odd-sized chunks to cross segment boundaries.
+            for (int offset = 0; offset < rawBytes.length; offset += 10_007) {
+                encryptingStream.write(rawBytes, offset, Math.min(10_007, rawBytes.length - offset));
+            }
+        }
+        return cipheredBytes.toByteArray();
+    }
 }
@@ -0,0 +1,159 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.date;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A UTC clock with a millisecond resolution which caches the current tick.
+ * <P>
+ * All the callers reading the clock during the same millisecond share the same {@link Instant} and the same ISO 8601 serialized value, so that "now" is
+ * formatted at most once per millisecond.
+ * <br>
+ * @author Julb.
+ */
+public final class CachedMillisecondClock extends Clock {
+
+    /**
+     * The shared instance.
+     */
+    public static final CachedMillisecondClock INSTANCE = new CachedMillisecondClock();
+
+    /**
+     * The last tick read.
+     */
+    private volatile Tick lastTick = new Tick(System.currentTimeMillis());
+
+    /**
+     * Constructor.
+     */
+    private CachedMillisecondClock() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (ZoneOffset.UTC.equals(zone)) {
+            return this;
+        }
+        return Clock.system(zone);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long millis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Instant instant() {
+        return tick().instant;
+    }
+
+    /**
+     * Returns the current date time in ISO 8601 format.
+     * @return the current date time in ISO 8601 format.
+     */
+    public String dateTime() {
+        return tick().dateTime();
+    }
+
+    /**
+     * Returns the current tick, creating a new one when the millisecond changed.
+     * @return the current tick.
+     */
+    private Tick tick() {
+        long now = System.currentTimeMillis();
+        Tick tick = this.lastTick;
+        if (tick.epochMilli != now) {
+            tick = new Tick(now);
+            this.lastTick = tick;
+        }
+        return tick;
+    }
+
+    /**
+     * A clock tick.
+     * <br>
+     * @author Julb.
+     */
+    private static final class Tick {
+
+        /**
+         * The epoch millis.
+         */
+        private final long epochMilli;
+
+        /**
+         * The instant.
+         */
+        private final Instant instant;
+
+        /**
+         * The ISO 8601 serialized value, computed lazily. A race only leads to an identical string being computed twice.
+         */
+        private String dateTime;
+
+        /**
+         * Constructor.
+         * @param epochMilli the epoch millis.
+         */
+        Tick(long epochMilli) {
+            this.epochMilli = epochMilli;
+            this.instant = Instant.ofEpochMilli(epochMilli);
+        }
+
+        /**
+         * Returns the ISO 8601 serialized value.
+         * @return the ISO 8601 serialized value.
+         */
+        String dateTime() {
+            String value = this.dateTime;
+            if (value == null) {
+                value = IsoDateTimeCodec.format(this.epochMilli);
+                this.dateTime = value;
+            }
+            return value;
+        }
+    }
+}
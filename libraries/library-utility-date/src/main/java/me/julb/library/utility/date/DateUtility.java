@@ -23,9 +23,11 @@
  */
 package me.julb.library.utility.date;
 
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
 import java.util.Date;
 import java.util.TimeZone;
@@ -35,11 +37,29 @@ import me.julb.library.utility.constants.Temporals;
 
 /**
  * A date utility to generate standard formatted date and date times.
+ * <P>
+ * Formatters are built once, and "now" is read from the {@link CachedMillisecondClock}. The {@link Instant} based methods allow comparisons and expiry
+ * checks without formatting or parsing strings.
  * <br>
  * @author Julb.
  */
 public final class DateUtility {
 
+    /**
+     * The date formatter.
+     */
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE).withZone(ZoneOffset.UTC);
+
+    /**
+     * The time formatter.
+     */
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(Temporals.ISO_8601_TIME).withZone(ZoneOffset.UTC);
+
+    /**
+     * The clock.
+     */
+    private static final CachedMillisecondClock CLOCK = CachedMillisecondClock.INSTANCE;
+
     /**
      * Constructor.
      */
@@ -55,7 +75,18 @@ public final class DateUtility {
      * @return the UTC date time serialized in ISO 8601 format.
      */
     public static String dateTime(Date date) {
-        return DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).format(ZonedDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC));
+        return IsoDateTimeCodec.format(date.getTime());
+    }
+
+    /**
+     * Returns the UTC date time in ISO 8601 format.
+     * <P>
+     * Example: <i>2018-08-01T16:14:27.965Z</i>
+     * @param instant the input instant.
+     * @return the UTC date time serialized in ISO 8601 format.
+     */
+    public static String dateTime(Instant instant) {
+        return IsoDateTimeCodec.format(instant.toEpochMilli());
     }
 
     /**
@@ -65,7 +96,7 @@ public final class DateUtility {
      * @return the "now" UTC date time serialized in ISO 8601 format.
      */
     public static String dateTimeNow() {
-        return DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).format(ZonedDateTime.now(ZoneOffset.UTC));
+        return CLOCK.dateTime();
     }
 
     /**
@@ -95,7 +126,7 @@ public final class DateUtility {
      * @return the current date minus the given value in the given unit.
      */
     public static String dateTimeMinus(Long value, TemporalUnit unit) {
-        return DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).format(ZonedDateTime.now(ZoneOffset.UTC).minus(value, unit));
+        return dateTime(instantMinus(value, unit));
     }
 
     /**
@@ -105,7 +136,7 @@ public final class DateUtility {
      * @return the current date plus the given value in the given unit.
      */
     public static String dateTimePlus(Long value, TemporalUnit unit) {
-        return DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).format(ZonedDateTime.now(ZoneOffset.UTC).plus(value, unit));
+        return dateTime(instantPlus(value, unit));
     }
 
     /**
@@ -134,7 +165,7 @@ public final class DateUtility {
      * @return the UTC date serialized in ISO 8601 format.
      */
     public static String date(Date date) {
-        return DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE).format(ZonedDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC));
+        return DATE_FORMATTER.format(date.toInstant());
     }
 
     /**
@@ -144,7 +175,7 @@ public final class DateUtility {
      * @return the "now" UTC date serialized in ISO 8601 format.
      */
     public static String dateNow() {
-        return DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE).format(ZonedDateTime.now(ZoneOffset.UTC));
+        return DATE_FORMATTER.format(CLOCK.instant());
     }
 
     /**
@@ -154,7 +185,7 @@ public final class DateUtility {
      * @return the current date minus the given value in the given unit.
      */
     public static String dateMinus(Integer value, TemporalUnit unit) {
-        return DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE).format(ZonedDateTime.now(ZoneOffset.UTC).minus(value, unit));
+        return DATE_FORMATTER.format(instantMinus(value.longValue(), unit));
     }
 
     /**
@@ -164,7 +195,7 @@ public final class DateUtility {
      * @return the current date plus the given value in the given unit.
      */
     public static String datePlus(Integer value, TemporalUnit unit) {
-        return DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE).format(ZonedDateTime.now(ZoneOffset.UTC).plus(value, unit));
+        return DATE_FORMATTER.format(instantPlus(value.longValue(), unit));
     }
 
     /**
@@ -174,7 +205,7 @@ public final class DateUtility {
      * @return the "now" UTC time serialized in ISO 8601 format.
      */
     public static String timeNow() {
-        return DateTimeFormatter.ofPattern(Temporals.ISO_8601_TIME).format(ZonedDateTime.now(ZoneOffset.UTC));
+        return TIME_FORMATTER.format(CLOCK.instant());
     }
 
     /**
@@ -182,7 +213,61 @@ public final class DateUtility {
      * @return the "now" seconds since epoch.
      */
     public static Long epochSecondNow() {
-        return ZonedDateTime.now(ZoneOffset.UTC).toEpochSecond();
+        return TimeUnit.MILLISECONDS.toSeconds(CLOCK.millis());
+    }
+
+    /**
+     * Returns the "now" milliseconds since epoch.
+     * @return the "now" milliseconds since epoch.
+     */
+    public static long epochMilliNow() {
+        return CLOCK.millis();
+    }
+
+    /**
+     * Returns the "now" instant, truncated to the millisecond.
+     * @return the "now" instant.
+     */
+    public static Instant instantNow() {
+        return CLOCK.instant();
+    }
+
+    /**
+     * Returns the current instant minus the given value in the given unit.
+     * @param value the value to subtract.
+     * @param unit the unit.
+     * @return the current instant minus the given value in the given unit.
+     */
+    public static Instant instantMinus(long value, TemporalUnit unit) {
+        return plus(CLOCK.instant(), -value, unit);
+    }
+
+    /**
+     * Returns the current instant plus the given value in the given unit.
+     * @param value the value to add.
+     * @param unit the unit.
+     * @return the current instant plus the given value in the given unit.
+     */
+    public static Instant instantPlus(long value, TemporalUnit unit) {
+        return plus(CLOCK.instant(), value, unit);
+    }
+
+    /**
+     * Returns <code>true</code> if the given instant is before now, <code>false</code> otherwise.
+     * @param instant the instant to compare.
+     * @return <code>true</code> if the given instant is before now, <code>false</code> otherwise.
+     */
+    public static boolean instantBeforeNow(Instant instant) {
+        return instant.toEpochMilli() <= CLOCK.millis();
+    }
+
+    /**
+     * Returns <code>true</code> if the given instant is after now, <code>false</code> otherwise.
+     * @param instant the instant to compare.
+     * @return <code>true</code> if the given instant is after now, <code>false</code> otherwise.
+     */
+    public static boolean instantAfterNow(Instant instant) {
+        return instant.toEpochMilli() > CLOCK.millis();
     }
 
     /**
@@ -194,7 +279,7 @@ public final class DateUtility {
         if (date == null) {
             return null;
         }
-        return ZonedDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC).toEpochSecond();
+        return Math.floorDiv(date.getTime(), TimeUnit.SECONDS.toMillis(1));
     }
 
     /**
@@ -206,7 +291,19 @@ public final class DateUtility {
         if (dateTime == null) {
             return null;
         }
-        return ZonedDateTime.ofInstant(DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).parse(dateTime, ZonedDateTime::from).toInstant(), ZoneOffset.UTC).toEpochSecond();
+        return Math.floorDiv(IsoDateTimeCodec.parse(dateTime), TimeUnit.SECONDS.toMillis(1));
+    }
+
+    /**
+     * Returns the millisecond since epoch equivalent of a date.
+     * @param dateTime the date time.
+     * @return the millisecond since epoch equivalent of a date.
+     */
+    public static Long epochMilli(String dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return IsoDateTimeCodec.parse(dateTime);
     }
 
     /**
@@ -221,6 +318,18 @@ public final class DateUtility {
         return Math.max(0, epochSecond(dateTime) - epochSecondNow());
     }
 
+    /**
+     * Returns the number of seconds necessary to reach given instant.
+     * @param instant the instant.
+     * @return the number of seconds necessary to reach given instant.
+     */
+    public static Long secondsUntil(Instant instant) {
+        if (instant == null) {
+            return null;
+        }
+        return Math.max(0, instant.getEpochSecond() - epochSecondNow());
+    }
+
     /**
      * Returns the date equivalent of second since epoch.
      * @param epochSecond the epoch seconds.
@@ -239,7 +348,21 @@ public final class DateUtility {
      * @return the UTC date time serialized in ISO 8601 format.
      */
     public static Date parseDateTime(String datetime) {
-        return Date.from(DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).parse(datetime, ZonedDateTime::from).toInstant());
+        return new Date(IsoDateTimeCodec.parse(datetime));
+    }
+
+    /**
+     * Returns the instant equivalent of a date time.
+     * <P>
+     * Example: <i>2018-08-01T16:14:27.965Z</i>
+     * @param datetime the date time in ISO 8601 format.
+     * @return the instant equivalent of the date time.
+     */
+    public static Instant parseInstant(String datetime) {
+        if (datetime == null) {
+            return null;
+        }
+        return Instant.ofEpochMilli(IsoDateTimeCodec.parse(datetime));
     }
 
     /**
@@ -249,7 +372,22 @@ public final class DateUtility {
      * @return the given date time in ISO 8601 format in RFC1123 String in the given timezone.
      */
     public static String dateTimeToRfc1123(String datetime, TimeZone timeZone) {
-        ZonedDateTime parse = DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).parse(datetime, ZonedDateTime::from);
-        return parse.withZoneSameInstant(timeZone.toZoneId()).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(IsoDateTimeCodec.parse(datetime)).atZone(timeZone.toZoneId()));
+    }
+
+    /**
+     * Adds the given amount to the instant.
+     * <P>
+     * Units up to {@link ChronoUnit#DAYS} are added on the instant timeline. Larger units are added on the UTC calendar.
+     * @param instant the instant.
+     * @param value the amount to add.
+     * @param unit the unit.
+     * @return the instant plus the given amount.
+     */
+    private static Instant plus(Instant instant, long value, TemporalUnit unit) {
+        if (instant.isSupported(unit)) {
+            return instant.plus(value, unit);
+        }
+        return ZonedDateTime.ofInstant(instant, ZoneOffset.UTC).plus(value, unit).toInstant();
     }
 }
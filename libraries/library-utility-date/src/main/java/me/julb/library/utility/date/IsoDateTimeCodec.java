@@ -0,0 +1,210 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.date;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import me.julb.library.utility.constants.Temporals;
+
+/**
+ * A codec to format and parse UTC date times in the {@link Temporals#ISO_8601_DATE_TIME} format.
+ * <P>
+ * The canonical <i>yyyy-MM-ddTHH:mm:ss.SSSZ</i> form is encoded and decoded by hand, without intermediate temporal objects. Any other input is delegated to a
+ * pre-built {@link DateTimeFormatter}.
+ * <br>
+ * @author Julb.
+ */
+final class IsoDateTimeCodec {
+
+    /**
+     * The date time formatter.
+     */
+    static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME).withZone(ZoneOffset.UTC);
+
+    /**
+     * The length of a canonical date time.
+     */
+    static final int LENGTH = 24;
+
+    /**
+     * The number of milliseconds in a day.
+     */
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * The epoch millis of 0001-01-01T00:00:00.000Z.
+     */
+    private static final long MIN_FAST_EPOCH_MILLI = -62_135_596_800_000L;
+
+    /**
+     * The epoch millis of 10000-01-01T00:00:00.000Z.
+     */
+    private static final long MAX_FAST_EPOCH_MILLI = 253_402_300_800_000L;
+
+    /**
+     * Constructor.
+     */
+    private IsoDateTimeCodec() {
+        // Do nothing
+    }
+
+    /**
+     * Formats the given epoch millis.
+     * @param epochMilli the epoch millis.
+     * @return the UTC date time serialized in ISO 8601 format.
+     */
+    static String format(long epochMilli) {
+        if (epochMilli < MIN_FAST_EPOCH_MILLI || epochMilli >= MAX_FAST_EPOCH_MILLI) {
+            return DATE_TIME_FORMATTER.format(Instant.ofEpochMilli(epochMilli));
+        }
+
+        long epochDay = Math.floorDiv(epochMilli, MILLIS_PER_DAY);
+        int millisOfDay = (int) Math.floorMod(epochMilli, MILLIS_PER_DAY);
+
+        // Civil date from days since epoch.
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        int dayOfEra = (int) (z - era * 146_097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+        char[] chars = new char[LENGTH];
+        writeDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, month, 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, day, 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, millisOfDay / 3_600_000, 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, (millisOfDay / 60_000) % 60, 2);
+        chars[16] = ':';
+        writeDigits(chars, 17, (millisOfDay / 1_000) % 60, 2);
+        chars[19] = '.';
+        writeDigits(chars, 20, millisOfDay % 1_000, 3);
+        chars[23] = 'Z';
+        return new String(chars);
+    }
+
+    /**
+     * Parses the given date time.
+     * @param dateTime the date time in ISO 8601 format.
+     * @return the epoch millis.
+     * @throws java.time.format.DateTimeParseException if the date time cannot be parsed.
+     */
+    static long parse(CharSequence dateTime) {
+        if (dateTime.length() == LENGTH && dateTime.charAt(4) == '-' && dateTime.charAt(7) == '-' && dateTime.charAt(10) == 'T' && dateTime.charAt(13) == ':' && dateTime.charAt(16) == ':'
+            && dateTime.charAt(19) == '.' && dateTime.charAt(23) == 'Z') {
+            int year = readDigits(dateTime, 0, 4);
+            int month = readDigits(dateTime, 5, 2);
+            int day = readDigits(dateTime, 8, 2);
+            int hour = readDigits(dateTime, 11, 2);
+            int minute = readDigits(dateTime, 14, 2);
+            int second = readDigits(dateTime, 17, 2);
+            int milli = readDigits(dateTime, 20, 3);
+            if (year >= 1 && month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month) && hour >= 0 && hour < 24 && minute >= 0 && minute < 60 && second >= 0 && second < 60
+                && milli >= 0) {
+                return epochDay(year, month, day) * MILLIS_PER_DAY + hour * 3_600_000L + minute * 60_000L + second * 1_000L + milli;
+            }
+        }
+
+        // Non-canonical form: let the formatter parse or report the error.
+        return DATE_TIME_FORMATTER.parse(dateTime, Instant::from).toEpochMilli();
+    }
+
+    /**
+     * Writes the given value as zero-padded digits.
+     * @param chars the target array.
+     * @param offset the offset in the target array.
+     * @param value the value to write.
+     * @param width the number of digits.
+     */
+    private static void writeDigits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Reads the given number of digits.
+     * @param chars the source sequence.
+     * @param offset the offset in the source sequence.
+     * @param width the number of digits.
+     * @return the value read, or <code>-1</code> if a character is not a digit.
+     */
+    private static int readDigits(CharSequence chars, int offset, int width) {
+        int value = 0;
+        for (int i = offset; i < offset + width; i++) {
+            char c = chars.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of days in the given month.
+     * @param year the year.
+     * @param month the month.
+     * @return the number of days in the given month.
+     */
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Returns the number of days since epoch of the given civil date.
+     * @param year the year.
+     * @param month the month.
+     * @param day the day of month.
+     * @return the number of days since epoch.
+     */
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+}
@@ -23,9 +23,20 @@
  */
 package me.julb.library.utility.date;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Random;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import me.julb.library.utility.constants.Temporals;
+
 /**
  * Test class for {@link DateUtility} class.
  * <br>
@@ -60,4 +71,78 @@ public class DateUtilityTest {
         Assertions.assertNotNull(epochSeconds);
     }
 
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenDateTimeOfInstant_thenReturnSameAsFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME);
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long epochMilli = -62_135_596_800_000L + Math.floorMod(random.nextLong(), 315_537_897_600_000L);
+            String expected = formatter.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC));
+            Assertions.assertEquals(expected, DateUtility.dateTime(Instant.ofEpochMilli(epochMilli)));
+            Assertions.assertEquals(expected, DateUtility.dateTime(new Date(epochMilli)));
+            Assertions.assertEquals(epochMilli, DateUtility.epochMilli(expected));
+        }
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenParseDateTime_thenReturnValidInstant() {
+        Assertions.assertEquals(Instant.parse("2018-08-01T16:14:27.965Z"), DateUtility.parseInstant("2018-08-01T16:14:27.965Z"));
+        Assertions.assertEquals(Instant.parse("2020-02-29T00:00:00.000Z"), DateUtility.parseDateTime("2020-02-29T00:00:00.000Z").toInstant());
+        Assertions.assertEquals(Instant.parse("2018-08-01T15:14:27.965Z"), DateUtility.parseInstant("2018-08-01T16:14:27.965+01"));
+        Assertions.assertEquals(1533140067L, DateUtility.epochSecond("2018-08-01T16:14:27.965Z"));
+        Assertions.assertNull(DateUtility.parseInstant(null));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenParseInvalidDateTime_thenThrowDateTimeParseException() {
+        Assertions.assertThrows(DateTimeParseException.class, () -> DateUtility.parseDateTime("2019-02-28T25:00:00.000Z"));
+        Assertions.assertThrows(DateTimeParseException.class, () -> DateUtility.parseDateTime("2019-13-28T00:00:00.000Z"));
+        Assertions.assertThrows(DateTimeParseException.class, () -> DateUtility.parseDateTime("2019-02-28"));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenParseLenientDateTime_thenReturnSameAsFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(Temporals.ISO_8601_DATE_TIME);
+        for (String dateTime : new String[] {"2019-02-29T00:00:00.000Z", "2019-04-31T12:00:00.000Z", "2019-02-28T24:00:00.000Z"}) {
+            Assertions.assertEquals(formatter.parse(dateTime, ZonedDateTime::from).toInstant(), DateUtility.parseInstant(dateTime));
+        }
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenInstantBeforeOrAfterNow_thenReturnValidComparison() {
+        Assertions.assertTrue(DateUtility.instantBeforeNow(DateUtility.instantMinus(1, ChronoUnit.SECONDS)));
+        Assertions.assertFalse(DateUtility.instantAfterNow(DateUtility.instantMinus(1, ChronoUnit.SECONDS)));
+        Assertions.assertTrue(DateUtility.instantAfterNow(DateUtility.instantPlus(1, ChronoUnit.MINUTES)));
+        Assertions.assertTrue(DateUtility.dateTimeBeforeNow(DateUtility.dateTimeMinus(1, ChronoUnit.YEARS)));
+        Assertions.assertTrue(DateUtility.dateTimeAfterNow(DateUtility.dateTimePlus(1, ChronoUnit.MONTHS)));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenDateTimeNowCalledTwiceInSameMillisecond_thenReturnSameInstance() {
+        String first;
+        String second;
+        do {
+            first = DateUtility.dateTimeNow();
+            second = DateUtility.dateTimeNow();
+        } while (!first.equals(second));
+        Assertions.assertSame(first, second);
+    }
 }
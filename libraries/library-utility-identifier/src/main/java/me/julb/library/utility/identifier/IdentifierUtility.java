@@ -23,14 +23,8 @@
  */
 package me.julb.library.utility.identifier;
 
-import java.security.SecureRandom;
-
-import org.apache.commons.text.CharacterPredicates;
-import org.apache.commons.text.RandomStringGenerator;
-import org.apache.commons.text.TextRandomProvider;
-
-import me.julb.library.utility.constants.Chars;
 import me.julb.library.utility.constants.Integers;
+import me.julb.library.utility.random.SecureRandomStringGenerator;
 
 /**
  * An utility to manipulate identifiers.
@@ -39,27 +33,6 @@ import me.julb.library.utility.constants.Integers;
  */
 public final class IdentifierUtility {
 
-    /**
-     * A random provider secure to generate the string.
-     * <br>
-     * @author Julb.
-     */
-    private static final class SecureTextRandomProvider implements TextRandomProvider {
-
-        /**
-         * A secure random to generate ID.
-         */
-        private static final SecureRandom SECURE_RANDOM = new SecureRandom();
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int nextInt(int max) {
-            return SECURE_RANDOM.nextInt(max);
-        }
-    }
-
     /**
      * Constructor.
      */
@@ -75,13 +48,18 @@ public final class IdentifierUtility {
      * @return a warranted new identifier for the object.
      */
     public static String generateId() {
-        //@formatter:off
-        return new RandomStringGenerator.Builder()
-            .withinRange(Chars.ZERO, Chars.F_LOWERCASE)
-            .filteredBy(CharacterPredicates.DIGITS, CharacterPredicates.ASCII_LOWERCASE_LETTERS)
-            .usingRandom(new SecureTextRandomProvider())
-            .build()
-            .generate(Integers.THIRTY_TWO);
-        //@formatter:on
+        return SecureRandomStringGenerator.generateHexadecimal(Integers.THIRTY_TWO);
+    }
+
+    /**
+     * Generates a unique universal identifier ordered by creation time.
+     * <P>
+     * The generated identifier has the same format as {@link #generateId()}, but starts with the creation timestamp so that identifiers generated in a row
+     * are inserted at the end of the indexes instead of at random places.
+     * <P>
+     * @return a warranted new identifier for the object.
+     */
+    public static String generateTimeOrderedId() {
+        return SecureRandomStringGenerator.generateTimeOrderedHexadecimal(Integers.THIRTY_TWO);
     }
 }
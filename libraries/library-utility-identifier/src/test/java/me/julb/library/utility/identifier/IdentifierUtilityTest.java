@@ -48,4 +48,15 @@ public final class IdentifierUtilityTest {
         Assertions.assertTrue(Pattern.matches("^[0-9a-f]+$", id));
     }
 
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenGenerateTimeOrderedId_thenReturnValidFormat() {
+        String id = IdentifierUtility.generateTimeOrderedId();
+        Assertions.assertEquals(Integers.THIRTY_TWO, id.length());
+        Assertions.assertTrue(Pattern.matches("^[0-9a-f]+$", id));
+        Assertions.assertTrue(id.substring(0, 12).compareTo(IdentifierUtility.generateTimeOrderedId().substring(0, 12)) <= 0);
+    }
+
 }
@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
 import lombok.extern.slf4j.Slf4j;
@@ -63,9 +64,9 @@ public class RemoteUrlJWKSetProvider implements IJWKSetProvider {
     private String lastJSONString;
 
     /**
-     * The not retry before date time.
+     * The not retry before instant.
      */
-    private String notRetryBeforeDateTime;
+    private Instant notRetryBefore;
 
     /**
      * The not retry before internal in seconds.
@@ -73,9 +74,9 @@ public class RemoteUrlJWKSetProvider implements IJWKSetProvider {
     private Integer notRetryBeforeIntervalInSeconds = 30;
 
     /**
-     * The expiry date time.
+     * The expiry instant.
      */
-    private String expiryDateTime;
+    private Instant expiry;
 
     // ------------------------------------------ Constructors.
 
@@ -106,15 +107,15 @@ public class RemoteUrlJWKSetProvider implements IJWKSetProvider {
      * Refresh the JSON string.
      */
     private String getJSONString() {
-        if ((this.expiryDateTime == null || DateUtility.dateTimeBeforeNow(this.expiryDateTime)) && DateUtility.dateTimeAfterNow(this.notRetryBeforeDateTime)) {
+        if ((this.expiry == null || DateUtility.instantBeforeNow(this.expiry)) && (this.notRetryBefore == null || DateUtility.instantBeforeNow(this.notRetryBefore))) {
             try {
                 LOGGER.debug("Fetching the JWKS from url {}.", this.url);
                 this.lastJSONString = IOUtils.toString(new URL(url), StandardCharsets.UTF_8);
-                this.notRetryBeforeDateTime = null;
-                this.expiryDateTime = DateUtility.dateTimePlus(this.cacheValidityInSeconds, ChronoUnit.SECONDS);
+                this.notRetryBefore = null;
+                this.expiry = DateUtility.instantPlus(this.cacheValidityInSeconds, ChronoUnit.SECONDS);
             } catch (IOException e) {
                 LOGGER.error("Unable to fetch the JWKS from the given URL.", e);
-                this.notRetryBeforeDateTime = DateUtility.dateTimePlus(this.notRetryBeforeIntervalInSeconds, ChronoUnit.SECONDS);
+                this.notRetryBefore = DateUtility.instantPlus(this.notRetryBeforeIntervalInSeconds, ChronoUnit.SECONDS);
             }
         }
         return this.lastJSONString;
@@ -26,14 +26,9 @@ package me.julb.library.utility.otp;
 import java.util.ArrayList;
 import java.util.List;
 
-import dev.samstevens.totp.code.CodeGenerator;
-import dev.samstevens.totp.code.DefaultCodeGenerator;
 import dev.samstevens.totp.code.HashingAlgorithm;
-import dev.samstevens.totp.exceptions.CodeGenerationException;
 import dev.samstevens.totp.qr.QrData;
 import dev.samstevens.totp.secret.DefaultSecretGenerator;
-import dev.samstevens.totp.time.SystemTimeProvider;
-import dev.samstevens.totp.time.TimeProvider;
 import me.julb.library.utility.constants.Integers;
 
 /**
@@ -46,22 +41,27 @@ public final class TotpUtility {
     /**
      * The TOTP time period.
      */
-    private static Integer TOTP_TIME_PERIOD = Integers.THIRTY;
+    static final int TOTP_TIME_PERIOD = Integers.THIRTY;
 
     /**
      * The TOTP secret length.
      */
-    private static Integer TOTP_SECRET_LENGTH = Integers.THIRTY_TWO;
+    private static final int TOTP_SECRET_LENGTH = Integers.THIRTY_TWO;
 
     /**
      * The TOTP hashing algorithm.
      */
-    private static HashingAlgorithm TOTP_CODE_HASHING_ALGORITHM = HashingAlgorithm.SHA1;
+    private static final HashingAlgorithm TOTP_CODE_HASHING_ALGORITHM = HashingAlgorithm.SHA1;
 
     /**
-     * The TOTP secret length.
+     * The TOTP code length.
+     */
+    static final int TOTP_CODE_DIGIT_LENGTH = Integers.SIX;
+
+    /**
+     * The verifier used to compute the codes.
      */
-    private static Integer TOTP_CODE_DIGIT_LENGTH = Integers.SIX;
+    private static final TotpVerifier TOTP_VERIFIER = new TotpVerifier(Integers.ZERO);
 
     /**
      * Constructor.
@@ -105,8 +105,7 @@ public final class TotpUtility {
      * @return the TOTP corresponding to the secret.
      */
     public static String generateValidTotp(String secret) {
-        Iterable<String> generateValidTotps = generateValidTotps(secret, Integers.ZERO);
-        return generateValidTotps.iterator().next();
+        return TotpVerifier.generate(secret, TOTP_VERIFIER.currentTimePeriod());
     }
 
     /**
@@ -114,24 +113,18 @@ public final class TotpUtility {
      * @param secret the secret.
      * @param totpAllowedTimePeriodDiscrepancy the TOTP allowed time period discrepancy.
      * @return the TOTP corresponding to the secret.
+     * @see TotpVerifier to verify a submitted TOTP without generating the list.
      */
     public static Iterable<String> generateValidTotps(String secret, int totpAllowedTimePeriodDiscrepancy) {
-        TimeProvider totpTimeProvider = new SystemTimeProvider();
-        CodeGenerator codeGenerator = new DefaultCodeGenerator(TOTP_CODE_HASHING_ALGORITHM, TOTP_CODE_DIGIT_LENGTH);
+        // Get current bucket.
+        long currentBucket = TOTP_VERIFIER.currentTimePeriod();
 
-        try {
-            // Get current bucket.
-            long currentBucket = Math.floorDiv(totpTimeProvider.getTime(), TOTP_TIME_PERIOD);
-
-            // Build a list of valid TOTPs.
-            List<String> validTotps = new ArrayList<>();
-            for (int i = -totpAllowedTimePeriodDiscrepancy; i <= totpAllowedTimePeriodDiscrepancy; i++) {
-                validTotps.add(codeGenerator.generate(secret, currentBucket + i));
-            }
-
-            return validTotps;
-        } catch (CodeGenerationException e) {
-            throw new RuntimeException(e);
+        // Build a list of valid TOTPs.
+        List<String> validTotps = new ArrayList<>(2 * totpAllowedTimePeriodDiscrepancy + 1);
+        for (int i = -totpAllowedTimePeriodDiscrepancy; i <= totpAllowedTimePeriodDiscrepancy; i++) {
+            validTotps.add(TotpVerifier.generate(secret, currentBucket + i));
         }
+
+        return validTotps;
     }
 }
@@ -0,0 +1,327 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.otp;
+
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.codec.binary.Base32;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * A TOTP verifier.
+ * <br>
+ * The codes are computed with a HMAC instance reused by each thread, and the submitted code is compared with the code of every time period of the allowed window,
+ * without early exit. The last accepted time period of each secret is recorded so that a code cannot be accepted twice.
+ * <br>
+ * The secrets are never retained as is: the records and the HMAC state of each thread refer to them by their SHA-256 digest.
+ * <br>
+ * @author Julb.
+ */
+public final class TotpVerifier {
+
+    /**
+     * The HMAC algorithm.
+     */
+    private static final String HMAC_ALGORITHM = "HmacSHA1";
+
+    /**
+     * The value returned when no time period matches.
+     */
+    private static final long NO_MATCH = Long.MIN_VALUE;
+
+    /**
+     * The default maximum number of secrets whose last accepted time period is recorded.
+     */
+    private static final int DEFAULT_MAX_TRACKED_SECRETS = 100_000;
+
+    /**
+     * The HMAC state of each thread.
+     */
+    private static final ThreadLocal<HmacState> HMAC_STATES = ThreadLocal.withInitial(HmacState::new);
+
+    /**
+     * The clock.
+     */
+    private final Clock clock;
+
+    /**
+     * The number of time periods accepted before and after the current one.
+     */
+    private final int allowedTimePeriodDiscrepancy;
+
+    /**
+     * The maximum number of secrets whose last accepted time period is recorded.
+     */
+    private final int maxTrackedSecrets;
+
+    /**
+     * The last accepted time period by digest of the secret.
+     */
+    private final ConcurrentMap<String, Long> lastAcceptedTimePeriods = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor using the system clock.
+     * @param allowedTimePeriodDiscrepancy the number of time periods accepted before and after the current one.
+     */
+    public TotpVerifier(int allowedTimePeriodDiscrepancy) {
+        this(Clock.systemUTC(), allowedTimePeriodDiscrepancy, DEFAULT_MAX_TRACKED_SECRETS);
+    }
+
+    /**
+     * Constructor.
+     * @param clock the clock.
+     * @param allowedTimePeriodDiscrepancy the number of time periods accepted before and after the current one.
+     * @param maxTrackedSecrets the number of secrets above which the records older than the allowed window are purged.
+     */
+    public TotpVerifier(Clock clock, int allowedTimePeriodDiscrepancy, int maxTrackedSecrets) {
+        this.clock = clock;
+        this.allowedTimePeriodDiscrepancy = allowedTimePeriodDiscrepancy;
+        this.maxTrackedSecrets = maxTrackedSecrets;
+    }
+
+    /**
+     * Verifies the code submitted for the secret, and records its time period so that it cannot be accepted again.
+     * @param secret the base32-encoded secret.
+     * @param code the submitted code.
+     * @return <code>true</code> if the code is valid within the allowed window and its time period is after the last accepted one, <code>false</code> otherwise.
+     */
+    public boolean verify(String secret, String code) {
+        HmacState hmacState = HMAC_STATES.get();
+        String secretDigest = hmacState.init(secret);
+
+        long currentTimePeriod = currentTimePeriod();
+        long matchingTimePeriod = findMatchingTimePeriod(hmacState, code, currentTimePeriod);
+        if (matchingTimePeriod == NO_MATCH) {
+            return false;
+        }
+        return markAccepted(secretDigest, matchingTimePeriod, currentTimePeriod);
+    }
+
+    /**
+     * Checks the code submitted for the secret, without replay protection.
+     * @param secret the base32-encoded secret.
+     * @param code the submitted code.
+     * @return <code>true</code> if the code is valid within the allowed window, <code>false</code> otherwise.
+     */
+    public boolean matches(String secret, String code) {
+        HmacState hmacState = HMAC_STATES.get();
+        hmacState.init(secret);
+        return findMatchingTimePeriod(hmacState, code, currentTimePeriod()) != NO_MATCH;
+    }
+
+    /**
+     * Gets the current time period.
+     * @return the current time period.
+     */
+    public long currentTimePeriod() {
+        return Math.floorDiv(clock.millis(), TotpUtility.TOTP_TIME_PERIOD * 1000L);
+    }
+
+    /**
+     * Generates the code of the secret for the given time period.
+     * @param secret the base32-encoded secret.
+     * @param timePeriod the time period.
+     * @return the code, left-padded with zeros.
+     */
+    public static String generate(String secret, long timePeriod) {
+        HmacState hmacState = HMAC_STATES.get();
+        hmacState.init(secret);
+        int code = hmacState.code(timePeriod);
+
+        char[] chars = new char[TotpUtility.TOTP_CODE_DIGIT_LENGTH];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + code % 10);
+            code /= 10;
+        }
+        return new String(chars);
+    }
+
+    // ------------------------------------------ Private methods.
+
+    /**
+     * Finds the time period of the allowed window whose code is the submitted one.
+     * @param hmacState the HMAC state, initialized with the secret.
+     * @param code the submitted code.
+     * @param currentTimePeriod the current time period.
+     * @return the latest matching time period, or {@link #NO_MATCH}.
+     */
+    private long findMatchingTimePeriod(HmacState hmacState, String code, long currentTimePeriod) {
+        int submittedCode = parseCode(code);
+        if (submittedCode < 0) {
+            return NO_MATCH;
+        }
+
+        long matchingTimePeriod = NO_MATCH;
+        for (long timePeriod = currentTimePeriod - allowedTimePeriodDiscrepancy; timePeriod <= currentTimePeriod + allowedTimePeriodDiscrepancy; timePeriod++) {
+            // Select the time period without branching on the comparison: the mask is all ones when the codes are equal.
+            int difference = hmacState.code(timePeriod) ^ submittedCode;
+            long mask = -(long) (((difference - 1) & ~difference) >>> 31);
+            matchingTimePeriod = (timePeriod & mask) | (matchingTimePeriod & ~mask);
+        }
+        return matchingTimePeriod;
+    }
+
+    /**
+     * Records the accepted time period of the secret.
+     * @param secretDigest the digest of the secret.
+     * @param timePeriod the matching time period.
+     * @param currentTimePeriod the current time period.
+     * @return <code>true</code> if the time period is after the last accepted one, <code>false</code> if the code is replayed.
+     */
+    private boolean markAccepted(String secretDigest, long timePeriod, long currentTimePeriod) {
+        if (lastAcceptedTimePeriods.size() >= maxTrackedSecrets) {
+            // A record older than the window cannot reject any code anymore.
+            long oldestTimePeriod = currentTimePeriod - allowedTimePeriodDiscrepancy;
+            lastAcceptedTimePeriods.values().removeIf(lastAcceptedTimePeriod -> lastAcceptedTimePeriod < oldestTimePeriod);
+        }
+
+        while (true) {
+            Long lastAcceptedTimePeriod = lastAcceptedTimePeriods.get(secretDigest);
+            if (lastAcceptedTimePeriod == null) {
+                if (lastAcceptedTimePeriods.putIfAbsent(secretDigest, timePeriod) == null) {
+                    return true;
+                }
+            } else if (lastAcceptedTimePeriod >= timePeriod) {
+                return false;
+            } else if (lastAcceptedTimePeriods.replace(secretDigest, lastAcceptedTimePeriod, timePeriod)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Parses the submitted code.
+     * @param code the submitted code.
+     * @return the code value, or <code>-1</code> if the code does not have the expected number of digits.
+     */
+    private static int parseCode(String code) {
+        if (code == null || code.length() != TotpUtility.TOTP_CODE_DIGIT_LENGTH) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * The HMAC state of a thread.
+     * <br>
+     * @author Julb.
+     */
+    private static final class HmacState {
+
+        /**
+         * The modulo giving the expected number of digits.
+         */
+        private static final int MODULO = (int) Math.pow(10, TotpUtility.TOTP_CODE_DIGIT_LENGTH);
+
+        /**
+         * The HMAC instance.
+         */
+        private final Mac mac;
+
+        /**
+         * The buffer holding the time period.
+         */
+        private final byte[] counter = new byte[Long.BYTES];
+
+        /**
+         * The buffer holding the HMAC.
+         */
+        private final byte[] hash;
+
+        /**
+         * The digest of the secret the HMAC instance is initialized with.
+         */
+        private String secretDigest;
+
+        /**
+         * Default constructor.
+         */
+        HmacState() {
+            try {
+                this.mac = Mac.getInstance(HMAC_ALGORITHM);
+                this.hash = new byte[mac.getMacLength()];
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Initializes the HMAC instance with the secret, unless it is already.
+         * @param secret the base32-encoded secret.
+         * @return the digest of the secret.
+         */
+        String init(String secret) {
+            String digest = DigestUtils.sha256Hex(secret);
+            if (!digest.equals(this.secretDigest)) {
+                try {
+                    mac.init(new SecretKeySpec(new Base32().decode(secret), HMAC_ALGORITHM));
+                    this.secretDigest = digest;
+                } catch (GeneralSecurityException e) {
+                    this.secretDigest = null;
+                    throw new IllegalStateException(e);
+                }
+            }
+            return digest;
+        }
+
+        /**
+         * Computes the code of the secret the HMAC instance is initialized with for the given time period, as described in RFC 4226.
+         * @param timePeriod the time period.
+         * @return the code.
+         */
+        int code(long timePeriod) {
+            try {
+                long value = timePeriod;
+                for (int i = counter.length - 1; i >= 0; i--) {
+                    counter[i] = (byte) value;
+                    value >>>= 8;
+                }
+                mac.update(counter);
+                mac.doFinal(hash, 0);
+            } catch (GeneralSecurityException e) {
+                this.secretDigest = null;
+                throw new IllegalStateException(e);
+            }
+
+            // Dynamic truncation.
+            int offset = hash[hash.length - 1] & 0xf;
+            int binary = ((hash[offset] & 0x7f) << 24) | ((hash[offset + 1] & 0xff) << 16) | ((hash[offset + 2] & 0xff) << 8) | (hash[offset + 3] & 0xff);
+            return binary % MODULO;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.otp;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.samstevens.totp.code.DefaultCodeGenerator;
+import dev.samstevens.totp.code.HashingAlgorithm;
+
+/**
+ * Test class for {@link TotpVerifier} class.
+ * <br>
+ * @author Julb.
+ */
+public class TotpVerifierTest {
+
+    /**
+     * The RFC 6238 secret <code>12345678901234567890</code>, base32-encoded.
+     */
+    private static final String RFC_SECRET = "GEZDGNBVGY3TQOJQGEZDGNBVGY3TQOJQ";
+
+    /**
+     * Another secret.
+     */
+    private static final String SECRET = TotpUtility.generateRandomTotpSecret();
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenGeneratingRfcVectors_thenMatchExpectedCodes() {
+        // RFC 6238 appendix B, SHA1, truncated to 6 digits.
+        Assertions.assertEquals("287082", TotpVerifier.generate(RFC_SECRET, 59 / 30));
+        Assertions.assertEquals("081804", TotpVerifier.generate(RFC_SECRET, 1111111109L / 30));
+        Assertions.assertEquals("050471", TotpVerifier.generate(RFC_SECRET, 1111111111L / 30));
+        Assertions.assertEquals("005924", TotpVerifier.generate(RFC_SECRET, 1234567890L / 30));
+        Assertions.assertEquals("279037", TotpVerifier.generate(RFC_SECRET, 2000000000L / 30));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenGeneratingCodes_thenMatchLibraryCodeGenerator()
+        throws Exception {
+        DefaultCodeGenerator codeGenerator = new DefaultCodeGenerator(HashingAlgorithm.SHA1, 6);
+        for (long timePeriod = 55_000_000; timePeriod < 55_000_100; timePeriod++) {
+            Assertions.assertEquals(codeGenerator.generate(SECRET, timePeriod), TotpVerifier.generate(SECRET, timePeriod));
+        }
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenCodeIsWithinWindowEdges_thenAccept() {
+        long timePeriod = 55_000_000;
+        for (long millis : new long[] {timePeriod * 30_000, timePeriod * 30_000 + 29_999}) {
+            TotpVerifier verifier = new TotpVerifier(fixedClock(millis), 1, 100);
+            Assertions.assertTrue(verifier.matches(SECRET, TotpVerifier.generate(SECRET, timePeriod - 1)));
+            Assertions.assertTrue(verifier.matches(SECRET, TotpVerifier.generate(SECRET, timePeriod)));
+            Assertions.assertTrue(verifier.matches(SECRET, TotpVerifier.generate(SECRET, timePeriod + 1)));
+        }
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenCodeIsOutsideWindow_thenReject() {
+        long timePeriod = 55_000_000;
+        TotpVerifier verifier = new TotpVerifier(fixedClock(timePeriod * 30_000), 1, 100);
+        Assertions.assertFalse(verifier.matches(SECRET, TotpVerifier.generate(SECRET, timePeriod - 2)));
+        Assertions.assertFalse(verifier.matches(SECRET, TotpVerifier.generate(SECRET, timePeriod + 2)));
+
+        // The previous time period falls out of the window one millisecond before the current one starts.
+        TotpVerifier earlier = new TotpVerifier(fixedClock(timePeriod * 30_000 - 1), 1, 100);
+        Assertions.assertFalse(earlier.matches(SECRET, TotpVerifier.generate(SECRET, timePeriod + 1)));
+        Assertions.assertTrue(earlier.matches(SECRET, TotpVerifier.generate(SECRET, timePeriod)));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenCodeHasInvalidFormat_thenReject() {
+        TotpVerifier verifier = new TotpVerifier(1);
+        Assertions.assertFalse(verifier.verify(SECRET, null));
+        Assertions.assertFalse(verifier.verify(SECRET, ""));
+        Assertions.assertFalse(verifier.verify(SECRET, "12345"));
+        Assertions.assertFalse(verifier.verify(SECRET, "1234567"));
+        Assertions.assertFalse(verifier.verify(SECRET, "12a456"));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenCodeIsReplayed_thenReject() {
+        long timePeriod = 55_000_000;
+        TotpVerifier verifier = new TotpVerifier(fixedClock(timePeriod * 30_000 + 15_000), 1, 100);
+
+        String code = TotpVerifier.generate(SECRET, timePeriod);
+        Assertions.assertTrue(verifier.verify(SECRET, code));
+        Assertions.assertFalse(verifier.verify(SECRET, code));
+
+        // An older code of the window is rejected once a newer one has been accepted.
+        Assertions.assertFalse(verifier.verify(SECRET, TotpVerifier.generate(SECRET, timePeriod - 1)));
+
+        // A newer code of the window is still accepted, once.
+        String nextCode = TotpVerifier.generate(SECRET, timePeriod + 1);
+        Assertions.assertTrue(verifier.verify(SECRET, nextCode));
+        Assertions.assertFalse(verifier.verify(SECRET, nextCode));
+
+        // Other secrets are not affected.
+        String otherSecret = TotpUtility.generateRandomTotpSecret();
+        Assertions.assertTrue(verifier.verify(otherSecret, TotpVerifier.generate(otherSecret, timePeriod)));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenTooManySecretsAreTracked_thenPurgeOnlyExpiredRecords() {
+        long timePeriod = 55_000_000;
+        TotpVerifier verifier = new TotpVerifier(fixedClock(timePeriod * 30_000), 1, 2);
+
+        String code = TotpVerifier.generate(SECRET, timePeriod);
+        Assertions.assertTrue(verifier.verify(SECRET, code));
+        String otherSecret = TotpUtility.generateRandomTotpSecret();
+        Assertions.assertTrue(verifier.verify(otherSecret, TotpVerifier.generate(otherSecret, timePeriod)));
+
+        // The records are still within the window: the replay is rejected.
+        String thirdSecret = TotpUtility.generateRandomTotpSecret();
+        Assertions.assertTrue(verifier.verify(thirdSecret, TotpVerifier.generate(thirdSecret, timePeriod)));
+        Assertions.assertFalse(verifier.verify(SECRET, code));
+    }
+
+    /**
+     * Builds a fixed clock.
+     * @param millis the epoch milliseconds.
+     * @return the clock.
+     */
+    private static Clock fixedClock(long millis) {
+        return Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
@@ -23,14 +23,12 @@
  */
 package me.julb.library.utility.random;
 
-import org.apache.commons.text.CharacterPredicates;
-import org.apache.commons.text.RandomStringGenerator;
-
-import me.julb.library.utility.constants.Chars;
 import me.julb.library.utility.constants.Integers;
 
 /**
  * A utility to generate random strings.
+ * <P>
+ * All the tokens are drawn from a secure random through the {@link SecureRandomStringGenerator}.
  * <br>
  * @author Julb.
  */
@@ -48,14 +46,7 @@ public final class RandomUtility {
      * @return a token.
      */
     public static String generateRandomTokenForMobilePhonePurpose() {
-        // Generate an URI.
-        //@formatter:off
-        return new RandomStringGenerator.Builder()
-            .withinRange(new char[] {Chars.ZERO, Chars.NINE})
-            .filteredBy(CharacterPredicates.DIGITS)
-            .build()
-            .generate(Integers.EIGHT);
-        //@formatter:on
+        return SecureRandomStringGenerator.generateNumeric(Integers.EIGHT);
     }
 
     /**
@@ -72,13 +63,6 @@ public final class RandomUtility {
      * @return a token.
      */
     public static String generateAlphaNumericToken(int length) {
-        // Generate an URI.
-        //@formatter:off
-        return new RandomStringGenerator.Builder()
-            .withinRange(new char[] {Chars.ZERO, Chars.NINE}, new char[] {Chars.A_LOWERCASE, Chars.Z_LOWERCASE}, new char[] {Chars.A_UPPERCASE, Chars.Z_UPPERCASE})
-            .filteredBy(CharacterPredicates.DIGITS, CharacterPredicates.ASCII_LETTERS)
-            .build()
-            .generate(length);
-        //@formatter:on
+        return SecureRandomStringGenerator.generateAlphanumeric(length);
     }
 }
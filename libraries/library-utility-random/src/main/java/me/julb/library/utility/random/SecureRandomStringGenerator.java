@@ -0,0 +1,237 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.random;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * A generator of secure random strings.
+ * <P>
+ * Random bytes are drawn from a per-thread {@link SecureRandom}, periodically reseeded, and encoded straight into the target alphabet. Alphabets whose
+ * size is not a power of two are sampled by masking each byte and rejecting the values out of range, so that every character is equally likely.
+ * <br>
+ * @author Julb.
+ */
+public final class SecureRandomStringGenerator {
+
+    /**
+     * The hexadecimal alphabet.
+     */
+    private static final char[] HEXADECIMAL_ALPHABET = "0123456789abcdef".toCharArray();
+
+    /**
+     * The numeric alphabet.
+     */
+    private static final char[] NUMERIC_ALPHABET = "0123456789".toCharArray();
+
+    /**
+     * The alphanumeric alphabet.
+     */
+    private static final char[] ALPHANUMERIC_ALPHABET = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    /**
+     * The number of bytes generated by a thread random before it gets reseeded.
+     */
+    static final long RESEED_INTERVAL_IN_BYTES = 1L << 20;
+
+    /**
+     * The number of hexadecimal characters used to encode the timestamp of a time-ordered string.
+     */
+    private static final int TIMESTAMP_LENGTH = 12;
+
+    /**
+     * The per-thread random.
+     */
+    private static final ThreadLocal<ReseedingSecureRandom> THREAD_RANDOM = ThreadLocal.withInitial(ReseedingSecureRandom::new);
+
+    /**
+     * Constructor.
+     */
+    private SecureRandomStringGenerator() {
+        // Do nothing
+    }
+
+    /**
+     * Fills the given array with secure random bytes.
+     * @param bytes the array to fill.
+     */
+    public static void nextBytes(byte[] bytes) {
+        THREAD_RANDOM.get().nextBytes(bytes);
+    }
+
+    /**
+     * Generates a random hexadecimal string.
+     * @param length the length of the generated string.
+     * @return a random lowercase hexadecimal string.
+     */
+    public static String generateHexadecimal(int length) {
+        char[] chars = new char[length];
+        fillHexadecimal(chars, 0, length);
+        return new String(chars);
+    }
+
+    /**
+     * Generates a random hexadecimal string prefixed by the current time, so that consecutive strings are sorted by creation time.
+     * <P>
+     * The first 12 characters encode the epoch milliseconds, the remaining ones are random.
+     * @param length the length of the generated string, greater than 12.
+     * @return a time-ordered lowercase hexadecimal string.
+     */
+    public static String generateTimeOrderedHexadecimal(int length) {
+        if (length <= TIMESTAMP_LENGTH) {
+            throw new IllegalArgumentException("length must be greater than " + TIMESTAMP_LENGTH);
+        }
+        char[] chars = new char[length];
+        long timestamp = System.currentTimeMillis();
+        for (int i = TIMESTAMP_LENGTH - 1; i >= 0; i--) {
+            chars[i] = HEXADECIMAL_ALPHABET[(int) (timestamp & 0xF)];
+            timestamp >>>= 4;
+        }
+        fillHexadecimal(chars, TIMESTAMP_LENGTH, length - TIMESTAMP_LENGTH);
+        return new String(chars);
+    }
+
+    /**
+     * Generates a random numeric string.
+     * @param length the length of the generated string.
+     * @return a random numeric string.
+     */
+    public static String generateNumeric(int length) {
+        return generate(NUMERIC_ALPHABET, length);
+    }
+
+    /**
+     * Generates a random alphanumeric string, made of digits and ASCII letters in both cases.
+     * @param length the length of the generated string.
+     * @return a random alphanumeric string.
+     */
+    public static String generateAlphanumeric(int length) {
+        return generate(ALPHANUMERIC_ALPHABET, length);
+    }
+
+    /**
+     * Generates a random string from the given alphabet.
+     * @param alphabet the alphabet, with at most 256 distinct characters.
+     * @param length the length of the generated string.
+     * @return a random string.
+     */
+    public static String generate(char[] alphabet, int length) {
+        if (alphabet.length == 0 || alphabet.length > 256) {
+            throw new IllegalArgumentException("alphabet size must be between 1 and 256");
+        }
+
+        int mask = (Integer.highestOneBit(alphabet.length - 1) << 1) - 1;
+        if (alphabet.length == 1) {
+            mask = 0;
+        }
+
+        // Draw a bit more bytes than needed to absorb the rejected ones.
+        byte[] bytes = new byte[Math.max(1, (int) Math.ceil(1.6 * (mask + 1) * length / alphabet.length))];
+        char[] chars = new char[length];
+        ReseedingSecureRandom random = THREAD_RANDOM.get();
+        int count = 0;
+        while (count < length) {
+            random.nextBytes(bytes);
+            for (int i = 0; i < bytes.length && count < length; i++) {
+                int index = bytes[i] & mask;
+                if (index < alphabet.length) {
+                    chars[count++] = alphabet[index];
+                }
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Fills the given array with random hexadecimal characters, two per random byte.
+     * @param chars the array to fill.
+     * @param offset the first index to fill.
+     * @param length the number of characters to fill.
+     */
+    private static void fillHexadecimal(char[] chars, int offset, int length) {
+        byte[] bytes = new byte[(length + 1) / 2];
+        THREAD_RANDOM.get().nextBytes(bytes);
+        for (int i = 0; i < length; i++) {
+            int value = bytes[i >> 1];
+            chars[offset + i] = HEXADECIMAL_ALPHABET[(i & 1) == 0 ? (value >> 4) & 0xF : value & 0xF];
+        }
+    }
+
+    /**
+     * A secure random owned by a single thread and reseeded after a given amount of bytes.
+     * <br>
+     * @author Julb.
+     */
+    private static final class ReseedingSecureRandom {
+
+        /**
+         * The underlying secure random.
+         */
+        private SecureRandom secureRandom = newSecureRandom();
+
+        /**
+         * The number of bytes generated since the last reseed.
+         */
+        private long bytesSinceReseed;
+
+        /**
+         * Fills the given array with random bytes.
+         * @param bytes the array to fill.
+         */
+        void nextBytes(byte[] bytes) {
+            if (bytesSinceReseed >= RESEED_INTERVAL_IN_BYTES) {
+                reseed();
+            }
+            secureRandom.nextBytes(bytes);
+            bytesSinceReseed += bytes.length;
+        }
+
+        /**
+         * Reseeds the random from the system entropy source.
+         */
+        private void reseed() {
+            try {
+                secureRandom.reseed();
+            } catch (UnsupportedOperationException e) {
+                secureRandom = newSecureRandom();
+            }
+            bytesSinceReseed = 0;
+        }
+
+        /**
+         * Creates a new secure random.
+         * <P>
+         * A DRBG instance keeps its state per instance, whereas the default native PRNG serializes all the threads on a global lock.
+         * @return a new secure random.
+         */
+        private static SecureRandom newSecureRandom() {
+            try {
+                return SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException e) {
+                return new SecureRandom();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.library.utility.random;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link SecureRandomStringGenerator} class.
+ * <br>
+ * @author Julb.
+ */
+public class SecureRandomStringGeneratorTest {
+
+    /**
+     * The number of characters drawn for the uniformity tests.
+     */
+    private static final int SAMPLE_SIZE = 1_000_000;
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenGenerateAlphanumeric_thenReturnValidFormat() {
+        String token = SecureRandomStringGenerator.generateAlphanumeric(128);
+        Assertions.assertEquals(128, token.length());
+        Assertions.assertTrue(Pattern.matches("^[0-9a-zA-Z]+$", token));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenGenerateTimeOrderedHexadecimal_thenReturnSortedValues() {
+        String previous = SecureRandomStringGenerator.generateTimeOrderedHexadecimal(32);
+        for (int i = 0; i < 1_000; i++) {
+            String current = SecureRandomStringGenerator.generateTimeOrderedHexadecimal(32);
+            Assertions.assertEquals(32, current.length());
+            Assertions.assertTrue(Pattern.matches("^[0-9a-f]+$", current));
+            Assertions.assertTrue(previous.substring(0, 12).compareTo(current.substring(0, 12)) <= 0);
+            previous = current;
+        }
+        Assertions.assertEquals(System.currentTimeMillis() / 1_000, Long.parseLong(previous.substring(0, 12), 16) / 1_000, 1);
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenGenerateWithInvalidArguments_thenThrowIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SecureRandomStringGenerator.generate(new char[0], 8));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SecureRandomStringGenerator.generateTimeOrderedHexadecimal(12));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenGenerateAlphanumeric_thenCharactersAreUniform() {
+        // Critical value of the chi-squared distribution with 61 degrees of freedom at p = 1e-5.
+        assertUniform(SecureRandomStringGenerator.generateAlphanumeric(SAMPLE_SIZE), "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ", 120.2);
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenGenerateNumeric_thenCharactersAreUniform() {
+        // Critical value of the chi-squared distribution with 9 degrees of freedom at p = 1e-5.
+        assertUniform(SecureRandomStringGenerator.generateNumeric(SAMPLE_SIZE), "0123456789", 40.1);
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenGenerateHexadecimal_thenCharactersAreUniform() {
+        // Critical value of the chi-squared distribution with 15 degrees of freedom at p = 1e-5.
+        assertUniform(SecureRandomStringGenerator.generateHexadecimal(SAMPLE_SIZE), "0123456789abcdef", 51.1);
+
+        // Both nibbles of the random bytes must be uniform.
+        StringBuilder evenPositions = new StringBuilder();
+        StringBuilder oddPositions = new StringBuilder();
+        String sample = SecureRandomStringGenerator.generateHexadecimal(SAMPLE_SIZE);
+        for (int i = 0; i < sample.length(); i += 2) {
+            evenPositions.append(sample.charAt(i));
+            oddPositions.append(sample.charAt(i + 1));
+        }
+        assertUniform(evenPositions.toString(), "0123456789abcdef", 51.1);
+        assertUniform(oddPositions.toString(), "0123456789abcdef", 51.1);
+    }
+
+    /**
+     * Asserts that the characters of the sample are uniformly distributed over the alphabet using a chi-squared test.
+     * @param sample the sample.
+     * @param alphabet the alphabet.
+     * @param criticalValue the critical value of the chi-squared statistic.
+     */
+    private static void assertUniform(String sample, String alphabet, double criticalValue) {
+        long[] counts = new long[alphabet.length()];
+        for (int i = 0; i < sample.length(); i++) {
+            int index = alphabet.indexOf(sample.charAt(i));
+            Assertions.assertTrue(index >= 0);
+            counts[index]++;
+        }
+
+        double expected = (double) sample.length() / alphabet.length();
+        double chiSquared = 0;
+        for (long count : counts) {
+            chiSquared += (count - expected) * (count - expected) / expected;
+        }
+        Assertions.assertTrue(chiSquared < criticalValue, "chi-squared statistic " + chiSquared + " exceeds " + criticalValue);
+    }
+}
@@ -0,0 +1,302 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.configs;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.util.ClassUtils;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+/**
+ * An immutable view of the configuration of a trademark.
+ * <br>
+ * The raw properties are resolved once, with the trademark-specific values overriding the default ones. Immutable typed values, lists, sets,
+ * durations and derived objects are computed on first access and kept for the lifetime of the snapshot: a reload of the config
+ * source replaces the snapshot rather than mutating it.
+ * <br>
+ * @author Julb.
+ */
+public final class ConfigSnapshot {
+
+    /**
+     * The immutable types whose converted values are memoized, besides primitives, their wrappers and enums.
+     */
+    //@formatter:off
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+        String.class,
+        BigDecimal.class,
+        BigInteger.class,
+        Duration.class,
+        Period.class,
+        Instant.class,
+        LocalDate.class,
+        LocalDateTime.class,
+        LocalTime.class,
+        Locale.class,
+        URI.class,
+        UUID.class
+    );
+    //@formatter:on
+
+    /**
+     * The version of the config source this snapshot was built from.
+     */
+    private final long version;
+
+    /**
+     * The resolved raw properties.
+     */
+    private final Map<String, String> properties;
+
+    /**
+     * The conversion service.
+     */
+    private final ConversionService conversionService;
+
+    /**
+     * The memoized values.
+     */
+    private final Map<Key, Optional<Object>> values = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     * @param version the version of the config source.
+     * @param properties the resolved raw properties.
+     * @param conversionService the conversion service.
+     */
+    ConfigSnapshot(long version, Map<String, String> properties, ConversionService conversionService) {
+        this.version = version;
+        this.properties = Map.copyOf(properties);
+        this.conversionService = conversionService;
+    }
+
+    // ------------------------------------------ Read methods.
+
+    /**
+     * Gets the version of the config source this snapshot was built from.
+     * @return the version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the raw value of the property.
+     * @param code the property code.
+     * @return the raw value, or <code>null</code> if not found.
+     */
+    public String getProperty(String code) {
+        return properties.get(code);
+    }
+
+    /**
+     * Gets the value of the property converted to the given type.
+     * <br>
+     * Only values of immutable types are memoized, arrays of immutable elements being copied so that the memoized value cannot be altered by the
+     * caller. Values of other types are converted on every call, each caller getting its own instance.
+     * @param code the property code.
+     * @param targetType the target type.
+     * @param <T> the type of the target type.
+     * @return the converted value, or <code>null</code> if not found.
+     */
+    public <T> T getTypedProperty(String code, Class<T> targetType) {
+        if (isImmutable(targetType)) {
+            return targetType.cast(memoize(new Key(code, targetType), () -> convert(code, targetType)));
+        }
+        if (targetType.isArray() && isImmutable(targetType.getComponentType())) {
+            return targetType.cast(ObjectUtils.clone(memoize(new Key(code, targetType), () -> convert(code, targetType))));
+        }
+        return convert(code, targetType);
+    }
+
+    /**
+     * Gets the comma-separated value of the property as an immutable list.
+     * @param code the property code.
+     * @param elementType the type of the elements.
+     * @param <T> the type of the elements.
+     * @return the immutable list, empty if not found.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(String code, Class<T> elementType) {
+        return (List<T>) memoize(new Key(code, List.class, elementType), () -> {
+            Object[] array = convert(code, arrayType(elementType));
+            return array != null ? Collections.unmodifiableList(Arrays.asList(array)) : List.of();
+        });
+    }
+
+    /**
+     * Gets the comma-separated value of the property as an immutable set, preserving the declaration order.
+     * @param code the property code.
+     * @param elementType the type of the elements.
+     * @param <T> the type of the elements.
+     * @return the immutable set, empty if not found.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Set<T> getSet(String code, Class<T> elementType) {
+        return (Set<T>) memoize(new Key(code, Set.class, elementType), () -> Collections.unmodifiableSet(new LinkedHashSet<>(getList(code, elementType))));
+    }
+
+    /**
+     * Gets the value of the property as a duration, e.g. <code>PT10M</code> or <code>10m</code>.
+     * @param code the property code.
+     * @return the duration, or <code>null</code> if not found.
+     */
+    public Duration getDuration(String code) {
+        return (Duration) memoize(new Key(code, Duration.class), () -> {
+            String value = getProperty(code);
+            return value != null ? DurationStyle.detectAndParse(value) : null;
+        });
+    }
+
+    /**
+     * Gets an object derived from this snapshot, computing it on first access.
+     * <br>
+     * The computed object is shared by all callers until the next reload and must therefore be immutable.
+     * @param name the unique name of the derived object.
+     * @param factory the factory computing the object from this snapshot.
+     * @param <T> the type of the derived object.
+     * @return the derived object.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getDerived(String name, Function<ConfigSnapshot, T> factory) {
+        return (T) memoize(new Key(name, Function.class), () -> factory.apply(this));
+    }
+
+    // ------------------------------------------ Private methods.
+
+    /**
+     * Returns the memoized value, computing it on first access.
+     * @param key the key.
+     * @param loader the loader of the value.
+     * @return the value, or <code>null</code> if the loader returned <code>null</code>.
+     */
+    private Object memoize(Key key, Supplier<Object> loader) {
+        Optional<Object> value = values.get(key);
+        if (value == null) {
+            // The loader may look up other values of this snapshot: avoid computeIfAbsent to support such reentrant calls.
+            value = Optional.ofNullable(loader.get());
+            Optional<Object> existing = values.putIfAbsent(key, value);
+            if (existing != null) {
+                value = existing;
+            }
+        }
+        return value.orElse(null);
+    }
+
+    /**
+     * Converts the raw value of the property.
+     * @param code the property code.
+     * @param targetType the target type.
+     * @param <T> the type of the target type.
+     * @return the converted value, or <code>null</code> if not found.
+     */
+    private <T> T convert(String code, Class<T> targetType) {
+        String value = getProperty(code);
+        if (value != null) {
+            return conversionService.convert(value, targetType);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if the values of the given type can be shared by all callers.
+     * @param type the type.
+     * @return <code>true</code> if the values of the type are immutable, <code>false</code> otherwise.
+     */
+    private static boolean isImmutable(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || ClassUtils.isPrimitiveWrapper(type) || IMMUTABLE_TYPES.contains(type);
+    }
+
+    /**
+     * Gets the array type for the given element type.
+     * @param elementType the element type.
+     * @return the array type.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T[]> arrayType(Class<T> elementType) {
+        return (Class<T[]>) Array.newInstance(elementType, 0).getClass();
+    }
+
+    /**
+     * The key of a memoized value.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class Key {
+
+        /**
+         * The property code or derived object name.
+         */
+        private final String name;
+
+        /**
+         * The type of the value.
+         */
+        private final Class<?> type;
+
+        /**
+         * The type of the elements for collections, <code>null</code> otherwise.
+         */
+        private final Class<?> elementType;
+
+        /**
+         * Constructor.
+         * @param name the property code or derived object name.
+         * @param type the type of the value.
+         */
+        Key(String name, Class<?> type) {
+            this(name, type, null);
+        }
+    }
+}
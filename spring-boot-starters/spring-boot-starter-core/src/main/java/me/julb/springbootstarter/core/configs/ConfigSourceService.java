@@ -26,13 +26,20 @@ package me.julb.springbootstarter.core.configs;
 
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationListener;
@@ -49,6 +56,9 @@ import me.julb.springbootstarter.core.context.TrademarkContextHolder;
 /**
  * The config source service.
  * <br>
+ * The properties are resolved into an immutable {@link ConfigSnapshot} per configured trademark, which memoizes the converted values. A reload
+ * swaps all the snapshots at once and notifies the {@link ConfigSourceChangeListener} beans.
+ * <br>
  * @author Julb.
  */
 public class ConfigSourceService implements ApplicationListener<ContextRefreshedEvent> {
@@ -76,9 +86,20 @@ public class ConfigSourceService implements ApplicationListener<ContextRefreshed
     private ConversionService mvcConversionService;
 
     /**
-     * The config source properties.
+     * The listeners notified on reload.
+     */
+    @Autowired
+    private ObjectProvider<ConfigSourceChangeListener> configSourceChangeListeners;
+
+    /**
+     * The version of the last loaded configuration.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * The loaded configuration.
      */
-    private Properties configSourceProperties;
+    private volatile LoadedConfigSource loadedConfigSource;
 
     // ------------------------------------------ Init methods.
 
@@ -87,11 +108,26 @@ public class ConfigSourceService implements ApplicationListener<ContextRefreshed
      */
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
+        reload();
+    }
+
+    /**
+     * Reloads the config source, replaces the snapshots of all trademarks and notifies the listeners.
+     */
+    public synchronized void reload() {
+        Properties configSourceProperties;
         try {
-            this.configSourceProperties = PropertiesLoaderUtils.loadProperties(configSourcePropertiesResource);
+            configSourceProperties = PropertiesLoaderUtils.loadProperties(configSourcePropertiesResource);
         } catch (IOException e) {
             throw new InternalServerErrorException(e);
         }
+
+        LoadedConfigSource newLoadedConfigSource = new LoadedConfigSource(version.incrementAndGet(), configSourceProperties);
+        this.loadedConfigSource = newLoadedConfigSource;
+
+        if (configSourceChangeListeners != null) {
+            configSourceChangeListeners.orderedStream().forEach(listener -> listener.onConfigSourceChange(newLoadedConfigSource.version));
+        }
     }
 
     // ------------------------------------------ Read methods.
@@ -128,25 +164,24 @@ public class ConfigSourceService implements ApplicationListener<ContextRefreshed
      * @return the configuration value if found.
      */
     public <T> T getTypedProperty(String code, Class<T> targetType) {
-        String tm = TrademarkContextHolder.getTrademark();
-
-        // Get property value.
-        String tmPropertyValue = configSourceProperties.getProperty(StringUtils.join(Strings.LEFT_BRACKET, tm, Strings.RIGHT_BRACKET, code));
-        if (tmPropertyValue == null) {
-            tmPropertyValue = configSourceProperties.getProperty(code);
-        }
+        return getSnapshot().getTypedProperty(code, targetType);
+    }
 
-        // Get raw value if sensitive.
-        if (isValueSensitive(tmPropertyValue)) {
-            tmPropertyValue = getRawValue(tmPropertyValue);
-        }
+    /**
+     * Gets the configuration snapshot of the current trademark.
+     * <br>
+     * Callers needing several values or precomputed objects should get the snapshot once and read from it.
+     * @return the configuration snapshot of the current trademark.
+     */
+    public ConfigSnapshot getSnapshot() {
+        LoadedConfigSource current = getLoadedConfigSource();
 
-        // If property value provided, convert it.
-        if (tmPropertyValue != null) {
-            return mvcConversionService.convert(tmPropertyValue, targetType);
-        } else {
-            return null;
+        // Trademarks without specific properties share the default snapshot: the trademark comes from the request and is not trusted.
+        String tm = TrademarkContextHolder.getTrademark();
+        if (tm == null || !current.trademarks.contains(tm)) {
+            tm = Strings.EMPTY;
         }
+        return current.snapshots.computeIfAbsent(tm, key -> buildSnapshot(current, key));
     }
 
     /**
@@ -158,6 +193,7 @@ public class ConfigSourceService implements ApplicationListener<ContextRefreshed
     public Map<String, String> findAll(@Nullable String prefix, Boolean redactSensitive) {
         // Get trademark.
         String tm = TrademarkContextHolder.getTrademark();
+        Properties configSourceProperties = getLoadedConfigSource().properties;
 
         //@formatter:off
         Map<String, String> defaultProperties = configSourceProperties.entrySet().stream()
@@ -242,6 +278,51 @@ public class ConfigSourceService implements ApplicationListener<ContextRefreshed
 
     // ------------------------------------------ Utility methods.
 
+    /**
+     * Gets the loaded configuration, loading it if the context has not been refreshed yet.
+     * @return the loaded configuration.
+     */
+    private LoadedConfigSource getLoadedConfigSource() {
+        LoadedConfigSource current = this.loadedConfigSource;
+        if (current == null) {
+            synchronized (this) {
+                if (this.loadedConfigSource == null) {
+                    reload();
+                }
+                current = this.loadedConfigSource;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Builds the snapshot of the given trademark.
+     * @param loaded the loaded configuration.
+     * @param tm the trademark.
+     * @return the snapshot.
+     */
+    private ConfigSnapshot buildSnapshot(LoadedConfigSource loaded, String tm) {
+        String tmPropertiesPrefix = StringUtils.join(Strings.LEFT_BRACKET, tm, Strings.RIGHT_BRACKET);
+
+        Map<String, String> defaultProperties = new HashMap<>();
+        Map<String, String> tmProperties = new HashMap<>();
+        for (String propertyKey : loaded.properties.stringPropertyNames()) {
+            String value = loaded.properties.getProperty(propertyKey);
+            if (isValueSensitive(value)) {
+                value = getRawValue(value);
+            }
+
+            if (StringUtils.startsWith(propertyKey, tmPropertiesPrefix)) {
+                tmProperties.put(StringUtils.removeStart(propertyKey, tmPropertiesPrefix), value);
+            } else if (!StringUtils.startsWith(propertyKey, Strings.LEFT_BRACKET)) {
+                defaultProperties.put(propertyKey, value);
+            }
+        }
+        defaultProperties.putAll(tmProperties);
+
+        return new ConfigSnapshot(loaded.version, defaultProperties, mvcConversionService);
+    }
+
     /**
      * Returns <code>true</code> if the value is sensitive, <code>false</code> otherwise.
      * @param propertyValue the property value.
@@ -259,4 +340,51 @@ public class ConfigSourceService implements ApplicationListener<ContextRefreshed
     protected String getRawValue(@Nullable String sensitivePropertyValue) {
         return StringUtils.removeStart(sensitivePropertyValue, SENSITIVE_VALUE_PREFIX);
     }
+
+    /**
+     * The configuration loaded from the config source.
+     * <br>
+     * @author Julb.
+     */
+    private static final class LoadedConfigSource {
+
+        /**
+         * The version.
+         */
+        private final long version;
+
+        /**
+         * The raw properties.
+         */
+        private final Properties properties;
+
+        /**
+         * The trademarks having specific properties.
+         */
+        private final Set<String> trademarks;
+
+        /**
+         * The snapshots by configured trademark, built on first access.
+         */
+        private final ConcurrentMap<String, ConfigSnapshot> snapshots = new ConcurrentHashMap<>();
+
+        /**
+         * Default constructor.
+         * @param version the version.
+         * @param properties the raw properties.
+         */
+        LoadedConfigSource(long version, Properties properties) {
+            this.version = version;
+            this.properties = properties;
+
+            Set<String> configuredTrademarks = new HashSet<>();
+            for (String propertyKey : properties.stringPropertyNames()) {
+                String tm = StringUtils.substringBetween(propertyKey, Strings.LEFT_BRACKET, Strings.RIGHT_BRACKET);
+                if (StringUtils.startsWith(propertyKey, Strings.LEFT_BRACKET) && tm != null) {
+                    configuredTrademarks.add(tm);
+                }
+            }
+            this.trademarks = Set.copyOf(configuredTrademarks);
+        }
+    }
 }
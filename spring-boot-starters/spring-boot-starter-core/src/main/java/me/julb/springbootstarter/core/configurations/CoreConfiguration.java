@@ -24,12 +24,22 @@
 
 package me.julb.springbootstarter.core.configurations;
 
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import me.julb.springbootstarter.core.configs.ConfigSourceService;
+import me.julb.springbootstarter.core.context.snapshot.ContextPropagatingExecutorBeanPostProcessor;
+import me.julb.springbootstarter.core.context.snapshot.ContextPropagatingTaskDecorator;
+import me.julb.springbootstarter.core.context.snapshot.ContextSnapshotFactory;
+import me.julb.springbootstarter.core.context.snapshot.MDCContextAccessor;
+import me.julb.springbootstarter.core.context.snapshot.MPCContextAccessor;
+import me.julb.springbootstarter.core.context.snapshot.ThreadContextAccessor;
 import me.julb.springbootstarter.core.localization.LocaleService;
 import me.julb.springbootstarter.core.messages.MessageSourceService;
+import me.julb.springbootstarter.core.rendering.ContentRenderCache;
 import me.julb.springbootstarter.core.rendering.ContentRenderService;
 
 /**
@@ -58,13 +68,25 @@ public class CoreConfiguration {
         return new MessageSourceService();
     }
 
+    /**
+     * The content render cache.
+     * <br>
+     * Declared as its own bean to bind its metrics without creating the content render service with the meter registry.
+     * @return the content render cache.
+     */
+    @Bean
+    public ContentRenderCache contentRenderCache() {
+        return new ContentRenderCache();
+    }
+
     /**
      * The content render service.
+     * @param contentRenderCache the content render cache.
      * @return the content render service.
      */
     @Bean
-    public ContentRenderService contentRenderService() {
-        return new ContentRenderService();
+    public ContentRenderService contentRenderService(ContentRenderCache contentRenderCache) {
+        return new ContentRenderService(contentRenderCache);
     }
 
     /**
@@ -75,4 +97,54 @@ public class CoreConfiguration {
     public LocaleService localeService() {
         return new LocaleService();
     }
+
+    /**
+     * The accessor propagating the MPC, holding the trademark, to the tasks of the executors.
+     * @return the MPC context accessor.
+     */
+    @Bean
+    public MPCContextAccessor mpcContextAccessor() {
+        return new MPCContextAccessor();
+    }
+
+    /**
+     * The accessor propagating the logging MDC to the tasks of the executors.
+     * @return the MDC context accessor.
+     */
+    @Bean
+    public MDCContextAccessor mdcContextAccessor() {
+        return new MDCContextAccessor();
+    }
+
+    /**
+     * The context snapshot factory.
+     * @param accessors the thread context accessors.
+     * @return the context snapshot factory.
+     */
+    @Bean
+    public ContextSnapshotFactory contextSnapshotFactory(ObjectProvider<ThreadContextAccessor<?>> accessors) {
+        return new ContextSnapshotFactory(accessors.orderedStream().collect(Collectors.toList()));
+    }
+
+    /**
+     * The task decorator, also used by the auto-configured application task executor.
+     * @param contextSnapshotFactory the context snapshot factory.
+     * @return the task decorator.
+     */
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator(ContextSnapshotFactory contextSnapshotFactory) {
+        return new ContextPropagatingTaskDecorator(contextSnapshotFactory);
+    }
+
+    /**
+     * The post-processor making the executors and schedulers propagate the contexts.
+     * @param taskDecoratorProvider the task decorator provider.
+     * @param contextSnapshotFactoryProvider the context snapshot factory provider.
+     * @return the post-processor.
+     */
+    @Bean
+    public static ContextPropagatingExecutorBeanPostProcessor contextPropagatingExecutorBeanPostProcessor(ObjectProvider<ContextPropagatingTaskDecorator> taskDecoratorProvider,
+        ObjectProvider<ContextSnapshotFactory> contextSnapshotFactoryProvider) {
+        return new ContextPropagatingExecutorBeanPostProcessor(taskDecoratorProvider, contextSnapshotFactoryProvider);
+    }
 }
@@ -0,0 +1,119 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.context.snapshot;
+
+import java.lang.reflect.Modifier;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Makes the task executors and task schedulers of the context propagate the thread-bound contexts to their tasks.
+ * <P>
+ * The {@link ThreadPoolTaskExecutor} and {@link SimpleAsyncTaskExecutor} beans get the {@link ContextPropagatingTaskDecorator} before
+ * their initialization, composed with the task decorator they may already have. The {@link TaskScheduler} beans, which do not support
+ * task decorators, are proxied with a {@link ContextPropagatingTaskSchedulerInterceptor}: the proxy extends the class of the scheduler, so
+ * that it is still injected by its class, e.g. as a <code>ThreadPoolTaskScheduler</code>.
+ * <br>
+ * @author Julb.
+ */
+public class ContextPropagatingExecutorBeanPostProcessor implements BeanPostProcessor {
+
+    /**
+     * The task decorator property name.
+     */
+    private static final String TASK_DECORATOR_PROPERTY = "taskDecorator";
+
+    /**
+     * The task decorator provider.
+     */
+    private final ObjectProvider<ContextPropagatingTaskDecorator> taskDecoratorProvider;
+
+    /**
+     * The context snapshot factory provider.
+     */
+    private final ObjectProvider<ContextSnapshotFactory> contextSnapshotFactoryProvider;
+
+    /**
+     * Default constructor.
+     * @param taskDecoratorProvider the task decorator provider.
+     * @param contextSnapshotFactoryProvider the context snapshot factory provider.
+     */
+    public ContextPropagatingExecutorBeanPostProcessor(ObjectProvider<ContextPropagatingTaskDecorator> taskDecoratorProvider, ObjectProvider<ContextSnapshotFactory> contextSnapshotFactoryProvider) {
+        this.taskDecoratorProvider = taskDecoratorProvider;
+        this.contextSnapshotFactoryProvider = contextSnapshotFactoryProvider;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName)
+        throws BeansException {
+        if (bean instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+            threadPoolTaskExecutor.setTaskDecorator(taskDecorator(threadPoolTaskExecutor));
+        } else if (bean instanceof SimpleAsyncTaskExecutor simpleAsyncTaskExecutor) {
+            simpleAsyncTaskExecutor.setTaskDecorator(taskDecorator(simpleAsyncTaskExecutor));
+        }
+        return bean;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName)
+        throws BeansException {
+        if (bean instanceof TaskScheduler) {
+            ProxyFactory proxyFactory = new ProxyFactory(bean);
+            proxyFactory.setProxyTargetClass(!Modifier.isFinal(bean.getClass().getModifiers()));
+            proxyFactory.addAdvice(new ContextPropagatingTaskSchedulerInterceptor(contextSnapshotFactoryProvider.getObject()));
+            return proxyFactory.getProxy(bean.getClass().getClassLoader());
+        }
+        return bean;
+    }
+
+    /**
+     * Gets the task decorator of the executor, composed with the task decorator it already has.
+     * @param executor the executor.
+     * @return the task decorator.
+     */
+    private TaskDecorator taskDecorator(Object executor) {
+        ContextPropagatingTaskDecorator propagatingTaskDecorator = taskDecoratorProvider.getObject();
+        Object existingTaskDecorator = new DirectFieldAccessor(executor).getPropertyValue(TASK_DECORATOR_PROPERTY);
+        if (existingTaskDecorator instanceof TaskDecorator taskDecorator && !(existingTaskDecorator instanceof ContextPropagatingTaskDecorator)) {
+            // The contexts are restored first, so that the existing decorator runs with them.
+            return runnable -> propagatingTaskDecorator.decorate(taskDecorator.decorate(runnable));
+        }
+        return propagatingTaskDecorator;
+    }
+}
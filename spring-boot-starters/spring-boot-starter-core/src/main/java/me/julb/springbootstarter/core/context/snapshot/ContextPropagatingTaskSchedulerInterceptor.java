@@ -0,0 +1,74 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.context.snapshot;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * A method interceptor running the tasks given to a task scheduler with the contexts of the thread which scheduled them.
+ * <br>
+ * @author Julb.
+ */
+public class ContextPropagatingTaskSchedulerInterceptor implements MethodInterceptor {
+
+    /**
+     * The names of the methods taking tasks.
+     */
+    private static final Set<String> TASK_METHODS = Set.of("execute", "submit", "submitListenable", "schedule", "scheduleAtFixedRate", "scheduleWithFixedDelay");
+
+    /**
+     * The context snapshot factory.
+     */
+    private final ContextSnapshotFactory contextSnapshotFactory;
+
+    /**
+     * Default constructor.
+     * @param contextSnapshotFactory the context snapshot factory.
+     */
+    public ContextPropagatingTaskSchedulerInterceptor(ContextSnapshotFactory contextSnapshotFactory) {
+        this.contextSnapshotFactory = contextSnapshotFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation)
+        throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        if (arguments.length > 0 && TASK_METHODS.contains(invocation.getMethod().getName())) {
+            if (arguments[0] instanceof Runnable runnable) {
+                arguments[0] = contextSnapshotFactory.capture().wrap(runnable);
+            } else if (arguments[0] instanceof Callable<?> callable) {
+                arguments[0] = contextSnapshotFactory.capture().wrap(callable);
+            }
+        }
+        return invocation.proceed();
+    }
+}
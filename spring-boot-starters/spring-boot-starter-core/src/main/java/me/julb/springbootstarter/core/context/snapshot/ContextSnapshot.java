@@ -0,0 +1,132 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.context.snapshot;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * An immutable copy of the thread-bound contexts of a thread, which can be applied to another thread.
+ * <br>
+ * @author Julb.
+ */
+public final class ContextSnapshot {
+
+    /**
+     * The accessors.
+     */
+    private final List<ThreadContextAccessor<Object>> accessors;
+
+    /**
+     * The captured values, one per accessor.
+     */
+    private final Object[] values;
+
+    /**
+     * Default constructor.
+     * @param accessors the accessors.
+     * @param values the captured values, one per accessor.
+     */
+    ContextSnapshot(List<ThreadContextAccessor<Object>> accessors, Object[] values) {
+        this.accessors = accessors;
+        this.values = values;
+    }
+
+    /**
+     * Applies the snapshot to the current thread.
+     * @return the scope which restores the previous contexts of the current thread when closed.
+     */
+    public Scope open() {
+        Object[] previousValues = capture(accessors);
+        restore(accessors, values);
+        return () -> restore(accessors, previousValues);
+    }
+
+    /**
+     * Wraps the runnable so that it runs with the snapshot applied.
+     * @param runnable the runnable.
+     * @return the wrapped runnable.
+     */
+    public Runnable wrap(Runnable runnable) {
+        return () -> {
+            try (Scope scope = open()) {
+                runnable.run();
+            }
+        };
+    }
+
+    /**
+     * Wraps the callable so that it runs with the snapshot applied.
+     * @param <V> the result type.
+     * @param callable the callable.
+     * @return the wrapped callable.
+     */
+    public <V> Callable<V> wrap(Callable<V> callable) {
+        return () -> {
+            try (Scope scope = open()) {
+                return callable.call();
+            }
+        };
+    }
+
+    /**
+     * Captures the values of the current thread.
+     * @param accessors the accessors.
+     * @return the values, one per accessor.
+     */
+    static Object[] capture(List<ThreadContextAccessor<Object>> accessors) {
+        Object[] values = new Object[accessors.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = accessors.get(i).capture();
+        }
+        return values;
+    }
+
+    /**
+     * Binds the values to the current thread.
+     * @param accessors the accessors.
+     * @param values the values, one per accessor.
+     */
+    private static void restore(List<ThreadContextAccessor<Object>> accessors, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            accessors.get(i).restore(values[i]);
+        }
+    }
+
+    /**
+     * The scope of an applied snapshot.
+     * <br>
+     * @author Julb.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        /**
+         * Restores the contexts of the thread as they were before the snapshot was applied.
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.context.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Captures the thread-bound contexts known by the registered accessors.
+ * <br>
+ * @author Julb.
+ */
+public class ContextSnapshotFactory {
+
+    /**
+     * The accessors.
+     */
+    private final List<ThreadContextAccessor<Object>> accessors;
+
+    /**
+     * Default constructor.
+     * @param accessors the accessors.
+     */
+    @SuppressWarnings("unchecked")
+    public ContextSnapshotFactory(List<? extends ThreadContextAccessor<?>> accessors) {
+        List<ThreadContextAccessor<Object>> list = new ArrayList<>();
+        for (ThreadContextAccessor<?> accessor : accessors) {
+            list.add((ThreadContextAccessor<Object>) accessor);
+        }
+        this.accessors = List.copyOf(list);
+    }
+
+    /**
+     * Captures the contexts of the current thread.
+     * @return the snapshot.
+     */
+    public ContextSnapshot capture() {
+        return new ContextSnapshot(accessors, ContextSnapshot.capture(accessors));
+    }
+
+    /**
+     * Wraps the executor so that each task runs with the contexts of the thread which submitted it, e.g. for <code>CompletableFuture</code>.
+     * @param executor the executor.
+     * @return the wrapped executor.
+     */
+    public Executor wrap(Executor executor) {
+        return task -> executor.execute(capture().wrap(task));
+    }
+}
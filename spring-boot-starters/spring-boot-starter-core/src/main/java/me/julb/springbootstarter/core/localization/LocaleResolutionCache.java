@@ -0,0 +1,131 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.localization;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+/**
+ * A bounded LRU cache of resolved locales.
+ * <br>
+ * The key holds the raw language range and the supported and default locales used for the resolution, so that an entry is never
+ * returned after the supported locales configuration has changed.
+ * <br>
+ * @author Julb.
+ */
+class LocaleResolutionCache {
+
+    /**
+     * The resolved locales.
+     */
+    private final Map<Key, Optional<Locale>> resolvedLocales;
+
+    /**
+     * Default constructor.
+     * @param maxEntries the maximum number of entries.
+     */
+    LocaleResolutionCache(int maxEntries) {
+        this.resolvedLocales = new LinkedHashMap<>(16, 0.75f, true) {
+
+            /**
+             * The serial version UID.
+             */
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Optional<Locale>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets the resolved locale, resolving it if not in the cache.
+     * @param requestLanguageRange the raw language range.
+     * @param supported the supported locales or language tags, which must not be modified afterwards.
+     * @param defaultLocale the default locale.
+     * @param resolver the resolver to use on a miss.
+     * @return the resolved locale, <code>null</code> if none.
+     */
+    Locale get(String requestLanguageRange, Collection<?> supported, Locale defaultLocale, Supplier<Locale> resolver) {
+        Key key = new Key(requestLanguageRange, supported, defaultLocale);
+
+        Optional<Locale> resolvedLocale;
+        synchronized (resolvedLocales) {
+            resolvedLocale = resolvedLocales.get(key);
+        }
+        if (resolvedLocale == null) {
+            resolvedLocale = Optional.ofNullable(resolver.get());
+            synchronized (resolvedLocales) {
+                resolvedLocales.put(key, resolvedLocale);
+            }
+        }
+        return resolvedLocale.orElse(null);
+    }
+
+    /**
+     * Clears the cache.
+     */
+    void clear() {
+        synchronized (resolvedLocales) {
+            resolvedLocales.clear();
+        }
+    }
+
+    /**
+     * The cache key.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class Key {
+
+        /**
+         * The raw language range.
+         */
+        private final String requestLanguageRange;
+
+        /**
+         * The supported locales or language tags.
+         */
+        private final Collection<?> supported;
+
+        /**
+         * The default locale.
+         */
+        private final Locale defaultLocale;
+    }
+}
@@ -25,30 +25,44 @@
 package me.julb.springbootstarter.core.localization;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TimeZone;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+import me.julb.springbootstarter.core.configs.ConfigSourceChangeListener;
 import me.julb.springbootstarter.core.configs.ConfigSourceConstants;
 import me.julb.springbootstarter.core.configs.ConfigSourceService;
 
 /**
  * The locale service.
  * <br>
+ * The resolutions of a language range are memoized, as the number of distinct <code>Accept-Language</code> headers is small.
+ * <br>
  * @author Julb.
  */
-public class LocaleService {
+public class LocaleService implements ConfigSourceChangeListener {
+
+    /**
+     * The maximum number of memoized resolutions.
+     */
+    private static final int RESOLUTION_CACHE_MAX_ENTRIES = 512;
+
     /**
      * The config sources ervice.
      */
     @Autowired
     private ConfigSourceService configSourceService;
 
+    /**
+     * The memoized resolutions.
+     */
+    private final LocaleResolutionCache resolutionCache = new LocaleResolutionCache(RESOLUTION_CACHE_MAX_ENTRIES);
+
     /**
      * Gets the default locale.
      * @return the default locale.
@@ -59,15 +73,10 @@ public class LocaleService {
 
     /**
      * Gets the supported locales.
-     * @return th supported locales.
+     * @return th supported locales, as an immutable list.
      */
     public List<Locale> getSupportedLocales() {
-        Locale[] locales = configSourceService.getTypedProperty(ConfigSourceConstants.LOCALES, Locale[].class);
-        if (locales != null) {
-            return Arrays.asList(locales);
-        } else {
-            return new ArrayList<>();
-        }
+        return configSourceService.getSnapshot().getList(ConfigSourceConstants.LOCALES, Locale.class);
     }
 
     /**
@@ -94,13 +103,20 @@ public class LocaleService {
      * @return the best locale.
      */
     public Locale resolveLocaleWithLanguageTags(String requestLanguageRange, Collection<String> supportedLocaleLanguageTags) {
-        // The locales available in the messages.
-        Collection<Locale> locales = new ArrayList<>();
-        for (String language : supportedLocaleLanguageTags) {
-            locales.add(Locale.forLanguageTag(language));
+        Locale defaultLocale = getDefaultLocale();
+        if (defaultLocale != null && requestLanguageRange == null) {
+            return defaultLocale;
         }
 
-        return resolveLocale(requestLanguageRange, locales);
+        Set<String> languageTags = Set.copyOf(supportedLocaleLanguageTags);
+        return resolutionCache.get(requestLanguageRange, languageTags, defaultLocale, () -> {
+            // The locales available in the messages.
+            Collection<Locale> locales = new ArrayList<>();
+            for (String language : languageTags) {
+                locales.add(Locale.forLanguageTag(language));
+            }
+            return resolve(requestLanguageRange, locales, defaultLocale);
+        });
     }
 
     /**
@@ -116,6 +132,33 @@ public class LocaleService {
             return defaultLocale;
         }
 
+        List<Locale> locales = List.copyOf(supportedLocales);
+        return resolutionCache.get(requestLanguageRange, locales, defaultLocale, () -> resolve(requestLanguageRange, locales, defaultLocale));
+    }
+
+    /**
+     * Clears the memoized resolutions, e.g. when the supported locales configuration has changed.
+     */
+    public void clearResolutionCache() {
+        resolutionCache.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onConfigSourceChange(long version) {
+        clearResolutionCache();
+    }
+
+    /**
+     * Resolves the best locale for the given language range, without memoization.
+     * @param requestLanguageRange the request language range.
+     * @param supportedLocales the supported locales.
+     * @param defaultLocale the default locale.
+     * @return the best locale.
+     */
+    static Locale resolve(String requestLanguageRange, Collection<Locale> supportedLocales, Locale defaultLocale) {
         // The language ranges.
         List<Locale.LanguageRange> languageRanges = Locale.LanguageRange.parse(requestLanguageRange);
 
@@ -0,0 +1,151 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.messages;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+/**
+ * A bounded LRU cache remembering which level resolved a message code for a trademark and a locale.
+ * <br>
+ * Negative results are kept as well, so that a code which is not overridden by the trademark is looked up only once at that level.
+ * <br>
+ * @author Julb.
+ */
+class MessageResolutionCache {
+
+    /**
+     * The resolution levels.
+     */
+    private final Map<Key, Level> levels;
+
+    /**
+     * Default constructor.
+     * @param maxEntries the maximum number of entries.
+     */
+    MessageResolutionCache(int maxEntries) {
+        this.levels = new LinkedHashMap<>(16, 0.75f, true) {
+
+            /**
+             * The serial version UID.
+             */
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Level> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets the level which resolved the message code.
+     * @param tm the trademark.
+     * @param code the message code.
+     * @param locale the locale.
+     * @return the level, <code>null</code> if not known yet.
+     */
+    Level get(String tm, String code, Locale locale) {
+        synchronized (levels) {
+            return levels.get(new Key(tm, code, locale));
+        }
+    }
+
+    /**
+     * Remembers the level which resolved the message code.
+     * @param tm the trademark.
+     * @param code the message code.
+     * @param locale the locale.
+     * @param level the level.
+     */
+    void put(String tm, String code, Locale locale, Level level) {
+        synchronized (levels) {
+            levels.put(new Key(tm, code, locale), level);
+        }
+    }
+
+    /**
+     * Clears the cache.
+     */
+    void clear() {
+        synchronized (levels) {
+            levels.clear();
+        }
+    }
+
+    /**
+     * The level resolving a message code.
+     * <br>
+     * @author Julb.
+     */
+    enum Level {
+        /**
+         * The trademark-prefixed code.
+         */
+        TRADEMARK,
+
+        /**
+         * The code itself.
+         */
+        DEFAULT,
+
+        /**
+         * None of the codes.
+         */
+        NONE;
+    }
+
+    /**
+     * The cache key.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class Key {
+
+        /**
+         * The trademark.
+         */
+        private final String tm;
+
+        /**
+         * The message code.
+         */
+        private final String code;
+
+        /**
+         * The locale.
+         */
+        private final Locale locale;
+    }
+}
@@ -33,20 +33,54 @@ import org.springframework.context.NoSuchMessageException;
 
 import me.julb.library.utility.constants.Strings;
 import me.julb.springbootstarter.core.context.TrademarkContextHolder;
+import me.julb.springbootstarter.core.messages.MessageResolutionCache.Level;
 
 /**
  * The message source service.
  * <br>
+ * The level resolving a code, i.e. the trademark-prefixed code or the code itself, is memoized per trademark and locale, including
+ * negative results, so that the lookups never rely on {@link NoSuchMessageException} to fall back.
+ * <br>
  * @author Julb.
  */
 public class MessageSourceService {
 
+    /**
+     * The maximum number of memoized resolutions.
+     */
+    private static final int RESOLUTION_CACHE_MAX_ENTRIES = 4096;
+
+    /**
+     * The default message returned by the delegate when a code is not found.
+     */
+    private static final String NOT_FOUND = "\u0000me.julb.message.not-found\u0000";
+
     /**
      * The message source delegate.
      */
     @Autowired
     private MessageSource messageSourceDelegate;
 
+    /**
+     * The memoized resolutions.
+     */
+    private final MessageResolutionCache resolutionCache = new MessageResolutionCache(RESOLUTION_CACHE_MAX_ENTRIES);
+
+    /**
+     * Default constructor.
+     */
+    public MessageSourceService() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     * @param messageSourceDelegate the message source delegate.
+     */
+    MessageSourceService(MessageSource messageSourceDelegate) {
+        this.messageSourceDelegate = messageSourceDelegate;
+    }
+
     /**
      * Try to resolve the message.
      * @param code the message code to lookup.
@@ -56,10 +90,10 @@ public class MessageSourceService {
      * @return the messsage if found.
      */
     public String getMessage(String code, Object[] args, String defaultMessage, Locale locale) {
-        try {
-            String tm = TrademarkContextHolder.getTrademark();
-            return messageSourceDelegate.getMessage(StringUtils.join(tm, Strings.DOT, code), args, locale);
-        } catch (NoSuchMessageException e) {
+        String message = resolveMessage(code, args, locale);
+        if (message != null) {
+            return message;
+        } else {
             return messageSourceDelegate.getMessage(code, args, defaultMessage, locale);
         }
     }
@@ -74,11 +108,72 @@ public class MessageSourceService {
      */
     public String getMessage(String code, Object[] args, Locale locale)
         throws NoSuchMessageException {
-        try {
-            String tm = TrademarkContextHolder.getTrademark();
-            return messageSourceDelegate.getMessage(StringUtils.join(tm, Strings.DOT, code), args, locale);
-        } catch (NoSuchMessageException e) {
+        String message = resolveMessage(code, args, locale);
+        if (message != null) {
+            return message;
+        } else {
             return messageSourceDelegate.getMessage(code, args, locale);
         }
     }
+
+    /**
+     * Clears the memoized resolutions, e.g. after the messages have been reloaded.
+     */
+    public void clearResolutionCache() {
+        resolutionCache.clear();
+    }
+
+    /**
+     * Resolves the message with the trademark-prefixed code, then with the code itself.
+     * <br>
+     * Only the level memoized for the trademark, code and locale is looked up. If the messages have changed since, the lower levels are
+     * tried and the memoized level is updated.
+     * @param code the message code to lookup.
+     * @param args the arguments.
+     * @param locale the locale.
+     * @return the message, <code>null</code> if none of the levels resolves the code.
+     */
+    private String resolveMessage(String code, Object[] args, Locale locale) {
+        String tm = TrademarkContextHolder.getTrademark();
+        Level level = resolutionCache.get(tm, code, locale);
+
+        if (level == null || level == Level.TRADEMARK) {
+            String message = lookupMessage(StringUtils.join(tm, Strings.DOT, code), args, locale);
+            if (message != null) {
+                if (level == null) {
+                    resolutionCache.put(tm, code, locale, Level.TRADEMARK);
+                }
+                return message;
+            }
+        }
+
+        if (level != Level.NONE) {
+            String message = lookupMessage(code, args, locale);
+            if (message != null) {
+                if (level != Level.DEFAULT) {
+                    resolutionCache.put(tm, code, locale, Level.DEFAULT);
+                }
+                return message;
+            }
+            resolutionCache.put(tm, code, locale, Level.NONE);
+        }
+
+        return null;
+    }
+
+    /**
+     * Looks the message up without throwing an exception if not found.
+     * @param code the message code to lookup.
+     * @param args the arguments.
+     * @param locale the locale.
+     * @return the message, <code>null</code> if not found.
+     */
+    private String lookupMessage(String code, Object[] args, Locale locale) {
+        String message = messageSourceDelegate.getMessage(code, args, NOT_FOUND, locale);
+        if (NOT_FOUND.equals(message)) {
+            return null;
+        } else {
+            return message;
+        }
+    }
 }
@@ -0,0 +1,261 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.rendering;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+/**
+ * A bounded LRU cache of rendered contents, keyed by a SHA-256 digest of the content to render.
+ * <br>
+ * The cache is bounded both by its number of entries and by the total number of rendered characters it retains. The rendering runs
+ * outside of the lock: two threads missing the same content at the same time both render it.
+ * <br>
+ * The cache binds its hits, misses and size as <code>cache.*</code> metrics. It has no dependency, so that it can be bound when the meter
+ * registry is created without pulling in the services using it.
+ * <br>
+ * @author Julb.
+ */
+public class ContentRenderCache implements MeterBinder {
+
+    /**
+     * The default maximum number of rendered contents in the cache.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    /**
+     * The default maximum number of rendered characters in the cache.
+     */
+    public static final long DEFAULT_MAX_CHARACTERS = 8L * 1024 * 1024;
+
+    /**
+     * The name of the cache in the metrics.
+     */
+    private static final String CACHE_NAME = "content-render";
+
+    /**
+     * The digest algorithm.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * The maximum number of rendered characters in the cache.
+     */
+    private final long maxCharacters;
+
+    /**
+     * The rendered contents.
+     */
+    private final Map<Key, String> renderedContents;
+
+    /**
+     * The number of rendered characters in the cache.
+     */
+    private long characters;
+
+    /**
+     * The number of hits.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The number of misses.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Default constructor.
+     */
+    public ContentRenderCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_CHARACTERS);
+    }
+
+    /**
+     * Constructor.
+     * @param maxEntries the maximum number of entries.
+     * @param maxCharacters the maximum number of rendered characters.
+     */
+    public ContentRenderCache(int maxEntries, long maxCharacters) {
+        this.maxCharacters = maxCharacters;
+        this.renderedContents = new LinkedHashMap<>(16, 0.75f, true) {
+
+            /**
+             * The serial version UID.
+             */
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                if (size() > maxEntries) {
+                    characters -= eldest.getValue().length();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the rendered content, rendering it if not in the cache.
+     * @param target the rendering target, e.g. <code>html</code>.
+     * @param mimeType the mime type of the content.
+     * @param content the content.
+     * @param renderer the renderer to use on a miss.
+     * @return the rendered content.
+     */
+    String get(String target, String mimeType, String content, UnaryOperator<String> renderer) {
+        Key key = new Key(target, mimeType, digest(content));
+
+        String renderedContent;
+        synchronized (renderedContents) {
+            renderedContent = renderedContents.get(key);
+        }
+        if (renderedContent != null) {
+            hits.incrementAndGet();
+            return renderedContent;
+        }
+
+        misses.incrementAndGet();
+        renderedContent = renderer.apply(content);
+        if (renderedContent.length() <= maxCharacters) {
+            synchronized (renderedContents) {
+                put(key, renderedContent);
+            }
+        }
+        return renderedContent;
+    }
+
+    /**
+     * Gets the number of hits.
+     * @return the number of hits.
+     */
+    long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of misses.
+     * @return the number of misses.
+     */
+    long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of entries.
+     * @return the number of entries.
+     */
+    int size() {
+        synchronized (renderedContents) {
+            return renderedContents.size();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", this, ContentRenderCache::getHits).tag("cache", CACHE_NAME).tag("result", "hit").description("The number of contents served from the cache").register(registry);
+        FunctionCounter.builder("cache.gets", this, ContentRenderCache::getMisses).tag("cache", CACHE_NAME).tag("result", "miss").description("The number of contents rendered").register(registry);
+        Gauge.builder("cache.size", this, ContentRenderCache::size).tag("cache", CACHE_NAME).description("The number of rendered contents in the cache").register(registry);
+    }
+
+    /**
+     * Puts a rendered content in the cache, evicting the least recently used ones over the maximum number of characters.
+     * <br>
+     * Must be called holding the lock on the rendered contents.
+     * @param key the key.
+     * @param renderedContent the rendered content.
+     */
+    private void put(Key key, String renderedContent) {
+        String previous = renderedContents.put(key, renderedContent);
+        if (previous != null) {
+            characters -= previous.length();
+        }
+        characters += renderedContent.length();
+
+        Iterator<String> iterator = renderedContents.values().iterator();
+        while (characters > maxCharacters && iterator.hasNext()) {
+            characters -= iterator.next().length();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Computes the digest of the content.
+     * @param content the content.
+     * @return the digest of the content.
+     */
+    private static byte[] digest(String content) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The cache key.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class Key {
+
+        /**
+         * The rendering target.
+         */
+        private final String target;
+
+        /**
+         * The mime type.
+         */
+        private final String mimeType;
+
+        /**
+         * The digest of the content.
+         */
+        private final byte[] contentDigest;
+    }
+}
@@ -45,16 +45,64 @@ import me.julb.springbootstarter.core.localization.LocaleService;
 /**
  * The content render service.
  * <br>
+ * The CommonMark parser and renderers are immutable and shared. Markdown and HTML contents are rendered once and then served from a
+ * bounded cache keyed by a digest of the content.
+ * <br>
  * @author Julb.
  */
 public class ContentRenderService {
 
+    /**
+     * The HTML rendering target.
+     */
+    private static final String TARGET_HTML = "html";
+
+    /**
+     * The text rendering target.
+     */
+    private static final String TARGET_TEXT = "text";
+
+    /**
+     * The Markdown parser.
+     */
+    private static final Parser MARKDOWN_PARSER = Parser.builder().build();
+
+    /**
+     * The HTML renderer.
+     */
+    private static final HtmlRenderer HTML_RENDERER = HtmlRenderer.builder().build();
+
+    /**
+     * The text renderer.
+     */
+    private static final TextContentRenderer TEXT_RENDERER = TextContentRenderer.builder().build();
+
     /**
      * The locale service.
      */
     @Autowired
     private LocaleService localeService;
 
+    /**
+     * The rendered contents cache.
+     */
+    private final ContentRenderCache cache;
+
+    /**
+     * Default constructor.
+     */
+    public ContentRenderService() {
+        this(new ContentRenderCache());
+    }
+
+    /**
+     * Constructor.
+     * @param cache the rendered contents cache.
+     */
+    public ContentRenderService(ContentRenderCache cache) {
+        this.cache = cache;
+    }
+
     /**
      * Renders the localized content to HTML.
      * @param localizedContent the localized content.
@@ -69,9 +117,7 @@ public class ContentRenderService {
         if (MediaType.TEXT_PLAIN.equalsIgnoreCase(contentable.getMimeType())) {
             return StringUtils.join(HTMLTags.SPAN_LT, contentable.getContent(), HTMLTags.SPAN_RT);
         } else if (MediaType.TEXT_MARKDOWN.equalsIgnoreCase(contentable.getMimeType())) {
-            Parser parser = Parser.builder().build();
-            HtmlRenderer renderer = HtmlRenderer.builder().build();
-            return renderer.render(parser.parse(contentable.getContent()));
+            return cache.get(TARGET_HTML, MediaType.TEXT_MARKDOWN, contentable.getContent(), ContentRenderService::renderMarkdownToHtml);
         } else {
             return contentable.getContent();
         }
@@ -89,16 +135,41 @@ public class ContentRenderService {
         }
 
         if (MediaType.TEXT_HTML.equalsIgnoreCase(contentable.getMimeType())) {
-            return Jsoup.parse(contentable.getContent()).text();
+            return cache.get(TARGET_TEXT, MediaType.TEXT_HTML, contentable.getContent(), ContentRenderService::renderHtmlToText);
         } else if (MediaType.TEXT_MARKDOWN.equalsIgnoreCase(contentable.getMimeType())) {
-            Parser parser = Parser.builder().build();
-            TextContentRenderer renderer = TextContentRenderer.builder().build();
-            return renderer.render(parser.parse(contentable.getContent()));
+            return cache.get(TARGET_TEXT, MediaType.TEXT_MARKDOWN, contentable.getContent(), ContentRenderService::renderMarkdownToText);
         } else {
             return contentable.getContent();
         }
     }
 
+    /**
+     * Renders Markdown to HTML.
+     * @param content the Markdown content.
+     * @return the HTML content.
+     */
+    static String renderMarkdownToHtml(String content) {
+        return HTML_RENDERER.render(MARKDOWN_PARSER.parse(content));
+    }
+
+    /**
+     * Renders Markdown to text.
+     * @param content the Markdown content.
+     * @return the text content.
+     */
+    static String renderMarkdownToText(String content) {
+        return TEXT_RENDERER.render(MARKDOWN_PARSER.parse(content));
+    }
+
+    /**
+     * Renders HTML to text.
+     * @param content the HTML content.
+     * @return the text content.
+     */
+    static String renderHtmlToText(String content) {
+        return Jsoup.parse(content).text();
+    }
+
     /**
      * Gets the localized value matching the best the given locale.
      * @param <T> the value.
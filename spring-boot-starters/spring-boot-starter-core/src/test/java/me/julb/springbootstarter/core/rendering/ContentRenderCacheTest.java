@@ -0,0 +1,173 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.core.rendering;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ContentRenderCache} class.
+ * <br>
+ * @author Julb.
+ */
+public class ContentRenderCacheTest {
+
+    /**
+     * The number of renderings.
+     */
+    private AtomicInteger renderings;
+
+    /**
+     * The renderer, returning the content in upper case.
+     */
+    private UnaryOperator<String> renderer;
+
+    /**
+     * Setup method.
+     */
+    @BeforeEach
+    public void setUp() {
+        renderings = new AtomicInteger();
+        renderer = content -> {
+            renderings.incrementAndGet();
+            return content.toUpperCase();
+        };
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenSameContentRenderedTwice_thenRenderedOnce() {
+        ContentRenderCache cache = new ContentRenderCache();
+
+        Assertions.assertEquals("ABC", cache.get("html", "text/markdown", "abc", renderer));
+        Assertions.assertEquals("ABC", cache.get("html", "text/markdown", "abc", renderer));
+
+        Assertions.assertEquals(1, renderings.get());
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(1, cache.getMisses());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenSameContentRenderedForAnotherTargetOrMimeType_thenRenderedAgain() {
+        ContentRenderCache cache = new ContentRenderCache();
+
+        cache.get("html", "text/markdown", "abc", renderer);
+        cache.get("text", "text/markdown", "abc", renderer);
+        cache.get("html", "text/html", "abc", renderer);
+
+        Assertions.assertEquals(3, renderings.get());
+        Assertions.assertEquals(0, cache.getHits());
+        Assertions.assertEquals(3, cache.size());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenMoreEntriesThanMaximum_thenLeastRecentlyUsedEvicted() {
+        ContentRenderCache cache = new ContentRenderCache(2, ContentRenderCache.DEFAULT_MAX_CHARACTERS);
+
+        cache.get("html", "text/markdown", "a", renderer);
+        cache.get("html", "text/markdown", "b", renderer);
+        cache.get("html", "text/markdown", "a", renderer);
+        cache.get("html", "text/markdown", "c", renderer);
+        Assertions.assertEquals(2, cache.size());
+
+        // "b" was the least recently used.
+        cache.get("html", "text/markdown", "a", renderer);
+        Assertions.assertEquals(3, renderings.get());
+        cache.get("html", "text/markdown", "b", renderer);
+        Assertions.assertEquals(4, renderings.get());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenMoreCharactersThanMaximum_thenLeastRecentlyUsedEvicted() {
+        ContentRenderCache cache = new ContentRenderCache(ContentRenderCache.DEFAULT_MAX_ENTRIES, 10);
+
+        cache.get("html", "text/markdown", "aaaa", renderer);
+        cache.get("html", "text/markdown", "bbbb", renderer);
+        cache.get("html", "text/markdown", "aaaa", renderer);
+        cache.get("html", "text/markdown", "cccc", renderer);
+        Assertions.assertEquals(2, cache.size());
+
+        // "bbbb" was the least recently used.
+        cache.get("html", "text/markdown", "aaaa", renderer);
+        cache.get("html", "text/markdown", "cccc", renderer);
+        Assertions.assertEquals(3, renderings.get());
+        cache.get("html", "text/markdown", "bbbb", renderer);
+        Assertions.assertEquals(4, renderings.get());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenRenderedContentLargerThanMaximum_thenNotCached() {
+        ContentRenderCache cache = new ContentRenderCache(ContentRenderCache.DEFAULT_MAX_ENTRIES, 10);
+
+        cache.get("html", "text/markdown", "aaaa", renderer);
+        Assertions.assertEquals("BBBBBBBBBBBB", cache.get("html", "text/markdown", "bbbbbbbbbbbb", renderer));
+        Assertions.assertEquals(1, cache.size());
+
+        cache.get("html", "text/markdown", "bbbbbbbbbbbb", renderer);
+        Assertions.assertEquals(3, renderings.get());
+        cache.get("html", "text/markdown", "aaaa", renderer);
+        Assertions.assertEquals(3, renderings.get());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenBoundToRegistry_thenHitsMissesAndSizeReported() {
+        ContentRenderCache cache = new ContentRenderCache();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get("html", "text/markdown", "a", renderer);
+        cache.get("html", "text/markdown", "a", renderer);
+        cache.get("html", "text/markdown", "a", renderer);
+        cache.get("html", "text/markdown", "b", renderer);
+
+        Assertions.assertEquals(2.0, registry.get("cache.gets").tag("cache", "content-render").tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(2.0, registry.get("cache.gets").tag("cache", "content-render").tag("result", "miss").functionCounter().count());
+        Assertions.assertEquals(2.0, registry.get("cache.size").tag("cache", "content-render").gauge().value());
+    }
+}
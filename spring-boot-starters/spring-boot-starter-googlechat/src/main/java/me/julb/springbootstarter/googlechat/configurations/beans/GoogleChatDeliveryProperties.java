@@ -0,0 +1,184 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.googlechat.configurations.beans;
+
+import java.time.Duration;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The Google Chat delivery properties configuration.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class GoogleChatDeliveryProperties {
+
+    //@formatter:off
+     /**
+     * Maximum number of messages waiting to be delivered, all rooms included.
+     * -- GETTER --
+     * Getter for {@link #queueCapacity} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #queueCapacity} property.
+     * @param queueCapacity the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int queueCapacity = 1000;
+
+    //@formatter:off
+     /**
+     * Maximum time a sender waits for room in the queue before the message is rejected.
+     * -- GETTER --
+     * Getter for {@link #enqueueTimeout} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #enqueueTimeout} property.
+     * @param enqueueTimeout the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    private Duration enqueueTimeout = Duration.ofSeconds(30);
+
+    //@formatter:off
+     /**
+     * Maximum time a sender waits for its queued message to be delivered. The message is then withdrawn from the queue, unless it is being posted.
+     * -- GETTER --
+     * Getter for {@link #deliveryTimeout} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #deliveryTimeout} property.
+     * @param deliveryTimeout the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    private Duration deliveryTimeout = Duration.ofMinutes(2);
+
+    //@formatter:off
+     /**
+     * Time during which the messages sent to a room are gathered before being posted in a single message.
+     * -- GETTER --
+     * Getter for {@link #coalescingWindow} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #coalescingWindow} property.
+     * @param coalescingWindow the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    private Duration coalescingWindow = Duration.ofMillis(200);
+
+    //@formatter:off
+     /**
+     * Maximum length of the text of a posted message, beyond which the gathered messages are split in several posts.
+     * -- GETTER --
+     * Getter for {@link #maxTextLength} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxTextLength} property.
+     * @param maxTextLength the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int maxTextLength = 4096;
+
+    //@formatter:off
+     /**
+     * Number of posts a space accepts in a burst.
+     * -- GETTER --
+     * Getter for {@link #rateLimitBurst} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #rateLimitBurst} property.
+     * @param rateLimitBurst the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int rateLimitBurst = 1;
+
+    //@formatter:off
+     /**
+     * Time after which a space accepts one more post.
+     * -- GETTER --
+     * Getter for {@link #rateLimitPeriod} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #rateLimitPeriod} property.
+     * @param rateLimitPeriod the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    private Duration rateLimitPeriod = Duration.ofSeconds(1);
+
+    //@formatter:off
+     /**
+     * Maximum number of attempts to post a message throttled or refused by an unavailable server.
+     * -- GETTER --
+     * Getter for {@link #maxAttempts} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxAttempts} property.
+     * @param maxAttempts the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int maxAttempts = 5;
+
+    //@formatter:off
+     /**
+     * Time to wait before posting again a message throttled or refused by an unavailable server.
+     * -- GETTER --
+     * Getter for {@link #retryDelay} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #retryDelay} property.
+     * @param retryDelay the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    private Duration retryDelay = Duration.ofSeconds(2);
+
+    //@formatter:off
+     /**
+     * Number of threads posting the messages.
+     * -- GETTER --
+     * Getter for {@link #threads} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #threads} property.
+     * @param threads the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int threads = 2;
+}
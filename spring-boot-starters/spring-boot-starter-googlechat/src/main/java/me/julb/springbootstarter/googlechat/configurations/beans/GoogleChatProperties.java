@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -61,4 +62,19 @@ public class GoogleChatProperties {
     @Valid
     private List<GoogleChatRoomProperties> rooms = new ArrayList<>();
 
+    //@formatter:off
+     /**
+     * The delivery attribute.
+     * -- GETTER --
+     * Getter for {@link #delivery} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #delivery} property.
+     * @param delivery the value to set.
+     */
+     //@formatter:on
+    @Valid
+    @NotNull
+    private GoogleChatDeliveryProperties delivery = new GoogleChatDeliveryProperties();
+
 }
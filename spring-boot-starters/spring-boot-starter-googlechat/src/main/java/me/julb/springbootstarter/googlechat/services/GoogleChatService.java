@@ -36,7 +36,11 @@ import me.julb.library.dto.googlechat.GoogleChatMessageDTO;
 public interface GoogleChatService {
 
     /**
-     * Sends the message.
+     * Sends the message, returning once it is delivered.
+     * <br>
+     * A message which cannot be delivered within the delivery timeout is withdrawn and a <code>ServiceUnavailableException</code> is thrown: it
+     * is never posted afterwards, so that the caller may send it again. A message already being posted when the timeout expires is awaited
+     * instead. Only if the calling thread is interrupted while its message is being posted may the message be delivered after a failure.
      * @param message the GChat message to send.
      */
     void send(@NotNull @Valid GoogleChatMessageDTO message);
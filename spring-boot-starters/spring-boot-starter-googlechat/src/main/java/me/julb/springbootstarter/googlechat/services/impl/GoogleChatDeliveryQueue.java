@@ -0,0 +1,564 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.googlechat.services.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import me.julb.library.utility.exceptions.RemoteSystemClientErrorException;
+import me.julb.library.utility.exceptions.RemoteSystemServerErrorException;
+import me.julb.library.utility.exceptions.ServiceUnavailableException;
+import me.julb.library.utility.exceptions.UnableToReachRemoteSystemException;
+import me.julb.springbootstarter.googlechat.configurations.beans.GoogleChatDeliveryProperties;
+import me.julb.springbootstarter.googlechat.configurations.beans.GoogleChatRoomProperties;
+
+/**
+ * The queue of the messages waiting to be posted to Google Chat.
+ * <br>
+ * Each space has a token bucket limiting its posts. The messages sent to a room and a thread within the coalescing window, or while the space is
+ * throttled, are gathered and posted as a single message. Posts throttled by Google Chat or refused by an unavailable server are attempted again
+ * later, so that bursts of messages are delayed rather than lost. The queue is bounded: senders wait for room in it and are rejected if none frees up
+ * in time.
+ * <br>
+ * @author Julb.
+ */
+@Slf4j
+class GoogleChatDeliveryQueue {
+
+    /**
+     * The separator of the gathered messages.
+     */
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * The delivery properties.
+     */
+    private final GoogleChatDeliveryProperties deliveryProperties;
+
+    /**
+     * The sender posting the messages.
+     */
+    private final Sender sender;
+
+    /**
+     * The free slots of the queue.
+     */
+    private final Semaphore slots;
+
+    /**
+     * The lane of each space.
+     */
+    private final ConcurrentMap<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * The executor posting the messages.
+     */
+    private final ScheduledThreadPoolExecutor executor;
+
+    /**
+     * The time spent by the senders waiting for room in the queue.
+     */
+    private final Timer enqueueWaitTimer;
+
+    /**
+     * The number of messages delivered.
+     */
+    private final Counter sentCounter;
+
+    /**
+     * The number of messages which could not be delivered.
+     */
+    private final Counter failedCounter;
+
+    /**
+     * The number of messages withdrawn before being posted.
+     */
+    private final Counter withdrawnCounter;
+
+    /**
+     * The number of messages rejected because the queue is full.
+     */
+    private final Counter rejectedCounter;
+
+    /**
+     * The number of posts.
+     */
+    private final Counter postCounter;
+
+    /**
+     * The number of posts delayed by the token bucket of their space.
+     */
+    private final Counter localThrottleCounter;
+
+    /**
+     * The number of posts throttled by Google Chat.
+     */
+    private final Counter remoteThrottleCounter;
+
+    /**
+     * Constructor.
+     * @param deliveryProperties the delivery properties.
+     * @param sender the sender posting the messages.
+     * @param meterRegistry the meter registry.
+     */
+    GoogleChatDeliveryQueue(GoogleChatDeliveryProperties deliveryProperties, Sender sender, MeterRegistry meterRegistry) {
+        this.deliveryProperties = deliveryProperties;
+        this.sender = sender;
+        this.slots = new Semaphore(deliveryProperties.getQueueCapacity());
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("googlechat-delivery-");
+        threadFactory.setDaemon(true);
+        this.executor = new ScheduledThreadPoolExecutor(deliveryProperties.getThreads(), threadFactory);
+        this.executor.setRemoveOnCancelPolicy(true);
+
+        Gauge.builder("googlechat.delivery.queue.size", this, GoogleChatDeliveryQueue::size).description("Messages waiting to be delivered").register(meterRegistry);
+        Gauge.builder("googlechat.delivery.queue.capacity", deliveryProperties, GoogleChatDeliveryProperties::getQueueCapacity).description("Maximum number of messages waiting to be delivered").register(meterRegistry);
+        this.enqueueWaitTimer = Timer.builder("googlechat.delivery.enqueue.wait").description("Time spent waiting for room in the queue").register(meterRegistry);
+        this.sentCounter = Counter.builder("googlechat.delivery.messages").tag("outcome", "sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("googlechat.delivery.messages").tag("outcome", "failed").register(meterRegistry);
+        this.withdrawnCounter = Counter.builder("googlechat.delivery.messages").tag("outcome", "withdrawn").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("googlechat.delivery.messages").tag("outcome", "rejected").register(meterRegistry);
+        this.postCounter = Counter.builder("googlechat.delivery.posts").register(meterRegistry);
+        this.localThrottleCounter = Counter.builder("googlechat.delivery.throttled").tag("source", "local").register(meterRegistry);
+        this.remoteThrottleCounter = Counter.builder("googlechat.delivery.throttled").tag("source", "remote").register(meterRegistry);
+    }
+
+    /**
+     * Gets the number of messages waiting to be delivered.
+     * @return the number of messages waiting to be delivered.
+     */
+    int size() {
+        return deliveryProperties.getQueueCapacity() - slots.availablePermits();
+    }
+
+    /**
+     * Queues a message.
+     * @param room the room.
+     * @param threadKey the thread key, or <code>null</code> if not needed.
+     * @param text the text.
+     * @return the future completed once the message is delivered.
+     * @throws ServiceUnavailableException if the queue stays full during the enqueue timeout.
+     */
+    CompletableFuture<Void> submit(GoogleChatRoomProperties room, String threadKey, String text) {
+        long start = System.nanoTime();
+        try {
+            if (!slots.tryAcquire(deliveryProperties.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                rejectedCounter.increment();
+                throw new ServiceUnavailableException("The Google Chat delivery queue is full.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(e);
+        } finally {
+            enqueueWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        PendingMessage message = new PendingMessage(room, threadKey, text);
+        Lane lane = lanes.computeIfAbsent(room.getSpaceId(), spaceId -> new Lane(deliveryProperties.getRateLimitBurst(), deliveryProperties.getRateLimitPeriod().toNanos()));
+        synchronized (lane) {
+            lane.pending.addLast(message);
+            if (!lane.scheduled) {
+                schedule(lane, deliveryProperties.getCoalescingWindow().toNanos());
+            }
+        }
+        return message.future;
+    }
+
+    /**
+     * Withdraws a message which is still waiting in the queue, so that it is never posted.
+     * @param room the room of the message.
+     * @param future the future returned when the message was queued.
+     * @return <code>true</code> if the message was withdrawn, <code>false</code> if it is being posted or is already completed.
+     */
+    boolean withdraw(GoogleChatRoomProperties room, CompletableFuture<Void> future) {
+        Lane lane = lanes.get(room.getSpaceId());
+        if (lane == null) {
+            return false;
+        }
+
+        PendingMessage withdrawn = null;
+        synchronized (lane) {
+            for (Iterator<PendingMessage> iterator = lane.pending.iterator(); iterator.hasNext();) {
+                PendingMessage message = iterator.next();
+                if (message.future == future) {
+                    iterator.remove();
+                    withdrawn = message;
+                    break;
+                }
+            }
+        }
+        if (withdrawn == null) {
+            return false;
+        }
+
+        complete(List.of(withdrawn), new ServiceUnavailableException("The Google Chat message has been withdrawn before being posted."), withdrawnCounter);
+        return true;
+    }
+
+    /**
+     * Stops the executor once the queued messages are delivered.
+     */
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Posts the next messages of the given lane, if its space accepts a post.
+     * @param lane the lane.
+     */
+    private void drain(Lane lane) {
+        long delayNanos = 0;
+        try {
+            List<PendingMessage> batch = null;
+            synchronized (lane) {
+                // The lane is empty if its messages were withdrawn since the drain was scheduled.
+                if (!lane.pending.isEmpty()) {
+                    long waitNanos = lane.bucket.tryAcquire(System.nanoTime());
+                    if (waitNanos > 0) {
+                        localThrottleCounter.increment();
+                        delayNanos = waitNanos;
+                    } else {
+                        batch = lane.pollBatch(deliveryProperties.getMaxTextLength());
+                    }
+                }
+            }
+
+            if (batch != null) {
+                delayNanos = post(lane, batch);
+            }
+        } finally {
+            // Whatever happened, the lane is either drained again or marked as idle, so that it never stops delivering.
+            synchronized (lane) {
+                if (lane.pending.isEmpty()) {
+                    lane.scheduled = false;
+                } else {
+                    schedule(lane, delayNanos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Schedules the drain of the given lane. If the executor is shut down, the messages of the lane are failed instead.
+     * <br>
+     * Must be called holding the lock on the lane.
+     * @param lane the lane.
+     * @param delayNanos the delay before the drain.
+     */
+    private void schedule(Lane lane, long delayNanos) {
+        try {
+            executor.schedule(() -> drain(lane), delayNanos, TimeUnit.NANOSECONDS);
+            lane.scheduled = true;
+        } catch (RejectedExecutionException e) {
+            List<PendingMessage> rejected = new ArrayList<>(lane.pending);
+            lane.pending.clear();
+            lane.scheduled = false;
+
+            LOGGER.error("Delivery of {} message(s) rejected: the Google Chat delivery queue is shut down.", rejected.size());
+            complete(rejected, new ServiceUnavailableException("The Google Chat delivery queue is shut down.", e), failedCounter);
+        }
+    }
+
+    /**
+     * Posts the given messages as a single message.
+     * @param lane the lane of the messages.
+     * @param batch the messages.
+     * @return the time to wait before the next post of the lane.
+     */
+    private long post(Lane lane, List<PendingMessage> batch) {
+        PendingMessage first = batch.get(0);
+        StringBuilder text = new StringBuilder(first.text);
+        for (int i = 1; i < batch.size(); i++) {
+            text.append(SEPARATOR).append(batch.get(i).text);
+        }
+
+        try {
+            postCounter.increment();
+            sender.send(first.room, first.threadKey, text.toString());
+        } catch (RuntimeException e) {
+            first.attempts++;
+            if (isRetryable(e) && first.attempts < deliveryProperties.getMaxAttempts()) {
+                LOGGER.warn("Post of {} message(s) to space {} failed, attempting again later: {}.", batch.size(), first.room.getSpaceId(), e.getMessage());
+                remoteThrottleCounter.increment();
+                synchronized (lane) {
+                    lane.bucket.empty(System.nanoTime());
+                    for (int i = batch.size() - 1; i >= 0; i--) {
+                        lane.pending.addFirst(batch.get(i));
+                    }
+                }
+                return deliveryProperties.getRetryDelay().toNanos();
+            }
+
+            LOGGER.error("Post of {} message(s) to space {} failed: {}.", batch.size(), first.room.getSpaceId(), e.getMessage());
+            complete(batch, e, failedCounter);
+            return 0;
+        } catch (Throwable e) {
+            LOGGER.error("Post of {} message(s) to space {} failed.", batch.size(), first.room.getSpaceId(), e);
+            complete(batch, e, failedCounter);
+            return 0;
+        }
+
+        complete(batch, null, sentCounter);
+        return 0;
+    }
+
+    /**
+     * Completes the given messages and frees their slots.
+     * @param batch the messages.
+     * @param failure the failure, or <code>null</code> if the messages are delivered.
+     * @param counter the counter of the outcome.
+     */
+    private void complete(List<PendingMessage> batch, Throwable failure, Counter counter) {
+        slots.release(batch.size());
+        counter.increment(batch.size());
+        for (PendingMessage message : batch) {
+            if (failure == null) {
+                message.future.complete(null);
+            } else {
+                message.future.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * Checks if a post failing with the given exception may succeed later.
+     * @param e the exception.
+     * @return <code>true</code> if the post was throttled or the server was unavailable, <code>false</code> otherwise.
+     */
+    private static boolean isRetryable(RuntimeException e) {
+        if (e instanceof RemoteSystemClientErrorException) {
+            return Objects.equals(((RemoteSystemClientErrorException) e).getHttpResponseStatusCode(), HttpStatus.TOO_MANY_REQUESTS.value());
+        }
+        return e instanceof RemoteSystemServerErrorException || e instanceof UnableToReachRemoteSystemException;
+    }
+
+    /**
+     * The sender posting a message to Google Chat.
+     * <br>
+     * @author Julb.
+     */
+    @FunctionalInterface
+    interface Sender {
+
+        /**
+         * Posts a message.
+         * @param room the room.
+         * @param threadKey the thread key, or <code>null</code> if not needed.
+         * @param text the text.
+         */
+        void send(GoogleChatRoomProperties room, String threadKey, String text);
+    }
+
+    /**
+     * A message waiting to be delivered.
+     * <br>
+     * @author Julb.
+     */
+    private static class PendingMessage {
+
+        /**
+         * The room.
+         */
+        private final GoogleChatRoomProperties room;
+
+        /**
+         * The thread key.
+         */
+        private final String threadKey;
+
+        /**
+         * The text.
+         */
+        private final String text;
+
+        /**
+         * The future completed once the message is delivered.
+         */
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        /**
+         * The number of failed attempts to post the message, only accessed by the drain of its lane.
+         */
+        private int attempts;
+
+        /**
+         * Constructor.
+         * @param room the room.
+         * @param threadKey the thread key.
+         * @param text the text.
+         */
+        PendingMessage(GoogleChatRoomProperties room, String threadKey, String text) {
+            this.room = room;
+            this.threadKey = threadKey;
+            this.text = text;
+        }
+    }
+
+    /**
+     * The messages waiting to be posted to a space, and its token bucket. All fields are guarded by the lane itself.
+     * <br>
+     * @author Julb.
+     */
+    private static class Lane {
+
+        /**
+         * The messages, the oldest first.
+         */
+        private final Deque<PendingMessage> pending = new ArrayDeque<>();
+
+        /**
+         * The token bucket of the space.
+         */
+        private final TokenBucket bucket;
+
+        /**
+         * <code>true</code> if a drain of the lane is scheduled or running.
+         */
+        private boolean scheduled;
+
+        /**
+         * Constructor.
+         * @param burst the number of posts accepted in a burst.
+         * @param periodNanos the time after which one more post is accepted.
+         */
+        Lane(int burst, long periodNanos) {
+            this.bucket = new TokenBucket(burst, periodNanos);
+        }
+
+        /**
+         * Removes the oldest message and the following ones sent to the same room and thread, as long as their texts fit in a single message.
+         * @param maxTextLength the maximum length of the text of a message.
+         * @return the messages.
+         */
+        List<PendingMessage> pollBatch(int maxTextLength) {
+            List<PendingMessage> batch = new ArrayList<>();
+            PendingMessage first = pending.pollFirst();
+            batch.add(first);
+
+            int length = first.text.length();
+            for (PendingMessage next = pending.peekFirst(); next != null; next = pending.peekFirst()) {
+                length += SEPARATOR.length() + next.text.length();
+                if (next.room != first.room || !Objects.equals(next.threadKey, first.threadKey) || length > maxTextLength) {
+                    break;
+                }
+                batch.add(pending.pollFirst());
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * A token bucket, refilled with one token per period up to its capacity.
+     * <br>
+     * @author Julb.
+     */
+    private static class TokenBucket {
+
+        /**
+         * The maximum number of tokens.
+         */
+        private final double capacity;
+
+        /**
+         * The time after which one token is added.
+         */
+        private final long periodNanos;
+
+        /**
+         * The number of tokens.
+         */
+        private double tokens;
+
+        /**
+         * The time of the last refill.
+         */
+        private long refilledAtNanos;
+
+        /**
+         * Constructor.
+         * @param capacity the maximum number of tokens.
+         * @param periodNanos the time after which one token is added.
+         */
+        TokenBucket(int capacity, long periodNanos) {
+            this.capacity = capacity;
+            this.periodNanos = periodNanos;
+            this.tokens = capacity;
+            this.refilledAtNanos = System.nanoTime();
+        }
+
+        /**
+         * Takes a token if one is available.
+         * @param nowNanos the current time.
+         * @return <code>0</code> if a token was taken, the time to wait for the next token otherwise.
+         */
+        long tryAcquire(long nowNanos) {
+            refill(nowNanos);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) ((1 - tokens) * periodNanos));
+        }
+
+        /**
+         * Removes all the tokens, after the space was throttled.
+         * @param nowNanos the current time.
+         */
+        void empty(long nowNanos) {
+            refill(nowNanos);
+            tokens = 0;
+        }
+
+        /**
+         * Adds the tokens accumulated since the last refill.
+         * @param nowNanos the current time.
+         */
+        private void refill(long nowNanos) {
+            tokens = Math.min(capacity, tokens + (double) (nowNanos - refilledAtNanos) / periodNanos);
+            refilledAtNanos = nowNanos;
+        }
+    }
+}
@@ -23,18 +23,34 @@
  */
 package me.julb.springbootstarter.googlechat.services.impl;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
 import me.julb.library.dto.googlechat.GoogleChatMessageDTO;
 import me.julb.library.utility.exceptions.ResourceNotFoundException;
+import me.julb.library.utility.exceptions.ServiceUnavailableException;
 import me.julb.springbootstarter.googlechat.annotations.ConditionalOnGoogleChatEnabled;
 import me.julb.springbootstarter.googlechat.configurations.beans.GoogleChatProperties;
 import me.julb.springbootstarter.googlechat.configurations.beans.GoogleChatRoomProperties;
@@ -45,6 +61,10 @@ import me.julb.springbootstarter.googlechat.services.GoogleChatService;
 /**
  * GChat service implementation.
  * <br>
+ * The messages are delivered through a {@link GoogleChatDeliveryQueue}, which limits the posts per space and gathers the messages sent in bursts.
+ * The send returns once the message is delivered. A message not delivered in time is withdrawn from the queue before the send fails, so that
+ * it is never posted after the caller was told it was not.
+ * <br>
  * @author Julb.
  */
 @Service
@@ -65,6 +85,56 @@ public class GoogleChatServiceImpl implements GoogleChatService {
     @Autowired
     protected GoogleChatFeignClient googleChatFeignClient;
 
+    /**
+     * The meter registry.
+     */
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * The rooms indexed by their lower-cased name.
+     */
+    private Map<String, GoogleChatRoomProperties> roomsByName;
+
+    /**
+     * The delivery queue.
+     */
+    private GoogleChatDeliveryQueue deliveryQueue;
+
+    /**
+     * Indexes the rooms and starts the delivery queue.
+     */
+    @PostConstruct
+    protected void init() {
+        Map<String, GoogleChatRoomProperties> rooms = new HashMap<>();
+        for (GoogleChatRoomProperties roomProperties : googleChatProperties.getRooms()) {
+            rooms.putIfAbsent(roomProperties.getName().toLowerCase(Locale.ROOT), roomProperties);
+        }
+        this.roomsByName = Map.copyOf(rooms);
+
+        //@formatter:off
+        this.deliveryQueue = new GoogleChatDeliveryQueue(
+            googleChatProperties.getDelivery(),
+            (roomProperties, threadKey, text) -> googleChatFeignClient.createTextMessage(
+                roomProperties.getSpaceId(),
+                roomProperties.getKey(),
+                roomProperties.getToken(),
+                threadKey,
+                new GoogleChatTextBodyDTO(text)
+            ),
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)
+        );
+        //@formatter:on
+    }
+
+    /**
+     * Stops the delivery queue once the queued messages are delivered.
+     */
+    @PreDestroy
+    protected void destroy() {
+        this.deliveryQueue.shutdown();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -87,18 +157,33 @@ public class GoogleChatServiceImpl implements GoogleChatService {
             threadKey = roomProperties.getDefaultThreadKey();
         }
 
-        // Build body.
-
         // Send message.
-        //@formatter:off
-        googleChatFeignClient.createTextMessage(
-            roomProperties.getSpaceId(), 
-            roomProperties.getKey(), 
-            roomProperties.getToken(), 
-            threadKey, 
-            new GoogleChatTextBodyDTO(messageDto.getText())
-        );
-        //@formatter:off
+        CompletableFuture<Void> delivery = deliveryQueue.submit(roomProperties, threadKey, messageDto.getText());
+        Duration deliveryTimeout = googleChatProperties.getDelivery().getDeliveryTimeout();
+        while (true) {
+            try {
+                delivery.get(deliveryTimeout.toNanos(), TimeUnit.NANOSECONDS);
+                break;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new ServiceUnavailableException(e.getCause());
+            } catch (TimeoutException e) {
+                if (deliveryQueue.withdraw(roomProperties, delivery)) {
+                    LOGGER.warn("Message to room {} not delivered within {}, it has been withdrawn.", room, deliveryTimeout);
+                    throw new ServiceUnavailableException("The Google Chat message has not been delivered in time.", e);
+                }
+                // The message is being posted: failing now could have it posted twice if the caller sends it again.
+                LOGGER.debug("Message to room {} being posted, waiting for the outcome.", room);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!deliveryQueue.withdraw(roomProperties, delivery)) {
+                    LOGGER.warn("Sender interrupted while the message to room {} is being posted, it may still be delivered.", room);
+                }
+                throw new ServiceUnavailableException(e);
+            }
+        }
 
         LOGGER.debug("Message sent successfully.");
     }
@@ -109,15 +194,6 @@ public class GoogleChatServiceImpl implements GoogleChatService {
      * @return the google chat room properties, <code>null</code> if not found.
      */
     private GoogleChatRoomProperties getRoomProperties(String room) {
-        //@formatter:off
-        return googleChatProperties
-            .getRooms()
-            .stream()
-            .filter((roomProperties) -> {
-                return StringUtils.equalsIgnoreCase(roomProperties.getName(), room);
-            })
-            .findFirst()
-            .orElse(null);
-        //@formatter:off
+        return room == null ? null : roomsByName.get(room.toLowerCase(Locale.ROOT));
     }
 }
@@ -0,0 +1,237 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.googlechat.services;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.json.JsonParserFactory;
+import org.springframework.cloud.commons.httpclient.HttpClientConfiguration;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import me.julb.library.dto.googlechat.GoogleChatMessageDTO;
+import me.julb.springbootstarter.consumer.configurations.ConsumerConfiguration;
+import me.julb.springbootstarter.googlechat.configurations.GoogleChatConfiguration;
+import me.julb.springbootstarter.googlechat.services.impl.GoogleChatServiceImpl;
+import me.julb.springbootstarter.test.base.AbstractBaseTest;
+
+/**
+ * Google Chat service delivery test, against a local webhook enforcing a rate limit.
+ * <br>
+ * @author Julb.
+ */
+@ContextConfiguration(classes = {ConsumerConfiguration.class, GoogleChatConfiguration.class, GoogleChatServiceImpl.class, GoogleChatServiceDeliveryTest.ConversionConfiguration.class})
+@ImportAutoConfiguration({HttpClientConfiguration.class, FeignAutoConfiguration.class})
+//@formatter:off
+@TestPropertySource(properties = {
+    "google.chat.delivery.coalescing-window=50ms",
+    "google.chat.delivery.rate-limit-burst=2",
+    "google.chat.delivery.rate-limit-period=50ms",
+    "google.chat.delivery.retry-delay=100ms",
+    "google.chat.delivery.max-attempts=50"
+})
+//@formatter:on
+public class GoogleChatServiceDeliveryTest extends AbstractBaseTest {
+
+    /**
+     * The minimum time between two posts accepted by the webhook for a space.
+     */
+    private static final long WEBHOOK_MIN_INTERVAL_NANOS = 150_000_000L;
+
+    /**
+     * The local webhook.
+     */
+    private static HttpServer webhook;
+
+    /**
+     * The texts received by the webhook, per space.
+     */
+    private static final Map<String, List<String>> RECEIVED_TEXTS = new ConcurrentHashMap<>();
+
+    /**
+     * The time of the last post accepted by the webhook, per space.
+     */
+    private static final Map<String, Long> LAST_ACCEPTED_POSTS = new ConcurrentHashMap<>();
+
+    /**
+     * The number of posts accepted by the webhook.
+     */
+    private static final AtomicInteger ACCEPTED_POSTS = new AtomicInteger();
+
+    /**
+     * The number of posts throttled by the webhook.
+     */
+    private static final AtomicInteger THROTTLED_POSTS = new AtomicInteger();
+
+    /**
+     * The Google chat service.
+     */
+    @Autowired
+    private GoogleChatService googleChatService;
+
+    /**
+     * Starts the local webhook and points the client to it.
+     * @param registry the property registry.
+     * @throws IOException if the webhook cannot be started.
+     */
+    @DynamicPropertySource
+    static void webhookProperties(DynamicPropertyRegistry registry)
+        throws IOException {
+        webhook = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        webhook.createContext("/v1/spaces/", GoogleChatServiceDeliveryTest::handle);
+        webhook.start();
+        registry.add("google.chat.endpoint.url", () -> "http://127.0.0.1:" + webhook.getAddress().getPort());
+    }
+
+    /**
+     * Stops the local webhook.
+     */
+    @AfterAll
+    public static void stopWebhook() {
+        webhook.stop(0);
+    }
+
+    /**
+     * Handles a post to the local webhook, accepting at most one post per space every {@link #WEBHOOK_MIN_INTERVAL_NANOS}.
+     * @param exchange the exchange.
+     * @throws IOException if an error occurs.
+     */
+    private static void handle(HttpExchange exchange)
+        throws IOException {
+        String spaceId = exchange.getRequestURI().getPath().split("/")[3];
+        try (InputStream body = exchange.getRequestBody()) {
+            String text = (String) JsonParserFactory.getJsonParser().parseMap(new String(body.readAllBytes(), StandardCharsets.UTF_8)).get("text");
+            int status;
+            synchronized (LAST_ACCEPTED_POSTS) {
+                long now = System.nanoTime();
+                Long lastAcceptedPost = LAST_ACCEPTED_POSTS.get(spaceId);
+                if (lastAcceptedPost != null && now - lastAcceptedPost < WEBHOOK_MIN_INTERVAL_NANOS) {
+                    THROTTLED_POSTS.incrementAndGet();
+                    status = 429;
+                } else {
+                    LAST_ACCEPTED_POSTS.put(spaceId, now);
+                    ACCEPTED_POSTS.incrementAndGet();
+                    RECEIVED_TEXTS.computeIfAbsent(spaceId, key -> Collections.synchronizedList(new ArrayList<>())).addAll(List.of(text.split("\n")));
+                    status = 200;
+                }
+            }
+            exchange.sendResponseHeaders(status, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenSendingBurstToRateLimitedWebhook_thenAllMessagesDeliveredOnceInFewerPosts()
+        throws Exception {
+        int senders = 8;
+        int messagesPerSender = 25;
+
+        ExecutorService executor = Executors.newFixedThreadPool(senders);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int s = 0; s < senders; s++) {
+                String room = s % 2 == 0 ? "__NAME_A__" : "__NAME_B__";
+                String sender = "sender-" + s;
+                futures.add(executor.submit(() -> {
+                    for (int m = 0; m < messagesPerSender; m++) {
+                        GoogleChatMessageDTO dto = new GoogleChatMessageDTO();
+                        dto.setRoom(room);
+                        dto.setText(sender + "-message-" + m);
+                        googleChatService.send(dto);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<String> received = new ArrayList<>();
+        received.addAll(RECEIVED_TEXTS.getOrDefault("__SPACE_ID_A__", List.of()));
+        received.addAll(RECEIVED_TEXTS.getOrDefault("__SPACE_ID_B__", List.of()));
+        Assertions.assertEquals(senders * messagesPerSender, received.size());
+        for (int s = 0; s < senders; s++) {
+            List<String> expected = new ArrayList<>();
+            for (int m = 0; m < messagesPerSender; m++) {
+                expected.add("sender-" + s + "-message-" + m);
+            }
+            String prefix = "sender-" + s + "-";
+            Assertions.assertEquals(expected, received.stream().filter(text -> text.startsWith(prefix)).toList());
+        }
+        Assertions.assertTrue(ACCEPTED_POSTS.get() < senders * messagesPerSender);
+        Assertions.assertTrue(THROTTLED_POSTS.get() > 0);
+    }
+
+    /**
+     * The conversion service used by the Feign client to expand the request parameters.
+     * <br>
+     * @author Julb.
+     */
+    @Configuration
+    static class ConversionConfiguration {
+
+        /**
+         * Builds the conversion service.
+         * @return the conversion service.
+         */
+        @Bean
+        public ConversionService mvcConversionService() {
+            return new DefaultFormattingConversionService();
+        }
+    }
+}
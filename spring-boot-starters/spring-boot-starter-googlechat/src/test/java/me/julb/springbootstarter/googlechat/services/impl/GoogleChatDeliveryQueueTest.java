@@ -0,0 +1,153 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.googlechat.services.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import me.julb.library.utility.exceptions.ServiceUnavailableException;
+import me.julb.springbootstarter.googlechat.configurations.beans.GoogleChatDeliveryProperties;
+import me.julb.springbootstarter.googlechat.configurations.beans.GoogleChatRoomProperties;
+
+/**
+ * Google Chat delivery queue test.
+ * <br>
+ * @author Julb.
+ */
+public class GoogleChatDeliveryQueueTest {
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenSenderThrowsError_thenFailMessageAndKeepDelivering()
+        throws Exception {
+        List<String> sentTexts = new CopyOnWriteArrayList<>();
+        GoogleChatDeliveryQueue queue = new GoogleChatDeliveryQueue(deliveryProperties(), (room, threadKey, text) -> {
+            if (text.equals("boom")) {
+                throw new AssertionError("boom");
+            }
+            sentTexts.add(text);
+        }, new SimpleMeterRegistry());
+        try {
+            CompletableFuture<Void> failed = queue.submit(room(), null, "boom");
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(e.getCause() instanceof AssertionError);
+
+            queue.submit(room(), null, "hello").get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(List.of("hello"), sentTexts);
+            Assertions.assertEquals(0, queue.size());
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenQueueIsShutDown_thenFailMessage() {
+        GoogleChatDeliveryQueue queue = new GoogleChatDeliveryQueue(deliveryProperties(), (room, threadKey, text) -> {
+        }, new SimpleMeterRegistry());
+        queue.shutdown();
+
+        CompletableFuture<Void> future = queue.submit(room(), null, "hello");
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(e.getCause() instanceof ServiceUnavailableException);
+        Assertions.assertEquals(0, queue.size());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenPendingMessageWithdrawn_thenNeverPosted()
+        throws Exception {
+        CountDownLatch posting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> sentTexts = new CopyOnWriteArrayList<>();
+        GoogleChatDeliveryQueue queue = new GoogleChatDeliveryQueue(deliveryProperties(), (room, threadKey, text) -> {
+            posting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sentTexts.add(text);
+        }, new SimpleMeterRegistry());
+        try {
+            // The first message is being posted while the second one waits in the queue.
+            CompletableFuture<Void> first = queue.submit(room(), "thread-1", "first");
+            Assertions.assertTrue(posting.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Void> second = queue.submit(room(), "thread-2", "second");
+
+            Assertions.assertTrue(queue.withdraw(room(), second));
+            Assertions.assertFalse(queue.withdraw(room(), first));
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(e.getCause() instanceof ServiceUnavailableException);
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            Assertions.assertFalse(queue.withdraw(room(), first));
+            Assertions.assertEquals(List.of("first"), sentTexts);
+            Assertions.assertEquals(0, queue.size());
+        } finally {
+            release.countDown();
+            queue.shutdown();
+        }
+    }
+
+    /**
+     * Gets the delivery properties of the tests.
+     * @return the delivery properties.
+     */
+    private static GoogleChatDeliveryProperties deliveryProperties() {
+        GoogleChatDeliveryProperties deliveryProperties = new GoogleChatDeliveryProperties();
+        deliveryProperties.setCoalescingWindow(Duration.ZERO);
+        deliveryProperties.setRateLimitPeriod(Duration.ofMillis(1));
+        return deliveryProperties;
+    }
+
+    /**
+     * Gets the room of the tests.
+     * @return the room.
+     */
+    private static GoogleChatRoomProperties room() {
+        GoogleChatRoomProperties room = new GoogleChatRoomProperties();
+        room.setName("room");
+        room.setSpaceId("space");
+        return room;
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Map;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
+import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
 import lombok.Getter;
@@ -90,4 +91,34 @@ public class GoogleReCaptchaProperties {
     @NotNull
     @NotEmpty
     private Map<String, Float> actionThresholds;
+
+    //@formatter:off
+     /**
+     * The verifier attribute.
+     * -- GETTER --
+     * Getter for {@link #verifier} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #verifier} property.
+     * @param verifier the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    @Valid
+    private GoogleReCaptchaVerifierProperties verifier = new GoogleReCaptchaVerifierProperties();
+
+    //@formatter:off
+     /**
+     * The replayGuard attribute.
+     * -- GETTER --
+     * Getter for {@link #replayGuard} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #replayGuard} property.
+     * @param replayGuard the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    @Valid
+    private GoogleReCaptchaReplayGuardProperties replayGuard = new GoogleReCaptchaReplayGuardProperties();
 }
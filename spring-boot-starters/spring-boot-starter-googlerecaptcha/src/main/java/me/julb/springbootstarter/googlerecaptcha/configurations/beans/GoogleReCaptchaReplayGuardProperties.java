@@ -0,0 +1,69 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.googlerecaptcha.configurations.beans;
+
+import javax.validation.constraints.Min;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The properties of the guard rejecting the reuse of captcha tokens.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class GoogleReCaptchaReplayGuardProperties {
+
+    //@formatter:off
+     /**
+     * Maximum number of submitted tokens kept in memory.
+     * -- GETTER --
+     * Getter for {@link #maxEntries} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxEntries} property.
+     * @param maxEntries the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int maxEntries = 10000;
+
+    //@formatter:off
+     /**
+     * Time during which the reuse of a submitted token is rejected, in seconds. Google ReCaptcha tokens expire after two minutes.
+     * -- GETTER --
+     * Getter for {@link #timeToLiveInSeconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #timeToLiveInSeconds} property.
+     * @param timeToLiveInSeconds the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private long timeToLiveInSeconds = 120;
+}
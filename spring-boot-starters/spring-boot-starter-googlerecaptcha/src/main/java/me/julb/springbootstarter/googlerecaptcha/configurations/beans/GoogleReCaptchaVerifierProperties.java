@@ -0,0 +1,112 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.googlerecaptcha.configurations.beans;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The properties of the calls to Google ReCaptcha.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class GoogleReCaptchaVerifierProperties {
+
+    //@formatter:off
+     /**
+     * Maximum time to wait for Google ReCaptcha, in milliseconds.
+     * -- GETTER --
+     * Getter for {@link #timeoutInMilliseconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #timeoutInMilliseconds} property.
+     * @param timeoutInMilliseconds the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private long timeoutInMilliseconds = 2000;
+
+    //@formatter:off
+     /**
+     * Maximum number of calls to Google ReCaptcha in progress at the same time. Extra calls are not attempted.
+     * -- GETTER --
+     * Getter for {@link #maxConcurrentCalls} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxConcurrentCalls} property.
+     * @param maxConcurrentCalls the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int maxConcurrentCalls = 16;
+
+    //@formatter:off
+     /**
+     * Number of consecutive failed calls after which the calls are suspended.
+     * -- GETTER --
+     * Getter for {@link #failureThreshold} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #failureThreshold} property.
+     * @param failureThreshold the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int failureThreshold = 5;
+
+    //@formatter:off
+     /**
+     * Time during which the calls are suspended before a trial call, in milliseconds.
+     * -- GETTER --
+     * Getter for {@link #openDurationInMilliseconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #openDurationInMilliseconds} property.
+     * @param openDurationInMilliseconds the value to set.
+     */
+     //@formatter:on
+    @Min(0)
+    private long openDurationInMilliseconds = 30000;
+
+    //@formatter:off
+     /**
+     * Whether the captcha is accepted or rejected when Google ReCaptcha cannot be reached.
+     * -- GETTER --
+     * Getter for {@link #failurePolicy} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #failurePolicy} property.
+     * @param failurePolicy the value to set.
+     */
+     //@formatter:on
+    @NotNull
+    private GoogleReCaptchaFailurePolicy failurePolicy = GoogleReCaptchaFailurePolicy.FAIL_CLOSED;
+}
@@ -24,6 +24,8 @@
 
 package me.julb.springbootstarter.googlerecaptcha.consumers;
 
+import java.util.concurrent.TimeUnit;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -37,9 +39,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import feign.Client;
+import feign.Request;
+import feign.Retryer;
 import me.julb.springbootstarter.consumer.configurations.properties.ConsumerEndpointProperties;
 import me.julb.springbootstarter.consumer.utility.FeignClientUtility;
 import me.julb.springbootstarter.googlerecaptcha.annotations.ConditionalOnGoogleReCaptchaEnabled;
+import me.julb.springbootstarter.googlerecaptcha.configurations.beans.GoogleReCaptchaProperties;
 import me.julb.springbootstarter.googlerecaptcha.consumers.GoogleReCaptchaFeignClient.LocalConsumerConfiguration;
 
 /**
@@ -99,6 +104,12 @@ public interface GoogleReCaptchaFeignClient {
         @Autowired
         private LocalConsumerProperties properties;
 
+        /**
+         * The Google ReCaptcha properties.
+         */
+        @Autowired
+        private GoogleReCaptchaProperties googleReCaptchaProperties;
+
         /**
          * Builds a feign client instance.
          * @return the feign client instance.
@@ -107,5 +118,24 @@ public interface GoogleReCaptchaFeignClient {
         public Client feignClient() {
             return FeignClientUtility.feignClientUtil(properties.getEndpoint());
         }
+
+        /**
+         * Bounds the connection and the read to the verification deadline, so that a call given up by the verifier does not hold a thread.
+         * @return the request options.
+         */
+        @Bean
+        public Request.Options feignOptions() {
+            long timeoutInMilliseconds = googleReCaptchaProperties.getVerifier().getTimeoutInMilliseconds();
+            return new Request.Options(timeoutInMilliseconds, TimeUnit.MILLISECONDS, timeoutInMilliseconds, TimeUnit.MILLISECONDS, true);
+        }
+
+        /**
+         * Disables the retries, which cannot fit within the verification deadline.
+         * @return the retryer.
+         */
+        @Bean
+        public Retryer feignRetryer() {
+            return Retryer.NEVER_RETRY;
+        }
     }
 }
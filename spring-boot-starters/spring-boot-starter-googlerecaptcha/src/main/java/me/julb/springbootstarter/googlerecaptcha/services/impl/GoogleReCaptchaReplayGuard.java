@@ -0,0 +1,175 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.googlerecaptcha.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+/**
+ * A bounded guard rejecting the reuse of captcha tokens, keyed by the digest of the token and the action.
+ * <br>
+ * A token is claimed before being verified: any further use of the same token is rejected without calling Google until the claim expires, whether the
+ * verification is in progress, has succeeded or has failed. Like Google, which answers <code>timeout-or-duplicate</code> to a reused token, no verdict is served
+ * twice: a retried request must come with a new token. The claims are kept in insertion order, which is also their expiration order.
+ * <br>
+ * @author Julb.
+ */
+class GoogleReCaptchaReplayGuard {
+
+    /**
+     * The expiration of the claimed tokens, as values of {@link System#nanoTime()}.
+     */
+    private final Map<Key, Long> claims;
+
+    /**
+     * The time during which a claim is kept, in nanoseconds.
+     */
+    private final long timeToLiveNanos;
+
+    /**
+     * Default constructor.
+     * @param maxEntries the maximum number of entries.
+     * @param timeToLiveNanos the time during which a claim is kept, in nanoseconds.
+     */
+    GoogleReCaptchaReplayGuard(int maxEntries, long timeToLiveNanos) {
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.claims = new LinkedHashMap<>(16, 0.75f, false) {
+
+            /**
+             * The serial version UID.
+             */
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Long> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Claims the given token for the given action.
+     * @param token the captcha token.
+     * @param action the captcha action.
+     * @return <code>true</code> if the token has not been used within the time to live, <code>false</code> otherwise.
+     */
+    boolean claim(String token, String action) {
+        Key key = new Key(digest(token), action);
+        long now = System.nanoTime();
+        synchronized (claims) {
+            evictExpired(now);
+            if (claims.containsKey(key)) {
+                return false;
+            }
+            claims.put(key, now + timeToLiveNanos);
+            return true;
+        }
+    }
+
+    /**
+     * Releases a claimed token which could not be verified, so that it can be submitted again.
+     * @param token the captcha token.
+     * @param action the captcha action.
+     */
+    void release(String token, String action) {
+        Key key = new Key(digest(token), action);
+        synchronized (claims) {
+            claims.remove(key);
+        }
+    }
+
+    /**
+     * Removes all the claims.
+     */
+    void clear() {
+        synchronized (claims) {
+            claims.clear();
+        }
+    }
+
+    /**
+     * Gets the number of entries.
+     * @return the number of entries.
+     */
+    int size() {
+        synchronized (claims) {
+            return claims.size();
+        }
+    }
+
+    /**
+     * Removes the expired entries, which are the eldest ones.
+     * @param now the current value of {@link System#nanoTime()}.
+     */
+    private void evictExpired(long now) {
+        Iterator<Long> iterator = claims.values().iterator();
+        while (iterator.hasNext() && iterator.next() - now <= 0) {
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Computes the SHA-256 digest of the token, so that the tokens are not kept in memory.
+     * @param token the token.
+     * @return the hex digest.
+     */
+    private static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The cache key.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class Key {
+
+        /**
+         * The digest of the token.
+         */
+        private final String tokenDigest;
+
+        /**
+         * The action.
+         */
+        private final String action;
+    }
+}
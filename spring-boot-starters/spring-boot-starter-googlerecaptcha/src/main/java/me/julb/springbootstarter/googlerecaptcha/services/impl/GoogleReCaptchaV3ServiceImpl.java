@@ -24,8 +24,12 @@
 
 package me.julb.springbootstarter.googlerecaptcha.services.impl;
 
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.constraints.NotNull;
 
@@ -41,6 +45,7 @@ import org.springframework.validation.annotation.Validated;
 import me.julb.library.utility.constants.CustomHttpHeaders;
 import me.julb.library.utility.http.HttpServletRequestUtility;
 import me.julb.springbootstarter.googlerecaptcha.annotations.ConditionalOnGoogleReCaptchaEnabled;
+import me.julb.springbootstarter.googlerecaptcha.configurations.beans.GoogleReCaptchaFailurePolicy;
 import me.julb.springbootstarter.googlerecaptcha.configurations.beans.GoogleReCaptchaProperties;
 import me.julb.springbootstarter.googlerecaptcha.consumers.GoogleReCaptchaFeignClient;
 import me.julb.springbootstarter.googlerecaptcha.consumers.GoogleReCaptchaV3ChallengeResponseDTO;
@@ -49,6 +54,9 @@ import me.julb.springbootstarter.googlerecaptcha.services.GoogleReCaptchaService
 /**
  * The Captcha service implementation for Google ReCaptcha V3.
  * <br>
+ * A token can be used only once: any reuse is rejected without calling Google, as Google itself would reject it. The calls to Google are bounded, timed and circuit-broken; when
+ * Google cannot be reached, the configured failure policy decides whether the captcha is accepted.
+ * <br>
  * @author Julb.
  */
 @Slf4j
@@ -79,6 +87,33 @@ public class GoogleReCaptchaV3ServiceImpl implements GoogleReCaptchaService {
     @Autowired
     protected GoogleReCaptchaFeignClient googleReCaptchaFeignClient;
 
+    /**
+     * The verifier calling Google ReCaptcha.
+     */
+    private GoogleReCaptchaVerifier googleReCaptchaVerifier;
+
+    /**
+     * The guard rejecting the reuse of tokens.
+     */
+    private GoogleReCaptchaReplayGuard googleReCaptchaReplayGuard;
+
+    /**
+     * Creates the verifier and the replay guard.
+     */
+    @PostConstruct
+    public void initialize() {
+        this.googleReCaptchaVerifier = new GoogleReCaptchaVerifier(googleReCaptchaFeignClient, googleReCaptchaProperties.getVerifier());
+        this.googleReCaptchaReplayGuard = new GoogleReCaptchaReplayGuard(googleReCaptchaProperties.getReplayGuard().getMaxEntries(), TimeUnit.SECONDS.toNanos(googleReCaptchaProperties.getReplayGuard().getTimeToLiveInSeconds()));
+    }
+
+    /**
+     * Stops the verifier.
+     */
+    @PreDestroy
+    public void destroy() {
+        this.googleReCaptchaVerifier.close();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -118,8 +153,44 @@ public class GoogleReCaptchaV3ServiceImpl implements GoogleReCaptchaService {
         }
         Float actionThreshold = googleReCaptchaProperties.getActionThresholds().get(captchaAction);
 
+        // Reject the reuse of a token.
+        if (!googleReCaptchaReplayGuard.claim(captchaToken, captchaAction)) {
+            LOGGER.debug("Token has already been submitted for the action {}.", captchaAction);
+            return false;
+        }
+
         // Invoke Google service.
-        GoogleReCaptchaV3ChallengeResponseDTO googleResponse = googleReCaptchaFeignClient.verify(googleReCaptchaProperties.getSecretKey(), captchaToken, ipAddress);
+        Optional<GoogleReCaptchaV3ChallengeResponseDTO> googleResponse = googleReCaptchaVerifier.verify(googleReCaptchaProperties.getSecretKey(), captchaToken, ipAddress);
+        if (googleResponse.isEmpty()) {
+            boolean failOpen = GoogleReCaptchaFailurePolicy.FAIL_OPEN.equals(googleReCaptchaProperties.getVerifier().getFailurePolicy());
+            LOGGER.warn("Google ReCaptcha Service is unavailable: the captcha is {}.", failOpen ? "accepted" : "rejected");
+            if (!failOpen) {
+                // Let the client submit the token again once Google is available.
+                googleReCaptchaReplayGuard.release(captchaToken, captchaAction);
+            }
+            return failOpen;
+        }
+
+        return isValid(googleResponse.get(), captchaAction, actionThreshold);
+    }
+
+    /**
+     * Forgets all the submitted tokens.
+     */
+    public void clearReplayGuard() {
+        googleReCaptchaReplayGuard.clear();
+    }
+
+    // ------------------------------------------ Private methods.
+
+    /**
+     * Checks the response of Google ReCaptcha.
+     * @param googleResponse the response of Google ReCaptcha.
+     * @param captchaAction the expected action.
+     * @param actionThreshold the minimum score of the action.
+     * @return <code>true</code> if the captcha is valid, <code>false</code> otherwise.
+     */
+    private boolean isValid(GoogleReCaptchaV3ChallengeResponseDTO googleResponse, String captchaAction, Float actionThreshold) {
         if (!googleResponse.isSuccess()) {
             LOGGER.debug("Google ReCaptcha Service failed to verify the Captcha. Errors: {}", ArrayUtils.toString(googleResponse.getErrorCodes()));
             return false;
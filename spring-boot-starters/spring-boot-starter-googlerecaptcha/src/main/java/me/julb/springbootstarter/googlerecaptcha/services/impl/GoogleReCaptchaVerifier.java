@@ -0,0 +1,231 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.googlerecaptcha.services.impl;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import me.julb.springbootstarter.googlerecaptcha.configurations.beans.GoogleReCaptchaVerifierProperties;
+import me.julb.springbootstarter.googlerecaptcha.consumers.GoogleReCaptchaFeignClient;
+import me.julb.springbootstarter.googlerecaptcha.consumers.GoogleReCaptchaV3ChallengeResponseDTO;
+
+/**
+ * Calls Google ReCaptcha with a bounded number of concurrent calls, a deadline and a circuit breaker.
+ * <br>
+ * The circuit opens after a number of consecutive failed calls: no call is attempted until the open duration has elapsed. A single trial call is then attempted, which
+ * closes the circuit on success or opens it again on failure.
+ * <br>
+ * @author Julb.
+ */
+@Slf4j
+class GoogleReCaptchaVerifier implements AutoCloseable {
+
+    /**
+     * The state of the circuit.
+     */
+    enum State {
+        /**
+         * The calls are attempted.
+         */
+        CLOSED,
+
+        /**
+         * The calls are suspended.
+         */
+        OPEN,
+
+        /**
+         * A trial call is in progress.
+         */
+        HALF_OPEN;
+    }
+
+    /**
+     * The feign client to verify captcha.
+     */
+    private final GoogleReCaptchaFeignClient googleReCaptchaFeignClient;
+
+    /**
+     * The verifier properties.
+     */
+    private final GoogleReCaptchaVerifierProperties properties;
+
+    /**
+     * The executor running the calls, bounded by the maximum number of concurrent calls.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The state of the circuit.
+     */
+    private State state = State.CLOSED;
+
+    /**
+     * The number of consecutive failed calls.
+     */
+    private int consecutiveFailures;
+
+    /**
+     * The value of {@link System#nanoTime()} until which the circuit stays open.
+     */
+    private long openUntilNanos;
+
+    /**
+     * Default constructor.
+     * @param googleReCaptchaFeignClient the feign client to verify captcha.
+     * @param properties the verifier properties.
+     */
+    GoogleReCaptchaVerifier(GoogleReCaptchaFeignClient googleReCaptchaFeignClient, GoogleReCaptchaVerifierProperties properties) {
+        this.googleReCaptchaFeignClient = googleReCaptchaFeignClient;
+        this.properties = properties;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("google-recaptcha-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(0, properties.getMaxConcurrentCalls(), 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+    }
+
+    /**
+     * Verifies the captcha token.
+     * @param secret the Google recaptcha secret.
+     * @param captchaToken the token to verify.
+     * @param remoteIp the remote IP address.
+     * @return the challenge response, or an empty optional if Google ReCaptcha could not be reached.
+     */
+    Optional<GoogleReCaptchaV3ChallengeResponseDTO> verify(String secret, String captchaToken, String remoteIp) {
+        if (!tryAcquire()) {
+            LOGGER.warn("Google ReCaptcha circuit is open: the captcha is not verified.");
+            return Optional.empty();
+        }
+
+        Future<GoogleReCaptchaV3ChallengeResponseDTO> call;
+        try {
+            call = executor.submit(() -> googleReCaptchaFeignClient.verify(secret, captchaToken, remoteIp));
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Too many calls to Google ReCaptcha in progress: the captcha is not verified.");
+            release();
+            return Optional.empty();
+        }
+
+        try {
+            GoogleReCaptchaV3ChallengeResponseDTO response = call.get(properties.getTimeoutInMilliseconds(), TimeUnit.MILLISECONDS);
+            onSuccess();
+            return Optional.ofNullable(response);
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            LOGGER.warn("Google ReCaptcha has not answered within <{}> ms.", properties.getTimeoutInMilliseconds());
+            onFailure();
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            LOGGER.warn("Unable to call Google ReCaptcha.", e.getCause());
+            onFailure();
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            call.cancel(true);
+            release();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Gets the state of the circuit.
+     * @return the state of the circuit.
+     */
+    synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // ------------------------------------------ Private methods.
+
+    /**
+     * Checks whether a call can be attempted.
+     * @return <code>true</code> if the circuit is closed, or if the open duration has elapsed and no trial call is in progress.
+     */
+    private synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openUntilNanos >= 0) {
+                    state = State.HALF_OPEN;
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Releases a call which has not reached Google ReCaptcha.
+     */
+    private synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    /**
+     * Records a successful call.
+     */
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            LOGGER.info("Google ReCaptcha is reachable again: closing the circuit.");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    /**
+     * Records a failed call.
+     */
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= properties.getFailureThreshold()) {
+            if (state != State.OPEN) {
+                LOGGER.warn("Google ReCaptcha has failed <{}> consecutive times: opening the circuit for <{}> ms.", consecutiveFailures, properties.getOpenDurationInMilliseconds());
+            }
+            state = State.OPEN;
+            openUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getOpenDurationInMilliseconds());
+        }
+    }
+}
@@ -26,11 +26,13 @@ package me.julb.springbootstarter.googlerecaptcha.services;
 import javax.servlet.http.HttpServletRequest;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.util.AopTestUtils;
 
 import me.julb.library.utility.constants.CustomHttpHeaders;
 import me.julb.springbootstarter.googlerecaptcha.configurations.GoogleReCaptchaConfiguration;
@@ -59,6 +61,15 @@ public class GoogleReCaptchaServiceTest extends AbstractBaseTest {
     @MockBean
     private GoogleReCaptchaFeignClient googleReCaptchaFeignClient;
 
+    /**
+     * Forgets the tokens submitted by the previous tests.
+     */
+    @BeforeEach
+    public void setup() {
+        GoogleReCaptchaV3ServiceImpl service = AopTestUtils.getTargetObject(googleReCaptchaService);
+        service.clearReplayGuard();
+    }
+
     /**
      * Unit test method.
      */
@@ -215,4 +226,70 @@ public class GoogleReCaptchaServiceTest extends AbstractBaseTest {
 
         Assertions.assertFalse(googleReCaptchaService.validate(request));
     }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenCaptchaTokenIsReused_thenReturnFalseWithoutCallingGoogle()
+        throws Throwable {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getRemoteAddr()).thenReturn("0.0.0.0");
+        Mockito.when(request.getHeader(CustomHttpHeaders.X_GOOGLE_RECAPTCHA_TOKEN)).thenReturn("TOKEN");
+        Mockito.when(request.getHeader(CustomHttpHeaders.X_GOOGLE_RECAPTCHA_ACTION)).thenReturn("HELLO");
+
+        GoogleReCaptchaV3ChallengeResponseDTO response = new GoogleReCaptchaV3ChallengeResponseDTO();
+        response.setAction("HELLO");
+        response.setHostname("localhost");
+        response.setScore(1.0f);
+        response.setSuccess(true);
+        Mockito.when(googleReCaptchaFeignClient.verify(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(response);
+
+        Assertions.assertTrue(googleReCaptchaService.validate(request));
+        Assertions.assertFalse(googleReCaptchaService.validate(request));
+        Mockito.verify(googleReCaptchaFeignClient, Mockito.times(1)).verify(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenGoogleIsUnavailable_thenReturnFalseAndAcceptTokenAgain()
+        throws Throwable {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getRemoteAddr()).thenReturn("0.0.0.0");
+        Mockito.when(request.getHeader(CustomHttpHeaders.X_GOOGLE_RECAPTCHA_TOKEN)).thenReturn("TOKEN");
+        Mockito.when(request.getHeader(CustomHttpHeaders.X_GOOGLE_RECAPTCHA_ACTION)).thenReturn("HELLO");
+
+        GoogleReCaptchaV3ChallengeResponseDTO response = new GoogleReCaptchaV3ChallengeResponseDTO();
+        response.setAction("HELLO");
+        response.setHostname("localhost");
+        response.setScore(1.0f);
+        response.setSuccess(true);
+        Mockito.when(googleReCaptchaFeignClient.verify(Mockito.any(), Mockito.any(), Mockito.any())).thenThrow(new IllegalStateException("unavailable")).thenReturn(response);
+
+        Assertions.assertFalse(googleReCaptchaService.validate(request));
+        Assertions.assertTrue(googleReCaptchaService.validate(request));
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenGoogleIsSlow_thenReturnFalseWithinTimeout()
+        throws Throwable {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getRemoteAddr()).thenReturn("0.0.0.0");
+        Mockito.when(request.getHeader(CustomHttpHeaders.X_GOOGLE_RECAPTCHA_TOKEN)).thenReturn("TOKEN");
+        Mockito.when(request.getHeader(CustomHttpHeaders.X_GOOGLE_RECAPTCHA_ACTION)).thenReturn("HELLO");
+
+        Mockito.when(googleReCaptchaFeignClient.verify(Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return new GoogleReCaptchaV3ChallengeResponseDTO();
+        });
+
+        long start = System.currentTimeMillis();
+        Assertions.assertFalse(googleReCaptchaService.validate(request));
+        Assertions.assertTrue(System.currentTimeMillis() - start < 2000);
+    }
 }
@@ -0,0 +1,255 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.googlerecaptcha.services.impl;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import me.julb.springbootstarter.googlerecaptcha.configurations.beans.GoogleReCaptchaVerifierProperties;
+import me.julb.springbootstarter.googlerecaptcha.consumers.GoogleReCaptchaFeignClient;
+import me.julb.springbootstarter.googlerecaptcha.consumers.GoogleReCaptchaV3ChallengeResponseDTO;
+
+/**
+ * Test class for {@link GoogleReCaptchaVerifier} class.
+ * <br>
+ * @author Julb.
+ */
+public class GoogleReCaptchaVerifierTest {
+
+    /**
+     * The stub verifier.
+     */
+    private StubGoogleReCaptchaFeignClient stub;
+
+    /**
+     * The verifier properties.
+     */
+    private GoogleReCaptchaVerifierProperties properties;
+
+    /**
+     * The verifier to test.
+     */
+    private GoogleReCaptchaVerifier verifier;
+
+    /**
+     * Method triggered before each test.
+     */
+    @BeforeEach
+    public void setup() {
+        stub = new StubGoogleReCaptchaFeignClient();
+        properties = new GoogleReCaptchaVerifierProperties();
+        properties.setTimeoutInMilliseconds(200);
+        properties.setMaxConcurrentCalls(2);
+        properties.setFailureThreshold(3);
+        properties.setOpenDurationInMilliseconds(300);
+        verifier = new GoogleReCaptchaVerifier(stub, properties);
+    }
+
+    /**
+     * Method triggered after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        stub.release.countDown();
+        verifier.close();
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenStubAnswers_thenReturnResponse() {
+        Optional<GoogleReCaptchaV3ChallengeResponseDTO> response = verifier.verify("SECRET", "TOKEN", "0.0.0.0");
+        Assertions.assertTrue(response.isPresent());
+        Assertions.assertTrue(response.get().isSuccess());
+        Assertions.assertEquals(GoogleReCaptchaVerifier.State.CLOSED, verifier.getState());
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenStubIsSlow_thenGiveUpAtDeadline() {
+        stub.latencyInMilliseconds = 5000;
+
+        long start = System.nanoTime();
+        Optional<GoogleReCaptchaV3ChallengeResponseDTO> response = verifier.verify("SECRET", "TOKEN", "0.0.0.0");
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assertions.assertTrue(response.isEmpty());
+        Assertions.assertTrue(elapsed >= 200 && elapsed < 1000, "elapsed=" + elapsed);
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenStubFailsRepeatedly_thenOpenCircuitAndStopCalling() {
+        stub.failing = true;
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertTrue(verifier.verify("SECRET", "TOKEN", "0.0.0.0").isEmpty());
+        }
+        Assertions.assertEquals(GoogleReCaptchaVerifier.State.OPEN, verifier.getState());
+        Assertions.assertEquals(3, stub.calls.get());
+
+        // Calls are not attempted while the circuit is open.
+        stub.failing = false;
+        Assertions.assertTrue(verifier.verify("SECRET", "TOKEN", "0.0.0.0").isEmpty());
+        Assertions.assertEquals(3, stub.calls.get());
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenOpenDurationHasElapsed_thenTrialCallClosesCircuit()
+        throws Exception {
+        stub.failing = true;
+        for (int i = 0; i < 3; i++) {
+            verifier.verify("SECRET", "TOKEN", "0.0.0.0");
+        }
+        Assertions.assertEquals(GoogleReCaptchaVerifier.State.OPEN, verifier.getState());
+
+        Thread.sleep(350);
+        stub.failing = false;
+        Assertions.assertTrue(verifier.verify("SECRET", "TOKEN", "0.0.0.0").isPresent());
+        Assertions.assertEquals(GoogleReCaptchaVerifier.State.CLOSED, verifier.getState());
+        Assertions.assertEquals(4, stub.calls.get());
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenTrialCallFails_thenOpenCircuitAgain()
+        throws Exception {
+        stub.failing = true;
+        for (int i = 0; i < 3; i++) {
+            verifier.verify("SECRET", "TOKEN", "0.0.0.0");
+        }
+
+        Thread.sleep(350);
+        Assertions.assertTrue(verifier.verify("SECRET", "TOKEN", "0.0.0.0").isEmpty());
+        Assertions.assertEquals(GoogleReCaptchaVerifier.State.OPEN, verifier.getState());
+        Assertions.assertEquals(4, stub.calls.get());
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenTooManyCallsInProgress_thenRejectExtraCalls()
+        throws Exception {
+        properties.setTimeoutInMilliseconds(5000);
+        stub.blocking = true;
+
+        // Occupy the two slots.
+        CompletableFuture<Optional<GoogleReCaptchaV3ChallengeResponseDTO>> first = CompletableFuture.supplyAsync(() -> verifier.verify("SECRET", "TOKEN1", "0.0.0.0"));
+        CompletableFuture<Optional<GoogleReCaptchaV3ChallengeResponseDTO>> second = CompletableFuture.supplyAsync(() -> verifier.verify("SECRET", "TOKEN2", "0.0.0.0"));
+        Assertions.assertTrue(stub.started.await(5, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        Assertions.assertTrue(verifier.verify("SECRET", "TOKEN3", "0.0.0.0").isEmpty());
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        Assertions.assertEquals(2, stub.calls.get());
+
+        // The calls in progress complete normally.
+        stub.release.countDown();
+        Assertions.assertTrue(first.get(5, TimeUnit.SECONDS).isPresent());
+        Assertions.assertTrue(second.get(5, TimeUnit.SECONDS).isPresent());
+        Assertions.assertEquals(GoogleReCaptchaVerifier.State.CLOSED, verifier.getState());
+    }
+
+    /**
+     * A stub of Google ReCaptcha with latency and error injection.
+     * <br>
+     * @author Julb.
+     */
+    private static class StubGoogleReCaptchaFeignClient implements GoogleReCaptchaFeignClient {
+
+        /**
+         * The number of calls.
+         */
+        private final AtomicInteger calls = new AtomicInteger();
+
+        /**
+         * Counted down when two calls have started.
+         */
+        private final CountDownLatch started = new CountDownLatch(2);
+
+        /**
+         * Counted down to release the blocked calls.
+         */
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        /**
+         * The injected latency.
+         */
+        private volatile long latencyInMilliseconds;
+
+        /**
+         * <code>true</code> to inject an error.
+         */
+        private volatile boolean failing;
+
+        /**
+         * <code>true</code> to block the calls until released.
+         */
+        private volatile boolean blocking;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public GoogleReCaptchaV3ChallengeResponseDTO verify(String secret, String captchaToken, String remoteIp) {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                if (blocking) {
+                    release.await();
+                }
+                Thread.sleep(latencyInMilliseconds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            if (failing) {
+                throw new IllegalStateException("Injected error.");
+            }
+            GoogleReCaptchaV3ChallengeResponseDTO response = new GoogleReCaptchaV3ChallengeResponseDTO();
+            response.setSuccess(true);
+            response.setAction("HELLO");
+            response.setScore(1.0f);
+            return response;
+        }
+    }
+}
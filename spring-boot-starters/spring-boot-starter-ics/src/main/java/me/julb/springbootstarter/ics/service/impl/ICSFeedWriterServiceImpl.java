@@ -57,14 +57,22 @@ import net.fortuna.ical4j.util.MapTimeZoneCache;
 @Service
 public class ICSFeedWriterServiceImpl implements ICSFeedWriterService {
 
+    /**
+     * The time zone registry, shared as loading time zone definitions is expensive.
+     */
+    private static final TimeZoneRegistry TIME_ZONE_REGISTRY;
+
+    static {
+        // The cache implementation has to be configured before the registry gets created.
+        System.setProperty("net.fortuna.ical4j.timezone.cache.impl", MapTimeZoneCache.class.getName());
+        TIME_ZONE_REGISTRY = TimeZoneRegistryFactory.getInstance().createRegistry();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void write(ICSFeedDTO icsFeed, OutputStream outputStream) {
-        // Set property.
-        System.setProperty("net.fortuna.ical4j.timezone.cache.impl", MapTimeZoneCache.class.getName());
-
         try {
             // Create a calendar
             net.fortuna.ical4j.model.Calendar icsCalendar = new net.fortuna.ical4j.model.Calendar();
@@ -72,9 +80,8 @@ public class ICSFeedWriterServiceImpl implements ICSFeedWriterService {
             icsCalendar.getProperties().add(CalScale.GREGORIAN);
             icsCalendar.getProperties().add(Version.VERSION_2_0);
 
-            // Create a TimeZone
-            TimeZoneRegistry registry = TimeZoneRegistryFactory.getInstance().createRegistry();
-            TimeZone timezone = registry.getTimeZone(LocaleContextHolder.getTimeZone().getID());
+            // Get the TimeZone
+            TimeZone timezone = TIME_ZONE_REGISTRY.getTimeZone(LocaleContextHolder.getTimeZone().getID());
             VTimeZone tz = timezone.getVTimeZone();
 
             for (ICSFeedEventDTO icsFeedEvent : icsFeed.getEvents()) {
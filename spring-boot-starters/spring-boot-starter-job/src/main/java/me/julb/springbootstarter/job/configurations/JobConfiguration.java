@@ -28,11 +28,17 @@ import org.springframework.batch.core.configuration.annotation.DefaultBatchConfi
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import me.julb.springbootstarter.job.configurations.beans.JobProperties;
 
 /**
  * Batch configuration.
@@ -42,17 +48,44 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @Configuration
 @EnableBatchProcessing
 @EnableScheduling
+@EnableConfigurationProperties(JobProperties.class)
 public class JobConfiguration extends DefaultBatchConfigurer {
 
+    /**
+     * The name of the task executor running the chunks of multi-threaded steps and the partitions of partitioned steps.
+     */
+    public static final String STEP_TASK_EXECUTOR = "jobStepTaskExecutor";
+
+    /**
+     * The job properties.
+     */
+    @Autowired
+    private JobProperties jobProperties;
+
     /**
      * Task executor configuration.
      * @return a task executor for batch.
      */
     @Bean
+    @Primary
     public TaskExecutor taskExecutor() {
         return new SyncTaskExecutor();
     }
 
+    /**
+     * Task executor running the chunks of multi-threaded steps and the partitions of partitioned steps.
+     * @return a task executor for the steps.
+     */
+    @Bean(STEP_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor jobStepTaskExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(jobProperties.getThreads());
+        taskExecutor.setMaxPoolSize(jobProperties.getThreads());
+        taskExecutor.setThreadNamePrefix("job-step-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        return taskExecutor;
+    }
+
     /**
      * {@inheritDoc}
      */
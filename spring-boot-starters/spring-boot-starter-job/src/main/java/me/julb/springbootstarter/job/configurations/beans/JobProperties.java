@@ -0,0 +1,109 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.job.configurations.beans;
+
+import javax.validation.constraints.Min;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The job properties configuration.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Validated
+@ConfigurationProperties(prefix = "job")
+public class JobProperties {
+
+    //@formatter:off
+     /**
+     * Number of items read, processed and written within a single transaction.
+     * -- GETTER --
+     * Getter for {@link #chunkSize} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #chunkSize} property.
+     * @param chunkSize the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int chunkSize = 500;
+
+    //@formatter:off
+     /**
+     * Number of items fetched per query by the paging readers.
+     * -- GETTER --
+     * Getter for {@link #pageSize} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #pageSize} property.
+     * @param pageSize the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int pageSize = 500;
+
+    //@formatter:off
+     /**
+     * Number of threads executing the chunks of multi-threaded steps and the partitions of partitioned steps.
+     * -- GETTER --
+     * Getter for {@link #threads} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #threads} property.
+     * @param threads the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    //@formatter:off
+     /**
+     * Number of partitions created by the partitioned steps. Defaults to the number of threads when not set.
+     * -- GETTER --
+     * Getter for {@link #gridSize} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #gridSize} property.
+     * @param gridSize the value to set.
+     */
+     //@formatter:on
+    private Integer gridSize;
+
+    /**
+     * Gets the effective grid size.
+     * @return the grid size, or the number of threads when not set.
+     */
+    public int getEffectiveGridSize() {
+        return gridSize != null && gridSize > 0 ? gridSize : threads;
+    }
+}
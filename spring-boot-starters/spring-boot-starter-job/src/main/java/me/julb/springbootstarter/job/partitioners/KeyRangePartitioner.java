@@ -0,0 +1,107 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.job.partitioners;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * A partitioner splitting a numeric key range in contiguous sub-ranges.
+ * <br>
+ * Each partition receives the {@link #MIN_KEY} and {@link #MAX_KEY} inclusive bounds in its execution context, so that the worker reader can restrict its query with
+ * <code>WHERE key BETWEEN :minKey AND :maxKey</code>.
+ * <br>
+ * @author Julb.
+ */
+public class KeyRangePartitioner implements Partitioner {
+
+    /**
+     * The execution context key holding the lower bound of the partition, inclusive.
+     */
+    public static final String MIN_KEY = "minKey";
+
+    /**
+     * The execution context key holding the upper bound of the partition, inclusive.
+     */
+    public static final String MAX_KEY = "maxKey";
+
+    /**
+     * The partition name prefix.
+     */
+    private static final String PARTITION_PREFIX = "range-";
+
+    /**
+     * The supplier of the lowest key, inclusive.
+     */
+    private final LongSupplier minKeySupplier;
+
+    /**
+     * The supplier of the highest key, inclusive.
+     */
+    private final LongSupplier maxKeySupplier;
+
+    /**
+     * Default constructor.
+     * @param minKeySupplier the supplier of the lowest key, inclusive, evaluated when the step starts.
+     * @param maxKeySupplier the supplier of the highest key, inclusive, evaluated when the step starts.
+     */
+    public KeyRangePartitioner(LongSupplier minKeySupplier, LongSupplier maxKeySupplier) {
+        this.minKeySupplier = minKeySupplier;
+        this.maxKeySupplier = maxKeySupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long minKey = minKeySupplier.getAsLong();
+        long maxKey = maxKeySupplier.getAsLong();
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (maxKey < minKey) {
+            return partitions;
+        }
+
+        // Split the range in contiguous sub-ranges of equivalent size.
+        long count = maxKey - minKey + 1;
+        long rangeSize = Math.max(1, (count + gridSize - 1) / Math.max(1, gridSize));
+        int index = 0;
+        for (long lower = minKey; lower <= maxKey; lower += rangeSize) {
+            long upper = Math.min(maxKey, lower + rangeSize - 1);
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_KEY, lower);
+            context.putLong(MAX_KEY, upper);
+            partitions.put(PARTITION_PREFIX + index++, context);
+            if (upper == maxKey) {
+                break;
+            }
+        }
+        return partitions;
+    }
+}
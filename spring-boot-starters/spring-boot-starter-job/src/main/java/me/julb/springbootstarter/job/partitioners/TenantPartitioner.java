@@ -0,0 +1,81 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.job.partitioners;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * A partitioner creating one partition per tenant.
+ * <br>
+ * Each partition receives the {@link #TENANT} identifier in its execution context. The grid size is ignored: the number of threads processing the partitions concurrently is
+ * bounded by the task executor of the partitioned step.
+ * <br>
+ * @author Julb.
+ */
+public class TenantPartitioner implements Partitioner {
+
+    /**
+     * The execution context key holding the tenant of the partition.
+     */
+    public static final String TENANT = "tenant";
+
+    /**
+     * The partition name prefix.
+     */
+    private static final String PARTITION_PREFIX = "tenant-";
+
+    /**
+     * The supplier of the tenants.
+     */
+    private final Supplier<? extends Collection<String>> tenantsSupplier;
+
+    /**
+     * Default constructor.
+     * @param tenantsSupplier the supplier of the tenants, evaluated when the step starts.
+     */
+    public TenantPartitioner(Supplier<? extends Collection<String>> tenantsSupplier) {
+        this.tenantsSupplier = tenantsSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        for (String tenant : new LinkedHashSet<>(tenantsSupplier.get())) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(TENANT, tenant);
+            partitions.put(PARTITION_PREFIX + tenant, context);
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.job.steps;
+
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.item.support.SynchronizedItemStreamReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import me.julb.springbootstarter.job.configurations.JobConfiguration;
+import me.julb.springbootstarter.job.configurations.beans.JobProperties;
+
+/**
+ * A factory to build chunk-oriented steps running single-threaded, multi-threaded or partitioned.
+ * <br>
+ * The chunk size, the number of threads and the grid size are taken from the {@link JobProperties}.
+ * <br>
+ * @author Julb.
+ */
+@Component
+public class ChunkStepFactory {
+
+    /**
+     * The step builder factory.
+     */
+    @Autowired
+    private StepBuilderFactory stepBuilderFactory;
+
+    /**
+     * The job properties.
+     */
+    @Autowired
+    private JobProperties jobProperties;
+
+    /**
+     * The task executor running the chunks and the partitions.
+     */
+    @Autowired
+    @Qualifier(JobConfiguration.STEP_TASK_EXECUTOR)
+    private TaskExecutor stepTaskExecutor;
+
+    // ------------------------------------------ Utility methods.
+
+    /**
+     * Builds a step processing the chunks sequentially in the calling thread.
+     * @param <I> the read item type.
+     * @param <O> the written item type.
+     * @param name the step name.
+     * @param reader the item reader.
+     * @param processor the item processor.
+     * @param writer the item writer.
+     * @return the step.
+     */
+    public <I, O> Step singleThreadedStep(String name, ItemReader<? extends I> reader, ItemProcessor<? super I, ? extends O> processor, ItemWriter<? super O> writer) {
+        return chunkStep(name, reader, processor, writer).build();
+    }
+
+    /**
+     * Builds a step processing the chunks concurrently with the step task executor.
+     * <br>
+     * The reader is wrapped so that items are read by one thread at a time. As the chunks complete out of order, the reader state is not saved and the step restarts from
+     * the beginning on failure.
+     * @param <I> the read item type.
+     * @param <O> the written item type.
+     * @param name the step name.
+     * @param reader the item reader.
+     * @param processor the item processor, which must be thread-safe.
+     * @param writer the item writer, which must be thread-safe.
+     * @return the step.
+     */
+    public <I, O> Step multiThreadedStep(String name, ItemReader<? extends I> reader, ItemProcessor<? super I, ? extends O> processor, ItemWriter<? super O> writer) {
+        if (reader instanceof AbstractItemCountingItemStreamItemReader) {
+            ((AbstractItemCountingItemStreamItemReader<?>) reader).setSaveState(false);
+        }
+
+        //@formatter:off
+        return chunkStep(name, synchronizedReader(reader), processor, writer)
+            .listener((Object) reader)
+            .taskExecutor(stepTaskExecutor)
+            .throttleLimit(jobProperties.getThreads())
+            .build();
+        //@formatter:on
+    }
+
+    /**
+     * Builds a step splitting the data with the given partitioner and running the worker step once per partition with the step task executor.
+     * <br>
+     * The worker step must be single-threaded since the partitions already occupy the threads of the step task executor.
+     * @param name the step name.
+     * @param partitioner the partitioner.
+     * @param workerStep the worker step, usually built with {@link #singleThreadedStep(String, ItemReader, ItemProcessor, ItemWriter)} and a step-scoped reader.
+     * @return the step.
+     */
+    public Step partitionedStep(String name, Partitioner partitioner, Step workerStep) {
+        //@formatter:off
+        return stepBuilderFactory.get(name)
+            .partitioner(workerStep.getName(), partitioner)
+            .step(workerStep)
+            .gridSize(jobProperties.getEffectiveGridSize())
+            .taskExecutor(stepTaskExecutor)
+            .build();
+        //@formatter:on
+    }
+
+    /**
+     * Wraps the given reader so that it can be shared by multiple threads.
+     * @param <T> the item type.
+     * @param reader the reader.
+     * @return the thread-safe reader.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ItemReader<T> synchronizedReader(ItemReader<? extends T> reader) {
+        if (reader instanceof ItemStreamReader) {
+            SynchronizedItemStreamReader<T> synchronizedReader = new SynchronizedItemStreamReader<>();
+            synchronizedReader.setDelegate((ItemStreamReader<T>) reader);
+            return synchronizedReader;
+        } else {
+            return new ItemReader<T>() {
+                @Override
+                public synchronized T read()
+                    throws Exception {
+                    return reader.read();
+                }
+            };
+        }
+    }
+
+    // ------------------------------------------ Private methods.
+
+    /**
+     * Builds a chunk-oriented step with the configured chunk size.
+     * @param <I> the read item type.
+     * @param <O> the written item type.
+     * @param name the step name.
+     * @param reader the item reader.
+     * @param processor the item processor.
+     * @param writer the item writer.
+     * @return the step builder.
+     */
+    private <I, O> SimpleStepBuilder<I, O> chunkStep(String name, ItemReader<? extends I> reader, ItemProcessor<? super I, ? extends O> processor, ItemWriter<? super O> writer) {
+        //@formatter:off
+        return stepBuilderFactory.get(name)
+            .<I, O>chunk(jobProperties.getChunkSize())
+            .reader(reader)
+            .processor(processor)
+            .writer(writer);
+        //@formatter:on
+    }
+}
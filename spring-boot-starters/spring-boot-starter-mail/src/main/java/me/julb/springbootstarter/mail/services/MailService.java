@@ -23,6 +23,8 @@
  */
 package me.julb.springbootstarter.mail.services;
 
+import java.util.Collection;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
@@ -41,4 +43,10 @@ public interface MailService {
      */
     void send(@NotNull @Valid MailDTO mail);
 
+    /**
+     * Sends the mails over a single connection to the mail server.
+     * @param mails the mail messages to send.
+     */
+    void sendAll(@NotNull Collection<@NotNull @Valid MailDTO> mails);
+
 }
@@ -25,6 +25,7 @@ package me.julb.springbootstarter.mail.services.impl;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
 
 import javax.activation.DataHandler;
@@ -78,7 +79,37 @@ public class MailServiceImpl implements MailService {
     public void send(@NotNull @Valid MailDTO mailDto) {
         LOGGER.debug("Sending mail : {}.", mailDto);
 
-        mailSender.send(new MimeMessagePreparator() {
+        mailSender.send(mimeMessagePreparator(mailDto));
+
+        LOGGER.debug("Mail sent successfully.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sendAll(@NotNull Collection<@NotNull @Valid MailDTO> mailDtos) {
+        if (mailDtos.isEmpty()) {
+            return;
+        }
+
+        LOGGER.debug("Sending {} mails.", mailDtos.size());
+
+        // Mails are sent over a single connection to the SMTP server.
+        mailSender.send(mailDtos.stream().map(this::mimeMessagePreparator).toArray(MimeMessagePreparator[]::new));
+
+        LOGGER.debug("{} mails sent successfully.", mailDtos.size());
+    }
+
+    // ------------------------------------------ Private methods.
+
+    /**
+     * Builds the preparator of the MIME message of the given mail.
+     * @param mailDto the mail.
+     * @return the MIME message preparator.
+     */
+    private MimeMessagePreparator mimeMessagePreparator(MailDTO mailDto) {
+        return new MimeMessagePreparator() {
 
             /**
              * {@inheritDoc}
@@ -148,9 +179,7 @@ public class MailServiceImpl implements MailService {
                     LOGGER.error("An error occurred with email address.", e);
                 }
             }
-        });
-
-        LOGGER.debug("Mail sent successfully.");
+        };
     }
 
 }
@@ -26,6 +26,9 @@ package me.julb.springbootstarter.mail.services;
 import com.icegreen.greenmail.junit5.GreenMailExtension;
 import com.icegreen.greenmail.util.ServerSetupTest;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.mail.internet.MimeMessage;
 import javax.mail.internet.MimeMultipart;
 
@@ -88,4 +91,29 @@ public class MailServiceTest extends AbstractBaseTest {
         Assertions.assertEquals(dto.getHtml(), content.getBodyPart("__html_body").getContent().toString());
 
     }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenSendingSeveralEmails_thenAllMailsSent()
+        throws Exception {
+        List<MailDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MailDTO dto = new MailDTO();
+            dto.setFrom("no-reply@julb.me");
+            dto.setTos(Lists.newArrayList("contact" + i + "@julb.me"));
+            dto.setSubject("Some Subject " + i);
+            dto.setHtml("<html><body>Some HTML content</body></html>");
+            dtos.add(dto);
+        }
+        mailService.sendAll(dtos);
+
+        MimeMessage[] mimeMessages = GREEN_MAIL.getReceivedMessages();
+        Assertions.assertEquals(3, mimeMessages.length);
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals("Some Subject " + i, mimeMessages[i].getSubject());
+            Assertions.assertEquals("contact" + i + "@julb.me", mimeMessages[i].getRecipients(javax.mail.Message.RecipientType.TO)[0].toString());
+        }
+    }
 }
@@ -24,8 +24,14 @@
 
 package me.julb.springbootstarter.messaging.configurations;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.integration.amqp.inbound.AmqpInboundChannelAdapter;
 import org.springframework.messaging.Message;
 
 import me.julb.library.dto.messaging.message.AsyncMessageDTO;
@@ -67,4 +73,54 @@ public abstract class AbstractAsyncConsumerConfiguration {
         // Trace finished.
         LOGGER.debug("Message <{}> processed successfully.", message.getPayload().getId());
     }
+
+    /**
+     * Method to invoke to process a batch of async messages.
+     * <P>
+     * The messages are passed to the consumer in order, by runs of consecutive messages belonging to the same trademark.
+     * @param <T> the type of the messages.
+     * @param batch the batch of messages.
+     * @param consumer the consumer of a run of messages.
+     */
+    protected <T extends AsyncMessageDTO<?>> void onReceiveBatch(Message<List<T>> batch, Consumer<List<T>> consumer) {
+        List<T> messages = batch.getPayload();
+
+        // Trace input.
+        LOGGER.debug("Receiving batch of <{}> messages.", messages.size());
+
+        int start = 0;
+        while (start < messages.size()) {
+            String trademark = getTrademark(batch, start);
+            int end = start + 1;
+            while (end < messages.size() && Objects.equals(trademark, getTrademark(batch, end))) {
+                end++;
+            }
+
+            // Set trademark and invoke consumer.
+            TrademarkContextHolder.setTrademark(trademark);
+            try {
+                consumer.accept(messages.subList(start, end));
+            } finally {
+                TrademarkContextHolder.unsetTrademark();
+            }
+            start = end;
+        }
+
+        // Trace finished.
+        LOGGER.debug("Batch of <{}> messages processed successfully.", messages.size());
+    }
+
+    /**
+     * Gets the trademark of a message in a batch, from the headers of that message when the batch carries them.
+     * @param batch the batch of messages.
+     * @param index the index of the message.
+     * @return the trademark.
+     */
+    private String getTrademark(Message<?> batch, int index) {
+        List<?> batchedHeaders = batch.getHeaders().get(AmqpInboundChannelAdapter.CONSOLIDATED_HEADERS, List.class);
+        if (batchedHeaders != null && index < batchedHeaders.size()) {
+            return (String) ((Map<?, ?>) batchedHeaders.get(index)).get(CustomMessagingHeaders.X_JULB_TM);
+        }
+        return batch.getHeaders().get(CustomMessagingHeaders.X_JULB_TM, String.class);
+    }
 }
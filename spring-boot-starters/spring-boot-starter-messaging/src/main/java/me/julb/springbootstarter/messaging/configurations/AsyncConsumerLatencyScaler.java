@@ -0,0 +1,180 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.messaging.configurations;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import me.julb.springbootstarter.messaging.configurations.beans.AsyncConsumerScalingProperties;
+
+/**
+ * An advice around the listener of a container which raises its number of consumers while the messages take longer than the configured threshold to be processed,
+ * and lowers it back once they are fast again.
+ * <P>
+ * The container keeps adding consumers on its own above that number, up to its maximum, as long as its queue is not empty.
+ * <br>
+ * @author Julb.
+ */
+@Slf4j
+class AsyncConsumerLatencyScaler implements MethodInterceptor {
+
+    /**
+     * The weight of the last measure in the moving average of the processing time.
+     */
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    /**
+     * The container.
+     */
+    private final SimpleMessageListenerContainer container;
+
+    /**
+     * The number of consumers configured on the binding.
+     */
+    private final int minConsumers;
+
+    /**
+     * The maximum number of consumers configured on the binding.
+     */
+    private final int maxConsumers;
+
+    /**
+     * The processing time of a single message above which the consumers are busy, in nanoseconds.
+     */
+    private final long slowMessageThresholdInNanos;
+
+    /**
+     * The minimum delay between two consumers being added, in nanoseconds.
+     */
+    private final long startConsumerMinIntervalInNanos;
+
+    /**
+     * The minimum delay between two consumers being removed, in nanoseconds.
+     */
+    private final long stopConsumerMinIntervalInNanos;
+
+    /**
+     * The moving average of the processing time of a single message, in nanoseconds.
+     */
+    private double averageProcessingTimeInNanos;
+
+    /**
+     * The current number of consumers.
+     */
+    private int consumers;
+
+    /**
+     * The last time the number of consumers has been changed.
+     */
+    private long lastChangeInNanos;
+
+    /**
+     * Default constructor.
+     * @param container the container.
+     * @param minConsumers the number of consumers configured on the binding.
+     * @param maxConsumers the maximum number of consumers configured on the binding.
+     * @param scalingProperties the scaling properties.
+     */
+    AsyncConsumerLatencyScaler(SimpleMessageListenerContainer container, int minConsumers, int maxConsumers, AsyncConsumerScalingProperties scalingProperties) {
+        this.container = container;
+        this.minConsumers = minConsumers;
+        this.maxConsumers = maxConsumers;
+        this.consumers = minConsumers;
+        this.slowMessageThresholdInNanos = TimeUnit.MILLISECONDS.toNanos(scalingProperties.getSlowMessageThresholdInMilliseconds());
+        this.startConsumerMinIntervalInNanos = TimeUnit.MILLISECONDS.toNanos(scalingProperties.getStartConsumerMinIntervalInMilliseconds());
+        this.stopConsumerMinIntervalInNanos = TimeUnit.MILLISECONDS.toNanos(scalingProperties.getStopConsumerMinIntervalInMilliseconds());
+        this.lastChangeInNanos = System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation)
+        throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long end = System.nanoTime();
+            record((end - start) / messageCount(invocation.getArguments()), end);
+        }
+    }
+
+    /**
+     * Records the processing time of a message and adjusts the number of consumers accordingly.
+     * @param processingTimeInNanos the processing time of a single message.
+     * @param nowInNanos the current time.
+     */
+    synchronized void record(long processingTimeInNanos, long nowInNanos) {
+        averageProcessingTimeInNanos += SMOOTHING_FACTOR * (processingTimeInNanos - averageProcessingTimeInNanos);
+
+        long sinceLastChange = nowInNanos - lastChangeInNanos;
+        if (averageProcessingTimeInNanos > slowMessageThresholdInNanos && consumers < maxConsumers && sinceLastChange >= startConsumerMinIntervalInNanos) {
+            setConsumers(consumers + 1, nowInNanos);
+        } else if (averageProcessingTimeInNanos <= slowMessageThresholdInNanos / 2 && consumers > minConsumers && sinceLastChange >= stopConsumerMinIntervalInNanos) {
+            setConsumers(consumers - 1, nowInNanos);
+        }
+    }
+
+    /**
+     * Gets the current number of consumers.
+     * @return the current number of consumers.
+     */
+    synchronized int getConsumers() {
+        return consumers;
+    }
+
+    /**
+     * Changes the number of consumers of the container.
+     * @param consumers the number of consumers.
+     * @param nowInNanos the current time.
+     */
+    private void setConsumers(int consumers, long nowInNanos) {
+        LOGGER.debug("Changing consumers of queues <{}> from <{}> to <{}>, average processing time being <{}> ms.", container.getQueueNames(), this.consumers, consumers,
+            TimeUnit.NANOSECONDS.toMillis((long) averageProcessingTimeInNanos));
+        container.setConcurrentConsumers(consumers);
+        this.consumers = consumers;
+        this.lastChangeInNanos = nowInNanos;
+    }
+
+    /**
+     * Gets the number of messages passed to the listener.
+     * @param arguments the arguments of the listener invocation, the data being the last one.
+     * @return the number of messages.
+     */
+    private static int messageCount(Object[] arguments) {
+        Object data = arguments.length > 0 ? arguments[arguments.length - 1] : null;
+        if (data instanceof Collection && !((Collection<?>) data).isEmpty()) {
+            return ((Collection<?>) data).size();
+        }
+        return 1;
+    }
+}
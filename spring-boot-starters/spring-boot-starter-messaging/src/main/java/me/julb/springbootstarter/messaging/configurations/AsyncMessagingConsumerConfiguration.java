@@ -0,0 +1,79 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.messaging.configurations;
+
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import me.julb.springbootstarter.messaging.configurations.beans.AsyncConsumerScalingProperties;
+
+/**
+ * MQ consumer configuration.
+ * <P>
+ * The bindings scale between their <code>concurrency</code> and their <code>max-concurrency</code>: a consumer is added while the queue keeps delivering messages
+ * or while the messages are slow to process, and removed once the queue is idle.
+ * <br>
+ * @author Julb.
+ */
+@Configuration
+@EnableConfigurationProperties(AsyncConsumerScalingProperties.class)
+public class AsyncMessagingConsumerConfiguration {
+
+    /**
+     * The scaling properties.
+     */
+    @Autowired
+    private AsyncConsumerScalingProperties scalingProperties;
+
+    /**
+     * Customizes the listener containers created for the bindings.
+     * @return the listener container customizer.
+     */
+    @Bean
+    public ListenerContainerCustomizer<MessageListenerContainer> asyncConsumerScalingCustomizer() {
+        return (container, destinationName, group) -> {
+            if (container instanceof SimpleMessageListenerContainer) {
+                SimpleMessageListenerContainer simpleContainer = (SimpleMessageListenerContainer) container;
+                simpleContainer.setConsecutiveActiveTrigger(scalingProperties.getConsecutiveActiveTrigger());
+                simpleContainer.setConsecutiveIdleTrigger(scalingProperties.getConsecutiveIdleTrigger());
+                simpleContainer.setStartConsumerMinInterval(scalingProperties.getStartConsumerMinIntervalInMilliseconds());
+                simpleContainer.setStopConsumerMinInterval(scalingProperties.getStopConsumerMinIntervalInMilliseconds());
+
+                // The container does not expose the concurrency set by the binder.
+                DirectFieldAccessor containerAccessor = new DirectFieldAccessor(simpleContainer);
+                int concurrentConsumers = (Integer) containerAccessor.getPropertyValue("concurrentConsumers");
+                Integer maxConcurrentConsumers = (Integer) containerAccessor.getPropertyValue("maxConcurrentConsumers");
+                if (maxConcurrentConsumers != null && maxConcurrentConsumers > concurrentConsumers) {
+                    simpleContainer.setAdviceChain(new AsyncConsumerLatencyScaler(simpleContainer, concurrentConsumers, maxConcurrentConsumers, scalingProperties));
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.messaging.configurations.beans;
+
+import javax.validation.constraints.Min;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The properties driving how consumers are added and removed between the <code>concurrency</code> and the <code>max-concurrency</code> of the bindings.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Validated
+@ConfigurationProperties(prefix = "messaging.consumer.scaling")
+public class AsyncConsumerScalingProperties {
+
+    //@formatter:off
+     /**
+     * Number of consecutive receives returning a message, i.e. with a non-empty queue, after which a consumer is added.
+     * -- GETTER --
+     * Getter for {@link #consecutiveActiveTrigger} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #consecutiveActiveTrigger} property.
+     * @param consecutiveActiveTrigger the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int consecutiveActiveTrigger = 5;
+
+    //@formatter:off
+     /**
+     * Number of consecutive receives timing out, i.e. with an empty queue, after which a consumer is removed.
+     * -- GETTER --
+     * Getter for {@link #consecutiveIdleTrigger} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #consecutiveIdleTrigger} property.
+     * @param consecutiveIdleTrigger the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int consecutiveIdleTrigger = 10;
+
+    //@formatter:off
+     /**
+     * Minimum delay between two consumers being added.
+     * -- GETTER --
+     * Getter for {@link #startConsumerMinIntervalInMilliseconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #startConsumerMinIntervalInMilliseconds} property.
+     * @param startConsumerMinIntervalInMilliseconds the value to set.
+     */
+     //@formatter:on
+    @Min(0)
+    private long startConsumerMinIntervalInMilliseconds = 2000;
+
+    //@formatter:off
+     /**
+     * Minimum delay between two consumers being removed.
+     * -- GETTER --
+     * Getter for {@link #stopConsumerMinIntervalInMilliseconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #stopConsumerMinIntervalInMilliseconds} property.
+     * @param stopConsumerMinIntervalInMilliseconds the value to set.
+     */
+     //@formatter:on
+    @Min(0)
+    private long stopConsumerMinIntervalInMilliseconds = 60000;
+
+    //@formatter:off
+     /**
+     * Processing time of a single message above which a consumer counts as busy even when its queue is drained, so that slow handlers scale out before a backlog builds up.
+     * -- GETTER --
+     * Getter for {@link #slowMessageThresholdInMilliseconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #slowMessageThresholdInMilliseconds} property.
+     * @param slowMessageThresholdInMilliseconds the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private long slowMessageThresholdInMilliseconds = 500;
+}
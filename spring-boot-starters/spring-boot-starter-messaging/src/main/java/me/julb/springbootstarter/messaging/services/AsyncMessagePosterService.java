@@ -74,6 +74,8 @@ public interface AsyncMessagePosterService {
 
     /**
      * Posts a resource message to the broker.
+     * <br>
+     * The message is also published as an application event so that listeners of the same instance get notified.
      * @param messagingPost the message to post.
      * @param <T> the type of bean associated to the message.
      */
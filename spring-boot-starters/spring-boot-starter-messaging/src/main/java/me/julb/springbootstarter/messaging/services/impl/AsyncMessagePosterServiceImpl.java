@@ -36,6 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.MapUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
@@ -102,6 +103,12 @@ public class AsyncMessagePosterServiceImpl implements AsyncMessagePosterService
     @Autowired
     private StreamBridge streamBridge;
 
+    /**
+     * The application event publisher.
+     */
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
     /**
      * {@inheritDoc}
      */
@@ -142,6 +149,9 @@ public class AsyncMessagePosterServiceImpl implements AsyncMessagePosterService
         String routingKey = String.format("resource.%s.%s", messagingPost.getResourceType(), messagingPost.getEventType().toString()).toLowerCase();
         this.postMessage(routingKey, messagingPost);
 
+        // Notify local listeners so that in-memory views can be refreshed once the transaction commits.
+        applicationEventPublisher.publishEvent(messagingPost);
+
         //@formatter:off
         AuditAsyncMessageDTO<Void> auditMessage = new AuditAsyncMessageBuilder<Void>()
             .level(EventCollectorAsyncMessageLevel.INFO)
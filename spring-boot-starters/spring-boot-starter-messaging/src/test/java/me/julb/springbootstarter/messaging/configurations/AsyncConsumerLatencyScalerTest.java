@@ -0,0 +1,133 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.messaging.configurations;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.DirectFieldAccessor;
+
+import me.julb.springbootstarter.messaging.configurations.beans.AsyncConsumerScalingProperties;
+
+/**
+ * Unit test for class {@link AsyncConsumerLatencyScaler}.
+ * <br>
+ * @author Julb.
+ */
+public class AsyncConsumerLatencyScalerTest {
+
+    /**
+     * The container.
+     */
+    private SimpleMessageListenerContainer container;
+
+    /**
+     * The scaler.
+     */
+    private AsyncConsumerLatencyScaler scaler;
+
+    /**
+     * Set-up method.
+     */
+    @BeforeEach
+    public void setup() {
+        AsyncConsumerScalingProperties scalingProperties = new AsyncConsumerScalingProperties();
+        scalingProperties.setSlowMessageThresholdInMilliseconds(100);
+        scalingProperties.setStartConsumerMinIntervalInMilliseconds(1000);
+        scalingProperties.setStopConsumerMinIntervalInMilliseconds(5000);
+
+        container = new SimpleMessageListenerContainer();
+        container.setConcurrentConsumers(2);
+        container.setMaxConcurrentConsumers(4);
+        scaler = new AsyncConsumerLatencyScaler(container, 2, 4, scalingProperties);
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenMessagesAreSlow_thenConsumersAddedUpToMaximum() {
+        long now = System.nanoTime();
+        for (int i = 1; i <= 10; i++) {
+            recordSlow(now + TimeUnit.SECONDS.toNanos(i));
+        }
+
+        Assertions.assertEquals(4, scaler.getConsumers());
+        Assertions.assertEquals(4, new DirectFieldAccessor(container).getPropertyValue("concurrentConsumers"));
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenMessagesAreSlowWithinStartInterval_thenSingleConsumerAdded() {
+        long now = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        for (int i = 0; i < 10; i++) {
+            recordSlow(now + TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        Assertions.assertEquals(3, scaler.getConsumers());
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenMessagesAreFastAgain_thenConsumersRemovedDownToMinimum() {
+        long now = System.nanoTime();
+        for (int i = 1; i <= 10; i++) {
+            recordSlow(now + TimeUnit.SECONDS.toNanos(i));
+        }
+        for (int i = 1; i <= 100; i++) {
+            scaler.record(TimeUnit.MILLISECONDS.toNanos(1), now + TimeUnit.SECONDS.toNanos(10 + i * 5));
+        }
+
+        Assertions.assertEquals(2, scaler.getConsumers());
+        Assertions.assertEquals(2, new DirectFieldAccessor(container).getPropertyValue("concurrentConsumers"));
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenMessagesAreFast_thenConsumersUnchanged() {
+        long now = System.nanoTime();
+        for (int i = 1; i <= 10; i++) {
+            scaler.record(TimeUnit.MILLISECONDS.toNanos(10), now + TimeUnit.SECONDS.toNanos(i * 10));
+        }
+
+        Assertions.assertEquals(2, scaler.getConsumers());
+    }
+
+    /**
+     * Records a slow message.
+     * @param nowInNanos the time of the record.
+     */
+    private void recordSlow(long nowInNanos) {
+        scaler.record(TimeUnit.MILLISECONDS.toNanos(1000), nowInNanos);
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.monitoring.prometheus.metrics.configurations;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+import me.julb.springbootstarter.monitoring.prometheus.metrics.configurations.beans.ComponentTimingProperties;
+
+/**
+ * Timing configuration.
+ * <P>
+ * Each call to a service or a repository records a <code>component.calls</code> timer, tagged with the component type, the operation, the
+ * tenant and the outcome.
+ * <br>
+ * @author Julb.
+ */
+@Configuration
+@EnableConfigurationProperties(ComponentTimingProperties.class)
+@ConditionalOnProperty(prefix = "monitoring.timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ComponentTimingConfiguration {
+
+    /**
+     * Builds the advisor timing the services and the repositories.
+     * @param meterRegistry the meter registry, resolved on the first call to avoid creating it while the beans are being proxied.
+     * @param timingProperties the timing properties.
+     * @return the advisor.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor componentTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry, ComponentTimingProperties timingProperties) {
+        ComponentTimingPointcut pointcut = new ComponentTimingPointcut(timingProperties.getBasePackage());
+        return new DefaultPointcutAdvisor(pointcut, new ComponentTimingInterceptor(meterRegistry::getObject, pointcut, timingProperties));
+    }
+}
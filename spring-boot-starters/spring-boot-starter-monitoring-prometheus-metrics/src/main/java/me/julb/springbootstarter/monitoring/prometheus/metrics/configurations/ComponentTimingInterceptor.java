@@ -0,0 +1,276 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.monitoring.prometheus.metrics.configurations;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+
+import me.julb.springbootstarter.core.context.TrademarkContextHolder;
+import me.julb.springbootstarter.monitoring.prometheus.metrics.configurations.beans.ComponentTimingProperties;
+
+/**
+ * The interceptor recording the duration of the calls to the services and the repositories.
+ * <P>
+ * The timers are resolved once per operation and tenant, so that a timed call only costs two clock reads and two map lookups.
+ * <br>
+ * @author Julb.
+ */
+class ComponentTimingInterceptor implements MethodInterceptor {
+
+    /**
+     * The metrics name.
+     */
+    static final String METRICS_NAME = "component.calls";
+
+    /**
+     * The tag of the tenants beyond the maximum.
+     */
+    static final String OTHER_TENANT = "other";
+
+    /**
+     * The tag of the calls without tenant.
+     */
+    static final String NO_TENANT = "none";
+
+    /**
+     * The meter registry supplier.
+     */
+    private final Supplier<MeterRegistry> meterRegistrySupplier;
+
+    /**
+     * The pointcut, used to name the components.
+     */
+    private final ComponentTimingPointcut pointcut;
+
+    /**
+     * The ratio of the calls which are timed.
+     */
+    private final double samplingRate;
+
+    /**
+     * <code>true</code> to publish the histogram buckets.
+     */
+    private final boolean percentileHistogram;
+
+    /**
+     * The maximum number of tenants tagged.
+     */
+    private final int maxTenants;
+
+    /**
+     * The tenants tagged so far.
+     */
+    private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The number of tenant slots reserved, at most {@link #maxTenants} once the tenants are added.
+     */
+    private final AtomicInteger reservedTenants = new AtomicInteger();
+
+    /**
+     * The timers of the operations, by proxy class then method.
+     */
+    private final ClassValue<ConcurrentMap<Method, OperationTimers>> operationTimers = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Method, OperationTimers> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * The meter registry.
+     */
+    private volatile MeterRegistry meterRegistry;
+
+    /**
+     * Default constructor.
+     * @param meterRegistrySupplier the meter registry supplier.
+     * @param pointcut the pointcut, used to name the components.
+     * @param timingProperties the timing properties.
+     */
+    ComponentTimingInterceptor(Supplier<MeterRegistry> meterRegistrySupplier, ComponentTimingPointcut pointcut, ComponentTimingProperties timingProperties) {
+        this.meterRegistrySupplier = meterRegistrySupplier;
+        this.pointcut = pointcut;
+        this.samplingRate = timingProperties.getSamplingRate();
+        this.percentileHistogram = timingProperties.isPercentileHistogram();
+        this.maxTenants = timingProperties.getMaxTenants();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation)
+        throws Throwable {
+        if (samplingRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+            return invocation.proceed();
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            long duration = System.nanoTime() - start;
+            getOperationTimers(invocation).get(getTenant(), success).record(duration, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Gets the timers of the invoked operation.
+     * @param invocation the invocation.
+     * @return the timers of the operation.
+     */
+    private OperationTimers getOperationTimers(MethodInvocation invocation) {
+        // Repositories are JDK proxies: the repository interface is only known from the proxy.
+        Class<?> beanClass = invocation instanceof ProxyMethodInvocation ? ((ProxyMethodInvocation) invocation).getProxy().getClass() : invocation.getThis().getClass();
+        ConcurrentMap<Method, OperationTimers> timersByMethod = operationTimers.get(beanClass);
+        OperationTimers timers = timersByMethod.get(invocation.getMethod());
+        if (timers == null) {
+            timers = timersByMethod.computeIfAbsent(invocation.getMethod(), method -> {
+                Class<?> component = pointcut.findComponent(beanClass);
+                String componentType = component != null && component.isInterface() ? "repository" : "service";
+                String componentName = component != null ? component.getSimpleName() : beanClass.getSimpleName();
+                return new OperationTimers(componentType, componentName + "." + method.getName());
+            });
+        }
+        return timers;
+    }
+
+    /**
+     * Gets the tenant tag of the call.
+     * @return the tenant, {@link #NO_TENANT} if there is none or {@link #OTHER_TENANT} if the maximum number of tenants is reached.
+     */
+    private String getTenant() {
+        String tenant = TrademarkContextHolder.getTrademark();
+        if (tenant == null) {
+            return NO_TENANT;
+        }
+        if (tenants.contains(tenant)) {
+            return tenant;
+        }
+
+        // A slot is reserved before adding the tenant, so that concurrent first calls cannot go beyond the maximum.
+        if (reservedTenants.incrementAndGet() <= maxTenants) {
+            if (!tenants.add(tenant)) {
+                // Added concurrently by another call.
+                reservedTenants.decrementAndGet();
+            }
+            return tenant;
+        }
+        reservedTenants.decrementAndGet();
+        return tenants.contains(tenant) ? tenant : OTHER_TENANT;
+    }
+
+    /**
+     * Gets the meter registry.
+     * @return the meter registry.
+     */
+    private MeterRegistry getMeterRegistry() {
+        MeterRegistry registry = this.meterRegistry;
+        if (registry == null) {
+            registry = meterRegistrySupplier.get();
+            this.meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    /**
+     * The timers of an operation, by tenant and outcome.
+     * <br>
+     * @author Julb.
+     */
+    private final class OperationTimers {
+
+        /**
+         * The component type.
+         */
+        private final String componentType;
+
+        /**
+         * The operation name.
+         */
+        private final String operation;
+
+        /**
+         * The success and error timers, by tenant.
+         */
+        private final ConcurrentMap<String, Timer[]> timersByTenant = new ConcurrentHashMap<>();
+
+        /**
+         * Default constructor.
+         * @param componentType the component type.
+         * @param operation the operation name.
+         */
+        OperationTimers(String componentType, String operation) {
+            this.componentType = componentType;
+            this.operation = operation;
+        }
+
+        /**
+         * Gets the timer of a call, registering it on first use.
+         * @param tenant the tenant.
+         * @param success <code>true</code> if the call succeeded.
+         * @return the timer.
+         */
+        Timer get(String tenant, boolean success) {
+            Timer[] timers = timersByTenant.get(tenant);
+            if (timers == null) {
+                timers = timersByTenant.computeIfAbsent(tenant, key -> new Timer[2]);
+            }
+            int index = success ? 0 : 1;
+            Timer timer = timers[index];
+            if (timer == null) {
+                // Registering twice concurrently returns the same timer.
+                //@formatter:off
+                timer = Timer.builder(METRICS_NAME)
+                    .description("The duration of the calls to the services and the repositories")
+                    .tag("component", componentType)
+                    .tag("operation", operation)
+                    .tag("tenant", tenant)
+                    .tag("outcome", success ? "SUCCESS" : "ERROR")
+                    .publishPercentileHistogram(percentileHistogram)
+                    .register(getMeterRegistry());
+                //@formatter:on
+                timers[index] = timer;
+            }
+            return timer;
+        }
+    }
+}
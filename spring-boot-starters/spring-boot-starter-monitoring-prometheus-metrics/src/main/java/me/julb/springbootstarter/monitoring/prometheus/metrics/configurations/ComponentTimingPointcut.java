@@ -0,0 +1,89 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.monitoring.prometheus.metrics.configurations;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The pointcut matching the public methods of the classes named <code>*ServiceImpl</code> and of the interfaces named <code>*Repository</code>
+ * in the base package.
+ * <br>
+ * @author Julb.
+ */
+class ComponentTimingPointcut extends StaticMethodMatcherPointcut {
+
+    /**
+     * The suffix of the services.
+     */
+    static final String SERVICE_SUFFIX = "ServiceImpl";
+
+    /**
+     * The suffix of the repositories.
+     */
+    static final String REPOSITORY_SUFFIX = "Repository";
+
+    /**
+     * The package prefix of the components.
+     */
+    private final String packagePrefix;
+
+    /**
+     * Default constructor.
+     * @param basePackage the base package of the components.
+     */
+    ComponentTimingPointcut(String basePackage) {
+        this.packagePrefix = basePackage + ".";
+        setClassFilter(clazz -> findComponent(clazz) != null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+    }
+
+    /**
+     * Finds the component which a bean class implements: the service class itself, or the repository interface.
+     * @param beanClass the bean class, which may be a proxy.
+     * @return the component class, or <code>null</code> if the bean is not timed.
+     */
+    Class<?> findComponent(Class<?> beanClass) {
+        Class<?> userClass = ClassUtils.getUserClass(beanClass);
+        if (userClass.getName().startsWith(packagePrefix) && userClass.getSimpleName().endsWith(SERVICE_SUFFIX)) {
+            return userClass;
+        }
+        for (Class<?> interfaceClass : ClassUtils.getAllInterfacesForClassAsSet(beanClass)) {
+            if (interfaceClass.getName().startsWith(packagePrefix) && interfaceClass.getSimpleName().endsWith(REPOSITORY_SUFFIX)) {
+                return interfaceClass;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.monitoring.prometheus.metrics.configurations.beans;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The properties of the timers recorded around the services and the repositories.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Validated
+@ConfigurationProperties(prefix = "monitoring.timing")
+public class ComponentTimingProperties {
+
+    //@formatter:off
+     /**
+     * <code>true</code> to time the calls to the services and the repositories.
+     * -- GETTER --
+     * Getter for {@link #enabled} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #enabled} property.
+     * @param enabled the value to set.
+     */
+     //@formatter:on
+    private boolean enabled = true;
+
+    //@formatter:off
+     /**
+     * Package of the classes named <code>*ServiceImpl</code> and of the interfaces named <code>*Repository</code> to time.
+     * -- GETTER --
+     * Getter for {@link #basePackage} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #basePackage} property.
+     * @param basePackage the value to set.
+     */
+     //@formatter:on
+    @NotBlank
+    private String basePackage = "me.julb";
+
+    //@formatter:off
+     /**
+     * Ratio of the calls which are timed, between 0 and 1. The counts of the timers are scaled down by this ratio.
+     * -- GETTER --
+     * Getter for {@link #samplingRate} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #samplingRate} property.
+     * @param samplingRate the value to set.
+     */
+     //@formatter:on
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double samplingRate = 1.0;
+
+    //@formatter:off
+     /**
+     * <code>true</code> to publish the histogram buckets from which percentiles are computed.
+     * -- GETTER --
+     * Getter for {@link #percentileHistogram} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #percentileHistogram} property.
+     * @param percentileHistogram the value to set.
+     */
+     //@formatter:on
+    private boolean percentileHistogram = true;
+
+    //@formatter:off
+     /**
+     * Maximum number of distinct tenants tagged. The calls of the next tenants are tagged with <code>other</code>.
+     * -- GETTER --
+     * Getter for {@link #maxTenants} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxTenants} property.
+     * @param maxTenants the value to set.
+     */
+     //@formatter:on
+    @Min(1)
+    private int maxTenants = 100;
+}
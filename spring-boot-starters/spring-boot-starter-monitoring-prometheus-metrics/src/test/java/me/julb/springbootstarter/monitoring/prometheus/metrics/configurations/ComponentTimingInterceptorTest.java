@@ -0,0 +1,292 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.monitoring.prometheus.metrics.configurations;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import me.julb.springbootstarter.core.context.TrademarkContextHolder;
+import me.julb.springbootstarter.monitoring.prometheus.metrics.configurations.beans.ComponentTimingProperties;
+
+/**
+ * Test class for {@link ComponentTimingInterceptor} class.
+ * <br>
+ * @author Julb.
+ */
+public class ComponentTimingInterceptorTest {
+
+    /**
+     * The meter registry.
+     */
+    private SimpleMeterRegistry registry;
+
+    /**
+     * The timing properties.
+     */
+    private ComponentTimingProperties timingProperties;
+
+    /**
+     * Setup method.
+     */
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        timingProperties = new ComponentTimingProperties();
+    }
+
+    /**
+     * Cleans the trademark of the test thread.
+     */
+    @AfterEach
+    public void tearDown() {
+        TrademarkContextHolder.unsetTrademark();
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenServiceCalled_thenSuccessTimerRecorded() {
+        UnitTestServiceImpl service = proxy(new UnitTestServiceImpl());
+
+        Assertions.assertEquals("ok", service.call());
+        Assertions.assertEquals("ok", service.call());
+
+        Assertions.assertEquals(2, timer("service", "UnitTestServiceImpl.call", ComponentTimingInterceptor.NO_TENANT, "SUCCESS").count());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenServiceThrows_thenErrorTimerRecorded() {
+        UnitTestServiceImpl service = proxy(new UnitTestServiceImpl());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            service.fail();
+        });
+
+        Assertions.assertEquals(1, timer("service", "UnitTestServiceImpl.fail", ComponentTimingInterceptor.NO_TENANT, "ERROR").count());
+        Assertions.assertNull(registry.find(ComponentTimingInterceptor.METRICS_NAME).tag("outcome", "SUCCESS").timer());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenRepositoryJdkProxyCalled_thenTimedAsRepository() {
+        UnitTestRepository repository = proxy(() -> "found");
+
+        Assertions.assertEquals("found", repository.find());
+
+        Assertions.assertEquals(1, timer("repository", "UnitTestRepository.find", ComponentTimingInterceptor.NO_TENANT, "SUCCESS").count());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenTrademarkBound_thenTaggedWithTenant() {
+        UnitTestServiceImpl service = proxy(new UnitTestServiceImpl());
+
+        TrademarkContextHolder.setTrademark("julb");
+        service.call();
+
+        Assertions.assertEquals(1, timer("service", "UnitTestServiceImpl.call", "julb", "SUCCESS").count());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenMoreTenantsThanMaximum_thenOtherTenant() {
+        timingProperties.setMaxTenants(2);
+        UnitTestServiceImpl service = proxy(new UnitTestServiceImpl());
+
+        for (String tenant : List.of("tm1", "tm2", "tm3", "tm1", "tm4")) {
+            TrademarkContextHolder.setTrademark(tenant);
+            service.call();
+        }
+
+        Assertions.assertEquals(Set.of("tm1", "tm2", ComponentTimingInterceptor.OTHER_TENANT), tenants());
+        Assertions.assertEquals(2, timer("service", "UnitTestServiceImpl.call", "tm1", "SUCCESS").count());
+        Assertions.assertEquals(2, timer("service", "UnitTestServiceImpl.call", ComponentTimingInterceptor.OTHER_TENANT, "SUCCESS").count());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenManyTenantsCallConcurrently_thenMaximumNotExceeded()
+        throws Exception {
+        int threads = 16;
+        timingProperties.setMaxTenants(4);
+        UnitTestServiceImpl service = proxy(new UnitTestServiceImpl());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String tenant = "tm" + i;
+                futures.add(executorService.submit(() -> {
+                    TrademarkContextHolder.setTrademark(tenant);
+                    start.await();
+                    return service.call();
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Set<String> tenants = tenants();
+        Assertions.assertTrue(tenants.remove(ComponentTimingInterceptor.OTHER_TENANT));
+        Assertions.assertEquals(4, tenants.size());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenSamplingRateIsZero_thenNoTimerRecorded() {
+        timingProperties.setSamplingRate(0.0);
+        UnitTestServiceImpl service = proxy(new UnitTestServiceImpl());
+
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals("ok", service.call());
+        }
+
+        Assertions.assertNull(registry.find(ComponentTimingInterceptor.METRICS_NAME).timer());
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenSamplingRateIsPartial_thenSomeCallsTimed() {
+        timingProperties.setSamplingRate(0.5);
+        UnitTestServiceImpl service = proxy(new UnitTestServiceImpl());
+
+        for (int i = 0; i < 1000; i++) {
+            service.call();
+        }
+
+        long count = timer("service", "UnitTestServiceImpl.call", ComponentTimingInterceptor.NO_TENANT, "SUCCESS").count();
+        Assertions.assertTrue(count > 0 && count < 1000);
+    }
+
+    /**
+     * Proxies the target with the timing advisor, as the auto-proxy creator would.
+     * @param <T> the type of the target.
+     * @param target the target.
+     * @return the proxy.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        ComponentTimingPointcut pointcut = new ComponentTimingPointcut(timingProperties.getBasePackage());
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(!(target instanceof UnitTestRepository));
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(pointcut, new ComponentTimingInterceptor(() -> registry, pointcut, timingProperties)));
+        return (T) proxyFactory.getProxy();
+    }
+
+    /**
+     * Gets the timer with the given tags.
+     * @param component the component type.
+     * @param operation the operation.
+     * @param tenant the tenant.
+     * @param outcome the outcome.
+     * @return the timer.
+     */
+    private Timer timer(String component, String operation, String tenant, String outcome) {
+        return registry.get(ComponentTimingInterceptor.METRICS_NAME).tag("component", component).tag("operation", operation).tag("tenant", tenant).tag("outcome", outcome).timer();
+    }
+
+    /**
+     * Gets the tenants tagged in the timers.
+     * @return the tenants.
+     */
+    private Set<String> tenants() {
+        return registry.find(ComponentTimingInterceptor.METRICS_NAME).timers().stream().map(timer -> timer.getId().getTag("tenant")).collect(Collectors.toSet());
+    }
+
+    /**
+     * A timed service.
+     * <br>
+     * @author Julb.
+     */
+    public static class UnitTestServiceImpl {
+
+        /**
+         * Succeeds.
+         * @return the result.
+         */
+        public String call() {
+            return "ok";
+        }
+
+        /**
+         * Fails.
+         */
+        public void fail() {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * A timed repository.
+     * <br>
+     * @author Julb.
+     */
+    public interface UnitTestRepository {
+
+        /**
+         * Finds something.
+         * @return the result.
+         */
+        String find();
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.monitoring.prometheus.metrics.configurations;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import me.julb.springbootstarter.monitoring.prometheus.metrics.configurations.ComponentTimingInterceptorTest.UnitTestRepository;
+import me.julb.springbootstarter.monitoring.prometheus.metrics.configurations.ComponentTimingInterceptorTest.UnitTestServiceImpl;
+
+/**
+ * Test class for {@link ComponentTimingPointcut} class.
+ * <br>
+ * @author Julb.
+ */
+public class ComponentTimingPointcutTest {
+
+    /**
+     * The pointcut.
+     */
+    private final ComponentTimingPointcut pointcut = new ComponentTimingPointcut("me.julb");
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenServiceImplClass_thenMatched()
+        throws Exception {
+        Assertions.assertTrue(pointcut.getClassFilter().matches(UnitTestServiceImpl.class));
+        Assertions.assertEquals(UnitTestServiceImpl.class, pointcut.findComponent(UnitTestServiceImpl.class));
+        Assertions.assertTrue(pointcut.matches(UnitTestServiceImpl.class.getMethod("call"), UnitTestServiceImpl.class));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenServiceImplCglibProxy_thenServiceClassFound() {
+        ProxyFactory proxyFactory = new ProxyFactory(new UnitTestServiceImpl());
+        proxyFactory.setProxyTargetClass(true);
+        Class<?> proxyClass = proxyFactory.getProxy().getClass();
+
+        Assertions.assertNotEquals(UnitTestServiceImpl.class, proxyClass);
+        Assertions.assertEquals(UnitTestServiceImpl.class, pointcut.findComponent(proxyClass));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenRepositoryJdkProxy_thenRepositoryInterfaceFound() {
+        ProxyFactory proxyFactory = new ProxyFactory(UnitTestRepository.class, (MethodInterceptor) invocation -> "found");
+        Class<?> proxyClass = proxyFactory.getProxy().getClass();
+
+        Assertions.assertTrue(pointcut.getClassFilter().matches(proxyClass));
+        Assertions.assertEquals(UnitTestRepository.class, pointcut.findComponent(proxyClass));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenOtherClass_thenNotMatched() {
+        Assertions.assertFalse(pointcut.getClassFilter().matches(UnitTestComponent.class));
+        Assertions.assertFalse(pointcut.getClassFilter().matches(String.class));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenServiceImplOutsideBasePackage_thenNotMatched() {
+        ComponentTimingPointcut otherPointcut = new ComponentTimingPointcut("com.example");
+
+        Assertions.assertFalse(otherPointcut.getClassFilter().matches(UnitTestServiceImpl.class));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenObjectOrNonPublicMethod_thenNotMatched()
+        throws Exception {
+        Assertions.assertFalse(pointcut.matches(Object.class.getMethod("hashCode"), UnitTestServiceImpl.class));
+        Assertions.assertFalse(pointcut.matches(UnitTestComponent.class.getDeclaredMethod("hidden"), UnitTestComponent.class));
+    }
+
+    /**
+     * A component which is neither a service nor a repository.
+     * <br>
+     * @author Julb.
+     */
+    public static class UnitTestComponent {
+
+        /**
+         * A non-public method.
+         */
+        void hidden() {
+            // Nothing to do.
+        }
+    }
+}
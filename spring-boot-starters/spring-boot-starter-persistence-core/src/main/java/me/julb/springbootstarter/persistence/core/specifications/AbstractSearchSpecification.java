@@ -25,6 +25,7 @@ package me.julb.springbootstarter.persistence.core.specifications;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.function.Function;
 
 import me.julb.library.utility.data.search.Searchable;
 import me.julb.library.utility.data.search.predicates.attributes.AbstractAttributePredicate;
@@ -59,6 +60,16 @@ public abstract class AbstractSearchSpecification<T> {
      * @return the converted value.
      */
     protected Object convertAttributePredicateValue(AbstractAttributePredicate attributePredicate, Class<?> javaType) {
+        return convertAttributePredicateValue(attributePredicate, valueConverter(javaType));
+    }
+
+    /**
+     * Converts an attribute predicate value with the given converter.
+     * @param attributePredicate the attribute predicate.
+     * @param converter the converter of the values, as returned by {@link #valueConverter(Class)}.
+     * @return the converted value.
+     */
+    protected Object convertAttributePredicateValue(AbstractAttributePredicate attributePredicate, Function<String, Object> converter) {
         // No value. Skip.
         if (attributePredicate instanceof NoValueAttributePredicate) {
             return null;
@@ -66,7 +77,7 @@ public abstract class AbstractSearchSpecification<T> {
 
         // Single value.
         if (attributePredicate instanceof SingleValueAttributePredicate) {
-            return convertStringValueToTargetType(((SingleValueAttributePredicate) attributePredicate).getValue(), javaType);
+            return converter.apply(((SingleValueAttributePredicate) attributePredicate).getValue());
         }
 
         // Multiple value.
@@ -74,7 +85,7 @@ public abstract class AbstractSearchSpecification<T> {
             String[] values = ((MultipleValuesAttributePredicate) attributePredicate).getValue();
             Collection<Object> inValues = new ArrayList<>();
             for (String value : values) {
-                inValues.add(convertStringValueToTargetType(value, javaType));
+                inValues.add(converter.apply(value));
             }
             return inValues;
         }
@@ -84,50 +95,51 @@ public abstract class AbstractSearchSpecification<T> {
     }
 
     /**
-     * Converts a string value to an object of the target class.
-     * @param value the value.
+     * Gets the function converting a string value to an object of the target class.
+     * <br>
+     * The function can be resolved once per attribute and applied to every value of that attribute.
      * @param targetClass the target class.
-     * @return the object in the targetClass type.
+     * @return the function converting a string value to an object in the targetClass type.
      */
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private Object convertStringValueToTargetType(String value, Class<?> targetClass) {
+    protected Function<String, Object> valueConverter(Class<?> targetClass) {
         // Work only on String value
         if (targetClass.equals(String.class)) {
-            return value;
+            return value -> value;
         }
 
         // Integer
         if (targetClass.equals(Integer.class)) {
-            return Integer.parseInt(value);
+            return Integer::parseInt;
         }
 
         // Long
         if (targetClass.equals(Long.class)) {
-            return Long.parseLong(value);
+            return Long::parseLong;
         }
 
         // Double
         if (targetClass.equals(Double.class)) {
-            return Double.parseDouble(value);
+            return Double::parseDouble;
         }
 
         // Float
         if (targetClass.equals(Float.class)) {
-            return Float.parseFloat(value);
+            return Float::parseFloat;
         }
 
         // Boolean
         if (targetClass.equals(Boolean.class)) {
-            return Boolean.parseBoolean(value);
+            return Boolean::parseBoolean;
         }
 
         // Enum
-        if (value instanceof String && Enum.class.isAssignableFrom(targetClass)) {
+        if (Enum.class.isAssignableFrom(targetClass)) {
             final Class<? extends Enum> enumType = (Class<? extends Enum>) targetClass;
-            return Enum.valueOf(enumType, value);
+            return value -> Enum.valueOf(enumType, value);
         }
 
         // Other
-        return value;
+        return value -> value;
     }
 }
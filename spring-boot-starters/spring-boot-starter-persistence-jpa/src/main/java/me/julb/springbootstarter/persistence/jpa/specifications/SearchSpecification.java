@@ -26,6 +26,9 @@ package me.julb.springbootstarter.persistence.jpa.specifications;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -33,6 +36,9 @@ import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -47,11 +53,25 @@ import me.julb.springbootstarter.persistence.core.specifications.AbstractSearchS
 
 /**
  * The search specification that generates a JPA specification from a searchable object.
+ * <P>
+ * The searchable is compiled once into a plan where attribute paths, converted values and like patterns are resolved. The plan is then
+ * applied to each query using that specification, such as the count and the content queries of a page. The attribute paths and the value
+ * converters are resolved once per entity and attribute.
  * <br>
  * @author Julb.
  */
 public class SearchSpecification<T> extends AbstractSearchSpecification<T> implements Specification<T> {
 
+    /**
+     * The resolved attributes, by entity and attribute name.
+     */
+    private static final ConcurrentMap<AttributeKey, ResolvedAttribute> RESOLVED_ATTRIBUTES = new ConcurrentHashMap<>();
+
+    /**
+     * The compiled plan.
+     */
+    private volatile CompiledPlan<T> compiledPlan;
+
     /**
      * Constructor.
      * @param searchable the searcheable information.
@@ -65,128 +85,244 @@ public class SearchSpecification<T> extends AbstractSearchSpecification<T> imple
      */
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
-        return genericToJpaPredicate(this.searchable.getSearchPredicate(), criteriaBuilder, root);
+        CompiledPlan<T> current = this.compiledPlan;
+        if (current == null || !current.entityType.equals(root.getJavaType())) {
+            current = new CompiledPlan<>(root.getJavaType(), compilePredicate(this.searchable.getSearchPredicate(), root));
+            this.compiledPlan = current;
+        }
+        return current.plan != null ? current.plan.toPredicate(root, criteriaBuilder) : null;
     }
 
     /**
-     * Creates the predicates to filter the search.
+     * Compiles the plan of a predicate.
      * @param predicate the predicate.
-     * @param criteriaBuilder the criteria builder.
-     * @param from the from criteria.
-     * @return the JPA predicates.
+     * @param from the from criteria, used to resolve the attributes.
+     * @return the plan of the JPA predicate, or <code>null</code> if there is no predicate.
      */
-    protected Predicate genericToJpaPredicate(SearchPredicate predicate, CriteriaBuilder criteriaBuilder, Root<T> from) {
+    protected PredicatePlan<T> compilePredicate(SearchPredicate predicate, Root<T> from) {
         if (predicate instanceof AbstractAttributePredicate) {
-            return attributeToJpaPredicate((AbstractAttributePredicate) predicate, criteriaBuilder, from);
+            return compileAttributePredicate((AbstractAttributePredicate) predicate, from);
         } else if (predicate instanceof AbstractJoinPredicate) {
-            return joinToJpaPredicate((AbstractJoinPredicate) predicate, criteriaBuilder, from);
+            return compileJoinPredicate((AbstractJoinPredicate) predicate, from);
         } else if (predicate instanceof NotPredicate) {
-            NotPredicate notPredicate = (NotPredicate) predicate;
-            return criteriaBuilder.not(genericToJpaPredicate(notPredicate.getPredicate(), criteriaBuilder, from));
+            PredicatePlan<T> plan = compilePredicate(((NotPredicate) predicate).getPredicate(), from);
+            return (root, criteriaBuilder) -> criteriaBuilder.not(plan.toPredicate(root, criteriaBuilder));
         } else {
             return null;
         }
     }
 
     /**
-     * Creates the predicates to filter the search.
+     * Compiles the plan of a join predicate.
      * @param joinPredicate the join predicate.
-     * @param criteriaBuilder the criteria builder.
-     * @param from the from criteria.
-     * @return the JPA predicates.
+     * @param from the from criteria, used to resolve the attributes.
+     * @return the plan of the JPA predicate, or <code>null</code> if the join is neither a and nor a or.
      */
-    protected Predicate joinToJpaPredicate(AbstractJoinPredicate joinPredicate, CriteriaBuilder criteriaBuilder, Root<T> from) {
-        List<Predicate> jpaPredicates = new ArrayList<>();
+    protected PredicatePlan<T> compileJoinPredicate(AbstractJoinPredicate joinPredicate, Root<T> from) {
+        List<PredicatePlan<T>> plans = new ArrayList<>();
         for (SearchPredicate predicate : joinPredicate.getPredicates()) {
-            Predicate jpaPredicate = genericToJpaPredicate(predicate, criteriaBuilder, from);
-            if (jpaPredicate != null) {
-                jpaPredicates.add(jpaPredicate);
+            PredicatePlan<T> plan = compilePredicate(predicate, from);
+            if (plan != null) {
+                plans.add(plan);
             }
         }
 
         if (joinPredicate.isAnd()) {
-            return criteriaBuilder.and(jpaPredicates.toArray(new Predicate[0]));
+            return (root, criteriaBuilder) -> criteriaBuilder.and(toPredicates(plans, root, criteriaBuilder));
         } else if (joinPredicate.isOr()) {
-            return criteriaBuilder.or(jpaPredicates.toArray(new Predicate[0]));
+            return (root, criteriaBuilder) -> criteriaBuilder.or(toPredicates(plans, root, criteriaBuilder));
         } else {
             return null;
         }
     }
 
     /**
-     * Creates the predicates to filter the search.
+     * Compiles the plan of an attribute predicate.
      * @param attributePredicate the attribute predicate.
-     * @param criteriaBuilder the criteria builder.
-     * @param from the from criteria.
-     * @return the JPA predicates.
+     * @param from the from criteria, used to resolve the attributes.
+     * @return the plan of the JPA predicate, or <code>null</code> if the operator is not supported.
      */
     @SuppressWarnings({"unchecked", "rawtypes"})
-    protected Predicate attributeToJpaPredicate(AbstractAttributePredicate attributePredicate, CriteriaBuilder criteriaBuilder, Root<T> from) {
+    protected PredicatePlan<T> compileAttributePredicate(AbstractAttributePredicate attributePredicate, Root<T> from) {
 
         // Get the field path.
-        Path field = getField(from, attributePredicate.getName());
+        ResolvedAttribute field = resolveAttribute(from, attributePredicate.getName());
 
         // Get the converted value.
-        Object convertedValue = convertAttributePredicateValue(attributePredicate, field.getJavaType());
+        Object convertedValue = convertAttributePredicateValue(attributePredicate, field.converter);
 
-        // Build the JPA predicate
+        // Build the JPA predicate plan
         switch (attributePredicate.getOperator()) {
             case EQUAL:
                 if (convertedValue == null) {
-                    return criteriaBuilder.isNull(field);
+                    return (root, criteriaBuilder) -> criteriaBuilder.isNull(field.path(root));
                 } else {
-                    return criteriaBuilder.equal(field, convertedValue);
+                    return (root, criteriaBuilder) -> criteriaBuilder.equal(field.path(root), convertedValue);
                 }
             case NOT_EQUAL:
                 if (convertedValue == null) {
-                    return criteriaBuilder.isNotNull(field);
+                    return (root, criteriaBuilder) -> criteriaBuilder.isNotNull(field.path(root));
                 } else {
-                    return criteriaBuilder.notEqual(field, convertedValue);
+                    return (root, criteriaBuilder) -> criteriaBuilder.notEqual(field.path(root), convertedValue);
                 }
-            case LIKE:
-                return criteriaBuilder.like(criteriaBuilder.lower(field), StringUtils.join(Strings.PERCENT, StringUtils.lowerCase(convertedValue.toString()), Strings.PERCENT));
-            case NOT_LIKE:
-                return criteriaBuilder.notLike(criteriaBuilder.lower(field), StringUtils.join(Strings.PERCENT, StringUtils.lowerCase(convertedValue.toString()), Strings.PERCENT));
-            case STARTS_WITH:
-                return criteriaBuilder.like(criteriaBuilder.lower(field), StringUtils.join(StringUtils.lowerCase(convertedValue.toString()), Strings.PERCENT));
-            case ENDS_WITH:
-                return criteriaBuilder.like(criteriaBuilder.lower(field), StringUtils.join(Strings.PERCENT, StringUtils.lowerCase(convertedValue.toString())));
+            case LIKE: {
+                String pattern = StringUtils.join(Strings.PERCENT, StringUtils.lowerCase(convertedValue.toString()), Strings.PERCENT);
+                return (root, criteriaBuilder) -> criteriaBuilder.like(criteriaBuilder.lower(field.path(root)), pattern);
+            }
+            case NOT_LIKE: {
+                String pattern = StringUtils.join(Strings.PERCENT, StringUtils.lowerCase(convertedValue.toString()), Strings.PERCENT);
+                return (root, criteriaBuilder) -> criteriaBuilder.notLike(criteriaBuilder.lower(field.path(root)), pattern);
+            }
+            case STARTS_WITH: {
+                String pattern = StringUtils.join(StringUtils.lowerCase(convertedValue.toString()), Strings.PERCENT);
+                return (root, criteriaBuilder) -> criteriaBuilder.like(criteriaBuilder.lower(field.path(root)), pattern);
+            }
+            case ENDS_WITH: {
+                String pattern = StringUtils.join(Strings.PERCENT, StringUtils.lowerCase(convertedValue.toString()));
+                return (root, criteriaBuilder) -> criteriaBuilder.like(criteriaBuilder.lower(field.path(root)), pattern);
+            }
             case GREATER_THAN:
-                return criteriaBuilder.greaterThan(field, (Comparable) convertedValue);
+                return (root, criteriaBuilder) -> criteriaBuilder.greaterThan(field.path(root), (Comparable) convertedValue);
             case GREATER_OR_EQUAL_THAN:
-                return criteriaBuilder.greaterThanOrEqualTo(field, (Comparable) convertedValue);
+                return (root, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(field.path(root), (Comparable) convertedValue);
             case LESS_THAN:
-                return criteriaBuilder.lessThan(field, (Comparable) convertedValue);
+                return (root, criteriaBuilder) -> criteriaBuilder.lessThan(field.path(root), (Comparable) convertedValue);
             case LESS_OR_EQUAL_THAN:
-                return criteriaBuilder.lessThanOrEqualTo(field, (Comparable) convertedValue);
+                return (root, criteriaBuilder) -> criteriaBuilder.lessThanOrEqualTo(field.path(root), (Comparable) convertedValue);
             case IS_NULL:
-                return criteriaBuilder.isNull(field);
+                return (root, criteriaBuilder) -> criteriaBuilder.isNull(field.path(root));
             case IS_NOT_NULL:
-                return criteriaBuilder.isNotNull(field);
+                return (root, criteriaBuilder) -> criteriaBuilder.isNotNull(field.path(root));
             case IN:
-                return field.in((Collection) convertedValue);
+                return (root, criteriaBuilder) -> field.path(root).in((Collection) convertedValue);
             case NOT_IN:
-                return criteriaBuilder.not(field.in((Collection) convertedValue));
+                return (root, criteriaBuilder) -> criteriaBuilder.not(field.path(root).in((Collection) convertedValue));
             default:
                 return null;
         }
     }
 
     /**
-     * Extracts the field related to its name, handling "field" and "field.subField".
+     * Applies the plans to the given query.
+     * @param plans the plans.
+     * @param root the root of the query.
+     * @param criteriaBuilder the criteria builder.
+     * @return the JPA predicates.
+     */
+    private Predicate[] toPredicates(List<PredicatePlan<T>> plans, Root<T> root, CriteriaBuilder criteriaBuilder) {
+        Predicate[] predicates = new Predicate[plans.size()];
+        for (int i = 0; i < predicates.length; i++) {
+            predicates[i] = plans.get(i).toPredicate(root, criteriaBuilder);
+        }
+        return predicates;
+    }
+
+    /**
+     * Resolves the attribute related to its name, handling "field" and "field.subField".
      * @param from the query.
      * @param attributeName the attribute name.
-     * @return the JPA path.
+     * @return the resolved attribute.
      */
-    private <Y> Path<Y> getField(Root<T> from, String attributeName) {
-        String[] fields = StringUtils.split(attributeName, Chars.DOT);
+    private ResolvedAttribute resolveAttribute(Root<T> from, String attributeName) {
+        return RESOLVED_ATTRIBUTES.computeIfAbsent(new AttributeKey(from.getJavaType(), attributeName), key -> {
+            String[] fields = StringUtils.split(attributeName, Chars.DOT);
 
-        // Iterate on subfields
-        Path<Y> result = from.get(fields[0]);
-        for (int i = 1; i < fields.length; i++) {
-            result = result.get(fields[i]);
-        }
+            // Iterate on subfields to validate the path and get its type.
+            Path<?> path = from.get(fields[0]);
+            for (int i = 1; i < fields.length; i++) {
+                path = path.get(fields[i]);
+            }
 
-        return result;
+            return new ResolvedAttribute(fields, valueConverter(path.getJavaType()));
+        });
+    }
+
+    /**
+     * The plan of a JPA predicate, applied to each query.
+     * <br>
+     * @author Julb.
+     */
+    @FunctionalInterface
+    protected interface PredicatePlan<T> {
+
+        /**
+         * Builds the JPA predicate for the given query.
+         * @param root the root of the query.
+         * @param criteriaBuilder the criteria builder.
+         * @return the JPA predicate.
+         */
+        Predicate toPredicate(Root<T> root, CriteriaBuilder criteriaBuilder);
+    }
+
+    /**
+     * The plan compiled for an entity.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    private static final class CompiledPlan<T> {
+
+        /**
+         * The entity type.
+         */
+        private final Class<? extends T> entityType;
+
+        /**
+         * The plan, or <code>null</code> if there is no predicate.
+         */
+        private final PredicatePlan<T> plan;
+    }
+
+    /**
+     * The key of a resolved attribute.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class AttributeKey {
+
+        /**
+         * The entity type.
+         */
+        private final Class<?> entityType;
+
+        /**
+         * The attribute name.
+         */
+        private final String attributeName;
+    }
+
+    /**
+     * An attribute resolved for an entity.
+     * <br>
+     * @author Julb.
+     */
+    @AllArgsConstructor
+    private static final class ResolvedAttribute {
+
+        /**
+         * The attribute name split on dots.
+         */
+        private final String[] fields;
+
+        /**
+         * The converter of the values to the type of the attribute.
+         */
+        private final Function<String, Object> converter;
+
+        /**
+         * Gets the path of the attribute in the given query.
+         * @param root the root of the query.
+         * @return the JPA path.
+         */
+        @SuppressWarnings("rawtypes")
+        private Path path(Root<?> root) {
+            Path<?> result = root.get(fields[0]);
+            for (int i = 1; i < fields.length; i++) {
+                result = result.get(fields[i]);
+            }
+            return result;
+        }
     }
 }
@@ -45,6 +45,7 @@ import org.springframework.security.config.annotation.web.configuration.WebSecur
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.AuthenticationEntryPoint;
 
+import me.julb.springbootstarter.security.configurations.beans.context.SecurityContextAccessor;
 import me.julb.springbootstarter.security.configurations.beans.handlers.CustomAuthenticationFailureHandler;
 import me.julb.springbootstarter.security.configurations.beans.handlers.CustomAuthenticationLogoutHandler;
 import me.julb.springbootstarter.security.configurations.beans.userdetails.delegates.IAuthenticationUserDetailsLogoutHandlerDelegate;
@@ -119,6 +120,15 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
         return customAuthenticationLogoutHandler;
     }
 
+    /**
+     * The accessor propagating the security context to the tasks of the executors.
+     * @return the security context accessor.
+     */
+    @Bean
+    public SecurityContextAccessor securityContextAccessor() {
+        return new SecurityContextAccessor();
+    }
+
     // ------------------------------------------ Overridden methods.
 
     /**
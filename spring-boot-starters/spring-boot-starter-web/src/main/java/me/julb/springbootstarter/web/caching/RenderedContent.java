@@ -0,0 +1,96 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.web.caching;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A content rendered once and served many times.
+ * <br>
+ * The content is shared between requests and must not be modified.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@AllArgsConstructor
+public class RenderedContent {
+
+    //@formatter:off
+     /**
+     * The content attribute.
+     * -- GETTER --
+     * Getter for {@link #content} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final byte[] content;
+
+    //@formatter:off
+     /**
+     * The contentType attribute.
+     * -- GETTER --
+     * Getter for {@link #contentType} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final String contentType;
+
+    //@formatter:off
+     /**
+     * The eTag attribute.
+     * <br>
+     * Digest of the content.
+     * -- GETTER --
+     * Getter for {@link #eTag} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final String eTag;
+
+    //@formatter:off
+     /**
+     * The lastModified attribute.
+     * <br>
+     * Instant at which the content changed for the last time.
+     * -- GETTER --
+     * Getter for {@link #lastModified} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final Instant lastModified;
+
+    //@formatter:off
+     /**
+     * The renderedAt attribute.
+     * -- GETTER --
+     * Getter for {@link #renderedAt} property.
+     * @return the value.
+     */
+     //@formatter:on
+    private final Instant renderedAt;
+}
@@ -0,0 +1,235 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.web.caching;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import me.julb.library.utility.constants.CustomHttpHeaders;
+import me.julb.library.utility.date.DateUtility;
+import me.julb.library.utility.exceptions.InternalServerErrorException;
+import me.julb.springbootstarter.core.context.TrademarkContextHolder;
+import me.julb.springbootstarter.web.configurations.beans.RenderedContentCacheProperties;
+
+/**
+ * A cache of contents rendered per trademark, locale and time zone.
+ * <br>
+ * Contents are rendered on first access and kept until they are evicted, typically when the underlying resources change, or until they expire. A content
+ * which is rendered again with the same bytes keeps its entity tag and last modification date so that clients keep getting <code>304 Not Modified</code>.
+ * <br>
+ * An eviction invalidates the cached slots of the content in place: no state is kept for contents which are not in the cache.
+ * <br>
+ * @author Julb.
+ */
+@Slf4j
+public class RenderedContentCache {
+
+    /**
+     * The separator of the key parts.
+     */
+    private static final String KEY_SEPARATOR = "\n";
+
+    /**
+     * The properties.
+     */
+    @Autowired
+    private RenderedContentCacheProperties renderedContentCacheProperties;
+
+    /**
+     * The rendered contents, the least recently used first.
+     */
+    private final Map<String, Slot> slots = new LinkedHashMap<>(16, 0.75f, true) {
+
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Slot> eldest) {
+            return size() > renderedContentCacheProperties.getMaxEntries();
+        }
+    };
+
+    /**
+     * Gets the content for the current trademark, locale and time zone, rendering it if needed.
+     * @param name the name of the content.
+     * @param contentType the content type.
+     * @param renderer the renderer, invoked at most once at a time per content.
+     * @return the rendered content.
+     */
+    public RenderedContent get(String name, String contentType, Supplier<byte[]> renderer) {
+        String trademark = TrademarkContextHolder.getTrademark();
+        String key = String.join(KEY_SEPARATOR, prefix(trademark, name), LocaleContextHolder.getLocale().toLanguageTag(), LocaleContextHolder.getTimeZone().getID());
+
+        Slot slot;
+        synchronized (slots) {
+            slot = slots.computeIfAbsent(key, k -> new Slot());
+        }
+
+        // Fast path: content still valid.
+        RenderedContent renderedContent = slot.renderedContent;
+        if (isValid(slot, renderedContent, slot.generation.get())) {
+            return renderedContent;
+        }
+
+        synchronized (slot) {
+            // Read the generation before rendering so that an eviction during the rendering is not lost.
+            long currentGeneration = slot.generation.get();
+            RenderedContent previousContent = slot.renderedContent;
+            if (isValid(slot, previousContent, currentGeneration)) {
+                return previousContent;
+            }
+
+            LOGGER.debug("Rendering content <{}> for trademark <{}>.", name, trademark);
+            byte[] content = renderer.get();
+            String eTag = digest(content);
+            Instant now = DateUtility.instantNow();
+            if (previousContent != null && previousContent.getETag().equals(eTag)) {
+                slot.renderedContent = new RenderedContent(previousContent.getContent(), contentType, eTag, previousContent.getLastModified(), now);
+            } else {
+                slot.renderedContent = new RenderedContent(content, contentType, eTag, now.truncatedTo(ChronoUnit.SECONDS), now);
+            }
+            slot.renderedGeneration = currentGeneration;
+            return slot.renderedContent;
+        }
+    }
+
+    /**
+     * Evicts the content of the given trademark for all locales and time zones.
+     * @param trademark the trademark.
+     * @param name the name of the content.
+     */
+    public void evict(String trademark, String name) {
+        LOGGER.debug("Evicting content <{}> for trademark <{}>.", name, trademark);
+        String prefix = prefix(trademark, name) + KEY_SEPARATOR;
+        synchronized (slots) {
+            for (Map.Entry<String, Slot> entry : slots.entrySet()) {
+                if (entry.getKey().startsWith(prefix)) {
+                    entry.getValue().generation.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the response serving the rendered content.
+     * <br>
+     * The response holds the entity tag and the last modification date of the content so that conditional requests get a <code>304 Not Modified</code>.
+     * @param renderedContent the rendered content.
+     * @return the response.
+     */
+    public ResponseEntity<byte[]> toResponseEntity(RenderedContent renderedContent) {
+        //@formatter:off
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(renderedContent.getContentType()))
+            .cacheControl(CacheControl.maxAge(renderedContentCacheProperties.getMaxAgeInSeconds(), TimeUnit.SECONDS).cachePublic())
+            .varyBy(CustomHttpHeaders.X_JULB_TM, HttpHeaders.ACCEPT_LANGUAGE)
+            .eTag(renderedContent.getETag())
+            .lastModified(renderedContent.getLastModified())
+            .body(renderedContent.getContent());
+        //@formatter:on
+    }
+
+    // ------------------------------------------ Utility methods.
+
+    /**
+     * Gets the prefix of the keys of the given content.
+     * @param trademark the trademark.
+     * @param name the name of the content.
+     * @return the prefix of the keys.
+     */
+    private static String prefix(String trademark, String name) {
+        return String.join(KEY_SEPARATOR, trademark, name);
+    }
+
+    /**
+     * Returns <code>true</code> if the content can be served.
+     * @param slot the slot.
+     * @param renderedContent the content of the slot.
+     * @param generation the current generation.
+     * @return <code>true</code> if the content can be served, <code>false</code> otherwise.
+     */
+    private boolean isValid(Slot slot, RenderedContent renderedContent, long generation) {
+        return renderedContent != null && slot.renderedGeneration == generation
+            && DateUtility.instantAfterNow(renderedContent.getRenderedAt().plusSeconds(renderedContentCacheProperties.getTimeToLiveInSeconds()));
+    }
+
+    /**
+     * Computes the digest of the given content.
+     * @param content the content.
+     * @return the digest, as hexadecimal.
+     */
+    private static String digest(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new InternalServerErrorException(e);
+        }
+    }
+
+    /**
+     * The slot holding a rendered content.
+     * <br>
+     * @author Julb.
+     */
+    private static final class Slot {
+
+        /**
+         * The rendered content.
+         */
+        private volatile RenderedContent renderedContent;
+
+        /**
+         * The generation of the slot, incremented on each eviction.
+         */
+        private final AtomicLong generation = new AtomicLong();
+
+        /**
+         * The generation of the slot when its content was rendered.
+         */
+        private volatile long renderedGeneration;
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.web.configurations;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import me.julb.springbootstarter.web.configurations.beans.HighThroughputJsonProperties;
+import me.julb.springbootstarter.web.converters.HighThroughputJsonHttpMessageConverter;
+import me.julb.springbootstarter.web.converters.LambdaAccessorModule;
+
+/**
+ * The high-throughput JSON serialization configuration.
+ * <P>
+ * The JSON message converters are replaced by {@link HighThroughputJsonHttpMessageConverter} instances, and the responses are compressed if the
+ * compression is enabled.
+ * <br>
+ * @author Julb.
+ */
+@Configuration
+@EnableConfigurationProperties(HighThroughputJsonProperties.class)
+@ConditionalOnProperty(prefix = "web.json.high-throughput", name = "enabled", havingValue = "true")
+public class HighThroughputJsonConfiguration implements WebMvcConfigurer {
+
+    /**
+     * The high-throughput JSON properties.
+     */
+    @Autowired
+    private HighThroughputJsonProperties highThroughputJsonProperties;
+
+    /**
+     * Builds the customizer enabling the compression of the responses.
+     * @return the customizer.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> highThroughputJsonCompressionCustomizer() {
+        return factory -> {
+            if (this.highThroughputJsonProperties.getCompression().getEnabled()) {
+                factory.setCompression(this.highThroughputJsonProperties.getCompression());
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i).getClass() == MappingJackson2HttpMessageConverter.class) {
+                ObjectMapper objectMapper = ((MappingJackson2HttpMessageConverter) converters.get(i)).getObjectMapper();
+                if (this.highThroughputJsonProperties.isLambdaAccessors()) {
+                    objectMapper = objectMapper.copy().registerModule(new LambdaAccessorModule());
+                }
+                converters.set(i, new HighThroughputJsonHttpMessageConverter(objectMapper));
+            }
+        }
+    }
+}
@@ -47,7 +47,9 @@ import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import me.julb.springbootstarter.security.configurations.SecurityConfiguration;
+import me.julb.springbootstarter.web.caching.RenderedContentCache;
 import me.julb.springbootstarter.web.configurations.beans.CorsProperties;
+import me.julb.springbootstarter.web.configurations.beans.RenderedContentCacheProperties;
 import me.julb.springbootstarter.web.filters.RequestLoggingWebContentInterceptor;
 import me.julb.springbootstarter.web.filters.TrademarkFilter;
 import me.julb.springbootstarter.web.resolvers.page.CustomPageableHandlerMethodArgumentResolver;
@@ -61,7 +63,7 @@ import me.julb.springbootstarter.web.resolvers.search.CustomSearchableHandlerMet
  */
 @Configuration
 @Import(SecurityConfiguration.class)
-@EnableConfigurationProperties(CorsProperties.class)
+@EnableConfigurationProperties({CorsProperties.class, RenderedContentCacheProperties.class})
 @PropertySource(value = "classpath:META-INF/build-info.properties", ignoreResourceNotFound = true)
 public class WebMvcConfiguration implements WebMvcConfigurer {
 
@@ -81,6 +83,15 @@ public class WebMvcConfiguration implements WebMvcConfigurer {
         return new TrademarkFilter();
     }
 
+    /**
+     * Builds the cache of rendered contents.
+     * @return the cache of rendered contents.
+     */
+    @Bean
+    public RenderedContentCache renderedContentCache() {
+        return new RenderedContentCache();
+    }
+
     /**
      * {@inheritDoc}
      */
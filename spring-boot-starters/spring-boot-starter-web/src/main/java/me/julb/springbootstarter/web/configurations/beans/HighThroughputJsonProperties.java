@@ -0,0 +1,84 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.web.configurations.beans;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.boot.web.server.Compression;
+
+/**
+ * The high-throughput JSON serialization properties configuration.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "web.json.high-throughput")
+public class HighThroughputJsonProperties {
+
+    //@formatter:off
+     /**
+     * Flag to enable the high-throughput serialization of the JSON responses.
+     * -- GETTER --
+     * Getter for {@link #enabled} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #enabled} property.
+     * @param enabled the value to set.
+     */
+     //@formatter:on
+    private boolean enabled = false;
+
+    //@formatter:off
+     /**
+     * Flag to read the bean properties through generated accessors instead of reflection.
+     * -- GETTER --
+     * Getter for {@link #lambdaAccessors} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #lambdaAccessors} property.
+     * @param lambdaAccessors the value to set.
+     */
+     //@formatter:on
+    private boolean lambdaAccessors = true;
+
+    //@formatter:off
+     /**
+     * The compression of the responses, negotiated with the Accept-Encoding header of the clients.
+     * -- GETTER --
+     * Getter for {@link #compression} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #compression} property.
+     * @param compression the value to set.
+     */
+     //@formatter:on
+    @NestedConfigurationProperty
+    private Compression compression = new Compression();
+}
@@ -0,0 +1,82 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.web.configurations.beans;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The rendered content cache properties configuration.
+ * <br>
+ * @author Julb.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "web.rendered-content-cache")
+public class RenderedContentCacheProperties {
+
+    //@formatter:off
+     /**
+     * Maximum number of rendered contents kept in memory.
+     * -- GETTER --
+     * Getter for {@link #maxEntries} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxEntries} property.
+     * @param maxEntries the value to set.
+     */
+     //@formatter:on
+    private int maxEntries = 1000;
+
+    //@formatter:off
+     /**
+     * Time after which a rendered content is rendered again even if it has not been evicted, in seconds.
+     * -- GETTER --
+     * Getter for {@link #timeToLiveInSeconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #timeToLiveInSeconds} property.
+     * @param timeToLiveInSeconds the value to set.
+     */
+     //@formatter:on
+    private long timeToLiveInSeconds = 300;
+
+    //@formatter:off
+     /**
+     * Value of the max-age directive sent to the clients, in seconds.
+     * -- GETTER --
+     * Getter for {@link #maxAgeInSeconds} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #maxAgeInSeconds} property.
+     * @param maxAgeInSeconds the value to set.
+     */
+     //@formatter:on
+    private long maxAgeInSeconds = 60;
+}
@@ -0,0 +1,195 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.web.converters;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+
+/**
+ * A JSON message converter tuned for large responses.
+ * <br>
+ * The writer of each response type is resolved once and reused, instead of being built for every response. The pages are written element by
+ * element straight to the response body, with the serializer of the element type resolved once and a single serialization context per page. Responses which need the features of the default converter, such as
+ * JSON views or filters, are delegated to it.
+ * <br>
+ * @author Julb.
+ */
+public class HighThroughputJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    /**
+     * The writer of each type.
+     */
+    private final ClassValue<ObjectWriter> writers = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return defaultObjectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+    };
+
+    /**
+     * The serializer of each type of page element.
+     */
+    private final ConcurrentMap<Class<?>, JsonSerializer<Object>> serializers = new ConcurrentHashMap<>();
+
+    /**
+     * The writer used to create the generators.
+     */
+    private final ObjectWriter generatorWriter;
+
+    /**
+     * <code>true</code> if the pages can be written field by field, <code>false</code> if the object mapper may rename or hide some of their fields.
+     */
+    private final boolean pageStreamable;
+
+    /**
+     * Constructor.
+     * @param objectMapper the object mapper.
+     */
+    public HighThroughputJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.generatorWriter = objectMapper.writer();
+        this.pageStreamable = isPageStreamable(objectMapper);
+    }
+
+    /**
+     * Checks if the pages can be written field by field with the given object mapper.
+     * @param objectMapper the object mapper.
+     * @return <code>true</code> if the object mapper writes the page fields as they are, <code>false</code> otherwise.
+     */
+    private static boolean isPageStreamable(ObjectMapper objectMapper) {
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion().getValueInclusion();
+        //@formatter:off
+        return objectMapper.getPropertyNamingStrategy() == null
+            && config.mixInCount() == 0
+            && (inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS || inclusion == JsonInclude.Include.NON_NULL);
+        //@formatter:on
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        if (object instanceof MappingJacksonValue || (contentType != null && contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM))) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        try (JsonGenerator generator = generatorWriter.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), getJsonEncoding(contentType))) {
+            if (pageStreamable && object.getClass() == PageImpl.class) {
+                writePage((Page<?>) object, generator);
+            } else {
+                writers.get(object.getClass()).writeValue(generator, object);
+            }
+            generator.flush();
+        } catch (InvalidDefinitionException e) {
+            throw new HttpMessageConversionException("Type definition error: " + e.getType(), e);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Writes a page with the same fields as the bean serialization of a {@link PageImpl}.
+     * @param page the page.
+     * @param generator the generator.
+     * @throws IOException if an error occurs while writing.
+     */
+    protected void writePage(Page<?> page, JsonGenerator generator) throws IOException {
+        SerializerProvider provider = defaultObjectMapper.getSerializerProviderInstance();
+        generator.writeStartObject();
+
+        generator.writeArrayFieldStart("content");
+        Class<?> elementClass = null;
+        JsonSerializer<Object> elementSerializer = null;
+        for (Object element : page.getContent()) {
+            if (element == null) {
+                provider.defaultSerializeNull(generator);
+            } else {
+                if (element.getClass() != elementClass) {
+                    elementClass = element.getClass();
+                    elementSerializer = serializerFor(elementClass, provider);
+                }
+                elementSerializer.serialize(element, generator, provider);
+            }
+        }
+        generator.writeEndArray();
+
+        provider.defaultSerializeField("pageable", page.getPageable(), generator);
+        generator.writeBooleanField("last", page.isLast());
+        generator.writeNumberField("totalPages", page.getTotalPages());
+        generator.writeNumberField("totalElements", page.getTotalElements());
+        generator.writeNumberField("size", page.getSize());
+        generator.writeNumberField("number", page.getNumber());
+        provider.defaultSerializeField("sort", page.getSort(), generator);
+        generator.writeBooleanField("first", page.isFirst());
+        generator.writeNumberField("numberOfElements", page.getNumberOfElements());
+        generator.writeBooleanField("empty", page.isEmpty());
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Gets the serializer of the given type, resolving it on the first call.
+     * @param type the type.
+     * @param provider the provider used to resolve the serializer.
+     * @return the serializer.
+     * @throws JsonMappingException if the serializer cannot be resolved.
+     */
+    private JsonSerializer<Object> serializerFor(Class<?> type, SerializerProvider provider) throws JsonMappingException {
+        JsonSerializer<Object> serializer = serializers.get(type);
+        if (serializer == null) {
+            serializer = provider.findTypedValueSerializer(type, true, null);
+            serializers.putIfAbsent(type, serializer);
+        }
+        return serializer;
+    }
+}
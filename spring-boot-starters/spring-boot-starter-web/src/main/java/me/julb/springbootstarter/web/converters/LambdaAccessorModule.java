@@ -0,0 +1,127 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.web.converters;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+/**
+ * A Jackson module reading the bean properties through generated accessors instead of reflection.
+ * <br>
+ * Each getter is bound once to a {@link Function} generated by the {@link LambdaMetafactory}, which the JIT inlines like a direct call. Getters
+ * which cannot be bound, for example because their class is not accessible from this module, keep the reflective accessor.
+ * <br>
+ * @author Julb.
+ */
+@Slf4j
+public class LambdaAccessorModule extends SimpleModule {
+
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default constructor.
+     */
+    public LambdaAccessorModule() {
+        super(LambdaAccessorModule.class.getSimpleName());
+        setSerializerModifier(new LambdaAccessorSerializerModifier());
+    }
+
+    /**
+     * Binds the given getter to a function.
+     * @param getter the getter.
+     * @return the function calling the getter, or <code>null</code> if it cannot be bound.
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> bind(Method getter) {
+        Class<?> declaringClass = getter.getDeclaringClass();
+        if (getter.getParameterCount() != 0 || Modifier.isStatic(getter.getModifiers()) || !Modifier.isPublic(getter.getModifiers())) {
+            return null;
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(getter);
+            Class<?> returnType = ClassUtils.resolvePrimitiveIfNecessary(getter.getReturnType());
+            //@formatter:off
+            CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                handle,
+                MethodType.methodType(returnType, declaringClass));
+            //@formatter:on
+            return (Function<Object, Object>) callSite.getTarget().invokeExact();
+        } catch (Throwable e) {
+            LOGGER.debug("Keeping the reflective accessor of {}: {}.", getter, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The modifier replacing the property writers.
+     * <br>
+     * @author Julb.
+     */
+    private static class LambdaAccessorSerializerModifier extends BeanSerializerModifier {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+            for (int i = 0; i < beanProperties.size(); i++) {
+                BeanPropertyWriter beanProperty = beanProperties.get(i);
+                if (beanProperty.getClass() == BeanPropertyWriter.class && beanProperty.getMember() instanceof AnnotatedMethod) {
+                    Function<Object, Object> accessor = bind(((AnnotatedMethod) beanProperty.getMember()).getAnnotated());
+                    if (accessor != null) {
+                        beanProperties.set(i, new LambdaBeanPropertyWriter(beanProperty, accessor));
+                    }
+                }
+            }
+            return beanProperties;
+        }
+    }
+}
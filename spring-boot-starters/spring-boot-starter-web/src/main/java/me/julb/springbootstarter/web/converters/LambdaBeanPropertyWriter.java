@@ -0,0 +1,109 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.web.converters;
+
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+
+/**
+ * A property writer reading the value through a generated accessor.
+ * <br>
+ * The serialization is the one of {@link BeanPropertyWriter#serializeAsField(Object, JsonGenerator, SerializerProvider)}, only the value is read
+ * differently.
+ * <br>
+ * @author Julb.
+ */
+class LambdaBeanPropertyWriter extends BeanPropertyWriter {
+
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The accessor of the value.
+     */
+    private final transient Function<Object, Object> accessor;
+
+    /**
+     * Constructor.
+     * @param base the writer to copy.
+     * @param accessor the accessor of the value.
+     */
+    LambdaBeanPropertyWriter(BeanPropertyWriter base, Function<Object, Object> accessor) {
+        super(base);
+        this.accessor = accessor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        Object value = accessor.apply(bean);
+        if (value == null) {
+            if (_nullSerializer != null) {
+                gen.writeFieldName(_name);
+                _nullSerializer.serialize(null, gen, prov);
+            }
+            return;
+        }
+
+        JsonSerializer<Object> serializer = _serializer;
+        if (serializer == null) {
+            Class<?> valueClass = value.getClass();
+            PropertySerializerMap dynamicSerializers = _dynamicSerializers;
+            serializer = dynamicSerializers.serializerFor(valueClass);
+            if (serializer == null) {
+                serializer = _findAndAddDynamic(dynamicSerializers, valueClass, prov);
+            }
+        }
+
+        if (_suppressableValue != null) {
+            if (MARKER_FOR_EMPTY == _suppressableValue) {
+                if (serializer.isEmpty(prov, value)) {
+                    return;
+                }
+            } else if (_suppressableValue.equals(value)) {
+                return;
+            }
+        }
+
+        if (value == bean && _handleSelfReference(bean, gen, prov, serializer)) {
+            return;
+        }
+
+        gen.writeFieldName(_name);
+        if (_typeSerializer == null) {
+            serializer.serialize(value, gen, prov);
+        } else {
+            serializer.serializeWithType(value, gen, prov, _typeSerializer);
+        }
+    }
+}
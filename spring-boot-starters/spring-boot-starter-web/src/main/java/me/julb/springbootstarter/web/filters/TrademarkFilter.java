@@ -27,6 +27,11 @@ import me.julb.springbootstarter.core.context.TrademarkContextHolder;
 @Slf4j
 public class TrademarkFilter extends GenericFilterBean implements Ordered {
 
+    /**
+     * The MDC key of the trademark.
+     */
+    private static final String MDC_TM = "tm";
+
     /**
      * The trademark override if any.
      */
@@ -48,17 +53,35 @@ public class TrademarkFilter extends GenericFilterBean implements Ordered {
             trademark = this.trademarkOverride;
         }
 
-        if (StringUtils.isNotBlank(trademark)) {
-            // Set trademark.
-            LOGGER.debug(">>> TM - {}.", trademark);
-            TrademarkContextHolder.setTrademark(trademark);
+        // Keep the previous values, e.g. when the filter is invoked on a thread already bound to a trademark.
+        String previousTrademark = TrademarkContextHolder.getTrademark();
+        String previousMdcTrademark = MDC.get(MDC_TM);
 
-            // Add trademark to MDC.
-            MDC.put("tm", trademark);
-        }
+        try {
+            if (StringUtils.isNotBlank(trademark)) {
+                // Set trademark.
+                LOGGER.debug(">>> TM - {}.", trademark);
+                TrademarkContextHolder.setTrademark(trademark);
+
+                // Add trademark to MDC.
+                MDC.put(MDC_TM, trademark);
+            }
 
-        // Go on.
-        chain.doFilter(request, response);
+            // Go on.
+            chain.doFilter(request, response);
+        } finally {
+            // Clear the pooled request thread.
+            if (previousTrademark == null) {
+                TrademarkContextHolder.unsetTrademark();
+            } else {
+                TrademarkContextHolder.setTrademark(previousTrademark);
+            }
+            if (previousMdcTrademark == null) {
+                MDC.remove(MDC_TM);
+            } else {
+                MDC.put(MDC_TM, previousMdcTrademark);
+            }
+        }
     }
 
     /**
@@ -0,0 +1,152 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.web.views.rssfeed;
+
+import com.rometools.rome.feed.rss.Category;
+import com.rometools.rome.feed.rss.Channel;
+import com.rometools.rome.feed.rss.Description;
+import com.rometools.rome.feed.rss.Guid;
+import com.rometools.rome.feed.rss.Item;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.WireFeedOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jdom2.Element;
+import org.springframework.http.MediaType;
+
+import me.julb.library.dto.rssfeed.RSSFeedDTO;
+import me.julb.library.dto.rssfeed.RSSFeedItemDTO;
+import me.julb.library.utility.constants.Strings;
+import me.julb.library.utility.date.DateUtility;
+import me.julb.library.utility.exceptions.InternalServerErrorException;
+
+/**
+ * Renders a {@link RSSFeedDTO} to RSS 2.0.
+ * <br>
+ * @author Julb.
+ */
+public final class RSSFeedRenderer {
+
+    /**
+     * The feed type.
+     */
+    static final String FEED_TYPE = "rss_2.0";
+
+    /**
+     * Private constructor.
+     */
+    private RSSFeedRenderer() {
+    }
+
+    /**
+     * Renders the RSS feed to bytes, encoded in UTF-8.
+     * @param rssFeed the RSS feed.
+     * @return the RSS feed as bytes.
+     */
+    public static byte[] render(RSSFeedDTO rssFeed) {
+        Channel channel = new Channel(FEED_TYPE);
+        channel.setEncoding(StandardCharsets.UTF_8.name());
+        buildChannel(rssFeed, channel);
+        channel.setItems(buildItems(rssFeed));
+
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)) {
+                new WireFeedOutput().output(channel, writer);
+            }
+            return outputStream.toByteArray();
+        } catch (IOException | FeedException e) {
+            throw new InternalServerErrorException(e);
+        }
+    }
+
+    /**
+     * Fills the channel metadata.
+     * @param rssFeed the RSS feed.
+     * @param channel the channel to fill.
+     */
+    static void buildChannel(RSSFeedDTO rssFeed, Channel channel) {
+        channel.setTitle(rssFeed.getTitle());
+        channel.setDescription(rssFeed.getDescription());
+        channel.setLink(rssFeed.getLink());
+        channel.setLanguage(rssFeed.getLanguage());
+        Element atomLink = new Element("link", "http://www.w3.org/2005/Atom");
+        atomLink.setAttribute("rel", "self");
+        atomLink.setAttribute("href", rssFeed.getLink());
+        atomLink.setAttribute("type", "application/rss+xml");
+        channel.getForeignMarkup().add(atomLink);
+    }
+
+    /**
+     * Builds the items of the feed, the most recent first.
+     * @param rssFeed the RSS feed.
+     * @return the items.
+     */
+    static List<Item> buildItems(RSSFeedDTO rssFeed) {
+        List<RSSFeedItemDTO> rssFeedItems = new ArrayList<>(rssFeed.getItems());
+        Collections.sort(rssFeedItems, Collections.reverseOrder());
+
+        List<Item> items = new ArrayList<>(rssFeedItems.size());
+        for (RSSFeedItemDTO rssFeedItem : rssFeedItems) {
+            Item romeItem = new Item();
+
+            String author = StringUtils.join(rssFeedItem.getAuthor().getMail(), Strings.SPACE, Strings.LEFT_PARENTHESIS, rssFeedItem.getAuthor().getDisplayName(), Strings.RIGHT_PARENTHESIS);
+            romeItem.setAuthor(author);
+
+            for (String category : rssFeedItem.getCategories()) {
+                Category romeCategory = new Category();
+                romeCategory.setValue(category);
+                romeItem.getCategories().add(romeCategory);
+            }
+
+            Description description = new Description();
+            description.setType(MediaType.TEXT_HTML_VALUE);
+            description.setValue(rssFeedItem.getHtmlDescription());
+            romeItem.setDescription(description);
+
+            Guid guid = new Guid();
+            guid.setValue(rssFeedItem.getId());
+            guid.setPermaLink(false);
+            romeItem.setGuid(guid);
+
+            romeItem.setLink(rssFeedItem.getLink());
+
+            romeItem.setPubDate(DateUtility.parseDateTime(rssFeedItem.getPublishedDateTime()));
+
+            romeItem.setTitle(rssFeedItem.getTitle());
+            items.add(romeItem);
+        }
+        return items;
+    }
+}
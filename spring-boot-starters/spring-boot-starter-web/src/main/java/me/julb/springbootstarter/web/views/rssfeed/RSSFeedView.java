@@ -24,33 +24,24 @@
 
 package me.julb.springbootstarter.web.views.rssfeed;
 
-import com.rometools.rome.feed.rss.Category;
 import com.rometools.rome.feed.rss.Channel;
-import com.rometools.rome.feed.rss.Description;
-import com.rometools.rome.feed.rss.Guid;
 import com.rometools.rome.feed.rss.Item;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.lang3.StringUtils;
-import org.jdom2.Element;
-import org.springframework.http.MediaType;
 import org.springframework.web.servlet.view.feed.AbstractRssFeedView;
 
 import me.julb.library.dto.rssfeed.RSSFeedDTO;
-import me.julb.library.dto.rssfeed.RSSFeedItemDTO;
-import me.julb.library.utility.constants.Strings;
-import me.julb.library.utility.date.DateUtility;
 
 /**
  * The RSS feed view based on the {@link RSSFeedDTO}.
  * <br>
+ * Prefer {@link RSSFeedRenderer} to render a feed once and serve it many times.
+ * <br>
  * @author Julb.
  */
 public class RSSFeedView extends AbstractRssFeedView {
@@ -74,15 +65,7 @@ public class RSSFeedView extends AbstractRssFeedView {
      */
     @Override
     protected void buildFeedMetadata(Map<String, Object> model, Channel feed, HttpServletRequest request) {
-        feed.setTitle(rssFeed.getTitle());
-        feed.setDescription(rssFeed.getDescription());
-        feed.setLink(rssFeed.getLink());
-        feed.setLanguage(rssFeed.getLanguage());
-        Element atomLink = new Element("link", "http://www.w3.org/2005/Atom");
-        atomLink.setAttribute("rel", "self");
-        atomLink.setAttribute("href", rssFeed.getLink());
-        atomLink.setAttribute("type", "application/rss+xml");
-        feed.getForeignMarkup().add(atomLink);
+        RSSFeedRenderer.buildChannel(rssFeed, feed);
     }
 
     /**
@@ -91,36 +74,6 @@ public class RSSFeedView extends AbstractRssFeedView {
     @Override
     protected List<Item> buildFeedItems(Map<String, Object> model, HttpServletRequest request, HttpServletResponse response)
         throws Exception {
-        List<RSSFeedItemDTO> items = rssFeed.getItems();
-        Collections.sort(items, Collections.reverseOrder());
-        return items.stream().map((rssFeedItem) -> {
-            Item romeItem = new Item();
-
-            String author = StringUtils.join(rssFeedItem.getAuthor().getMail(), Strings.SPACE, Strings.LEFT_PARENTHESIS, rssFeedItem.getAuthor().getDisplayName(), Strings.RIGHT_PARENTHESIS);
-            romeItem.setAuthor(author);
-
-            for (String category : rssFeedItem.getCategories()) {
-                Category romeCategory = new Category();
-                romeCategory.setValue(category);
-                romeItem.getCategories().add(romeCategory);
-            }
-
-            Description description = new Description();
-            description.setType(MediaType.TEXT_HTML_VALUE);
-            description.setValue(rssFeedItem.getHtmlDescription());
-            romeItem.setDescription(description);
-
-            Guid guid = new Guid();
-            guid.setValue(rssFeedItem.getId());
-            guid.setPermaLink(false);
-            romeItem.setGuid(guid);
-
-            romeItem.setLink(rssFeedItem.getLink());
-
-            romeItem.setPubDate(DateUtility.parseDateTime(rssFeedItem.getPublishedDateTime()));
-
-            romeItem.setTitle(rssFeedItem.getTitle());
-            return romeItem;
-        }).collect(Collectors.toList());
+        return RSSFeedRenderer.buildItems(rssFeed);
     }
 }
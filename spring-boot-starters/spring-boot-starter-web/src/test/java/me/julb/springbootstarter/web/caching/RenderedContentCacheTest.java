@@ -0,0 +1,193 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.web.caching;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import me.julb.library.utility.constants.CustomHttpHeaders;
+import me.julb.springbootstarter.core.configurations.CoreConfiguration;
+import me.julb.springbootstarter.security.configurations.SecurityConfiguration;
+import me.julb.springbootstarter.web.configurations.WebMvcConfiguration;
+import me.julb.springbootstarter.web.helpers.UnitTestRenderedContentController;
+
+/**
+ * Unit test for the {@link RenderedContentCache} class.
+ * <br>
+ * @author Julb.
+ */
+@WebMvcTest
+@ContextConfiguration(classes = {UnitTestRenderedContentController.class, CoreConfiguration.class, WebMvcConfiguration.class, SecurityConfiguration.class})
+public class RenderedContentCacheTest {
+
+    /**
+     * The mock MVC.
+     */
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * The rendered content cache.
+     */
+    @Autowired
+    private RenderedContentCache renderedContentCache;
+
+    /**
+     * The controller.
+     */
+    @Autowired
+    private UnitTestRenderedContentController controller;
+
+    /**
+     * The trademark used by the test.
+     */
+    private String tm;
+
+    /**
+     * Setup method.
+     */
+    @BeforeEach
+    public void setup() {
+        this.tm = UUID.randomUUID().toString();
+        this.controller.setContent("content");
+        this.controller.getRenderings().set(0);
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenGettingContent_thenReturnContentWithCacheHeaders()
+        throws Exception {
+        //@formatter:off
+        mockMvc
+            .perform(get("/unit-test/rendered-content").header(CustomHttpHeaders.X_JULB_TM, tm))
+            .andExpect(status().isOk())
+            .andExpect(content().string("content"))
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=")))
+            .andExpect(header().string(HttpHeaders.VARY, containsString(CustomHttpHeaders.X_JULB_TM)));
+        //@formatter:on
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenGettingContentWithMatchingETag_thenReturn304WithoutRendering()
+        throws Exception {
+        String eTag = getETag(tm);
+
+        //@formatter:off
+        mockMvc
+            .perform(get("/unit-test/rendered-content").header(CustomHttpHeaders.X_JULB_TM, tm).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        //@formatter:on
+
+        Assertions.assertEquals(1, controller.getRenderings().get());
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenEvictedWithSameContent_thenRenderAgainAndKeepETag()
+        throws Exception {
+        String eTag = getETag(tm);
+
+        renderedContentCache.evict(tm, UnitTestRenderedContentController.CONTENT_NAME);
+
+        //@formatter:off
+        mockMvc
+            .perform(get("/unit-test/rendered-content").header(CustomHttpHeaders.X_JULB_TM, tm).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+        //@formatter:on
+
+        Assertions.assertEquals(2, controller.getRenderings().get());
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenEvictedWithNewContent_thenReturnNewContentAndETag()
+        throws Exception {
+        String eTag = getETag(tm);
+
+        controller.setContent("new content");
+        renderedContentCache.evict(tm, UnitTestRenderedContentController.CONTENT_NAME);
+
+        //@formatter:off
+        mockMvc
+            .perform(get("/unit-test/rendered-content").header(CustomHttpHeaders.X_JULB_TM, tm).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(content().string("new content"))
+            .andExpect(header().string(HttpHeaders.ETAG, not(is(eTag))));
+        //@formatter:on
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenEvictingOtherTrademark_thenContentNotRenderedAgain()
+        throws Exception {
+        getETag(tm);
+
+        renderedContentCache.evict(UUID.randomUUID().toString(), UnitTestRenderedContentController.CONTENT_NAME);
+        getETag(tm);
+
+        Assertions.assertEquals(1, controller.getRenderings().get());
+    }
+
+    /**
+     * Gets the content and returns its entity tag.
+     * @param trademark the trademark.
+     * @return the entity tag.
+     * @throws Exception if an error occurs.
+     */
+    private String getETag(String trademark)
+        throws Exception {
+        return mockMvc.perform(get("/unit-test/rendered-content").header(CustomHttpHeaders.X_JULB_TM, trademark)).andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,240 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.web.context;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import me.julb.library.utility.constants.CustomHttpHeaders;
+import me.julb.springbootstarter.core.configurations.CoreConfiguration;
+import me.julb.springbootstarter.core.context.TrademarkContextHolder;
+import me.julb.springbootstarter.security.configurations.SecurityConfiguration;
+import me.julb.springbootstarter.web.configurations.WebMvcConfiguration;
+import me.julb.springbootstarter.web.helpers.UnitTestExecutorConfiguration;
+import me.julb.springbootstarter.web.helpers.UnitTestRenderedContentController;
+
+/**
+ * Unit test for the propagation of the thread-bound contexts to the executors.
+ * <br>
+ * @author Julb.
+ */
+@WebMvcTest
+@ContextConfiguration(classes = {UnitTestRenderedContentController.class, UnitTestExecutorConfiguration.class, CoreConfiguration.class, WebMvcConfiguration.class, SecurityConfiguration.class})
+public class ContextPropagationTest {
+
+    /**
+     * The number of tasks.
+     */
+    private static final int TASKS = 10000;
+
+    /**
+     * The number of trademarks.
+     */
+    private static final int TRADEMARKS = 7;
+
+    /**
+     * The value observed when there is no context.
+     */
+    private static final String NONE = "none";
+
+    /**
+     * The mock MVC.
+     */
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * The task executor.
+     */
+    @Autowired
+    private ThreadPoolTaskExecutor unitTestTaskExecutor;
+
+    /**
+     * The task executor having its own task decorator.
+     */
+    @Autowired
+    private ThreadPoolTaskExecutor unitTestDecoratedTaskExecutor;
+
+    /**
+     * The task scheduler.
+     */
+    @Autowired
+    private ThreadPoolTaskScheduler unitTestTaskScheduler;
+
+    /**
+     * Cleans the context of the test thread.
+     */
+    @AfterEach
+    public void tearDown() {
+        bind(null);
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenTasksOfSeveralTrademarksInterleaved_thenNoLeakage()
+        throws Exception {
+        List<String> expected = new ArrayList<>(2 * TASKS);
+        List<Future<String>> observed = new ArrayList<>(2 * TASKS);
+
+        // Tasks submitted by several trademarks.
+        for (int i = 0; i < TASKS; i++) {
+            String tm = "tm" + (i % TRADEMARKS) + ".io";
+            bind(tm);
+            expected.add(String.join("|", tm, tm, tm));
+            observed.add(unitTestTaskExecutor.submit(ContextPropagationTest::observe));
+        }
+
+        // Tasks submitted without context must not see the context of the previous tasks.
+        bind(null);
+        for (int i = 0; i < TASKS; i++) {
+            expected.add(String.join("|", NONE, NONE, NONE));
+            observed.add(unitTestTaskExecutor.submit(ContextPropagationTest::observe));
+        }
+
+        for (int i = 0; i < observed.size(); i++) {
+            Assertions.assertEquals(expected.get(i), observed.get(i).get(30, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenExecutorHasTaskDecorator_thenDecoratorsComposed()
+        throws Exception {
+        bind("decorated.io");
+        String observed = unitTestDecoratedTaskExecutor.submit(() -> String.join("|", observe(), MDC.get("decorated-tm"))).get(30, TimeUnit.SECONDS);
+
+        Assertions.assertEquals("decorated.io|decorated.io|decorated.io|decorated.io", observed);
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenTaskScheduled_thenContextPropagated()
+        throws Exception {
+        AtomicReference<String> observed = new AtomicReference<>();
+
+        bind("scheduled.io");
+        unitTestTaskScheduler.schedule(() -> observed.set(observe()), new Date()).get(30, TimeUnit.SECONDS);
+
+        Assertions.assertEquals("scheduled.io|scheduled.io|scheduled.io", observed.get());
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenTaskScheduledWithoutContext_thenNoLeakage()
+        throws Exception {
+        bind("scheduled.io");
+        Assertions.assertEquals("scheduled.io|scheduled.io|scheduled.io", unitTestTaskScheduler.submit(ContextPropagationTest::observe).get(30, TimeUnit.SECONDS));
+
+        bind(null);
+        Assertions.assertEquals(String.join("|", NONE, NONE, NONE), unitTestTaskScheduler.submit(ContextPropagationTest::observe).get(30, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Unit test method.
+     */
+    @Test
+    public void whenRequestProcessed_thenTrademarkOfThreadRestored()
+        throws Exception {
+        bind("caller.io");
+
+        //@formatter:off
+        mockMvc
+            .perform(get("/unit-test/rendered-content").header(CustomHttpHeaders.X_JULB_TM, "request.io"))
+            .andExpect(status().isOk());
+        //@formatter:on
+
+        Assertions.assertEquals("caller.io", TrademarkContextHolder.getTrademark());
+        Assertions.assertEquals("caller.io", MDC.get("tm"));
+
+        bind(null);
+
+        //@formatter:off
+        mockMvc
+            .perform(get("/unit-test/rendered-content").header(CustomHttpHeaders.X_JULB_TM, "request.io"))
+            .andExpect(status().isOk());
+        //@formatter:on
+
+        Assertions.assertNull(TrademarkContextHolder.getTrademark());
+        Assertions.assertNull(MDC.get("tm"));
+    }
+
+    /**
+     * Binds the trademark, the MDC and the security context of the given trademark to the current thread.
+     * @param tm the trademark, <code>null</code> to clear the contexts.
+     */
+    private static void bind(String tm) {
+        if (tm == null) {
+            TrademarkContextHolder.unsetTrademark();
+            MDC.remove("tm");
+            SecurityContextHolder.clearContext();
+        } else {
+            TrademarkContextHolder.setTrademark(tm);
+            MDC.put("tm", tm);
+            SecurityContextHolder.setContext(new SecurityContextImpl(new TestingAuthenticationToken(tm, null)));
+        }
+    }
+
+    /**
+     * Observes the contexts of the current thread.
+     * @return the trademark, the MDC trademark and the user name, joined by pipes.
+     */
+    private static String observe() {
+        Thread.yield();
+        String tm = TrademarkContextHolder.getTrademark();
+        String mdcTm = MDC.get("tm");
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return String.join("|", tm != null ? tm : NONE, mdcTm != null ? mdcTm : NONE, authentication != null ? authentication.getName() : NONE);
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package me.julb.springbootstarter.web.converters;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import me.julb.library.dto.simple.audit.AbstractAuditedDTO;
+import me.julb.library.dto.simple.user.UserRefDTO;
+
+/**
+ * Test class for {@link HighThroughputJsonHttpMessageConverter} class.
+ * <br>
+ * @author Julb.
+ */
+public class HighThroughputJsonHttpMessageConverterTest {
+
+    /**
+     * The object mapper.
+     */
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenWritingPage_thenSameJsonAsDefaultConverter()
+        throws Exception {
+        Page<UnitTestDTO> page = new PageImpl<>(unitTestDTOs(25), PageRequest.of(2, 25, Sort.by("name")), 1000);
+        Type type = new TypeReference<Page<UnitTestDTO>>() {
+        }.getType();
+
+        Assertions.assertEquals(write(new MappingJackson2HttpMessageConverter(objectMapper), page, type), write(highThroughputConverter(), page, type));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenWritingUnpagedPage_thenSameJsonAsDefaultConverter()
+        throws Exception {
+        Page<UnitTestDTO> page = new PageImpl<>(unitTestDTOs(3));
+
+        Assertions.assertEquals(write(new MappingJackson2HttpMessageConverter(objectMapper), page, null), write(highThroughputConverter(), page, null));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenWritingSingleObject_thenSameJsonAsDefaultConverter()
+        throws Exception {
+        UnitTestDTO dto = unitTestDTOs(1).get(0);
+
+        Assertions.assertEquals(write(new MappingJackson2HttpMessageConverter(objectMapper), dto, null), write(highThroughputConverter(), dto, null));
+    }
+
+    /**
+     * Test method.
+     */
+    @Test
+    public void whenBindingGetter_thenFunctionReturnsValue()
+        throws Exception {
+        UnitTestDTO dto = unitTestDTOs(1).get(0);
+
+        Assertions.assertEquals("name-0", LambdaAccessorModule.bind(UnitTestDTO.class.getMethod("getName")).apply(dto));
+        Assertions.assertEquals(0, LambdaAccessorModule.bind(UnitTestDTO.class.getMethod("getCount")).apply(dto));
+        Assertions.assertEquals("2021-01-01T00:00:00.000Z", LambdaAccessorModule.bind(UnitTestDTO.class.getMethod("getCreatedAt")).apply(dto));
+        Assertions.assertNull(LambdaAccessorModule.bind(UnitTestDTO.class.getMethod("getClass")));
+    }
+
+    /**
+     * Builds the converter with generated accessors.
+     * @return the converter.
+     */
+    private HighThroughputJsonHttpMessageConverter highThroughputConverter() {
+        return new HighThroughputJsonHttpMessageConverter(objectMapper.copy().registerModule(new LambdaAccessorModule()));
+    }
+
+    /**
+     * Writes the given value with the given converter.
+     * @param converter the converter.
+     * @param value the value.
+     * @param type the declared type of the value.
+     * @return the JSON tree written.
+     * @throws Exception if an error occurs.
+     */
+    private JsonNode write(MappingJackson2HttpMessageConverter converter, Object value, Type type)
+        throws Exception {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(value, type, MediaType.APPLICATION_JSON, outputMessage);
+        return objectMapper.readTree(outputMessage.getBodyAsBytes());
+    }
+
+    /**
+     * Builds DTOs.
+     * @param count the number of DTOs.
+     * @return the DTOs.
+     */
+    private List<UnitTestDTO> unitTestDTOs(int count) {
+        List<UnitTestDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UserRefDTO user = new UserRefDTO();
+            user.setId("user-" + i);
+            user.setDisplayName("User " + i);
+            user.setLocale(Locale.FRANCE);
+
+            UnitTestDTO dto = new UnitTestDTO();
+            dto.setName("name-" + i);
+            dto.setCount(i);
+            dto.setEnabled(i % 2 == 0 ? Boolean.TRUE : null);
+            dto.setUser(user);
+            dto.setTags(List.of("a", "b"));
+            dto.setCreatedAt("2021-01-01T00:00:00.000Z");
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    /**
+     * A DTO used by the tests.
+     * <br>
+     * @author Julb.
+     */
+    @Getter
+    @Setter
+    public static class UnitTestDTO extends AbstractAuditedDTO {
+
+        /**
+         * The name.
+         */
+        private String name;
+
+        /**
+         * The count.
+         */
+        private int count;
+
+        /**
+         * The flag, omitted when not set.
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Boolean enabled;
+
+        /**
+         * The user.
+         */
+        private UserRefDTO user;
+
+        /**
+         * The tags.
+         */
+        private List<String> tags;
+
+        /**
+         * The secret, never written.
+         */
+        @JsonIgnore
+        private String secret = "secret";
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.web.helpers;
+
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * A unit test configuration declaring task executors and a task scheduler.
+ * <br>
+ * @author Julb.
+ */
+@Configuration
+public class UnitTestExecutorConfiguration {
+
+    /**
+     * The task executor.
+     * @return the task executor.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor unitTestTaskExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(8);
+        taskExecutor.setMaxPoolSize(8);
+        taskExecutor.setThreadNamePrefix("unit-test-");
+        return taskExecutor;
+    }
+
+    /**
+     * The task executor having its own task decorator, which exposes the trademark bound to the thread in the "decorated-tm" MDC key.
+     * @return the task executor.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor unitTestDecoratedTaskExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(2);
+        taskExecutor.setMaxPoolSize(2);
+        taskExecutor.setThreadNamePrefix("unit-test-decorated-");
+        taskExecutor.setTaskDecorator(runnable -> () -> {
+            MDC.put("decorated-tm", MDC.get("tm"));
+            try {
+                runnable.run();
+            } finally {
+                MDC.remove("decorated-tm");
+            }
+        });
+        return taskExecutor;
+    }
+
+    /**
+     * The task scheduler.
+     * @return the task scheduler.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler unitTestTaskScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(2);
+        taskScheduler.setThreadNamePrefix("unit-test-scheduler-");
+        return taskScheduler;
+    }
+}
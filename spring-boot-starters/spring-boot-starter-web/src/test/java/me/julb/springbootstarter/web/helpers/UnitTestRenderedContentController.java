@@ -0,0 +1,99 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2021 Julb
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.julb.springbootstarter.web.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import me.julb.library.utility.constants.MediaType;
+import me.julb.springbootstarter.web.caching.RenderedContentCache;
+
+/**
+ * A controller serving a rendered content.
+ * <br>
+ * @author Julb.
+ */
+@RestController
+@RequestMapping("/unit-test/rendered-content")
+public class UnitTestRenderedContentController {
+
+    /**
+     * The name of the content.
+     */
+    public static final String CONTENT_NAME = "unit-test";
+
+    /**
+     * The rendered content cache.
+     */
+    @Autowired
+    private RenderedContentCache renderedContentCache;
+
+    //@formatter:off
+     /**
+     * The content attribute.
+     * -- GETTER --
+     * Getter for {@link #content} property.
+     * @return the value.
+     * -- SETTER --
+     * Setter for {@link #content} property.
+     * @param content the value to set.
+     */
+     //@formatter:on
+    @Getter
+    @Setter
+    private volatile String content = "content";
+
+    //@formatter:off
+     /**
+     * The renderings attribute.
+     * -- GETTER --
+     * Getter for {@link #renderings} property.
+     * @return the value.
+     */
+     //@formatter:on
+    @Getter
+    private final AtomicInteger renderings = new AtomicInteger();
+
+    /**
+     * Serves the rendered content.
+     * @return the rendered content.
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> get() {
+        return renderedContentCache.toResponseEntity(renderedContentCache.get(CONTENT_NAME, MediaType.TEXT_HTML_UTF8, () -> {
+            renderings.incrementAndGet();
+            return content.getBytes(StandardCharsets.UTF_8);
+        }));
+    }
+}